@@ -4,6 +4,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -35,7 +37,7 @@ public class AsyncConfig implements AsyncConfigurer {
   /**
    * Separate executor for audit logging to avoid blocking email operations
    */
-  @org.springframework.context.annotation.Bean(name = "auditLogExecutor")
+  @Bean(name = "auditLogExecutor")
   public Executor auditLogExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(2);
@@ -46,6 +48,25 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  /**
+   * Bounded pool applying AI webhook callbacks. It rejects work when full; rejected callbacks
+   * stay stored and are picked up by the webhook sweeper, so the HTTP thread never blocks
+   */
+  @Bean(name = "aiWebhookExecutor")
+  public ThreadPoolTaskExecutor aiWebhookExecutor(
+      @Value("${app.ai.webhook.worker-threads:2}") int workerThreads,
+      @Value("${app.ai.webhook.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerThreads);
+    executor.setMaxPoolSize(workerThreads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("AiWebhook-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
   @Override
   public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
     return (ex, method, params) ->
@@ -0,0 +1,46 @@
+package com.capstone.be.config;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-response async timeouts. A handler returning a long-running StreamingResponseBody (e.g.
+ * an export) calls {@link #setTimeout(Duration)}; every other async response keeps the
+ * default timeout.
+ */
+@Configuration
+public class AsyncRequestTimeoutConfig implements WebMvcConfigurer {
+
+  private static final String TIMEOUT_ATTRIBUTE =
+      AsyncRequestTimeoutConfig.class.getName() + ".timeout";
+
+  /**
+   * Use the given timeout for the async response of the current request
+   */
+  public static void setTimeout(Duration timeout) {
+    RequestContextHolder.currentRequestAttributes()
+        .setAttribute(TIMEOUT_ATTRIBUTE, timeout, RequestAttributes.SCOPE_REQUEST);
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+      @Override
+      public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // Runs before the async request is started, so the timeout still applies
+        if (request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof Duration timeout && request instanceof AsyncWebRequest asyncRequest) {
+          asyncRequest.setTimeout(timeout.toMillis());
+        }
+      }
+    });
+  }
+}
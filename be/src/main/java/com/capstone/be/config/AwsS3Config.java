@@ -1,16 +1,21 @@
 package com.capstone.be.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.Assert;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
 public class AwsS3Config {
 
   @Value("${aws.accessKeyId}")
@@ -22,6 +27,15 @@ public class AwsS3Config {
   @Value("${aws.region}")
   private String region;
 
+  @Value("${aws.s3.transfer.multipart-threshold-mb:8}")
+  private long multipartThresholdMb;
+
+  @Value("${aws.s3.transfer.part-size-mb:5}")
+  private long partSizeMb;
+
+  @Value("${aws.s3.transfer.max-concurrency:64}")
+  private int maxConcurrency;
+
   @Bean
   public S3Client s3Client() {
     Assert.hasText(accessKeyId, "AWS access key must not be blank");
@@ -35,6 +49,30 @@ public class AwsS3Config {
         .build();
   }
 
+  /**
+   * Async client for transfers: objects above the multipart threshold are uploaded as parts
+   * sent in parallel, bounded by max-concurrency connections
+   */
+  @Bean(destroyMethod = "close")
+  public S3AsyncClient s3AsyncClient() {
+    Assert.hasText(accessKeyId, "AWS access key must not be blank");
+    Assert.hasText(secretKey, "AWS secret key must not be blank");
+    Assert.hasText(region, "AWS region must not be blank");
+
+    long mb = 1024L * 1024L;
+    return S3AsyncClient.builder()
+        .credentialsProvider(
+            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, secretKey)))
+        .region(Region.of(region))
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConcurrency))
+        .multipartEnabled(true)
+        .multipartConfiguration(MultipartConfiguration.builder()
+            .thresholdInBytes(multipartThresholdMb * mb)
+            .minimumPartSizeInBytes(partSizeMb * mb)
+            .build())
+        .build();
+  }
+
   @Bean
   public S3Presigner s3Presigner() {
     Assert.hasText(accessKeyId, "AWS access key must not be blank");
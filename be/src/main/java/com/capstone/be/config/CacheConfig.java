@@ -1,14 +1,20 @@
 package com.capstone.be.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Cache configuration for application
- * Uses Spring Cache abstraction with in-memory caching
+ * Uses Spring Cache abstraction with in-memory caching (Caffeine)
  */
 @Slf4j
 @Configuration
@@ -18,7 +24,28 @@ public class CacheConfig {
 
   public static final String TRENDING_DOCUMENTS_CACHE = "trendingDocuments";
   public static final String TRENDING_REVIEWERS_CACHE = "trendingReviewers";
+  public static final String USER_ENTITLEMENTS_CACHE = "userEntitlements";
 
   // Cache TTL configuration (in seconds)
   public static final long CACHE_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+
+  /**
+   * Trending caches hold a single entry each and are evicted by their scheduler.
+   * User entitlements are per user, so that cache is bounded in size and age.
+   */
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${app.access.entitlement-cache.maximum-size:10000}") long entitlementMaximumSize,
+      @Value("${app.access.entitlement-cache.expire-after-write-ms:900000}")
+      long entitlementExpiryMs) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+        TRENDING_DOCUMENTS_CACHE, TRENDING_REVIEWERS_CACHE);
+    cacheManager.registerCustomCache(USER_ENTITLEMENTS_CACHE, Caffeine.newBuilder()
+        .maximumSize(entitlementMaximumSize)
+        .expireAfterWrite(Duration.ofMillis(entitlementExpiryMs))
+        .build());
+    log.info("User entitlement cache: maximum {} entries, expire after {} ms",
+        entitlementMaximumSize, entitlementExpiryMs);
+    return cacheManager;
+  }
 }
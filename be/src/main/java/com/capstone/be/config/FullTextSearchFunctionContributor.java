@@ -0,0 +1,46 @@
+package com.capstone.be.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL full-text search functions over {@code document.search_vector} for
+ * JPQL/Criteria queries:
+ * <ul>
+ *   <li>{@code fts_match(documentId, query)}: the document is among those whose vector matches
+ *   {@code to_tsquery('simple', query)} (a semi-join the planner serves from the GIN index)</li>
+ *   <li>{@code fts_rank(documentId, query)}: {@code ts_rank} of the document's vector</li>
+ * </ul>
+ * The column is only referenced here, never mapped, so documents are loaded without it.
+ * The text search configuration must match the one used to build {@code document.search_vector}.
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+  public static final String TEXT_SEARCH_CONFIG = "simple";
+  public static final String MATCH_FUNCTION = "fts_match";
+  public static final String RANK_FUNCTION = "fts_rank";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+    BasicType<Boolean> booleanType = types.resolve(StandardBasicTypes.BOOLEAN);
+    BasicType<Double> doubleType = types.resolve(StandardBasicTypes.DOUBLE);
+
+    functionContributions.getFunctionRegistry().registerPattern(
+        MATCH_FUNCTION,
+        "(?1 in (select sv.id from document sv where sv.search_vector"
+            + " @@ to_tsquery('" + TEXT_SEARCH_CONFIG + "', ?2)))",
+        booleanType
+    );
+    functionContributions.getFunctionRegistry().registerPattern(
+        RANK_FUNCTION,
+        "(select ts_rank(sv.search_vector, to_tsquery('" + TEXT_SEARCH_CONFIG + "', ?2))"
+            + " from document sv where sv.id = ?1)",
+        doubleType
+    );
+  }
+}
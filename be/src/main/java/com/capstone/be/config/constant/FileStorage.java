@@ -7,5 +7,6 @@ public class FileStorage {
   public static final String ORG_LOGO_FOLDER = "public/org-logos";
   public static final String MEMBER_IMPORT_FOLDER = "org-logos";
   public static final String DOCUMENT_FOLDER = "documents";
+  public static final String DOCUMENT_PREVIEW_FOLDER = "doc-previews";
   public static final String REVIEW_REPORT_FOLDER = "review-reports";
 }
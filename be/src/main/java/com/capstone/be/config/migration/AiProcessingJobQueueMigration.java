@@ -0,0 +1,95 @@
+package com.capstone.be.config.migration;
+
+import com.capstone.be.domain.enums.AiJobStatus;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migration component to prepare ai_processing_jobs for the processing queue:
+ * job_id becomes nullable (queued jobs have no AI job yet) and the status CHECK constraint is
+ * rebuilt from {@link AiJobStatus} so the QUEUED and SUBMITTING statuses are accepted.
+ * The processing queue does not dispatch until this migration has finished (see
+ * {@link #isFinished()}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test") // Don't run in tests
+public class AiProcessingJobQueueMigration {
+
+  private static final String CONSTRAINT = "ai_processing_jobs_status_check";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile boolean finished;
+
+  /**
+   * Whether the migration has run (successfully or not), so queued jobs can be claimed
+   */
+  public boolean isFinished() {
+    return finished;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.LOWEST_PRECEDENCE) // after AiProcessingJobTableMigration
+  public void migrateForQueue() {
+    try {
+      String nullableSql = """
+          SELECT is_nullable FROM information_schema.columns
+          WHERE table_schema = 'public' AND table_name = 'ai_processing_jobs'
+          AND column_name = 'job_id'
+          """;
+      String nullable = jdbcTemplate.queryForList(nullableSql, String.class).stream()
+          .findFirst()
+          .orElse(null);
+      if (nullable == null) {
+        log.warn("Table ai_processing_jobs not found, skipping queue migration");
+        return;
+      }
+      if ("NO".equals(nullable)) {
+        jdbcTemplate.execute("ALTER TABLE ai_processing_jobs ALTER COLUMN job_id DROP NOT NULL");
+        log.info("✓ Made ai_processing_jobs.job_id nullable");
+      }
+
+      String checkConstraintSql = """
+          SELECT pg_get_constraintdef(c.oid) FROM pg_constraint c
+          JOIN pg_class t ON t.oid = c.conrelid
+          WHERE t.relname = 'ai_processing_jobs' AND c.conname = ?
+          """;
+      String definition = jdbcTemplate.queryForList(checkConstraintSql, String.class, CONSTRAINT)
+          .stream()
+          .findFirst()
+          .orElse(null);
+      boolean upToDate = definition != null && Arrays.stream(AiJobStatus.values())
+          .allMatch(status -> definition.contains("'" + status.name() + "'"));
+      if (upToDate) {
+        log.debug("Constraint {} already allows all AI job statuses.", CONSTRAINT);
+        return;
+      }
+
+      String allowed = Arrays.stream(AiJobStatus.values())
+          .map(status -> "'" + status.name() + "'")
+          .collect(Collectors.joining(", "));
+      jdbcTemplate.execute("ALTER TABLE ai_processing_jobs DROP CONSTRAINT IF EXISTS " + CONSTRAINT);
+      jdbcTemplate.execute("ALTER TABLE ai_processing_jobs ADD CONSTRAINT " + CONSTRAINT
+          + " CHECK (status IN (" + allowed + "))");
+      log.info("✓ Updated constraint {} for AI job statuses", CONSTRAINT);
+
+    } catch (Exception e) {
+      log.error("Error migrating ai_processing_jobs for the processing queue: {}",
+          e.getMessage(), e);
+      // Don't throw exception to prevent app startup failure
+    } finally {
+      finished = true;
+    }
+  }
+}
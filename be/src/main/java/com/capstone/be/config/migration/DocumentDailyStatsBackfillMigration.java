@@ -0,0 +1,43 @@
+package com.capstone.be.config.migration;
+
+import com.capstone.be.service.helper.DocumentActivityRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migration component to backfill document_daily_stats from the activity tables.
+ * Runs only while the rollup table is empty, i.e. once after the table is created.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test") // Don't run in tests
+public class DocumentDailyStatsBackfillMigration {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DocumentActivityRollup documentActivityRollup;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillDailyStats() {
+    try {
+      Boolean populated = jdbcTemplate.queryForObject(
+          "SELECT EXISTS (SELECT 1 FROM document_daily_stats)", Boolean.class);
+      if (Boolean.TRUE.equals(populated)) {
+        log.debug("document_daily_stats already populated, skipping backfill");
+        return;
+      }
+
+      int rows = documentActivityRollup.rebuild(null, null);
+      log.info("✓ Backfilled document_daily_stats with {} rows", rows);
+
+    } catch (Exception e) {
+      log.error("Error backfilling document_daily_stats: {}", e.getMessage(), e);
+      // Don't throw exception to prevent app startup failure
+    }
+  }
+}
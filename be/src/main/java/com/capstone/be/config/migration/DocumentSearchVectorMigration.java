@@ -0,0 +1,89 @@
+package com.capstone.be.config.migration;
+
+import com.capstone.be.config.FullTextSearchFunctionContributor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migration component to maintain the full-text search vector of documents.
+ * Creates {@code document.search_vector} as a STORED generated column weighted
+ * title (A) > summaries (B) > description (C), plus a GIN index on it.
+ * PostgreSQL keeps the vector up to date on every insert/update, so no application code writes it.
+ * If JPA auto-ddl already added the column as a plain tsvector, it is replaced by the generated one.
+ * Full-text search stays off until this migration has succeeded (see {@link #isReady()}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test") // Don't run in tests
+public class DocumentSearchVectorMigration {
+
+  private static final String CONFIG = FullTextSearchFunctionContributor.TEXT_SEARCH_CONFIG;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile boolean ready;
+
+  /**
+   * Whether the generated column and its GIN index exist, so full-text predicates can run
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createSearchVector() {
+    try {
+      String checkColumnSql = """
+          SELECT is_generated FROM information_schema.columns
+          WHERE table_schema = 'public'
+          AND table_name = 'document'
+          AND column_name = 'search_vector'
+          """;
+
+      String isGenerated = jdbcTemplate.queryForList(checkColumnSql, String.class)
+          .stream()
+          .findFirst()
+          .orElse(null);
+
+      if ("ALWAYS".equals(isGenerated)) {
+        log.debug("Column document.search_vector already exists. Migration not needed.");
+      } else {
+        if (isGenerated != null) {
+          log.info("Column document.search_vector is not generated. Recreating...");
+          jdbcTemplate.execute("ALTER TABLE document DROP COLUMN search_vector");
+        }
+
+        String addColumnSql = """
+            ALTER TABLE document ADD COLUMN search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector('%1$s', coalesce(title, '')), 'A')
+                || setweight(to_tsvector('%1$s', coalesce(summary_short, '') || ' '
+                    || coalesce(summary_medium, '') || ' '
+                    || coalesce(summary_detailed, '')), 'B')
+                || setweight(to_tsvector('%1$s', coalesce(description, '')), 'C')
+            ) STORED
+            """.formatted(CONFIG);
+
+        jdbcTemplate.execute(addColumnSql);
+        log.info("✓ Created generated column document.search_vector");
+      }
+
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_document_search_vector ON document USING GIN (search_vector)");
+      log.debug("Ensured GIN index idx_document_search_vector");
+      ready = true;
+
+    } catch (Exception e) {
+      log.error("Error creating document search vector: {}", e.getMessage(), e);
+      // Don't throw exception to prevent app startup failure
+      // Search keeps using LIKE matching while the vector is not ready
+      log.warn("Full-text document search unavailable, falling back to LIKE matching");
+    }
+  }
+}
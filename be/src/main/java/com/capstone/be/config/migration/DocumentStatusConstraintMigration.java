@@ -0,0 +1,63 @@
+package com.capstone.be.config.migration;
+
+import com.capstone.be.domain.enums.DocStatus;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migration component to keep the CHECK constraint of {@code document.status} in sync with
+ * {@link DocStatus}. Hibernate only creates the constraint together with the table, so statuses
+ * added later (e.g. CONVERTING) would otherwise be rejected by existing databases.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test") // Don't run in tests
+public class DocumentStatusConstraintMigration {
+
+  private static final String CONSTRAINT = "document_status_check";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void syncStatusConstraint() {
+    try {
+      String allowed = Arrays.stream(DocStatus.values())
+          .map(status -> "'" + status.name() + "'")
+          .collect(Collectors.joining(", "));
+
+      String checkConstraintSql = """
+          SELECT pg_get_constraintdef(c.oid) FROM pg_constraint c
+          JOIN pg_class t ON t.oid = c.conrelid
+          WHERE t.relname = 'document' AND c.conname = ?
+          """;
+      String definition = jdbcTemplate.queryForList(checkConstraintSql, String.class, CONSTRAINT)
+          .stream()
+          .findFirst()
+          .orElse(null);
+
+      boolean upToDate = definition != null && Arrays.stream(DocStatus.values())
+          .allMatch(status -> definition.contains("'" + status.name() + "'"));
+      if (upToDate) {
+        log.debug("Constraint {} already allows all document statuses.", CONSTRAINT);
+        return;
+      }
+
+      jdbcTemplate.execute("ALTER TABLE document DROP CONSTRAINT IF EXISTS " + CONSTRAINT);
+      jdbcTemplate.execute("ALTER TABLE document ADD CONSTRAINT " + CONSTRAINT
+          + " CHECK (status IN (" + allowed + "))");
+      log.info("✓ Updated constraint {} for document statuses", CONSTRAINT);
+
+    } catch (Exception e) {
+      log.error("Error updating document status constraint: {}", e.getMessage(), e);
+      // Don't throw exception to prevent app startup failure
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.admin.UpdateDocumentStatusRequest;
 import com.capstone.be.dto.response.document.AdminDocumentListResponse;
 import com.capstone.be.dto.response.document.DocumentDetailResponse;
+import com.capstone.be.dto.response.document.DuplicateDocumentClusterResponse;
 import com.capstone.be.security.model.UserPrincipal;
 import com.capstone.be.service.DocumentService;
 import com.capstone.be.util.AuditLogHelper;
@@ -78,6 +79,24 @@ public class AdminDocumentController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Clusters of documents uploaded with identical content (same SHA-256)
+   * GET /api/admin/documents/duplicates
+   */
+  @GetMapping("/duplicates")
+  @PreAuthorize("hasRole('BUSINESS_ADMIN')")
+  public ResponseEntity<PagedResponse<DuplicateDocumentClusterResponse>> getDuplicateClusters(
+      @PageableDefault(size = 20) Pageable pageable) {
+    log.info("Admin requesting duplicate document clusters - page: {}, size: {}",
+        pageable.getPageNumber(), pageable.getPageSize());
+
+    Page<DuplicateDocumentClusterResponse> page =
+        documentService.getDuplicateDocumentClusters(pageable);
+
+    return ResponseEntity.ok(PagedResponse.of(page,
+        "Duplicate document clusters retrieved successfully"));
+  }
+
   @GetMapping("/{documentId}")
   @PreAuthorize("hasRole('BUSINESS_ADMIN')")
   public ResponseEntity<ApiResponse<DocumentDetailResponse>> getDocumentById(
@@ -1,6 +1,7 @@
 package com.capstone.be.controller;
 
 import com.capstone.be.dto.common.ApiResponse;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.comment.CreateCommentRequest;
 import com.capstone.be.dto.request.comment.UpdateCommentRequest;
@@ -129,6 +130,31 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get comments for a document with cursor pagination (infinite scroll)
+     * GET /api/comments/document/{documentId}/cursor
+     *
+     * @param documentId   Document ID
+     * @param cursor       Cursor from the previous page, omitted for the first page
+     * @param size         Page size
+     * @param includeTotal Also return the total count
+     * @return Cursor page of comments, newest first
+     */
+    @GetMapping("/document/{documentId}/cursor")
+    @Operation(summary = "Get comments by document with cursor",
+               description = "Keyset paginated comments for a document, newest first")
+    public ResponseEntity<CursorPagedResponse<CommentResponse>> getCommentsByDocumentCursor(
+            @PathVariable(name = "documentId") UUID documentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+
+        log.info("Fetching comments by cursor for document {}, size: {}", documentId, size);
+
+        return ResponseEntity.ok(
+                commentService.getCommentsByDocumentCursor(documentId, cursor, size, includeTotal));
+    }
+
     /**
      * Get comment by ID
      * GET /api/comments/{commentId}
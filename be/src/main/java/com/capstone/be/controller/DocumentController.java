@@ -1,6 +1,7 @@
 package com.capstone.be.controller;
 
 import com.capstone.be.domain.enums.LogAction;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.document.DocumentLibraryFilter;
 import com.capstone.be.dto.request.document.DocumentSearchFilter;
@@ -10,17 +11,20 @@ import com.capstone.be.dto.request.document.UploadDocumentInfoRequest;
 import com.capstone.be.dto.request.document.VoteDocumentRequest;
 import com.capstone.be.dto.response.document.*;
 import com.capstone.be.security.model.UserPrincipal;
+import com.capstone.be.service.DocumentPagePreviewService;
 import com.capstone.be.service.DocumentService;
 import com.capstone.be.service.DocumentVoteService;
 import com.capstone.be.util.AuditLogHelper;
 import com.capstone.be.util.PagingUtil;
 import jakarta.validation.Valid;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +44,7 @@ public class DocumentController {
 
   private final DocumentService documentService;
   private final DocumentVoteService documentVoteService;
+  private final DocumentPagePreviewService documentPagePreviewService;
   private final AuditLogHelper auditLogHelper;
 
   /**
@@ -145,6 +150,35 @@ public class DocumentController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Get a preview image (JPEG) of one document page, rendered on demand
+   * Readers without access to the document can preview the first pages of public documents
+   *
+   * @param userPrincipal Authenticated user
+   * @param documentId    Document ID
+   * @param page          Page number (1-based)
+   * @param width         Requested width in pixels (rounded up to a supported width)
+   * @return Page image; X-Page-Count carries the page count when known
+   */
+  @GetMapping(value = "/{id}/pages/{page}/preview", produces = MediaType.IMAGE_JPEG_VALUE)
+  @PreAuthorize("hasAnyRole('READER', 'ORGANIZATION_ADMIN', 'BUSINESS_ADMIN')")
+  public ResponseEntity<byte[]> getPagePreview(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @PathVariable(name = "id") UUID documentId,
+      @PathVariable(name = "page") int page,
+      @RequestParam(name = "width", defaultValue = "640") int width) {
+    DocumentPagePreview preview = documentPagePreviewService.getPagePreview(
+        userPrincipal.getId(), documentId, page, width);
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.IMAGE_JPEG)
+        .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate());
+    if (preview.getPageCount() != null) {
+      response.header("X-Page-Count", String.valueOf(preview.getPageCount()));
+    }
+    return response.body(preview.getImage());
+  }
+
   /**
    * Get detailed information about a document Includes comprehensive metadata, uploader info,
    * organization, specialization, tags, and user-specific data
@@ -306,6 +340,7 @@ public class DocumentController {
    * Returns PUBLIC documents for everyone.
    * If authenticated and user has joined organizations, also returns INTERNAL documents
    * from those organizations.
+   * With filter.includeFacets = true the response also carries facet counts for the filter.
    *
    * @return Paged response of search results
    * @body filter Search filters (all optional)
@@ -325,9 +360,35 @@ public class DocumentController {
     Page<DocumentSearchResponse> searchResults =
             documentService.searchPublicDocuments(filter, pageable, userId);
 
+    // Optional facet counts for the same filter (grouped aggregates, no per-bucket searches)
+    if (Boolean.TRUE.equals(filter.getIncludeFacets())) {
+      DocumentSearchFacetsResponse facets = documentService.getSearchFacets(filter, userId);
+      return ResponseEntity.ok(DocumentSearchPagedResponse.of(searchResults, facets));
+    }
+
     return ResponseEntity.ok(PagedResponse.of(searchResults));
   }
 
+  /**
+   * Search documents with cursor pagination (infinite scroll).
+   * Same filters and visibility rules as /search; page is ignored and filter.size is the page
+   * size. Results follow filter.sorts, newest first by default.
+   *
+   * @return Cursor page of search results
+   * @body filter Search filters (all optional)
+   */
+  @PostMapping(value = "/search/cursor")
+  public ResponseEntity<CursorPagedResponse<DocumentSearchResponse>> searchPublicDocumentsByCursor(
+          @AuthenticationPrincipal UserPrincipal userPrincipal,
+          @RequestParam(name = "cursor", required = false) String cursor,
+          @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+          @Valid @RequestBody DocumentSearchFilter filter) {
+
+    UUID userId = userPrincipal != null ? userPrincipal.getId() : null;
+    return ResponseEntity.ok(
+            documentService.searchPublicDocumentsByCursor(filter, cursor, includeTotal, userId));
+  }
+
   /**
    * Search metadata cho documents.
    * Dùng cho Filter Modal ở FE.
@@ -407,6 +468,24 @@ public class DocumentController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Homepage with cursor pagination for infinite scroll, for both Guest and User
+   */
+  @GetMapping("/homepage/cursor")
+  public ResponseEntity<CursorPagedResponse<DocumentDetailResponse>> getHomepageDocumentsByCursor(
+          @AuthenticationPrincipal UserPrincipal userPrincipal,
+          @RequestParam(name = "cursor", required = false) String cursor,
+          @RequestParam(name = "size", defaultValue = "20") int size,
+          @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+  ) {
+    UUID userId = userPrincipal != null ? userPrincipal.getId() : null;
+
+    log.info("Homepage cursor request: size={}, userId={}", size, userId);
+
+    return ResponseEntity.ok(
+            documentService.getHomepageDocumentsByCursor(userId, cursor, size, includeTotal));
+  }
+
   /**
    * Get violations for a specific document
    * Only the uploader and admins can view violations
@@ -0,0 +1,150 @@
+package com.capstone.be.controller;
+
+import com.capstone.be.config.AsyncRequestTimeoutConfig;
+import com.capstone.be.domain.enums.ExportDataset;
+import com.capstone.be.domain.enums.ExportFormat;
+import com.capstone.be.exception.InvalidRequestException;
+import com.capstone.be.security.model.UserPrincipal;
+import com.capstone.be.service.ExportService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller for admin data exports (CSV / XLSX downloads)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+  private static final DateTimeFormatter FILE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private final ExportService exportService;
+
+  // Exports outlive the default async request timeout
+  @Value("${app.export.timeout-minutes:30}")
+  private long timeoutMinutes;
+
+  /**
+   * Export documents
+   * GET /api/admin/exports/documents?format=csv|xlsx&startDate=yyyy-MM-dd&endDate=yyyy-MM-dd
+   */
+  @GetMapping("/documents")
+  @PreAuthorize("hasRole('BUSINESS_ADMIN')")
+  public ResponseEntity<StreamingResponseBody> exportDocuments(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return export(userPrincipal, ExportDataset.DOCUMENTS, format, startDate, endDate);
+  }
+
+  /**
+   * Export users
+   * GET /api/admin/exports/users
+   */
+  @GetMapping("/users")
+  @PreAuthorize("hasRole('BUSINESS_ADMIN')")
+  public ResponseEntity<StreamingResponseBody> exportUsers(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return export(userPrincipal, ExportDataset.USERS, format, startDate, endDate);
+  }
+
+  /**
+   * Export organizations
+   * GET /api/admin/exports/organizations
+   */
+  @GetMapping("/organizations")
+  @PreAuthorize("hasRole('BUSINESS_ADMIN')")
+  public ResponseEntity<StreamingResponseBody> exportOrganizations(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return export(userPrincipal, ExportDataset.ORGANIZATIONS, format, startDate, endDate);
+  }
+
+  /**
+   * Export document reports
+   * GET /api/admin/exports/reports
+   */
+  @GetMapping("/reports")
+  @PreAuthorize("hasRole('BUSINESS_ADMIN')")
+  public ResponseEntity<StreamingResponseBody> exportReports(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return export(userPrincipal, ExportDataset.REPORTS, format, startDate, endDate);
+  }
+
+  /**
+   * Export system audit logs
+   * GET /api/admin/exports/audit-logs
+   */
+  @GetMapping("/audit-logs")
+  @PreAuthorize("hasRole('SYSTEM_ADMIN')")
+  public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return export(userPrincipal, ExportDataset.AUDIT_LOGS, format, startDate, endDate);
+  }
+
+  private ResponseEntity<StreamingResponseBody> export(UserPrincipal userPrincipal,
+      ExportDataset dataset, String format, LocalDate startDate, LocalDate endDate) {
+    ExportFormat exportFormat = parseFormat(format);
+    Instant start = startDate != null
+        ? startDate.atStartOfDay(ZoneId.systemDefault()).toInstant()
+        : null;
+    Instant end = endDate != null
+        ? endDate.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant()
+        : null;
+
+    log.info("User {} exporting {} as {} from {} to {}", userPrincipal.getId(), dataset,
+        exportFormat, start, end);
+
+    StreamingResponseBody body = exportService.export(dataset, exportFormat, start, end,
+        userPrincipal);
+    AsyncRequestTimeoutConfig.setTimeout(Duration.ofMinutes(timeoutMinutes));
+
+    String fileName = dataset.getFileName() + "-" + LocalDate.now().format(FILE_DATE_FORMATTER)
+        + "." + exportFormat.getExtension();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName).build().toString())
+        .body(body);
+  }
+
+  private static ExportFormat parseFormat(String format) {
+    try {
+      return ExportFormat.valueOf(format.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException("Unsupported export format: " + format);
+    }
+  }
+}
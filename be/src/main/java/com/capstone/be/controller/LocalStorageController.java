@@ -0,0 +1,168 @@
+package com.capstone.be.controller;
+
+import com.capstone.be.service.helper.LocalStorageUrlSigner;
+import com.capstone.be.service.impl.LocalFileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves objects of the local storage backend through signed, expiring URLs
+ * No authentication required - access is granted by the URL signature (like S3 presigned URLs)
+ * Supports single byte ranges so readers can stream large PDFs page by page.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/public/storage")
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalStorageController {
+
+  // Tomcat sendfile request attributes (NIO connector)
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final LocalStorageUrlSigner urlSigner;
+  private final LocalFileStorageService localFileStorageService;
+
+  /**
+   * Download an object, or the byte range requested in the Range header
+   * The body is sent by the container with sendfile when available, otherwise copied with
+   * FileChannel.transferTo, so memory use does not depend on the file size.
+   *
+   * @param key       Object key (folder/filename)
+   * @param expires   Expiry of the signed URL (epoch seconds)
+   * @param signature URL signature
+   */
+  @GetMapping("/{*key}")
+  public void download(
+      @PathVariable(name = "key") String key,
+      @RequestParam(name = "expires") long expires,
+      @RequestParam(name = "signature") String signature,
+      @RequestHeader(name = HttpHeaders.RANGE, required = false) String rangeHeader,
+      HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    String objectKey = key.startsWith("/") ? key.substring(1) : key;
+    urlSigner.verify(objectKey, expires, signature);
+
+    Path path = localFileStorageService.resolveExisting(objectKey);
+    long size = Files.size(path);
+
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    ByteRange range = ByteRange.parse(rangeHeader, size);
+    if (range == null) {
+      response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+      return;
+    }
+
+    long maxAge = Math.max(0, expires - Instant.now().getEpochSecond());
+    response.setContentType(MediaTypeFactory.getMediaType(path.getFileName().toString())
+        .orElse(MediaType.APPLICATION_OCTET_STREAM)
+        .toString());
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + maxAge);
+    response.setContentLengthLong(range.length());
+    if (range.partial()) {
+      response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+      response.setHeader(HttpHeaders.CONTENT_RANGE,
+          "bytes " + range.start() + "-" + range.end() + "/" + size);
+    }
+
+    if (range.length() == 0 || "HEAD".equals(request.getMethod())) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      // Zero-copy: Tomcat writes the file to the socket after this method returns
+      request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, range.start());
+      request.setAttribute(SENDFILE_END, range.end() + 1);
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = range.start();
+      long remaining = range.length();
+      while (remaining > 0) {
+        long sent = channel.transferTo(position, remaining, out);
+        if (sent <= 0) {
+          break;
+        }
+        position += sent;
+        remaining -= sent;
+      }
+    }
+  }
+
+  /**
+   * Inclusive byte range of a response body
+   */
+  record ByteRange(long start, long end, boolean partial) {
+
+    long length() {
+      return end - start + 1;
+    }
+
+    /**
+     * Parse a Range header. Missing, malformed and multi-range headers select the whole file.
+     *
+     * @return the range to send, or null if the range cannot be satisfied
+     */
+    static ByteRange parse(String header, long size) {
+      ByteRange whole = new ByteRange(0, size - 1, false);
+      if (header == null || !header.startsWith("bytes=") || header.contains(",")) {
+        return whole;
+      }
+
+      String spec = header.substring("bytes=".length()).trim();
+      int dash = spec.indexOf('-');
+      if (dash < 0) {
+        return whole;
+      }
+      try {
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        if (first.isEmpty()) {
+          // Suffix range: the last N bytes
+          long suffix = Long.parseLong(last);
+          if (suffix <= 0 || size == 0) {
+            return null;
+          }
+          return new ByteRange(Math.max(0, size - suffix), size - 1, true);
+        }
+
+        long start = Long.parseLong(first);
+        long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+        if (start >= size || start > end) {
+          return null;
+        }
+        return new ByteRange(start, end, true);
+      } catch (NumberFormatException e) {
+        return whole;
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.capstone.be.controller;
 
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.response.user.NotificationResponse;
 import com.capstone.be.security.model.UserPrincipal;
@@ -79,6 +80,36 @@ public class NotificationController {
     return ResponseEntity.ok(PagedResponse.of(page));
   }
 
+  /**
+   * Get notifications for current user with cursor pagination (infinite scroll)
+   * GET /api/notifications/cursor
+   *
+   * @param principal    Current authenticated user
+   * @param unreadOnly   Optional filter to get only unread notifications
+   * @param cursor       Cursor from the previous page, omitted for the first page
+   * @param size         Page size
+   * @param includeTotal Also return the total count (runs a count query)
+   * @return Cursor page of notifications
+   */
+  @GetMapping("/cursor")
+  @PreAuthorize("isAuthenticated()")
+  @Operation(summary = "Get my notifications by cursor",
+             description = "Keyset paginated notifications, newest first; the count is optional")
+  public ResponseEntity<CursorPagedResponse<NotificationResponse>> getMyNotificationsByCursor(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam(name = "unreadOnly", required = false, defaultValue = "false") Boolean unreadOnly,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+
+    UUID userId = principal.getId();
+    log.info("User {} fetching notifications by cursor - unreadOnly: {}, size: {}",
+        userId, unreadOnly, size);
+
+    return ResponseEntity.ok(notificationService.getMyNotificationsByCursor(
+        userId, Boolean.TRUE.equals(unreadOnly), cursor, size, includeTotal));
+  }
+
   /**
    * Get unread notification count
    * GET /api/notifications/unread-count
@@ -1,5 +1,6 @@
 package com.capstone.be.controller;
 
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.admin.SystemLogQueryRequest;
 import com.capstone.be.dto.response.admin.SystemLogResponse;
@@ -71,6 +72,46 @@ public class SystemLogController {
         return ResponseEntity.ok(PagedResponse.of(page, "Logs retrieved successfully"));
     }
 
+    /**
+     * Get logs with filters using cursor pagination
+     * GET /api/v1/system-admin/logs/cursor
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get system logs by cursor", description = "Keyset paginated system logs, newest first; the count is optional")
+    public ResponseEntity<CursorPagedResponse<SystemLogResponse>> getLogsByCursor(
+        @RequestParam(required = false) String action,
+        @RequestParam(required = false) java.util.List<String> actions,
+        @RequestParam(required = false) UUID userId,
+        @RequestParam(required = false) UUID targetUserId,
+        @RequestParam(required = false) String userRole,
+        @RequestParam(required = false) String ipAddress,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endDate,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.info("System admin querying logs by cursor - action: {}, userId: {}, startDate: {}, endDate: {}",
+            action, userId, startDate, endDate);
+
+        SystemLogQueryRequest queryRequest = SystemLogQueryRequest.builder()
+            .action(action)
+            .actions(actions)
+            .userId(userId)
+            .targetUserId(targetUserId)
+            .userRole(userRole)
+            .ipAddress(ipAddress)
+            .startDate(startDate)
+            .endDate(endDate)
+            .search(search)
+            .build();
+
+        var response = systemLogService.getLogsByCursor(queryRequest, cursor, size, includeTotal);
+        response.setMessage("Logs retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get logs by action
      * GET /api/v1/system-admin/logs/action/{action}
@@ -3,6 +3,8 @@ package com.capstone.be.domain.entity;
 import com.capstone.be.domain.entity.common.BaseEntity;
 import com.capstone.be.domain.enums.AiJobStatus;
 import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,9 +15,13 @@ import lombok.experimental.SuperBuilder;
 /**
  * Entity to track AI processing jobs for documents.
  * Stores job_id from AI service and tracks processing status.
+ * Also the durable work queue of AiProcessingQueue: jobs are QUEUED before they are submitted,
+ * so a failed submission is retried instead of lost.
  */
 @Entity
-@Table(name = "ai_processing_jobs")
+@Table(name = "ai_processing_jobs", indexes = {
+    @Index(name = "idx_ai_processing_jobs_queue", columnList = "status, next_attempt_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,9 +37,9 @@ public class AiProcessingJob extends BaseEntity {
   private Document document;
 
   /**
-   * Job ID from AI service (UUID string)
+   * Job ID from AI service (UUID string), null until the job is submitted
    */
-  @Column(nullable = false, unique = true, length = 100)
+  @Column(unique = true, length = 100)
   private String jobId;
 
   /**
@@ -42,7 +48,50 @@ public class AiProcessingJob extends BaseEntity {
   @Enumerated(EnumType.STRING)
   @Column(nullable = false, length = 20)
   @Builder.Default
-  private AiJobStatus status = AiJobStatus.PENDING;
+  private AiJobStatus status = AiJobStatus.QUEUED;
+
+  /**
+   * Uploader of the document (per-uploader fairness when claiming jobs)
+   */
+  @Column(columnDefinition = "UUID")
+  private UUID uploaderId;
+
+  /**
+   * Priority band, lower is submitted first (premium and small documents first)
+   */
+  @Column
+  private Integer priority;
+
+  /**
+   * Size of the document file in bytes
+   */
+  @Column
+  private Long fileSize;
+
+  /**
+   * Number of submission attempts so far
+   */
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  /**
+   * Earliest time of the next submission attempt (retry backoff)
+   */
+  @Column
+  private Instant nextAttemptAt;
+
+  /**
+   * Claim expiry of a SUBMITTING job; an expired claim is put back in the queue
+   */
+  @Column
+  private Instant leaseUntil;
+
+  /**
+   * Time the job was accepted by the AI service
+   */
+  @Column
+  private Instant submittedAt;
 
   /**
    * Filename of the document being processed
@@ -0,0 +1,96 @@
+package com.capstone.be.domain.entity;
+
+import com.capstone.be.domain.entity.common.BaseEntity;
+import com.capstone.be.domain.enums.AiWebhookEventStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Webhook callback received from the AI service, stored before it is acknowledged and applied
+ * asynchronously. The unique (job_id, job_status) pair makes redelivered callbacks no-ops.
+ */
+@Entity
+@Table(name = "ai_webhook_events",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ai_webhook_events_job_status",
+            columnNames = {"job_id", "job_status"})
+    },
+    indexes = {
+        @Index(name = "idx_ai_webhook_events_status", columnList = "status, next_attempt_at")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class AiWebhookEvent extends BaseEntity {
+
+  /**
+   * Job ID from AI service
+   */
+  @Column(name = "job_id", nullable = false, length = 100)
+  private String jobId;
+
+  /**
+   * Job status reported by the callback, lower case ("completed", "failed", ...)
+   */
+  @Column(name = "job_status", nullable = false, length = 20)
+  private String jobStatus;
+
+  /**
+   * Raw callback payload (JSON)
+   */
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String payload;
+
+  /**
+   * Processing status of the callback
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private AiWebhookEventStatus status = AiWebhookEventStatus.RECEIVED;
+
+  /**
+   * Number of processing attempts so far
+   */
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  /**
+   * Earliest time of the next processing attempt
+   */
+  @Column
+  private Instant nextAttemptAt;
+
+  /**
+   * Claim expiry of a PROCESSING event; an expired claim is processed again
+   */
+  @Column
+  private Instant leaseUntil;
+
+  /**
+   * Time the callback was applied
+   */
+  @Column
+  private Instant processedAt;
+
+  /**
+   * Error of the last failed attempt
+   */
+  @Column(columnDefinition = "TEXT")
+  private String errorMessage;
+}
@@ -6,7 +6,13 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // Keyset pagination of a document's comments: document_id = ? AND (created_at, id) < (?, ?)
+                @Index(name = "idx_comments_document_created", columnList = "document_id,created_at,id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
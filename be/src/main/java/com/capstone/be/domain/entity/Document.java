@@ -3,13 +3,16 @@ package com.capstone.be.domain.entity;
 import com.capstone.be.domain.entity.common.BaseEntity;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.listener.DocumentChangeListener;
 import jakarta.persistence.*;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -17,6 +20,14 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
+@Table(indexes = {
+    // Keyset pagination of the homepage feed ordered by (vote_score, created_at, id)
+    @Index(name = "idx_document_homepage_keyset",
+        columnList = "status,visibility,vote_score,created_at,id"),
+    // Duplicate lookups and the duplicate-cluster report
+    @Index(name = "idx_document_content_hash", columnList = "content_hash")
+})
+@EntityListeners(DocumentChangeListener.class)
 public class Document extends BaseEntity {
 
   @Column(nullable = false)
@@ -50,6 +61,13 @@ public class Document extends BaseEntity {
 
   private String fileKey;
 
+  // SHA-256 of the stored PDF, see DocumentContent
+  @Column(length = 64)
+  private String contentHash;
+
+  // Set when DeletedDocumentPurgeJob released the stored file of a DELETED document
+  private Instant contentReleasedAt;
+
   private int pageCount;
 
   @Column(nullable = false)
@@ -57,14 +75,67 @@ public class Document extends BaseEntity {
   private DocStatus status;
 
   // -- Denormalized fields
+  // Written only by DocumentViewCounter's batched increments; never by entity saves
+  @Column(updatable = false)
   @Builder.Default
   private Integer viewCount = 0;
 
+  // Vote totals are changed only by DocumentRepository.applyVoteDeltas
+  @Column(updatable = false)
   @Builder.Default
   private Integer upvoteCount = 0;
 
+  @Column(updatable = false)
   @Builder.Default
   private Integer voteScore = 0; //can calculate downvoteCount
+
+  // Engagement counters: only changed through atomic delta updates in DocumentRepository
+  // (never written back from the entity), repaired by DocumentCounterReconciliationJob
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer commentCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer saveCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer reportCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer purchaseCount = 0;
+
+  // Review request counters by status
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer pendingReviewCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer acceptedReviewCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer rejectedReviewCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer expiredReviewCount = 0;
+
+  @Column(updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer submittedReviewCount = 0;
   // Denormalized fields --
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
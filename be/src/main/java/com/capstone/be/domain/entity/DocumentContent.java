@@ -0,0 +1,55 @@
+package com.capstone.be.domain.entity;
+
+import com.capstone.be.domain.entity.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Content index entry for deduplicated document files.
+ * One row per distinct SHA-256 of an uploaded PDF: the stored S3 object and thumbnail are shared
+ * by every document with that content, and referenceCount tracks how many documents point at
+ * them (the objects are deleted when it reaches zero). The first AI moderation result is kept so
+ * identical uploads are not sent to the AI service again.
+ */
+@Entity
+@Table(name = "document_content")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class DocumentContent extends BaseEntity {
+
+  /**
+   * SHA-256 of the stored PDF (lowercase hex)
+   */
+  @Column(nullable = false, unique = true, length = 64)
+  private String sha256;
+
+  @Column(nullable = false)
+  private String fileKey;
+
+  private String thumbnailKey;
+
+  private Long fileSize;
+
+  /**
+   * Number of documents sharing fileKey / thumbnailKey
+   */
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer referenceCount = 1;
+
+  /**
+   * AiModerationResponse of the first completed AI run (JSON)
+   */
+  @Column(columnDefinition = "TEXT")
+  private String aiResponse;
+}
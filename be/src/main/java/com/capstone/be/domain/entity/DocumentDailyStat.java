@@ -0,0 +1,80 @@
+package com.capstone.be.domain.entity;
+
+import com.capstone.be.domain.entity.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Daily activity rollup of a document (one row per day and document).
+ * Organization and uploader are copied from the document so statistics can be grouped by them
+ * without joining. Maintained by DocumentActivityRollup: incrementally from the write paths and
+ * recomputed from the source tables by the nightly compaction.
+ */
+@Entity
+@Table(name = "document_daily_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_document_daily_stats_day_document",
+            columnNames = {"day", "document_id"})
+    },
+    indexes = {
+        @Index(name = "idx_document_daily_stats_day", columnList = "day"),
+        @Index(name = "idx_document_daily_stats_org_day", columnList = "organization_id, day"),
+        @Index(name = "idx_document_daily_stats_uploader_day", columnList = "uploader_id, day")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class DocumentDailyStat extends BaseEntity {
+
+  /**
+   * Day of the activity (server time zone)
+   */
+  @Column(nullable = false)
+  private LocalDate day;
+
+  @Column(name = "document_id", nullable = false, columnDefinition = "UUID")
+  private UUID documentId;
+
+  @Column(name = "organization_id", columnDefinition = "UUID")
+  private UUID organizationId;
+
+  @Column(name = "uploader_id", columnDefinition = "UUID")
+  private UUID uploaderId;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long views = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long votes = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long comments = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long saves = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long purchases = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Long reports = 0L;
+}
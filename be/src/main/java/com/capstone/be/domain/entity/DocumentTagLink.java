@@ -1,7 +1,9 @@
 package com.capstone.be.domain.entity;
 
 import com.capstone.be.domain.entity.common.BaseEntity;
+import com.capstone.be.domain.listener.DocumentChangeListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -22,6 +24,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @Entity
 @Table(name = "document_tag_link")
+@EntityListeners(DocumentChangeListener.class)
 public class DocumentTagLink extends BaseEntity {
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
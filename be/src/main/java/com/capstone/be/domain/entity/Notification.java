@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,13 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = {
+        // Keyset pagination of a user's feed: user_id = ? AND (created_at, id) < (?, ?)
+        @Index(name = "idx_notifications_user_created", columnList = "user_id,created_at,id")
+    }
+)
 public class Notification extends BaseEntity {
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -28,6 +28,7 @@ import lombok.experimental.SuperBuilder;
         @Index(name = "idx_logs_action", columnList = "action"),
         @Index(name = "idx_logs_user_id", columnList = "user_id"),
         @Index(name = "idx_logs_created_at", columnList = "created_at"),
+        @Index(name = "idx_logs_created_at_id", columnList = "created_at,id"),
         @Index(name = "idx_logs_action_created", columnList = "action,created_at"),
         @Index(name = "idx_logs_target_user", columnList = "target_user_id")
     }
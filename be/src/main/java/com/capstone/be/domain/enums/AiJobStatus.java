@@ -4,7 +4,9 @@ package com.capstone.be.domain.enums;
  * Status enum for AI processing jobs
  */
 public enum AiJobStatus {
-  PENDING,
+  QUEUED,      // Waiting in the processing queue (also between retries)
+  SUBMITTING,  // Claimed by a worker, being sent to the AI service
+  PENDING,     // Submitted, waiting for the webhook
   PROCESSING,
   COMPLETED,
   FAILED
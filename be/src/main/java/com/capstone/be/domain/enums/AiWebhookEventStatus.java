@@ -0,0 +1,11 @@
+package com.capstone.be.domain.enums;
+
+/**
+ * Processing status of a received AI webhook callback
+ */
+public enum AiWebhookEventStatus {
+  RECEIVED,    // Stored and acknowledged, waiting for a worker (also between retries)
+  PROCESSING,  // Being applied by a worker
+  PROCESSED,
+  FAILED
+}
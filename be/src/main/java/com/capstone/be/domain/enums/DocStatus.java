@@ -6,6 +6,8 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum DocStatus {
+  CONVERTING("Converting"),           // DOCX đang được chuyển sang PDF (xử lý nền)
+  CONVERSION_FAILED("Conversion Failed"), // Chuyển DOCX sang PDF thất bại
   AI_VERIFYING("AI Verifying"),       // Đang được AI kiểm tra
   AI_REJECTED("AI Rejected"),         // AI từ chối
   PENDING_REVIEW("Pending Review"),   // Chờ BA assign reviewer
@@ -0,0 +1,23 @@
+package com.capstone.be.domain.enums;
+
+/**
+ * Activity counted per day and document in document_daily_stats
+ */
+public enum DocumentActivityMetric {
+  VIEWS("views"),         // Read history entries (latest read of a user)
+  VOTES("votes"),         // Vote rows created
+  COMMENTS("comments"),   // Comments not deleted
+  SAVES("saves"),         // Saved list entries
+  PURCHASES("purchases"), // Redemptions
+  REPORTS("reports");     // Reports filed
+
+  private final String column;
+
+  DocumentActivityMetric(String column) {
+    this.column = column;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+}
@@ -0,0 +1,19 @@
+package com.capstone.be.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Datasets admins can export; the file name is used for the download and the sheet
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportDataset {
+  DOCUMENTS("documents"),
+  USERS("users"),
+  ORGANIZATIONS("organizations"),
+  REPORTS("reports"),
+  AUDIT_LOGS("audit-logs");
+
+  private final String fileName;
+}
@@ -0,0 +1,17 @@
+package com.capstone.be.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * File formats of admin data exports
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+  private final String contentType;
+  private final String extension;
+}
@@ -41,7 +41,10 @@ public enum LogAction {
     REVIEWER_APPROVED("Reviewer approved"),
     REVIEWER_REJECTED("Reviewer rejected"),
     ORGANIZATION_APPROVED("Organization approved"),
-    ORGANIZATION_REJECTED("Organization rejected");
+    ORGANIZATION_REJECTED("Organization rejected"),
+
+    // Data Export
+    DATA_EXPORTED("Data exported");
 
     private final String description;
 }
@@ -0,0 +1,55 @@
+package com.capstone.be.domain.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of statistics time series
+ */
+public enum TimeGranularity {
+  DAY("day", ChronoUnit.DAYS),
+  WEEK("week", ChronoUnit.WEEKS),   // Weeks start on Monday, like date_trunc('week')
+  MONTH("month", ChronoUnit.MONTHS);
+
+  private final String unit;
+  private final ChronoUnit chronoUnit;
+
+  TimeGranularity(String unit, ChronoUnit chronoUnit) {
+    this.unit = unit;
+    this.chronoUnit = chronoUnit;
+  }
+
+  /**
+   * Field name for PostgreSQL date_trunc
+   */
+  public String getUnit() {
+    return unit;
+  }
+
+  /**
+   * First day of the bucket containing the given day
+   */
+  public LocalDate truncate(LocalDate day) {
+    return switch (this) {
+      case DAY -> day;
+      case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH -> day.withDayOfMonth(1);
+    };
+  }
+
+  /**
+   * First day of the bucket the given number of buckets after the given bucket
+   */
+  public LocalDate plus(LocalDate bucket, long buckets) {
+    return bucket.plus(buckets, chronoUnit);
+  }
+
+  /**
+   * Number of buckets from one bucket start to another
+   */
+  public long between(LocalDate fromBucket, LocalDate toBucket) {
+    return chronoUnit.between(fromBucket, toBucket);
+  }
+}
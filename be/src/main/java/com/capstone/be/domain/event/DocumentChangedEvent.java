@@ -0,0 +1,12 @@
+package com.capstone.be.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a document row or its tag links are inserted, updated or deleted.
+ * Consumers that keep derived copies of documents (e.g. the embedded search index) refresh
+ * the document after the publishing transaction commits.
+ */
+public record DocumentChangedEvent(UUID documentId) {
+
+}
@@ -0,0 +1,34 @@
+package com.capstone.be.domain.listener;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentTagLink;
+import com.capstone.be.domain.event.DocumentChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener on {@link Document} and {@link DocumentTagLink} that turns row changes into
+ * {@link DocumentChangedEvent}s. Bulk JPQL/JDBC updates (counters, view counts) do not trigger it,
+ * which is intended: they never change searchable content.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentChangeListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onChange(Object entity) {
+    if (entity instanceof Document document) {
+      eventPublisher.publishEvent(new DocumentChangedEvent(document.getId()));
+    } else if (entity instanceof DocumentTagLink link && link.getDocument() != null) {
+      eventPublisher.publishEvent(new DocumentChangedEvent(link.getDocument().getId()));
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.capstone.be.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cursor (keyset) pagination metadata
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorInfo {
+
+  private int size;             // Number of items requested per page
+  private String nextCursor;    // Opaque cursor for the next page, null on the last page
+  private boolean hasNext;      // Has next page?
+  private Long totalElements;   // Total number of elements, only when requested with includeTotal
+
+  /**
+   * Create CursorInfo manually
+   */
+  public static CursorInfo of(int size, String nextCursor, Long totalElements) {
+    return CursorInfo.builder()
+        .size(size)
+        .nextCursor(nextCursor)
+        .hasNext(nextCursor != null)
+        .totalElements(totalElements)
+        .build();
+  }
+}
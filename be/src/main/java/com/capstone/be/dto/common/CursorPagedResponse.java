@@ -0,0 +1,62 @@
+package com.capstone.be.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Standard API response wrapper for cursor (keyset) paginated responses.
+ * Counterpart of {@link PagedResponse} for infinite-scroll clients: the next page is addressed by
+ * an opaque cursor instead of a page number, and the total count is only computed on request.
+ *
+ * @param <T> The type of items in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPagedResponse<T> {
+
+  @Builder.Default
+  private boolean success = true;
+
+  private String message;
+
+  private List<T> data;
+
+  private CursorInfo cursorInfo;
+
+  @Builder.Default
+  private Instant timestamp = Instant.now();
+
+  /**
+   * Create a successful cursor paged response
+   */
+  public static <T> CursorPagedResponse<T> of(List<T> data, CursorInfo cursorInfo) {
+    return CursorPagedResponse.<T>builder()
+        .success(true)
+        .data(data)
+        .cursorInfo(cursorInfo)
+        .timestamp(Instant.now())
+        .build();
+  }
+
+  /**
+   * Create a successful cursor paged response with message
+   */
+  public static <T> CursorPagedResponse<T> of(List<T> data, CursorInfo cursorInfo,
+      String message) {
+    return CursorPagedResponse.<T>builder()
+        .success(true)
+        .message(message)
+        .data(data)
+        .cursorInfo(cursorInfo)
+        .timestamp(Instant.now())
+        .build();
+  }
+}
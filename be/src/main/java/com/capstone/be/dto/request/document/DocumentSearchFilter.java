@@ -70,4 +70,11 @@ public class DocumentSearchFilter {
    * Ví dụ: ["createdAt,desc", "price,asc"]
    */
   private List<String> sorts;
+
+  // ============ FACETS ============
+
+  /**
+   * true -> response kèm facet counts (docType/specialization/domain/tag/year) cho filter hiện tại
+   */
+  private Boolean includeFacets;
 }
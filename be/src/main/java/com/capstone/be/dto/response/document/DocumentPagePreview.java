@@ -0,0 +1,23 @@
+package com.capstone.be.dto.response.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Rendered preview image (JPEG) of one document page
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentPagePreview {
+
+  private byte[] image;
+  private Integer page;
+  private Integer width;
+  private Integer pageCount;
+}
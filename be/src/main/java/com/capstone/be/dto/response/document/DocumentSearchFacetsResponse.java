@@ -0,0 +1,44 @@
+package com.capstone.be.dto.response.document;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet counts for the current document search filter.
+ * Each bucket is the number of matching documents with that value; labels come from
+ * {@link DocumentSearchMetaResponse}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentSearchFacetsResponse {
+
+  private List<FacetCount> docTypes;
+  private List<FacetCount> specializations;
+  private List<FacetCount> domains;
+  private List<FacetCount> tags;
+  private List<YearCount> years;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class FacetCount {
+    private UUID id;
+    private long count;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class YearCount {
+    private int year;
+    private long count;
+  }
+}
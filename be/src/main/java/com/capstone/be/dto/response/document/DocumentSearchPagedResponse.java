@@ -0,0 +1,37 @@
+package com.capstone.be.dto.response.document;
+
+import com.capstone.be.dto.common.PageInfo;
+import com.capstone.be.dto.common.PagedResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * Paged search results with optional facet counts.
+ * Same JSON shape as {@link PagedResponse} plus {@code facets} when requested.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DocumentSearchPagedResponse extends PagedResponse<DocumentSearchResponse> {
+
+  private DocumentSearchFacetsResponse facets;
+
+  /**
+   * Create a successful paged search response with facet counts
+   */
+  public static DocumentSearchPagedResponse of(Page<DocumentSearchResponse> page,
+      DocumentSearchFacetsResponse facets) {
+    DocumentSearchPagedResponse response = new DocumentSearchPagedResponse();
+    response.setSuccess(true);
+    response.setData(page.getContent());
+    response.setPageInfo(PageInfo.from(page));
+    response.setTimestamp(Instant.now());
+    response.setFacets(facets);
+    return response;
+  }
+}
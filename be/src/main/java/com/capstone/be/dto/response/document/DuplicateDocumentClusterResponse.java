@@ -0,0 +1,42 @@
+package com.capstone.be.dto.response.document;
+
+import com.capstone.be.domain.enums.DocStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Documents sharing identical content (same SHA-256) for the admin duplicate report.
+ * referenceCount is the number of documents sharing the stored file; documents uploaded while
+ * the same content was being indexed keep a separate copy and are not counted there.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateDocumentClusterResponse {
+
+  private String contentHash;
+  private Long fileSize;
+  private Integer referenceCount;
+  private long documentCount;
+  private Instant firstUploadedAt;
+  private List<DuplicateDocument> documents;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DuplicateDocument {
+    private UUID id;
+    private String title;
+    private DocStatus status;
+    private UUID uploaderId;
+    private String uploaderName;
+    private Instant createdAt;
+  }
+}
@@ -2,10 +2,18 @@ package com.capstone.be.repository;
 
 import com.capstone.be.domain.entity.AiProcessingJob;
 import com.capstone.be.domain.enums.AiJobStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -34,5 +42,80 @@ public interface AiProcessingJobRepository extends JpaRepository<AiProcessingJob
    * Check if job exists by jobId
    */
   boolean existsByJobId(String jobId);
-}
 
+  /**
+   * Latest job of a document (a document keeps one job row that is reused for resubmissions)
+   */
+  Optional<AiProcessingJob> findFirstByDocumentIdOrderByCreatedAtDesc(UUID documentId);
+
+  long countByStatusIn(Collection<AiJobStatus> statuses);
+
+  /**
+   * Those of the given documents whose job has the given status
+   */
+  @Query("""
+      SELECT j.document.id FROM AiProcessingJob j
+      WHERE j.document.id IN :documentIds AND j.status = :status
+      """)
+  List<UUID> findDocumentIdsByStatus(@Param("documentIds") Collection<UUID> documentIds,
+      @Param("status") AiJobStatus status);
+
+  /**
+   * Load a claimed job with its document
+   */
+  @EntityGraph(attributePaths = {"document"})
+  @Query("SELECT j FROM AiProcessingJob j WHERE j.id = :id")
+  Optional<AiProcessingJob> findWithDocumentById(@Param("id") UUID id);
+
+  /**
+   * Record the AI job ID of a claimed job once the AI service accepted it
+   */
+  @Modifying
+  @Query("""
+      UPDATE AiProcessingJob j
+      SET j.status = com.capstone.be.domain.enums.AiJobStatus.PENDING, j.jobId = :jobId,
+          j.submittedAt = :now, j.leaseUntil = NULL, j.errorMessage = NULL, j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.capstone.be.domain.enums.AiJobStatus.SUBMITTING
+      """)
+  int markSubmitted(@Param("id") UUID id, @Param("jobId") String jobId, @Param("now") Instant now);
+
+  /**
+   * Put a claimed job back in the queue until the next attempt
+   */
+  @Modifying
+  @Query("""
+      UPDATE AiProcessingJob j
+      SET j.status = com.capstone.be.domain.enums.AiJobStatus.QUEUED,
+          j.nextAttemptAt = :nextAttemptAt, j.leaseUntil = NULL, j.errorMessage = :error,
+          j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.capstone.be.domain.enums.AiJobStatus.SUBMITTING
+      """)
+  int scheduleRetry(@Param("id") UUID id,
+      @Param("nextAttemptAt") Instant nextAttemptAt,
+      @Param("error") String error,
+      @Param("now") Instant now);
+
+  /**
+   * Return jobs whose worker died while submitting them to the queue
+   */
+  @Modifying
+  @Query("""
+      UPDATE AiProcessingJob j
+      SET j.status = com.capstone.be.domain.enums.AiJobStatus.QUEUED, j.leaseUntil = NULL,
+          j.updatedAt = :now
+      WHERE j.status = com.capstone.be.domain.enums.AiJobStatus.SUBMITTING AND j.leaseUntil < :now
+      """)
+  int releaseExpiredLeases(@Param("now") Instant now);
+
+  /**
+   * Submitted jobs that have not received a webhook since the given time
+   */
+  @Query("""
+      SELECT j FROM AiProcessingJob j
+      WHERE j.status IN (com.capstone.be.domain.enums.AiJobStatus.PENDING,
+                         com.capstone.be.domain.enums.AiJobStatus.PROCESSING)
+      AND COALESCE(j.submittedAt, j.updatedAt) < :before
+      ORDER BY j.updatedAt
+      """)
+  List<AiProcessingJob> findStuckSubmitted(@Param("before") Instant before, Pageable pageable);
+}
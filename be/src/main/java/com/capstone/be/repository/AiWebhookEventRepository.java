@@ -0,0 +1,72 @@
+package com.capstone.be.repository;
+
+import com.capstone.be.domain.entity.AiWebhookEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for received AI webhook callbacks
+ */
+@Repository
+public interface AiWebhookEventRepository extends JpaRepository<AiWebhookEvent, UUID> {
+
+  boolean existsByJobIdAndJobStatus(String jobId, String jobStatus);
+
+  /**
+   * Claim a received event for processing; returns 0 if another worker claimed it first
+   */
+  @Modifying
+  @Query("""
+      UPDATE AiWebhookEvent e
+      SET e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.PROCESSING,
+          e.attempts = e.attempts + 1, e.leaseUntil = :leaseUntil, e.updatedAt = :now
+      WHERE e.id = :id AND e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.RECEIVED
+      """)
+  int claim(@Param("id") UUID id, @Param("leaseUntil") Instant leaseUntil,
+      @Param("now") Instant now);
+
+  /**
+   * Received events that are due and untouched since the given time (not just handed to a
+   * worker), oldest first
+   */
+  @Query("""
+      SELECT e.id FROM AiWebhookEvent e
+      WHERE e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.RECEIVED
+      AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+      AND e.updatedAt < :idleSince
+      ORDER BY e.createdAt
+      """)
+  List<UUID> findDueIds(@Param("now") Instant now, @Param("idleSince") Instant idleSince,
+      Pageable pageable);
+
+  /**
+   * Return events whose worker died while processing them
+   */
+  @Modifying
+  @Query("""
+      UPDATE AiWebhookEvent e
+      SET e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.RECEIVED,
+          e.leaseUntil = NULL, e.updatedAt = :now
+      WHERE e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.PROCESSING
+      AND e.leaseUntil < :now
+      """)
+  int releaseExpiredLeases(@Param("now") Instant now);
+
+  /**
+   * Delete processed events older than the retention period
+   */
+  @Modifying
+  @Query("""
+      DELETE FROM AiWebhookEvent e
+      WHERE e.status = com.capstone.be.domain.enums.AiWebhookEventStatus.PROCESSED
+      AND e.processedAt < :before
+      """)
+  int deleteProcessedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,71 @@
+package com.capstone.be.repository;
+
+import com.capstone.be.domain.entity.DocumentContent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the document content (deduplication) index.
+ * Reference counts are only changed through the atomic UPDATE statements below.
+ */
+@Repository
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, UUID> {
+
+  Optional<DocumentContent> findBySha256(String sha256);
+
+  List<DocumentContent> findBySha256In(Collection<String> sha256s);
+
+  /**
+   * Insert a content entry with one reference, unless the hash is already indexed
+   *
+   * @return 1 if inserted, 0 if another upload indexed the same content first
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO document_content
+          (id, sha256, file_key, thumbnail_key, file_size, reference_count, created_at, updated_at)
+      VALUES (:id, :sha256, :fileKey, :thumbnailKey, :fileSize, 1, now(), now())
+      ON CONFLICT (sha256) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id,
+      @Param("sha256") String sha256,
+      @Param("fileKey") String fileKey,
+      @Param("thumbnailKey") String thumbnailKey,
+      @Param("fileSize") Long fileSize);
+
+  /**
+   * Take a reference on live content (an entry that already dropped to zero is never revived)
+   */
+  @Modifying
+  @Query("""
+      UPDATE DocumentContent c SET c.referenceCount = c.referenceCount + 1
+      WHERE c.sha256 = :sha256 AND c.referenceCount > 0
+      """)
+  int incrementReferences(@Param("sha256") String sha256);
+
+  @Modifying
+  @Query("""
+      UPDATE DocumentContent c SET c.referenceCount = c.referenceCount - 1
+      WHERE c.sha256 = :sha256 AND c.referenceCount > 0
+      """)
+  int decrementReferences(@Param("sha256") String sha256);
+
+  @Modifying
+  @Query("DELETE FROM DocumentContent c WHERE c.sha256 = :sha256 AND c.referenceCount <= 0")
+  int deleteUnreferenced(@Param("sha256") String sha256);
+
+  @Modifying
+  @Query("""
+      UPDATE DocumentContent c SET c.aiResponse = :aiResponse
+      WHERE c.sha256 = :sha256 AND c.aiResponse IS NULL
+      """)
+  int saveAiResponseIfAbsent(@Param("sha256") String sha256,
+      @Param("aiResponse") String aiResponse);
+}
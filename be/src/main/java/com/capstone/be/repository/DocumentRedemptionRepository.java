@@ -1,11 +1,15 @@
 package com.capstone.be.repository;
 
 import com.capstone.be.domain.entity.DocumentRedemption;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,10 +18,18 @@ public interface DocumentRedemptionRepository extends JpaRepository<DocumentRede
 
   Optional<DocumentRedemption> findByReader_IdAndDocument_Id(UUID readerId, UUID documentId);
   boolean existsByReader_IdAndDocument_Id(UUID readerId, UUID documentId);
+
+  List<DocumentRedemption> findByReader_IdAndDocument_IdIn(UUID readerId, Collection<UUID> documentIds);
   List<DocumentRedemption> findByReader_Id(UUID readerId);
 
   List<DocumentRedemption> findByDocument_Id(UUID documentId);
 
   long countByDocument_Id(UUID documentId);
 
+  @Query("""
+      select r.document.id from DocumentRedemption r
+      where r.reader.user.id = :userId
+      """)
+  Set<UUID> findDocumentIdsByReaderUserId(@Param("userId") UUID userId);
+
 }
@@ -1,20 +1,19 @@
 package com.capstone.be.repository;
 
-import com.capstone.be.domain.entity.DocType;
 import com.capstone.be.domain.entity.Document;
-import com.capstone.be.domain.entity.Domain;
-import com.capstone.be.domain.entity.OrganizationProfile;
-import com.capstone.be.domain.entity.Specialization;
-import com.capstone.be.domain.entity.Tag;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.enums.ReviewRequestStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -33,92 +32,281 @@ public interface DocumentRepository extends JpaRepository<Document, UUID>,
           Pageable pageable
   );
 
+  Page<Document> findByStatus(DocStatus status, Pageable pageable);
+
+  @Query("select d.id from Document d where d.status = :status")
+  List<UUID> findIdsByStatus(@Param("status") DocStatus status);
+
+  @Query("select d.id from Document d where d.updatedAt > :since")
+  List<UUID> findIdsUpdatedAfter(@Param("since") Instant since);
+
+  @Query("select d.id from Document d where d.status = :status and d.updatedAt < :before")
+  List<UUID> findIdsByStatusAndUpdatedBefore(@Param("status") DocStatus status,
+      @Param("before") Instant before);
+
+  /**
+   * DELETED documents past retention that still hold a reference on indexed content and that
+   * no reader has redeemed
+   */
   @Query("""
-      select distinct d.organization
-      from Document d
-      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
-        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and d.organization is not null
+      select d.id from Document d
+      where d.status = com.capstone.be.domain.enums.DocStatus.DELETED
+        and d.updatedAt < :before
+        and d.contentReleasedAt is null
+        and exists (select 1 from DocumentContent c
+                    where c.sha256 = d.contentHash and c.fileKey = d.fileKey)
+        and not exists (select 1 from DocumentRedemption r where r.document = d)
       """)
-  List<OrganizationProfile> findOrganizationsForPublicSearch();
+  List<UUID> findPurgeableDeletedIds(@Param("before") Instant before);
 
+  /**
+   * Facet values of PUBLIC + ACTIVE documents, one narrow row per document (search facet snapshot)
+   */
   @Query("""
-      select distinct s.domain
+      select d.id as documentId,
+             d.organization.id as organizationId,
+             s.domain.id as domainId,
+             s.id as specializationId,
+             d.docType.id as docTypeId,
+             YEAR(d.createdAt) as year,
+             d.isPremium as premium,
+             d.price as price
       from Document d
         join d.specialization s
       where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
         and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
       """)
-  List<Domain> findDomainsForPublicSearch();
+  List<FacetRow> findFacetRowsForPublicSearch();
 
   @Query("""
-      select distinct s
+      select d.id as documentId,
+             d.organization.id as organizationId,
+             s.domain.id as domainId,
+             s.id as specializationId,
+             d.docType.id as docTypeId,
+             YEAR(d.createdAt) as year,
+             d.isPremium as premium,
+             d.price as price
       from Document d
         join d.specialization s
       where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
         and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
+        and d.id in :ids
       """)
-  List<Specialization> findSpecializationsForPublicSearch();
+  List<FacetRow> findFacetRowsForPublicSearchByIdIn(@Param("ids") Collection<UUID> ids);
 
   @Query("""
-      select distinct d.docType
+      select d
       from Document d
+        left join fetch d.docType
+        left join fetch d.specialization
+        left join fetch d.uploader
       where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
         and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and d.docType is not null
+        and d.createdAt >= :sevenDaysAgo
+      order by (d.viewCount + d.upvoteCount * 3) desc
       """)
-  List<DocType> findDocTypesForPublicSearch();
+  Page<Document> findTopDocumentsLast7Days(
+      @Param("sevenDaysAgo") Instant sevenDaysAgo,
+      Pageable pageable
+  );
+
+  // ===== Denormalized engagement counters (atomic, no read-modify-write) =====
+
+  @Modifying
+  @Query("update Document d set d.commentCount = coalesce(d.commentCount, 0) + :delta where d.id = :documentId")
+  int incrementCommentCount(@Param("documentId") UUID documentId, @Param("delta") int delta);
+
+  @Modifying
+  @Query("update Document d set d.saveCount = coalesce(d.saveCount, 0) + :delta where d.id = :documentId")
+  int incrementSaveCount(@Param("documentId") UUID documentId, @Param("delta") int delta);
 
+  @Modifying
+  @Query("update Document d set d.reportCount = coalesce(d.reportCount, 0) + :delta where d.id = :documentId")
+  int incrementReportCount(@Param("documentId") UUID documentId, @Param("delta") int delta);
+
+  @Modifying
+  @Query("update Document d set d.purchaseCount = coalesce(d.purchaseCount, 0) + :delta where d.id = :documentId")
+  int incrementPurchaseCount(@Param("documentId") UUID documentId, @Param("delta") int delta);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
   @Query("""
-      select distinct l.tag
-      from DocumentTagLink l
-        join l.document d
-      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
-        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and l.tag is not null
+      update Document d
+      set d.voteScore = coalesce(d.voteScore, 0) + :scoreDelta,
+          d.upvoteCount = coalesce(d.upvoteCount, 0) + :upvoteDelta
+      where d.id = :documentId
       """)
-  List<Tag> findTagsForPublicSearch();
+  int applyVoteDeltas(
+      @Param("documentId") UUID documentId,
+      @Param("scoreDelta") int scoreDelta,
+      @Param("upvoteDelta") int upvoteDelta
+  );
 
-  @Query("""
-    select distinct YEAR(d.createdAt) 
-    from Document d 
-    where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC 
-      and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-    order by YEAR(d.createdAt) desc
-    """)
-  List<Integer> findYearsForPublicSearch();
+  @Modifying
+  @Query("update Document d set d.submittedReviewCount = coalesce(d.submittedReviewCount, 0) + :delta where d.id = :documentId")
+  int incrementSubmittedReviewCount(@Param("documentId") UUID documentId, @Param("delta") int delta);
 
+  @Modifying
   @Query("""
-      select min(d.price)
-      from Document d
-      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
-        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and d.isPremium = true
+      update Document d
+      set d.pendingReviewCount = coalesce(d.pendingReviewCount, 0) + :pending,
+          d.acceptedReviewCount = coalesce(d.acceptedReviewCount, 0) + :accepted,
+          d.rejectedReviewCount = coalesce(d.rejectedReviewCount, 0) + :rejected,
+          d.expiredReviewCount = coalesce(d.expiredReviewCount, 0) + :expired
+      where d.id = :documentId
       """)
-  Integer findMinPremiumPriceForPublicSearch();
+  int applyReviewCountDeltas(
+      @Param("documentId") UUID documentId,
+      @Param("pending") int pending,
+      @Param("accepted") int accepted,
+      @Param("rejected") int rejected,
+      @Param("expired") int expired
+  );
 
-  @Query("""
-      select max(d.price)
+  /**
+   * Move one review request of a document from one status to another in the counters.
+   * Pass {@code from = null} for a newly created request.
+   */
+  default void applyReviewRequestStatusChange(UUID documentId, ReviewRequestStatus from,
+      ReviewRequestStatus to) {
+    if (from == to) {
+      return;
+    }
+    int[] deltas = new int[ReviewRequestStatus.values().length];
+    if (from != null) {
+      deltas[from.ordinal()]--;
+    }
+    if (to != null) {
+      deltas[to.ordinal()]++;
+    }
+    applyReviewCountDeltas(documentId,
+        deltas[ReviewRequestStatus.PENDING.ordinal()],
+        deltas[ReviewRequestStatus.ACCEPTED.ordinal()],
+        deltas[ReviewRequestStatus.REJECTED.ordinal()],
+        deltas[ReviewRequestStatus.EXPIRED.ordinal()]);
+  }
+
+  /**
+   * Recompute all engagement counters from source tables and repair rows that drifted.
+   *
+   * @return Number of documents whose counters were corrected
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE document d
+      SET comment_count = s.comment_count,
+          save_count = s.save_count,
+          report_count = s.report_count,
+          purchase_count = s.purchase_count,
+          pending_review_count = s.pending_review_count,
+          accepted_review_count = s.accepted_review_count,
+          rejected_review_count = s.rejected_review_count,
+          expired_review_count = s.expired_review_count,
+          submitted_review_count = s.submitted_review_count
+      FROM (
+        SELECT doc.id,
+               (SELECT COUNT(*) FROM comments c
+                 WHERE c.document_id = doc.id AND c.is_deleted = false) AS comment_count,
+               (SELECT COUNT(*) FROM saved_list_document sld
+                 WHERE sld.document_id = doc.id) AS save_count,
+               (SELECT COUNT(*) FROM document_reports r
+                 WHERE r.document_id = doc.id) AS report_count,
+               (SELECT COUNT(*) FROM document_redemption dr
+                 WHERE dr.document_id = doc.id) AS purchase_count,
+               (SELECT COUNT(*) FROM review_request rr
+                 WHERE rr.document_id = doc.id AND rr.status = 'PENDING') AS pending_review_count,
+               (SELECT COUNT(*) FROM review_request rr
+                 WHERE rr.document_id = doc.id AND rr.status = 'ACCEPTED') AS accepted_review_count,
+               (SELECT COUNT(*) FROM review_request rr
+                 WHERE rr.document_id = doc.id AND rr.status = 'REJECTED') AS rejected_review_count,
+               (SELECT COUNT(*) FROM review_request rr
+                 WHERE rr.document_id = doc.id AND rr.status = 'EXPIRED') AS expired_review_count,
+               (SELECT COUNT(*) FROM review_result res
+                 JOIN review_request rr ON res.review_request_id = rr.id
+                 WHERE rr.document_id = doc.id AND res.submitted_at IS NOT NULL) AS submitted_review_count
+        FROM document doc
+      ) s
+      WHERE d.id = s.id
+        AND (d.comment_count IS DISTINCT FROM s.comment_count
+          OR d.save_count IS DISTINCT FROM s.save_count
+          OR d.report_count IS DISTINCT FROM s.report_count
+          OR d.purchase_count IS DISTINCT FROM s.purchase_count
+          OR d.pending_review_count IS DISTINCT FROM s.pending_review_count
+          OR d.accepted_review_count IS DISTINCT FROM s.accepted_review_count
+          OR d.rejected_review_count IS DISTINCT FROM s.rejected_review_count
+          OR d.expired_review_count IS DISTINCT FROM s.expired_review_count
+          OR d.submitted_review_count IS DISTINCT FROM s.submitted_review_count)
+      """, nativeQuery = true)
+  int reconcileEngagementCounters();
+
+  /**
+   * Content hashes shared by more than one non-deleted document, biggest clusters first
+   * (admin duplicate report). Pass an unsorted Pageable.
+   */
+  @Query(value = """
+      select d.contentHash as contentHash,
+             count(d) as documentCount,
+             min(d.createdAt) as firstUploadedAt
       from Document d
-      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
-        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and d.isPremium = true
+      where d.contentHash is not null
+        and d.status <> com.capstone.be.domain.enums.DocStatus.DELETED
+      group by d.contentHash
+      having count(d) > 1
+      order by count(d) desc, min(d.createdAt) asc
+      """,
+      countQuery = """
+      select count(distinct d.contentHash)
+      from Document d
+      where d.contentHash in (
+          select d2.contentHash from Document d2
+          where d2.contentHash is not null
+            and d2.status <> com.capstone.be.domain.enums.DocStatus.DELETED
+          group by d2.contentHash
+          having count(d2) > 1)
       """)
-  Integer findMaxPremiumPriceForPublicSearch();
+  Page<DuplicateClusterRow> findDuplicateContentClusters(Pageable pageable);
 
+  @EntityGraph(attributePaths = {"uploader"})
   @Query("""
-      select d
-      from Document d
-        left join fetch d.docType
-        left join fetch d.specialization
-        left join fetch d.uploader
-      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
-        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
-        and d.createdAt >= :sevenDaysAgo
-      order by (d.viewCount + d.upvoteCount * 3) desc
+      select d from Document d
+      where d.contentHash in :contentHashes
+        and d.status <> com.capstone.be.domain.enums.DocStatus.DELETED
+      order by d.createdAt asc
       """)
-  Page<Document> findTopDocumentsLast7Days(
-      @Param("sevenDaysAgo") Instant sevenDaysAgo,
-      Pageable pageable
-  );
+  List<Document> findByContentHashInWithUploader(
+      @Param("contentHashes") Collection<String> contentHashes);
+
+  /**
+   * One cluster of documents with identical content
+   */
+  interface DuplicateClusterRow {
+
+    String getContentHash();
+
+    Long getDocumentCount();
+
+    Instant getFirstUploadedAt();
+  }
+
+  /**
+   * Search facet values of one document
+   */
+  interface FacetRow {
+
+    UUID getDocumentId();
+
+    UUID getOrganizationId();
+
+    UUID getDomainId();
+
+    UUID getSpecializationId();
+
+    UUID getDocTypeId();
+
+    Integer getYear();
+
+    Boolean getPremium();
+
+    Integer getPrice();
+  }
 }
@@ -2,9 +2,13 @@ package com.capstone.be.repository;
 
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.DocumentTagLink;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,5 +18,52 @@ public interface DocumentTagLinkRepository extends JpaRepository<DocumentTagLink
 
   List<DocumentTagLink> findByDocument_Id(UUID documentId);
 
+  /**
+   * Batch load tag links (with tags) for a page of documents
+   */
+  @Query("""
+      select l
+      from DocumentTagLink l
+        join fetch l.tag
+      where l.document.id in :documentIds
+      """)
+  List<DocumentTagLink> findAllWithTagByDocumentIdIn(
+      @Param("documentIds") Collection<UUID> documentIds);
+
   void deleteAllByDocumentId(UUID documentId);
+
+  /**
+   * (document, tag) pairs of PUBLIC + ACTIVE documents (search facet snapshot)
+   */
+  @Query("""
+      select l.document.id as documentId, l.tag.id as tagId
+      from DocumentTagLink l
+        join l.document d
+      where d.visibility = com.capstone.be.domain.enums.DocVisibility.PUBLIC
+        and d.status = com.capstone.be.domain.enums.DocStatus.ACTIVE
+        and l.tag is not null
+      """)
+  List<TagLinkRow> findTagLinkRowsForPublicSearch();
+
+  @Query("""
+      select l.document.id as documentId, l.tag.id as tagId
+      from DocumentTagLink l
+      where l.document.id in :documentIds
+        and l.tag is not null
+      """)
+  List<TagLinkRow> findTagLinkRowsByDocumentIdIn(
+      @Param("documentIds") Collection<UUID> documentIds);
+
+  @Query("select distinct l.document.id from DocumentTagLink l where l.createdAt > :since")
+  List<UUID> findDocumentIdsLinkedAfter(@Param("since") Instant since);
+
+  /**
+   * Tag of one document
+   */
+  interface TagLinkRow {
+
+    UUID getDocumentId();
+
+    UUID getTagId();
+  }
 }
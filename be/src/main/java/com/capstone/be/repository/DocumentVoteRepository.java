@@ -46,4 +46,59 @@ public interface DocumentVoteRepository extends JpaRepository<DocumentVote, UUID
     @Modifying
     @Query("DELETE FROM DocumentVote v WHERE v.document.id = :documentId AND v.user.id = :userId")
     void deleteByDocumentIdAndUserId(@Param("documentId") UUID documentId, @Param("userId") UUID userId);
+
+    /**
+     * Insert a vote unless the user already voted on the document.
+     * Waits for a concurrent insert of the same (document, user) to finish instead of failing.
+     *
+     * @return 1 if inserted, 0 if a vote row already existed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO document_votes (id, document_id, user_id, vote_value, created_at, updated_at)
+        VALUES (:id, :documentId, :userId, :voteValue, now(), now())
+        ON CONFLICT (document_id, user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("documentId") UUID documentId,
+                       @Param("userId") UUID userId,
+                       @Param("voteValue") int voteValue);
+
+    /**
+     * Read and row-lock the current vote value until the transaction ends
+     */
+    @Query(value = """
+        SELECT vote_value FROM document_votes
+        WHERE document_id = :documentId AND user_id = :userId
+        FOR UPDATE
+        """, nativeQuery = true)
+    Optional<Integer> findVoteValueForUpdate(@Param("documentId") UUID documentId,
+                                             @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE document_votes SET vote_value = :voteValue, updated_at = now()
+        WHERE document_id = :documentId AND user_id = :userId
+        """, nativeQuery = true)
+    int updateVoteValue(@Param("documentId") UUID documentId,
+                        @Param("userId") UUID userId,
+                        @Param("voteValue") int voteValue);
+
+    /**
+     * Upsert the vote of a user on a document keyed by (document, user).
+     * Must run inside a transaction: the row stays locked until commit, so concurrent votes
+     * of the same user are applied one after another and each sees the previous value.
+     *
+     * @return Previous vote value (0 if the user had not voted)
+     */
+    default int upsertVote(UUID documentId, UUID userId, int voteValue) {
+        if (insertIfAbsent(UUID.randomUUID(), documentId, userId, voteValue) == 1) {
+            return 0;
+        }
+        int oldValue = findVoteValueForUpdate(documentId, userId).orElse(0);
+        if (oldValue != voteValue) {
+            updateVoteValue(documentId, userId, voteValue);
+        }
+        return oldValue;
+    }
 }
@@ -12,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -112,4 +114,16 @@ public interface OrgEnrollmentRepository extends JpaRepository<OrgEnrollment, UU
    * Find all active enrollments for a member
    */
   List<OrgEnrollment> findByMemberIdAndStatus(UUID memberId, OrgEnrollStatus status);
+
+  /**
+   * Find IDs of organizations a member is enrolled in with the given status
+   */
+  @Query("""
+      select e.organization.id from OrgEnrollment e
+      where e.member.id = :memberId and e.status = :status
+      """)
+  Set<UUID> findOrganizationIdsByMemberIdAndStatus(
+      @Param("memberId") UUID memberId,
+      @Param("status") OrgEnrollStatus status
+  );
 }
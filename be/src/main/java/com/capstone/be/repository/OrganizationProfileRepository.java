@@ -1,6 +1,8 @@
 package com.capstone.be.repository;
 
 import com.capstone.be.domain.entity.OrganizationProfile;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,6 +22,8 @@ public interface OrganizationProfileRepository extends
     return findByAdminId(userId);
   }
 
+  List<OrganizationProfile> findAllByAdminIdIn(Collection<UUID> adminIds);
+
   boolean existsByName(String name);
 
   boolean existsByEmail(String email);
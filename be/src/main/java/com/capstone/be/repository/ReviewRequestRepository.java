@@ -11,8 +11,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -35,6 +37,9 @@ public interface ReviewRequestRepository extends JpaRepository<ReviewRequest, UU
   // Lấy tất cả review request của một document
   Page<ReviewRequest> findByDocument_Id(UUID documentId, Pageable pageable);
 
+  // Lấy tất cả review request của nhiều document (batch, tránh N+1)
+  List<ReviewRequest> findByDocument_IdIn(Collection<UUID> documentIds);
+
   // Lấy review request của document theo status
   Page<ReviewRequest> findByDocument_IdAndStatus(
       UUID documentId,
@@ -59,6 +64,14 @@ public interface ReviewRequestRepository extends JpaRepository<ReviewRequest, UU
       """)
   Page<ReviewRequest> findPendingRequestsByDocument(@Param("documentId") UUID documentId, Pageable pageable);
 
+  // Lấy danh sách document mà reviewer đang có review request ACCEPTED
+  @Query("""
+      SELECT rr.document.id FROM ReviewRequest rr
+      WHERE rr.reviewer.id = :reviewerId
+        AND rr.status = com.capstone.be.domain.enums.ReviewRequestStatus.ACCEPTED
+      """)
+  Set<UUID> findAcceptedDocumentIdsByReviewerId(@Param("reviewerId") UUID reviewerId);
+
   // Tìm tất cả PENDING review requests có response deadline đã qua
   @Query("""
       SELECT rr FROM ReviewRequest rr
@@ -1,10 +1,13 @@
 package com.capstone.be.repository;
 
 import com.capstone.be.domain.entity.Specialization;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,6 +16,12 @@ public interface SpecializationRepository extends JpaRepository<Specialization,
 
   List<Specialization> findAllByIdIn(List<UUID> ids);
 
+  /**
+   * Batch load specializations together with their domain
+   */
+  @Query("select s from Specialization s join fetch s.domain where s.id in :ids")
+  List<Specialization> findAllWithDomainByIdIn(@Param("ids") Collection<UUID> ids);
+
   /**
    * Find specializations by domain ID
    */
@@ -151,6 +151,28 @@ public interface SystemLogRepository extends JpaRepository<SystemLog, UUID>, Jpa
         @Param("endDate") Instant endDate
     );
 
+    /**
+     * Count distinct users with logs of an action in a date range
+     */
+    @Query("SELECT COUNT(DISTINCT l.userId) FROM SystemLog l WHERE l.action = :action AND l.createdAt BETWEEN :startDate AND :endDate")
+    long countDistinctUsersByActionAndDateRange(
+        @Param("action") String action,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate
+    );
+
+    /**
+     * Count logs per action in a date range, excluding some actions, most frequent first
+     * (rows: action, count)
+     */
+    @Query("SELECT l.action, COUNT(l) FROM SystemLog l WHERE l.action NOT IN :excludedActions AND l.createdAt BETWEEN :startDate AND :endDate GROUP BY l.action ORDER BY COUNT(l) DESC")
+    List<Object[]> countByActionExcludingAndDateRange(
+        @Param("excludedActions") List<String> excludedActions,
+        @Param("startDate") Instant startDate,
+        @Param("endDate") Instant endDate,
+        Pageable pageable
+    );
+
     /**
      * Delete logs older than specified date (for retention policy)
      */
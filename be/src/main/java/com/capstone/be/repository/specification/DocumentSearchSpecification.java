@@ -1,17 +1,24 @@
 package com.capstone.be.repository.specification;
 
+import com.capstone.be.config.FullTextSearchFunctionContributor;
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.DocumentTagLink;
+import com.capstone.be.domain.entity.User;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
 import com.capstone.be.dto.request.document.DocumentSearchFilter;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -22,13 +29,31 @@ import org.springframework.data.jpa.domain.Specification;
 public class DocumentSearchSpecification {
 
   /**
-   * Build specification for document search.
+   * Build specification for document search using substring (LIKE) keyword matching.
    *
    * @param filter Search filters (all optional)
    * @param joinedOrgIds List of organization IDs the user has joined (nullable)
    * @return Specification for the query
    */
   public static Specification<Document> buildSearchSpec(DocumentSearchFilter filter, List<UUID> joinedOrgIds) {
+    return buildSearchSpec(filter, joinedOrgIds, false);
+  }
+
+  /**
+   * Build specification for document search.
+   * In full-text mode the keyword is matched against {@code document.search_vector} (GIN indexed)
+   * with prefix matching per word, or against the uploader's name as a substring, and results
+   * are ordered by {@code ts_rank} unless the caller passes an explicit sort. Unlike LIKE mode,
+   * title, description and summaries match whole words or word prefixes, not substrings inside
+   * a word. All other filters are identical in both modes.
+   *
+   * @param filter Search filters (all optional)
+   * @param joinedOrgIds List of organization IDs the user has joined (nullable)
+   * @param fullText true to use PostgreSQL full-text search for the keyword
+   * @return Specification for the query
+   */
+  public static Specification<Document> buildSearchSpec(DocumentSearchFilter filter,
+      List<UUID> joinedOrgIds, boolean fullText) {
     return (root, query, cb) -> {
       List<Predicate> predicates = new ArrayList<>();
 
@@ -56,8 +81,41 @@ public class DocumentSearchSpecification {
         return cb.and(predicates.toArray(new Predicate[0]));
       }
 
+      // Full-text keyword search over the weighted search vector, or the uploader's name
+      if (fullText && filter.getSearchKeyword() != null) {
+        String tsQuery = toPrefixTsQuery(filter.getSearchKeyword());
+        if (tsQuery != null) {
+          assert query != null;
+          Expression<UUID> documentId = root.get("id");
+          Expression<String> tsQueryLiteral = cb.literal(tsQuery);
+
+          // Uploaders are matched in a subquery on users, so documents are not joined and
+          // LIKE-scanned row by row
+          String keyword = "%" + filter.getSearchKeyword().trim().toLowerCase() + "%";
+          Subquery<UUID> uploaderSub = query.subquery(UUID.class);
+          Root<User> uploaderRoot = uploaderSub.from(User.class);
+          uploaderSub.select(uploaderRoot.get("id"))
+              .where(cb.like(cb.lower(uploaderRoot.get("fullName")), keyword));
+
+          predicates.add(cb.or(
+              cb.isTrue(cb.function(
+                  FullTextSearchFunctionContributor.MATCH_FUNCTION, Boolean.class,
+                  documentId, tsQueryLiteral)),
+              root.get("uploader").get("id").in(uploaderSub)
+          ));
+
+          // Rank by relevance (skipped for count queries; an explicit Pageable sort overrides it)
+          if (!Long.class.equals(query.getResultType())) {
+            query.orderBy(cb.desc(cb.function(
+                FullTextSearchFunctionContributor.RANK_FUNCTION, Double.class,
+                documentId, tsQueryLiteral)));
+          }
+        }
+      }
+
       // Search keyword in multiple fields
-      if (filter.getSearchKeyword() != null && !filter.getSearchKeyword().trim().isEmpty()) {
+      if (!fullText && filter.getSearchKeyword() != null
+          && !filter.getSearchKeyword().trim().isEmpty()) {
         String keyword = "%" + filter.getSearchKeyword().trim().toLowerCase() + "%";
 
         // Core fields
@@ -183,4 +241,18 @@ public class DocumentSearchSpecification {
       return cb.and(predicates.toArray(new Predicate[0]));
     };
   }
+
+  /**
+   * Convert a free-text keyword into a prefix tsquery, e.g. "java spring" -> "java:* & spring:*".
+   * Only letters and digits are kept so user input can never break the tsquery syntax.
+   *
+   * @return tsquery text, or null if the keyword has no searchable words
+   */
+  static String toPrefixTsQuery(String keyword) {
+    String query = Arrays.stream(keyword.trim().toLowerCase().split("[^\\p{L}\\p{N}]+"))
+        .filter(word -> !word.isEmpty())
+        .map(word -> word + ":*")
+        .collect(Collectors.joining(" & "));
+    return query.isEmpty() ? null : query;
+  }
 }
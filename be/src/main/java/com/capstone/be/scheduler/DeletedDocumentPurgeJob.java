@@ -0,0 +1,92 @@
+package com.capstone.be.scheduler;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.repository.DocumentRedemptionRepository;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.service.helper.DocumentContentIndex;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Releases the stored file of soft-deleted documents.
+ * A DELETED document keeps its content reference so readers who redeemed it can still read it
+ * and an admin can restore it. Once it has been DELETED for longer than the retention period
+ * and nobody redeemed it, its reference is released (deleting the file, thumbnail and page
+ * previews with the last one) and the document is marked so it can no longer be restored.
+ */
+@Slf4j
+@Component
+public class DeletedDocumentPurgeJob {
+
+  private final DocumentRepository documentRepository;
+  private final DocumentRedemptionRepository documentRedemptionRepository;
+  private final DocumentContentIndex documentContentIndex;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.document.purge.retention-days:30}")
+  private int retentionDays;
+
+  public DeletedDocumentPurgeJob(DocumentRepository documentRepository,
+      DocumentRedemptionRepository documentRedemptionRepository,
+      DocumentContentIndex documentContentIndex,
+      PlatformTransactionManager transactionManager) {
+    this.documentRepository = documentRepository;
+    this.documentRedemptionRepository = documentRedemptionRepository;
+    this.documentContentIndex = documentContentIndex;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${app.document.purge.cron:0 0 4 * * ?}")
+  public void purgeDeletedDocuments() {
+    try {
+      Instant before = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+      List<UUID> purgeable = documentRepository.findPurgeableDeletedIds(before);
+      if (purgeable.isEmpty()) {
+        return;
+      }
+      log.info("Releasing content of {} documents deleted before {}", purgeable.size(), before);
+
+      int released = 0;
+      for (UUID documentId : purgeable) {
+        try {
+          if (Boolean.TRUE.equals(transactionTemplate.execute(status -> purge(documentId)))) {
+            released++;
+          }
+        } catch (Exception e) {
+          log.warn("Failed to release content of deleted document {}: {}", documentId,
+              e.getMessage());
+        }
+      }
+      log.info("Released content of {} deleted documents", released);
+    } catch (Exception e) {
+      log.error("Error during deleted document purge: {}", e.getMessage(), e);
+      // Don't rethrow - we don't want to stop the scheduler
+    }
+  }
+
+  private boolean purge(UUID documentId) {
+    // Re-check inside the transaction: the document may have been restored or redeemed since
+    Document document = documentRepository.findById(documentId).orElse(null);
+    if (document == null || document.getStatus() != DocStatus.DELETED
+        || document.getContentReleasedAt() != null
+        || documentRedemptionRepository.countByDocument_Id(documentId) > 0) {
+      return false;
+    }
+
+    if (!documentContentIndex.release(document)) {
+      return false;
+    }
+    document.setContentReleasedAt(Instant.now());
+    documentRepository.save(document);
+    return true;
+  }
+}
@@ -0,0 +1,65 @@
+package com.capstone.be.scheduler;
+
+import com.capstone.be.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Scheduled job to repair drift in the denormalized engagement counters on Document
+ * (comments, saves, reports, purchases, review requests by status, submitted reviews).
+ * Counters are maintained with atomic deltas by the write paths; this job recomputes them from
+ * the source tables and only rewrites rows whose values differ.
+ * Also runs once on startup so counters of pre-existing or seeded rows are backfilled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentCounterReconciliationJob {
+
+  private final DocumentRepository documentRepository;
+
+  @Value("${app.document.counters.reconcile-enabled:true}")
+  private boolean reconcileEnabled;
+
+  /**
+   * Recompute counters and fix drifted documents
+   * Runs daily at 3:30 AM by default
+   */
+  @Scheduled(cron = "${app.document.counters.reconcile-cron:0 30 3 * * ?}")
+  @Transactional
+  public void reconcileCounters() {
+    if (!reconcileEnabled) {
+      log.debug("Document counter reconciliation is disabled, skipping");
+      return;
+    }
+
+    try {
+      long start = System.currentTimeMillis();
+      int repaired = documentRepository.reconcileEngagementCounters();
+
+      if (repaired > 0) {
+        log.warn("Document counter reconciliation repaired {} documents in {} ms",
+            repaired, System.currentTimeMillis() - start);
+      } else {
+        log.info("Document counter reconciliation found no drift ({} ms)",
+            System.currentTimeMillis() - start);
+      }
+    } catch (Exception e) {
+      log.error("Error during document counter reconciliation: {}", e.getMessage(), e);
+      // Don't rethrow - we don't want to stop the scheduler
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void reconcileOnStartup() {
+    log.info("Running document counter reconciliation on startup");
+    reconcileCounters();
+  }
+}
@@ -2,9 +2,12 @@ package com.capstone.be.scheduler;
 
 import com.capstone.be.domain.entity.ReviewRequest;
 import com.capstone.be.domain.enums.ReviewRequestStatus;
+import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.ReviewRequestRepository;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,8 @@ import java.util.List;
 public class ReviewRequestExpirationJob {
 
   private final ReviewRequestRepository reviewRequestRepository;
+  private final DocumentRepository documentRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   private static final DateTimeFormatter FORMATTER = DateTimeFormatter
       .ofPattern("yyyy-MM-dd HH:mm:ss")
@@ -62,6 +67,8 @@ public class ReviewRequestExpirationJob {
 
           request.setStatus(ReviewRequestStatus.EXPIRED);
           reviewRequestRepository.save(request);
+          documentRepository.applyReviewRequestStatusChange(request.getDocument().getId(),
+              ReviewRequestStatus.PENDING, ReviewRequestStatus.EXPIRED);
           expiredCount++;
 
         } catch (Exception e) {
@@ -111,6 +118,9 @@ public class ReviewRequestExpirationJob {
 
           request.setStatus(ReviewRequestStatus.EXPIRED);
           reviewRequestRepository.save(request);
+          documentRepository.applyReviewRequestStatusChange(request.getDocument().getId(),
+              ReviewRequestStatus.ACCEPTED, ReviewRequestStatus.EXPIRED);
+          eventPublisher.publishEvent(new UserEntitlementsChangedEvent(request.getReviewer().getId()));
 
           // Reset Document status to PENDING_REVIEW so BA can assign another reviewer
           var document = request.getDocument();
@@ -0,0 +1,59 @@
+package com.capstone.be.scheduler;
+
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.service.helper.AsyncDocumentConverter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails background DOCX conversions that were lost: the conversion task was never run or the
+ * JVM restarted mid-conversion, so the spooled DOCX is gone and nothing would ever move the
+ * document out of CONVERTING. Documents CONVERTING for longer than stale-after-minutes
+ * (well above queue wait plus conversion timeout) are moved to CONVERSION_FAILED and their
+ * uploaders notified. Also runs once on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleConversionSweepJob {
+
+  private final DocumentRepository documentRepository;
+  private final AsyncDocumentConverter asyncDocumentConverter;
+
+  @Value("${app.document.conversion.stale-after-minutes:30}")
+  private long staleAfterMinutes;
+
+  @Scheduled(fixedDelayString = "${app.document.conversion.stale-sweep-ms:600000}")
+  public void sweepStaleConversions() {
+    try {
+      Instant before = Instant.now().minus(Duration.ofMinutes(staleAfterMinutes));
+      List<UUID> stale = documentRepository.findIdsByStatusAndUpdatedBefore(
+          DocStatus.CONVERTING, before);
+      if (stale.isEmpty()) {
+        return;
+      }
+      log.warn("Failing {} documents stuck in {} since before {}", stale.size(),
+          DocStatus.CONVERTING, before);
+      stale.forEach(asyncDocumentConverter::markConversionFailed);
+    } catch (Exception e) {
+      log.error("Error during stale conversion sweep: {}", e.getMessage(), e);
+      // Don't rethrow - we don't want to stop the scheduler
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void sweepOnStartup() {
+    log.info("Running stale conversion sweep on startup");
+    sweepStaleConversions();
+  }
+}
@@ -2,6 +2,8 @@ package com.capstone.be.security.config;
 
 import com.capstone.be.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -80,6 +82,9 @@ public class SecurityConfig {
                 "/error", // Error page
                 "/api/error" // API error page
             ).permitAll()
+            // Actuator metrics expose internal counters; admins only
+            .requestMatchers(EndpointRequest.to(MetricsEndpoint.class))
+            .hasAnyRole("SYSTEM_ADMIN", "BUSINESS_ADMIN")
             // All other requests need authentication
             .anyRequest().authenticated()
         )
@@ -0,0 +1,18 @@
+package com.capstone.be.service;
+
+import com.capstone.be.dto.ai.WebhookPayload;
+
+/**
+ * Ingestion of AI service webhook callbacks
+ */
+public interface AiWebhookService {
+
+  /**
+   * Store a callback and schedule it for processing. Returns quickly, without touching the
+   * document; redelivered callbacks (same job ID and status) are ignored.
+   *
+   * @param payload the validated webhook payload
+   * @return true if the callback is new, false if it was a duplicate
+   */
+  boolean receive(WebhookPayload payload);
+}
@@ -1,5 +1,6 @@
 package com.capstone.be.service;
 
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.comment.CreateCommentRequest;
 import com.capstone.be.dto.request.comment.UpdateCommentRequest;
@@ -18,5 +19,11 @@ public interface CommentService {
 
     PagedResponse<CommentResponse> getCommentsByDocument(UUID documentId, Pageable pageable);
 
+    /**
+     * Cursor (keyset) paginated comments of a document, newest first
+     */
+    CursorPagedResponse<CommentResponse> getCommentsByDocumentCursor(UUID documentId, String cursor,
+                                                                     int size, boolean includeTotal);
+
     CommentResponse getCommentById(UUID commentId);
 }
@@ -1,5 +1,6 @@
 package com.capstone.be.service;
 
+import com.capstone.be.domain.entity.Document;
 import java.util.UUID;
 
 /**
@@ -21,4 +22,15 @@ public interface DocumentAccessService {
    * @return true if user has access, false otherwise
    */
   boolean hasAccess(UUID userId, UUID documentId);
+
+  /**
+   * Same as {@link #hasAccess(UUID, UUID)} for a document that is already loaded.
+   * User-side facts are read from the cached entitlement snapshot, so no queries are issued
+   * once the snapshot is warm.
+   *
+   * @param userId User ID requesting access
+   * @param document Loaded document
+   * @return true if user has access, false otherwise
+   */
+  boolean hasAccess(UUID userId, Document document);
 }
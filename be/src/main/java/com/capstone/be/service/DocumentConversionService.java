@@ -3,6 +3,7 @@ package com.capstone.be.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * Service for converting documents between formats
@@ -17,6 +18,15 @@ public interface DocumentConversionService {
    */
   InputStream convertDocxToPdf(MultipartFile docxFile);
 
+  /**
+   * Convert a DOCX file on disk to PDF without loading either file into memory
+   *
+   * @param docxFile  The DOCX file to convert
+   * @param filename  Original filename of the DOCX file
+   * @param pdfTarget Where the converted PDF is written (replaced if it exists)
+   */
+  void convertDocxToPdf(Path docxFile, String filename, Path pdfTarget);
+
   /**
    * Check if a file is a DOCX file
    * 
@@ -0,0 +1,30 @@
+package com.capstone.be.service;
+
+import com.capstone.be.dto.response.document.DocumentPagePreview;
+import java.util.UUID;
+
+/**
+ * Service to render document pages as preview images on demand
+ */
+public interface DocumentPagePreviewService {
+
+  /**
+   * Get the preview image of a document page, rendering it on first request.
+   * Readers without full access to the document can only preview the first free pages of
+   * active public documents.
+   *
+   * @param userId     Requesting user
+   * @param documentId Document ID
+   * @param page       Page number (1-based)
+   * @param width      Requested image width in pixels (rounded up to a supported width)
+   * @return Preview image of the page
+   */
+  DocumentPagePreview getPagePreview(UUID userId, UUID documentId, int page, int width);
+
+  /**
+   * Delete the stored preview tiles of a document file, once the file itself is deleted
+   *
+   * @param fileKey File key of the document
+   */
+  void deletePreviews(String fileKey);
+}
@@ -2,6 +2,7 @@ package com.capstone.be.service;
 
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.request.document.DocumentLibraryFilter;
 import com.capstone.be.dto.request.document.DocumentSearchFilter;
 import com.capstone.be.dto.request.document.DocumentUploadHistoryFilter;
@@ -122,6 +123,31 @@ public interface DocumentService {
   Page<DocumentSearchResponse> searchPublicDocuments(DocumentSearchFilter filter,
       Pageable pageable, UUID userId);
 
+  /**
+   * Search documents with cursor (keyset) pagination.
+   * Same visibility rules and filters as {@link #searchPublicDocuments}; page and offset are
+   * replaced by an opaque cursor, and results are ordered by the requested sorts (newest first
+   * by default) instead of relevance.
+   *
+   * @param filter       Search criteria (all optional), size is used as the page size
+   * @param cursor       Cursor returned by the previous page, null for the first page
+   * @param includeTotal Also run the count query
+   * @param userId       Current user ID (nullable for anonymous users)
+   * @return Cursor page of search results
+   */
+  CursorPagedResponse<DocumentSearchResponse> searchPublicDocumentsByCursor(
+      DocumentSearchFilter filter, String cursor, boolean includeTotal, UUID userId);
+
+  /**
+   * Count matching documents per docType/specialization/domain/tag/year for a search filter.
+   * Uses the same visibility rules as {@link #searchPublicDocuments}.
+   *
+   * @param filter Search criteria (all optional)
+   * @param userId Current user ID (nullable for anonymous users)
+   * @return Facet counts for the filter
+   */
+  DocumentSearchFacetsResponse getSearchFacets(DocumentSearchFilter filter, UUID userId);
+
   // ===== Admin-only methods =====
 
   /**
@@ -190,6 +216,18 @@ public interface DocumentService {
 
   Page<DocumentDetailResponse> getHomepageDocuments(UUID userId, int page, int size);
 
+  /**
+   * Homepage documents with cursor (keyset) pagination for infinite scroll
+   *
+   * @param userId       Current user ID (nullable for guests)
+   * @param cursor       Cursor returned by the previous page, null for the first page
+   * @param size         Page size
+   * @param includeTotal Also run the count query
+   * @return Cursor page of documents
+   */
+  CursorPagedResponse<DocumentDetailResponse> getHomepageDocumentsByCursor(UUID userId,
+      String cursor, int size, boolean includeTotal);
+
   /**
    * Get search metadata for filter modal
    * @param userId Optional user ID to get joined organizations
@@ -197,6 +235,14 @@ public interface DocumentService {
    */
   DocumentSearchMetaResponse getSearchMeta(UUID userId);
 
+  /**
+   * Get clusters of documents with identical content (same SHA-256) for admin
+   *
+   * @param pageable Page of clusters, largest clusters first
+   * @return Page of duplicate clusters
+   */
+  Page<DuplicateDocumentClusterResponse> getDuplicateDocumentClusters(Pageable pageable);
+
   /**
    * Get document statistics for admin dashboard
    *
@@ -15,5 +15,16 @@ public interface DocumentThumbnailService {
    * @return URL of thumbnail, or null if fail
    */
   String generateAndUploadThumbnail(MultipartFile file, String folder);
+
+  /**
+   * Generate thumbnail from PDF and upload it under a caller-chosen filename, so the caller
+   * knows the key before the upload finishes (e.g. to clean it up on failure)
+   *
+   * @param file     PDF file
+   * @param folder   S3 folder for thumbnail
+   * @param filename Filename of the thumbnail inside the folder
+   * @return URL of thumbnail, or null if fail
+   */
+  String generateAndUploadThumbnail(MultipartFile file, String folder, String filename);
 }
 
@@ -0,0 +1,29 @@
+package com.capstone.be.service;
+
+import com.capstone.be.domain.enums.ExportDataset;
+import com.capstone.be.domain.enums.ExportFormat;
+import com.capstone.be.security.model.UserPrincipal;
+import java.time.Instant;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service interface for admin data exports
+ */
+public interface ExportService {
+
+  /**
+   * Stream a dataset as a file. The rows are read from a database cursor while the response is
+   * written, so the export must be started within the returned body. The export is audit
+   * logged as DATA_EXPORTED when the body finishes, with its row count or error.
+   *
+   * @param dataset   Dataset to export
+   * @param format    CSV or XLSX
+   * @param startDate Optional lower bound of created_at
+   * @param endDate   Optional upper bound of created_at
+   * @param user      User requesting the export
+   * @return Body writing the file to the response
+   * @throws com.capstone.be.exception.BusinessException if too many exports are running
+   */
+  StreamingResponseBody export(ExportDataset dataset, ExportFormat format, Instant startDate,
+      Instant endDate, UserPrincipal user);
+}
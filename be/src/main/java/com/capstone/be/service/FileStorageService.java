@@ -1,10 +1,14 @@
 package com.capstone.be.service;
 
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
- * Service for file storage operations (AWS S3)
+ * Service for file storage operations (AWS S3, or the local disk with app.storage.type=local)
  */
 public interface FileStorageService {
 
@@ -53,6 +57,30 @@ public interface FileStorageService {
    */
   void deleteFiles(String folder, List<String> fileUrls);
 
+  /**
+   * Delete every file under a folder (e.g. the rendered previews of a document)
+   * @param folder folder to delete
+   */
+  void deleteFolder(String folder);
+
+  /**
+   * Download a small file (e.g. a cached preview image) into memory
+   *
+   * @param folder   Folder/prefix in S3 bucket
+   * @param filename Name of the file
+   * @return File content, or empty if the file does not exist
+   */
+  Optional<byte[]> downloadFileIfExists(String folder, String filename);
+
+  /**
+   * Download a file to a local path
+   *
+   * @param folder   Folder/prefix in S3 bucket
+   * @param filename Name of the file
+   * @param target   Path to write to (must not exist yet)
+   */
+  void downloadFile(String folder, String filename, Path target);
+
   /**
    * Generate a presigned URL for downloading a file from S3
    *
@@ -62,4 +90,16 @@ public interface FileStorageService {
    * @return Presigned URL as string
    */
   String generatePresignedUrl(String folder, String filename, int expirationMinutes);
+
+  /**
+   * Generate presigned download URLs for several files of a folder in one pass
+   * (blank and duplicate filenames are skipped)
+   *
+   * @param folder            Folder/prefix in S3 bucket
+   * @param filenames         Names of the files
+   * @param expirationMinutes URL expiration time in minutes
+   * @return Presigned URL by filename
+   */
+  Map<String, String> generatePresignedUrls(String folder, Collection<String> filenames,
+      int expirationMinutes);
 }
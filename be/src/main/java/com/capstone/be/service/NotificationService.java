@@ -1,6 +1,7 @@
 package com.capstone.be.service;
 
 import com.capstone.be.domain.enums.NotificationType;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.response.user.NotificationResponse;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -29,6 +30,19 @@ public interface NotificationService {
    */
   Page<NotificationResponse> getMyUnreadNotifications(UUID userId, Pageable pageable);
 
+  /**
+   * Get notifications for a user with cursor (keyset) pagination, newest first
+   *
+   * @param userId       Target user ID
+   * @param unreadOnly   Only return unread notifications
+   * @param cursor       Cursor returned by the previous page, null for the first page
+   * @param size         Page size
+   * @param includeTotal Also run the count query
+   * @return Cursor page of notifications
+   */
+  CursorPagedResponse<NotificationResponse> getMyNotificationsByCursor(UUID userId,
+      boolean unreadOnly, String cursor, int size, boolean includeTotal);
+
   /**
    * Get unread notification count for a user
    *
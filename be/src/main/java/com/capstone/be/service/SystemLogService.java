@@ -1,5 +1,6 @@
 package com.capstone.be.service;
 
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.request.admin.SystemLogQueryRequest;
 import com.capstone.be.dto.response.admin.SystemLogResponse;
 import java.time.Instant;
@@ -22,6 +23,18 @@ public interface SystemLogService {
      */
     Page<SystemLogResponse> getLogs(SystemLogQueryRequest queryRequest, Pageable pageable);
 
+    /**
+     * Get logs with filters using cursor (keyset) pagination, newest first
+     *
+     * @param queryRequest Filter parameters
+     * @param cursor       Cursor returned by the previous page, null for the first page
+     * @param size         Page size
+     * @param includeTotal Also run the count query
+     * @return Cursor page of system logs
+     */
+    CursorPagedResponse<SystemLogResponse> getLogsByCursor(SystemLogQueryRequest queryRequest,
+        String cursor, int size, boolean includeTotal);
+
     /**
      * Get logs by action
      *
@@ -0,0 +1,12 @@
+package com.capstone.be.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when something a user's document access depends on changes
+ * (organization join/leave/removal, redemption, review assignment status, role).
+ * The cached entitlement snapshot of the user is evicted after the publishing transaction commits.
+ */
+public record UserEntitlementsChangedEvent(UUID userId) {
+
+}
@@ -0,0 +1,640 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.config.migration.AiProcessingJobQueueMigration;
+import com.capstone.be.domain.entity.AiProcessingJob;
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.enums.AiJobStatus;
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.dto.ai.JobSubmitResponse;
+import com.capstone.be.exception.BusinessException;
+import com.capstone.be.exception.ResourceNotFoundException;
+import com.capstone.be.repository.AiProcessingJobRepository;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.service.FileStorageService;
+import com.capstone.be.util.SpooledMultipartFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Durable, prioritized queue of AI moderation jobs, persisted in ai_processing_jobs.
+ * <ul>
+ *   <li>Enqueue writes a QUEUED job in the caller's transaction, so a document is never stored
+ *   without its job. The upload's spool file is kept for the submission; otherwise (retries,
+ *   restarts) the PDF is read back from file storage.</li>
+ *   <li>A dispatcher claims jobs with one UPDATE under an advisory lock: premium and small
+ *   documents first (waiting jobs are promoted over time), uploaders interleaved, at most
+ *   max-in-flight jobs at the AI service and max-in-flight-per-uploader per uploader.</li>
+ *   <li>Failed submissions are retried with exponential backoff up to max-attempts; then the
+ *   document is rejected like any AI processing error.</li>
+ *   <li>A reconciler requeues jobs whose worker died, jobs that got no webhook within
+ *   stuck-after, and AI_VERIFYING documents that have no job at all. It also releases spool
+ *   files whose job was claimed by another instance or is no longer queued.</li>
+ * </ul>
+ * Nothing is dispatched until {@link AiProcessingJobQueueMigration} has finished, since queued
+ * jobs violate the old status constraint.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.ai.useMock", havingValue = "false", matchIfMissing = true)
+public class AiProcessingQueue {
+
+  private static final long CLAIM_LOCK_KEY = 7_245_310_001L;
+  private static final List<AiJobStatus> IN_FLIGHT = List.of(
+      AiJobStatus.SUBMITTING, AiJobStatus.PENDING, AiJobStatus.PROCESSING);
+
+  /**
+   * Claim the next jobs: uploaders are interleaved (each uploader's best job ranks before anyone's
+   * second), then effective priority (band minus waiting time / aging), size and age decide.
+   */
+  private static final String CLAIM_SQL = """
+      WITH in_flight AS (
+          SELECT uploader_id, count(*) AS jobs FROM ai_processing_jobs
+          WHERE status IN ('SUBMITTING', 'PENDING', 'PROCESSING')
+          GROUP BY uploader_id
+      ),
+      candidates AS (
+          SELECT j.id, j.file_size, j.created_at,
+                 COALESCE(f.jobs, 0) AS uploader_in_flight,
+                 ROW_NUMBER() OVER (
+                     PARTITION BY j.uploader_id
+                     ORDER BY j.priority, j.file_size, j.created_at) AS uploader_rank,
+                 COALESCE(j.priority, 3)
+                     - floor(extract(epoch FROM (now() - j.created_at)) / ?) AS effective_priority
+          FROM ai_processing_jobs j
+          LEFT JOIN in_flight f ON f.uploader_id IS NOT DISTINCT FROM j.uploader_id
+          WHERE j.status = 'QUEUED'
+            AND (j.next_attempt_at IS NULL OR j.next_attempt_at <= now())
+      )
+      UPDATE ai_processing_jobs
+      SET status = 'SUBMITTING', attempts = attempts + 1,
+          lease_until = now() + make_interval(secs => ?), updated_at = now()
+      WHERE id IN (
+          SELECT id FROM candidates
+          WHERE uploader_rank + uploader_in_flight <= ?
+          ORDER BY uploader_rank, effective_priority, file_size NULLS LAST, created_at
+          LIMIT ?
+      )
+      AND status = 'QUEUED'
+      RETURNING id
+      """;
+
+  private static final String ORPHANED_DOCUMENTS_SQL = """
+      SELECT d.id FROM document d
+      WHERE d.status = 'AI_VERIFYING' AND d.file_key IS NOT NULL AND d.updated_at < ?
+        AND NOT EXISTS (
+            SELECT 1 FROM ai_processing_jobs j
+            WHERE j.document_id = d.id
+              AND j.status IN ('QUEUED', 'SUBMITTING', 'PENDING', 'PROCESSING'))
+      LIMIT 100
+      """;
+
+  private final AiProcessingJobRepository aiProcessingJobRepository;
+  private final DocumentRepository documentRepository;
+  private final FileStorageService fileStorageService;
+  private final UploadSpooler uploadSpooler;
+  private final RestTemplate restTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectProvider<AiProcessingJobQueueMigration> queueMigration;
+
+  // Spool files handed over by uploads on this instance, used for the first submission
+  private final Map<UUID, LocalSource> localSources = new ConcurrentHashMap<>();
+  private final ThreadPoolTaskExecutor submitters;
+  private final Semaphore idleSubmitters;
+
+  private final Counter submittedJobs;
+  private final Counter retriedJobs;
+  private final Counter failedJobs;
+  private final Counter requeuedStuckJobs;
+  private final Timer submitTimer;
+
+  @Value("${app.ai.moderationService.url}")
+  private String aiServiceUrl;
+
+  @Value("${app.ai.moderationService.apiKey:}")
+  private String aiApiKey;
+
+  @Value("${app.backend.baseUrl:http://localhost:8080}")
+  private String backendBaseUrl;
+
+  @Value("${app.ai.queue.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.ai.queue.max-in-flight:4}")
+  private int maxInFlight;
+
+  @Value("${app.ai.queue.max-in-flight-per-uploader:2}")
+  private int maxInFlightPerUploader;
+
+  @Value("${app.ai.queue.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${app.ai.queue.backoff-initial-ms:30000}")
+  private long backoffInitialMs;
+
+  @Value("${app.ai.queue.backoff-max-ms:1800000}")
+  private long backoffMaxMs;
+
+  @Value("${app.ai.queue.small-file-mb:2}")
+  private long smallFileMb;
+
+  @Value("${app.ai.queue.aging-seconds:300}")
+  private long agingSeconds;
+
+  @Value("${app.ai.queue.lease-seconds:300}")
+  private long leaseSeconds;
+
+  @Value("${app.ai.queue.stuck-after-minutes:30}")
+  private long stuckAfterMinutes;
+
+  public AiProcessingQueue(AiProcessingJobRepository aiProcessingJobRepository,
+      DocumentRepository documentRepository,
+      FileStorageService fileStorageService,
+      UploadSpooler uploadSpooler,
+      RestTemplate restTemplate,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectProvider<AiProcessingJobQueueMigration> queueMigration,
+      MeterRegistry meterRegistry,
+      @Value("${app.ai.queue.submit-concurrency:2}") int submitConcurrency) {
+    this.aiProcessingJobRepository = aiProcessingJobRepository;
+    this.documentRepository = documentRepository;
+    this.fileStorageService = fileStorageService;
+    this.uploadSpooler = uploadSpooler;
+    this.restTemplate = restTemplate;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.queueMigration = queueMigration;
+
+    int threads = Math.max(1, submitConcurrency);
+    this.idleSubmitters = new Semaphore(threads);
+    this.submitters = new ThreadPoolTaskExecutor();
+    this.submitters.setCorePoolSize(threads);
+    this.submitters.setMaxPoolSize(threads);
+    this.submitters.setQueueCapacity(threads);
+    this.submitters.setThreadNamePrefix("AiSubmit-");
+    this.submitters.setWaitForTasksToCompleteOnShutdown(true);
+    this.submitters.setAwaitTerminationSeconds(30);
+    this.submitters.initialize();
+
+    this.submittedJobs = Counter.builder("ai.queue.submitted")
+        .description("Jobs accepted by the AI service")
+        .register(meterRegistry);
+    this.retriedJobs = Counter.builder("ai.queue.retries")
+        .description("Failed submissions scheduled for another attempt")
+        .register(meterRegistry);
+    this.failedJobs = Counter.builder("ai.queue.failed")
+        .description("Jobs that failed permanently")
+        .register(meterRegistry);
+    this.requeuedStuckJobs = Counter.builder("ai.queue.requeued")
+        .description("Jobs requeued by the reconciler")
+        .register(meterRegistry);
+    this.submitTimer = Timer.builder("ai.queue.submit")
+        .description("Duration of job submissions to the AI service")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    submitters.shutdown();
+    localSources.values().forEach(source -> SpooledMultipartFile.release(source.file()));
+    localSources.clear();
+  }
+
+  /**
+   * Queue a document for AI processing, in the caller's transaction if there is one.
+   * Takes ownership of a spooled file (used for the first submission, then deleted).
+   */
+  @Transactional
+  public void enqueue(UUID documentId, MultipartFile file) {
+    Document document = documentRepository.findById(documentId)
+        .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+    long fileSize = file != null ? file.getSize() : 0;
+    queueJob(document, fileSize);
+
+    if (file instanceof SpooledMultipartFile spooled) {
+      handOver(documentId, spooled);
+    }
+  }
+
+  /**
+   * Claim and submit queued jobs while submitters and AI capacity are free
+   */
+  @Scheduled(fixedDelayString = "${app.ai.queue.poll-ms:2000}")
+  public void dispatch() {
+    if (!enabled || !migrated() || idleSubmitters.availablePermits() == 0) {
+      return;
+    }
+
+    List<UUID> claimed;
+    try {
+      claimed = transactionTemplate.execute(status -> claim(idleSubmitters.availablePermits()));
+    } catch (Exception e) {
+      log.error("Failed to claim AI processing jobs: {}", e.getMessage(), e);
+      return;
+    }
+    if (claimed == null) {
+      return;
+    }
+
+    for (UUID jobId : claimed) {
+      idleSubmitters.acquireUninterruptibly();
+      try {
+        submitters.execute(() -> {
+          try {
+            submit(jobId);
+          } finally {
+            idleSubmitters.release();
+          }
+        });
+      } catch (RuntimeException e) {
+        idleSubmitters.release();
+        log.error("Failed to start submission of AI job {}, the lease will expire", jobId, e);
+      }
+    }
+  }
+
+  /**
+   * Requeue jobs whose worker died or that never got a webhook, and documents without a job
+   */
+  @Scheduled(fixedDelayString = "${app.ai.queue.reconcile-ms:60000}")
+  public void reconcile() {
+    if (!enabled || !migrated()) {
+      return;
+    }
+    try {
+      Instant now = Instant.now();
+      Integer released = transactionTemplate.execute(
+          status -> aiProcessingJobRepository.releaseExpiredLeases(now));
+      if (released != null && released > 0) {
+        log.warn("Returned {} AI jobs with expired submission leases to the queue", released);
+      }
+
+      Instant stuckBefore = now.minus(Duration.ofMinutes(stuckAfterMinutes));
+      List<AiProcessingJob> stuck = aiProcessingJobRepository.findStuckSubmitted(stuckBefore,
+          PageRequest.of(0, 100));
+      for (AiProcessingJob job : stuck) {
+        transactionTemplate.executeWithoutResult(status -> requeueStuck(job.getId(), stuckBefore));
+      }
+
+      List<UUID> orphaned = jdbcTemplate.queryForList(ORPHANED_DOCUMENTS_SQL, UUID.class,
+          Timestamp.from(stuckBefore));
+      for (UUID documentId : orphaned) {
+        log.warn("Document {} is waiting for AI verification without a job, queueing it",
+            documentId);
+        transactionTemplate.executeWithoutResult(status ->
+            documentRepository.findById(documentId).ifPresent(doc -> queueJob(doc, 0)));
+      }
+
+      releaseOrphanedSources(now);
+    } catch (Exception e) {
+      log.error("AI processing queue reconciliation failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * The queue migration does not run in tests, so its absence counts as finished
+   */
+  private boolean migrated() {
+    AiProcessingJobQueueMigration migration = queueMigration.getIfAvailable();
+    return migration == null || migration.isFinished();
+  }
+
+  /**
+   * A spool file only exists on the instance that took the upload. Once its job was claimed by
+   * another instance (which downloads the file from storage) or is no longer queued, the file is
+   * released here. Files younger than a lease are kept, their job may not be committed yet.
+   */
+  private void releaseOrphanedSources(Instant now) {
+    Instant handedOverBefore = now.minusSeconds(leaseSeconds);
+    List<UUID> candidates = localSources.entrySet().stream()
+        .filter(entry -> entry.getValue().handedOverAt().isBefore(handedOverBefore))
+        .map(Map.Entry::getKey)
+        .toList();
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    Set<UUID> queued = new HashSet<>(
+        aiProcessingJobRepository.findDocumentIdsByStatus(candidates, AiJobStatus.QUEUED));
+    for (UUID documentId : candidates) {
+      LocalSource source = localSources.get(documentId);
+      if (!queued.contains(documentId) && source != null
+          && localSources.remove(documentId, source)) {
+        SpooledMultipartFile.release(source.file());
+        log.info("Released spool file of document {}, its job is no longer queued here",
+            documentId);
+      }
+    }
+  }
+
+  private AiProcessingJob queueJob(Document document, long fileSize) {
+    // One job row per document, reused when the document is processed again
+    AiProcessingJob job = aiProcessingJobRepository
+        .findFirstByDocumentIdOrderByCreatedAtDesc(document.getId())
+        .orElseGet(() -> AiProcessingJob.builder().document(document).build());
+
+    job.setStatus(AiJobStatus.QUEUED);
+    job.setJobId(null);
+    job.setUploaderId(document.getUploader() != null ? document.getUploader().getId() : null);
+    job.setFilename(document.getTitle());
+    job.setFileSize(fileSize > 0 ? fileSize : job.getFileSize());
+    job.setPriority(priority(document, job.getFileSize()));
+    job.setAttempts(0);
+    job.setNextAttemptAt(null);
+    job.setLeaseUntil(null);
+    job.setSubmittedAt(null);
+    job.setErrorMessage(null);
+    job.setCallbackUrl(callbackUrl());
+    aiProcessingJobRepository.save(job);
+    log.info("Queued AI processing job for document {} (priority {})", document.getId(),
+        job.getPriority());
+    return job;
+  }
+
+  /**
+   * Priority band: premium before free documents, small before large ones
+   */
+  private int priority(Document document, Long fileSize) {
+    boolean premium = Boolean.TRUE.equals(document.getIsPremium());
+    boolean small = fileSize != null && fileSize > 0 && fileSize <= smallFileMb * 1024 * 1024;
+    return (premium ? 0 : 2) + (small ? 0 : 1);
+  }
+
+  private void handOver(UUID documentId, SpooledMultipartFile spooled) {
+    LocalSource source = new LocalSource(spooled, Instant.now());
+    LocalSource previous = localSources.put(documentId, source);
+    if (previous != null && previous.file() != spooled) {
+      SpooledMultipartFile.release(previous.file());
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // The job does not exist if the upload rolls back
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED && localSources.remove(documentId, source)) {
+            SpooledMultipartFile.release(spooled);
+          }
+        }
+      });
+    }
+  }
+
+  private List<UUID> claim(int submitters) {
+    jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", Object.class, CLAIM_LOCK_KEY);
+    long inFlight = aiProcessingJobRepository.countByStatusIn(IN_FLIGHT);
+    int limit = (int) Math.min(submitters, maxInFlight - inFlight);
+    if (limit <= 0) {
+      return List.of();
+    }
+    return jdbcTemplate.queryForList(CLAIM_SQL, UUID.class,
+        Math.max(1, agingSeconds), leaseSeconds, maxInFlightPerUploader, limit);
+  }
+
+  private void submit(UUID id) {
+    AiProcessingJob job = transactionTemplate.execute(status ->
+        aiProcessingJobRepository.findWithDocumentById(id).orElse(null));
+    if (job == null) {
+      return;
+    }
+    Document document = job.getDocument();
+    UUID documentId = document.getId();
+
+    if (document.getStatus() != DocStatus.AI_VERIFYING || document.getFileKey() == null) {
+      log.info("Document {} is no longer waiting for AI verification, dropping job", documentId);
+      transactionTemplate.executeWithoutResult(status -> fail(id, documentId,
+          "Document is no longer waiting for AI verification", false));
+      return;
+    }
+
+    LocalSource local = localSources.remove(documentId);
+    SpooledMultipartFile source = local != null ? local.file() : null;
+    Timer.Sample sample = Timer.start();
+    try {
+      if (source == null || !Files.exists(source.getPath())) {
+        source = download(document);
+      }
+      JobSubmitResponse response = submitToAiService(documentId, source);
+      Instant now = Instant.now();
+      transactionTemplate.executeWithoutResult(status ->
+          aiProcessingJobRepository.markSubmitted(id, response.getJobId(), now));
+      submittedJobs.increment();
+      log.info("Job {} submitted for document ID: {} (attempt {}). Waiting for webhook callback.",
+          response.getJobId(), documentId, job.getAttempts());
+    } catch (Exception e) {
+      handleSubmitFailure(job, e);
+    } finally {
+      sample.stop(submitTimer);
+      SpooledMultipartFile.release(source);
+    }
+  }
+
+  private SpooledMultipartFile download(Document document) throws Exception {
+    Path path = uploadSpooler.newSpoolPath();
+    try {
+      fileStorageService.downloadFile(FileStorage.DOCUMENT_FOLDER, document.getFileKey(), path);
+      return uploadSpooler.adopt(path, document.getTitle() + ".pdf", "application/pdf");
+    } catch (Exception e) {
+      Files.deleteIfExists(path);
+      throw e;
+    }
+  }
+
+  /**
+   * Submit job to AI service with webhook callback
+   */
+  private JobSubmitResponse submitToAiService(UUID documentId, MultipartFile file) {
+    log.info("Submitting document {} ({} bytes) to AI service {}/api/v1/process-document",
+        documentId, file.getSize(), aiServiceUrl);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+    headers.set("X-API-Key", aiApiKey);
+    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+    MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+    // Streamed from the file (reports its size and original filename), never buffered in memory
+    body.add("file", file.getResource());
+
+    String url = UriComponentsBuilder.fromHttpUrl(aiServiceUrl)
+        .path("/api/v1/process-document")
+        .queryParam("callback_url", callbackUrl())
+        .toUriString();
+
+    ResponseEntity<JobSubmitResponse> responseEntity = restTemplate.exchange(
+        url,
+        HttpMethod.POST,
+        new HttpEntity<>(body, headers),
+        JobSubmitResponse.class
+    );
+
+    if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
+      throw new BusinessException("AI moderation service returned unsuccessful response",
+          HttpStatus.INTERNAL_SERVER_ERROR, "AI_SERVICE_ERROR");
+    }
+    JobSubmitResponse jobResponse = responseEntity.getBody();
+    if (jobResponse.getJobId() == null || jobResponse.getJobId().isEmpty()) {
+      log.error("AI service returned job response without job_id. Response: {}", jobResponse);
+      throw new BusinessException("AI service returned invalid response: missing job_id",
+          HttpStatus.INTERNAL_SERVER_ERROR, "AI_SERVICE_ERROR");
+    }
+    return jobResponse;
+  }
+
+  private void handleSubmitFailure(AiProcessingJob job, Exception e) {
+    UUID documentId = job.getDocument().getId();
+    String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+
+    if (!isRetryable(e) || job.getAttempts() >= maxAttempts) {
+      log.error("Giving up AI processing of document {} after {} attempt(s): {}", documentId,
+          job.getAttempts(), error, e);
+      transactionTemplate.executeWithoutResult(status -> fail(job.getId(), documentId, error,
+          true));
+      return;
+    }
+
+    Duration delay = backoff(job.getAttempts());
+    Instant now = Instant.now();
+    transactionTemplate.executeWithoutResult(status ->
+        aiProcessingJobRepository.scheduleRetry(job.getId(), now.plus(delay), error, now));
+    retriedJobs.increment();
+    log.warn("Submitting document {} to AI failed (attempt {}/{}), retrying in {}s: {}",
+        documentId, job.getAttempts(), maxAttempts, delay.toSeconds(), error);
+  }
+
+  /**
+   * Client errors other than throttling/timeouts will fail again, so they are not retried
+   */
+  private static boolean isRetryable(Exception e) {
+    if (e instanceof HttpClientErrorException clientError) {
+      int status = clientError.getStatusCode().value();
+      return status == 408 || status == 429;
+    }
+    return true;
+  }
+
+  private Duration backoff(int attempts) {
+    return backoff(attempts, backoffInitialMs, backoffMaxMs,
+        ThreadLocalRandom.current().nextDouble());
+  }
+
+  /**
+   * Exponential backoff with +-20% jitter
+   *
+   * @param random uniform in [0, 1), picks the jitter
+   */
+  static Duration backoff(int attempts, long initialMs, long maxMs, double random) {
+    double exponential = initialMs * Math.pow(2, Math.max(0, attempts - 1));
+    double capped = Math.min(exponential, maxMs);
+    double jitter = 0.8 + random * 0.4;
+    return Duration.ofMillis((long) (capped * jitter));
+  }
+
+  private void requeueStuck(UUID id, Instant stuckBefore) {
+    AiProcessingJob job = aiProcessingJobRepository.findWithDocumentById(id).orElse(null);
+    if (job == null || !IN_FLIGHT.contains(job.getStatus())
+        || job.getStatus() == AiJobStatus.SUBMITTING) {
+      return;
+    }
+    Instant submittedAt = job.getSubmittedAt() != null ? job.getSubmittedAt() : job.getUpdatedAt();
+    if (submittedAt != null && submittedAt.isAfter(stuckBefore)) {
+      return; // webhook or resubmission happened meanwhile
+    }
+
+    UUID documentId = job.getDocument().getId();
+    if (job.getAttempts() >= maxAttempts) {
+      fail(id, documentId, "No webhook received after " + job.getAttempts() + " attempt(s)",
+          true);
+      return;
+    }
+    log.warn("No webhook for AI job {} of document {} since {}, resubmitting", job.getJobId(),
+        documentId, submittedAt);
+    // The old AI job ID is dropped; a late webhook for it no longer matches a job
+    job.setStatus(AiJobStatus.QUEUED);
+    job.setJobId(null);
+    job.setNextAttemptAt(null);
+    job.setErrorMessage("No webhook received within " + stuckAfterMinutes + " minutes");
+    aiProcessingJobRepository.save(job);
+    requeuedStuckJobs.increment();
+  }
+
+  /**
+   * Fail a job for good; optionally reject its document like any AI processing error
+   */
+  private void fail(UUID id, UUID documentId, String error, boolean rejectDocument) {
+    aiProcessingJobRepository.findById(id).ifPresent(job -> {
+      job.setStatus(AiJobStatus.FAILED);
+      job.setErrorMessage(error);
+      job.setLeaseUntil(null);
+      job.setCompletedAt(Instant.now().getEpochSecond());
+      aiProcessingJobRepository.save(job);
+    });
+    failedJobs.increment();
+
+    LocalSource source = localSources.remove(documentId);
+    if (source != null) {
+      SpooledMultipartFile.release(source.file());
+    }
+
+    if (rejectDocument) {
+      documentRepository.findById(documentId)
+          .filter(document -> document.getStatus() == DocStatus.AI_VERIFYING)
+          .ifPresent(document -> {
+            document.setStatus(DocStatus.AI_REJECTED);
+            documentRepository.save(document);
+            log.error("Marked document ID: {} as AI_REJECTED due to processing error",
+                documentId);
+          });
+    }
+  }
+
+  private String callbackUrl() {
+    return backendBaseUrl + "/api/v1/ai/webhook";
+  }
+
+  private record LocalSource(SpooledMultipartFile file, Instant handedOverAt) {
+
+  }
+}
@@ -0,0 +1,276 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentContent;
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.domain.enums.NotificationType;
+import com.capstone.be.dto.ai.AiModerationResponse;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.service.AiDocumentModerationAndSummarizationService;
+import com.capstone.be.service.DocumentConversionService;
+import com.capstone.be.service.DocumentThumbnailService;
+import com.capstone.be.service.FileStorageService;
+import com.capstone.be.util.SpooledMultipartFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background DOCX conversion for uploads accepted with status CONVERTING
+ * (app.document.conversion.async-enabled).
+ * Converts the spooled DOCX on the conversion pool, uploads the PDF and its thumbnail (or reuses
+ * identical stored content), then moves the document to AI_VERIFYING and submits it for AI
+ * processing, exactly as a synchronous upload would. A failed conversion moves the document to
+ * CONVERSION_FAILED and notifies the uploader.
+ */
+@Slf4j
+@Component
+public class AsyncDocumentConverter {
+
+  private final DocumentConversionService documentConversionService;
+  private final UploadSpooler uploadSpooler;
+  private final FileStorageService fileStorageService;
+  private final DocumentThumbnailService documentThumbnailService;
+  private final DocumentRepository documentRepository;
+  private final NotificationHelper notificationHelper;
+  private final AiDocumentModerationAndSummarizationService aiModerationService;
+  private final DocumentContentIndex documentContentIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate failureTransaction;
+
+  public AsyncDocumentConverter(DocumentConversionService documentConversionService,
+      UploadSpooler uploadSpooler,
+      FileStorageService fileStorageService,
+      DocumentThumbnailService documentThumbnailService,
+      DocumentRepository documentRepository,
+      NotificationHelper notificationHelper,
+      AiDocumentModerationAndSummarizationService aiModerationService,
+      DocumentContentIndex documentContentIndex,
+      PlatformTransactionManager transactionManager) {
+    this.documentConversionService = documentConversionService;
+    this.uploadSpooler = uploadSpooler;
+    this.fileStorageService = fileStorageService;
+    this.documentThumbnailService = documentThumbnailService;
+    this.documentRepository = documentRepository;
+    this.notificationHelper = notificationHelper;
+    this.aiModerationService = aiModerationService;
+    this.documentContentIndex = documentContentIndex;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // Also called from afterCommit of the upload transaction, which must not be joined
+    this.failureTransaction = new TransactionTemplate(transactionManager);
+    this.failureTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Convert and publish a document. Takes ownership of the spooled DOCX and deletes it.
+   */
+  @Async
+  public void convertAndPublish(UUID documentId, SpooledMultipartFile docx) {
+    log.info("Starting background DOCX conversion for document ID: {}", documentId);
+
+    SpooledMultipartFile pdf;
+    try {
+      pdf = convert(docx);
+    } catch (Exception e) {
+      log.error("Background DOCX conversion failed for document ID: {}", documentId, e);
+      markConversionFailed(documentId);
+      return;
+    } finally {
+      SpooledMultipartFile.release(docx);
+    }
+
+    String contentHash = pdf.getSha256Hex();
+    String fileKey = UUID.randomUUID() + ".pdf";
+    String thumbnailFilename = UUID.randomUUID() + ".png";
+    boolean handedOverToAi = false;
+
+    try {
+      boolean published;
+      boolean uploaded = false;
+      try {
+        // Identical content already stored: publish with its file and thumbnail
+        published = Boolean.TRUE.equals(transactionTemplate.execute(
+            status -> publishStoredContent(documentId, contentHash)));
+        if (!published) {
+          String thumbnailKey = uploadObjects(pdf, fileKey, thumbnailFilename);
+          uploaded = true;
+          published = Boolean.TRUE.equals(transactionTemplate.execute(
+              status -> publish(documentId, contentHash, pdf.getSize(), fileKey, thumbnailKey)));
+        }
+      } catch (Exception e) {
+        log.error("Failed to store converted PDF for document ID: {}", documentId, e);
+        deleteObjectsQuietly(fileKey, thumbnailFilename);
+        markConversionFailed(documentId);
+        return;
+      }
+
+      if (!published) {
+        log.info("Document {} is no longer converting, discarding converted PDF", documentId);
+        if (uploaded) {
+          deleteObjectsQuietly(fileKey, thumbnailFilename);
+        }
+        return;
+      }
+
+      AiModerationResponse storedAiResult = transactionTemplate.execute(
+          status -> documentContentIndex.findAiResult(contentHash).orElse(null));
+      if (storedAiResult != null) {
+        // Same content was already moderated: apply that result instead of a new AI run
+        log.info("Reusing stored AI result for document ID: {} (sha256={})", documentId,
+            contentHash);
+        transactionTemplate.executeWithoutResult(status ->
+            aiModerationService.updateDocumentAfterAiProcessing(documentId, storedAiResult));
+        return;
+      }
+
+      try {
+        aiModerationService.processDocumentAsync(documentId, pdf);
+        // The AI task now owns the spool file and deletes it after submitting it
+        handedOverToAi = true;
+      } catch (Exception e) {
+        log.error("Failed to submit async AI processing task for document ID: {}", documentId, e);
+      }
+    } finally {
+      if (!handedOverToAi) {
+        SpooledMultipartFile.release(pdf);
+      }
+    }
+  }
+
+  private SpooledMultipartFile convert(SpooledMultipartFile docx) throws Exception {
+    String originalFilename = docx.getOriginalFilename() != null
+        ? docx.getOriginalFilename()
+        : "document.docx";
+    String pdfFilename = originalFilename.replaceAll("(?i)\\.docx$", ".pdf");
+    Path pdfPath = uploadSpooler.newSpoolPath();
+    try {
+      documentConversionService.convertDocxToPdf(docx.getPath(), originalFilename, pdfPath);
+      return uploadSpooler.adopt(pdfPath, pdfFilename, "application/pdf");
+    } catch (Exception e) {
+      Files.deleteIfExists(pdfPath);
+      throw e;
+    }
+  }
+
+  /**
+   * Upload the PDF on this thread while the thumbnail renders on a virtual thread
+   */
+  private String uploadObjects(SpooledMultipartFile pdf, String fileKey, String thumbnailFilename)
+      throws Exception {
+    try (ExecutorService stages = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<String> thumbnailUpload = stages.submit(() ->
+          documentThumbnailService.generateAndUploadThumbnail(
+              pdf,
+              FileStorage.DOCUMENT_THUMB_FOLDER,
+              thumbnailFilename
+          ));
+      try {
+        fileStorageService.uploadFile(pdf, FileStorage.DOCUMENT_FOLDER, fileKey);
+        return thumbnailUpload.get();
+      } catch (Exception e) {
+        thumbnailUpload.cancel(true);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Publish with the stored file of identical content, if there is one
+   *
+   * @return false if the content is not stored yet or the document is no longer converting
+   */
+  private boolean publishStoredContent(UUID documentId, String contentHash) {
+    Document document = documentRepository.findById(documentId).orElse(null);
+    if (document == null || document.getStatus() != DocStatus.CONVERTING) {
+      return false;
+    }
+    DocumentContent content = documentContentIndex.acquire(contentHash).orElse(null);
+    if (content == null) {
+      return false;
+    }
+    log.info("Reusing stored file {} for converted document {}", content.getFileKey(),
+        documentId);
+    moveToNextStatus(document, contentHash, content.getFileKey(), content.getThumbnailKey());
+    return true;
+  }
+
+  /**
+   * Attach the uploaded file, index its content and move the document to the next status
+   *
+   * @return false if the document was deleted or changed while converting
+   */
+  private boolean publish(UUID documentId, String contentHash, long fileSize, String fileKey,
+      String thumbnailKey) {
+    Document document = documentRepository.findById(documentId).orElse(null);
+    if (document == null || document.getStatus() != DocStatus.CONVERTING) {
+      return false;
+    }
+    documentContentIndex.register(contentHash, fileSize, fileKey, thumbnailKey);
+    moveToNextStatus(document, contentHash, fileKey, thumbnailKey);
+    return true;
+  }
+
+  private void moveToNextStatus(Document document, String contentHash, String fileKey,
+      String thumbnailKey) {
+    UUID documentId = document.getId();
+    document.setContentHash(contentHash);
+    document.setFileKey(fileKey);
+    if (thumbnailKey != null) {
+      document.setThumbnailKey(thumbnailKey);
+    }
+    document.setStatus(DocStatus.AI_VERIFYING);
+    documentRepository.save(document);
+    log.info("Converted document {} moved to {}", documentId, DocStatus.AI_VERIFYING);
+
+    notificationHelper.sendNotificationToBusinessAdmins(
+        NotificationType.INFO,
+        "New Document Needs Review",
+        String.format("A new document '%s' uploaded by %s needs AI verification",
+            document.getTitle(), document.getUploader().getFullName())
+    );
+  }
+
+  /**
+   * Move a document that is still CONVERTING to CONVERSION_FAILED and notify the uploader; used
+   * when the conversion fails, is never started or is lost (see StaleConversionSweepJob)
+   */
+  public void markConversionFailed(UUID documentId) {
+    try {
+      failureTransaction.executeWithoutResult(status ->
+          documentRepository.findById(documentId)
+              .filter(document -> document.getStatus() == DocStatus.CONVERTING)
+              .ifPresent(document -> {
+                document.setStatus(DocStatus.CONVERSION_FAILED);
+                documentRepository.save(document);
+                notificationHelper.sendWarningNotification(
+                    document.getUploader(),
+                    "Document Conversion Failed",
+                    String.format("Your document '%s' could not be converted to PDF. "
+                        + "Please check the file and upload it again.", document.getTitle())
+                );
+              }));
+    } catch (Exception e) {
+      log.error("Failed to mark document {} as {}", documentId, DocStatus.CONVERSION_FAILED, e);
+    }
+  }
+
+  private void deleteObjectsQuietly(String fileKey, String thumbnailFilename) {
+    try {
+      fileStorageService.deleteFile(FileStorage.DOCUMENT_FOLDER, fileKey);
+      fileStorageService.deleteFile(FileStorage.DOCUMENT_THUMB_FOLDER, thumbnailFilename);
+    } catch (Exception e) {
+      log.warn("Failed to clean up converted objects {} / {}: {}", fileKey, thumbnailFilename,
+          e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.ReportStatus;
+import com.capstone.be.domain.enums.UserStatus;
+import com.capstone.be.dto.response.statistics.BusinessAdminDashboardResponse;
+import com.capstone.be.dto.response.statistics.BusinessAdminDashboardResponse.OverviewStatistics;
+import com.capstone.be.dto.response.statistics.BusinessAdminDashboardResponse.QuickStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business admin dashboard overview, computed by one aggregate query and cached with
+ * stale-while-revalidate semantics.
+ * A snapshot younger than fresh-ms is served as is; an older one up to max-stale-ms is served
+ * while a single background refresh replaces it; beyond that (or on first use) the caller
+ * loads it. Concurrent loads are collapsed into one query.
+ * The snapshot keeps the raw counts; every caller gets its own response object.
+ * Metrics: dashboard.overview.requests (tag result=fresh|stale|load), dashboard.overview.load.
+ */
+@Slf4j
+@Component
+public class DashboardOverviewCache {
+
+  /**
+   * Parameters: start of today, of the last 7 days and of the last 30 days, active user status,
+   * pending report status
+   */
+  private static final int COLUMNS = 16;
+
+  private static final String OVERVIEW_SQL = """
+      WITH bounds AS (
+          SELECT ?::timestamptz AS today_start, ?::timestamptz AS week_start,
+                 ?::timestamptz AS month_start, ?::text AS active_status,
+                 ?::text AS pending_status
+      ),
+      docs AS (
+          SELECT COUNT(*) AS total,
+                 COUNT(DISTINCT d.organization_id) AS active_organizations,
+                 COUNT(*) FILTER (WHERE d.created_at >= b.today_start) AS today,
+                 COUNT(*) FILTER (WHERE d.created_at >= b.week_start) AS week,
+                 COUNT(*) FILTER (WHERE d.created_at >= b.month_start) AS month
+          FROM document d CROSS JOIN bounds b
+      ),
+      usr AS (
+          SELECT COUNT(*) AS total,
+                 COUNT(*) FILTER (WHERE u.status = b.active_status) AS active,
+                 COUNT(*) FILTER (WHERE u.created_at >= b.today_start) AS today,
+                 COUNT(*) FILTER (WHERE u.created_at >= b.week_start) AS week,
+                 COUNT(*) FILTER (WHERE u.created_at >= b.month_start) AS month
+          FROM users u CROSS JOIN bounds b
+      ),
+      rep AS (
+          SELECT COUNT(*) AS total,
+                 COUNT(*) FILTER (WHERE r.status = b.pending_status) AS pending,
+                 COUNT(*) FILTER (WHERE r.created_at >= b.today_start) AS today,
+                 COUNT(*) FILTER (WHERE r.created_at >= b.week_start) AS week,
+                 COUNT(*) FILTER (WHERE r.created_at >= b.month_start) AS month
+          FROM document_reports r CROSS JOIN bounds b
+      ),
+      org AS (
+          SELECT COUNT(*) AS total FROM organization_profile
+      )
+      SELECT docs.total, usr.total, org.total, rep.total, rep.pending, usr.active,
+             docs.active_organizations,
+             docs.today, docs.week, docs.month,
+             rep.today, rep.week, rep.month,
+             usr.today, usr.week, usr.month
+      FROM docs, usr, rep, org
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ThreadPoolTaskExecutor refresher;
+  private final ReentrantLock loadLock = new ReentrantLock();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private final Counter freshHits;
+  private final Counter staleHits;
+  private final Counter loads;
+  private final Timer loadTimer;
+
+  private volatile Snapshot snapshot;
+
+  @Value("${app.statistics.dashboard.fresh-ms:30000}")
+  private long freshMs;
+
+  @Value("${app.statistics.dashboard.max-stale-ms:600000}")
+  private long maxStaleMs;
+
+  public DashboardOverviewCache(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+
+    this.refresher = new ThreadPoolTaskExecutor();
+    this.refresher.setCorePoolSize(1);
+    this.refresher.setMaxPoolSize(1);
+    this.refresher.setQueueCapacity(1);
+    this.refresher.setThreadNamePrefix("DashboardRefresh-");
+    this.refresher.initialize();
+
+    this.freshHits = requests(meterRegistry, "fresh");
+    this.staleHits = requests(meterRegistry, "stale");
+    this.loads = requests(meterRegistry, "load");
+    this.loadTimer = Timer.builder("dashboard.overview.load")
+        .description("Duration of dashboard overview queries")
+        .register(meterRegistry);
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("dashboard.overview.requests")
+        .description("Dashboard overview requests by cache outcome")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdown();
+  }
+
+  /**
+   * Current overview; may be up to max-stale-ms old
+   */
+  public BusinessAdminDashboardResponse get() {
+    Snapshot current = snapshot;
+    long age = current != null ? System.currentTimeMillis() - current.loadedAt() : Long.MAX_VALUE;
+
+    if (age <= freshMs) {
+      freshHits.increment();
+      return toResponse(current.counts());
+    }
+    if (age <= maxStaleMs) {
+      staleHits.increment();
+      refreshInBackground();
+      return toResponse(current.counts());
+    }
+    return toResponse(loadIfOlderThan(current).counts());
+  }
+
+  private Snapshot loadIfOlderThan(Snapshot seen) {
+    loadLock.lock();
+    try {
+      // Another caller may have loaded it while we waited
+      Snapshot current = snapshot;
+      if (current != null && current != seen
+          && System.currentTimeMillis() - current.loadedAt() <= maxStaleMs) {
+        return current;
+      }
+      loads.increment();
+      return load();
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  private void refreshInBackground() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      refresher.execute(() -> {
+        try {
+          loadLock.lock();
+          try {
+            load();
+          } finally {
+            loadLock.unlock();
+          }
+        } catch (Exception e) {
+          // Keep serving the stale snapshot; the next stale hit retries
+          log.warn("Failed to refresh dashboard overview: {}", e.getMessage());
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      refreshing.set(false);
+      log.warn("Could not schedule dashboard overview refresh: {}", e.getMessage());
+    }
+  }
+
+  private Snapshot load() {
+    Timer.Sample sample = Timer.start();
+    try {
+      Snapshot loaded = new Snapshot(query(), System.currentTimeMillis());
+      snapshot = loaded;
+      return loaded;
+    } finally {
+      sample.stop(loadTimer);
+    }
+  }
+
+  /**
+   * Counts in the column order of OVERVIEW_SQL
+   */
+  private long[] query() {
+    ZoneId zone = ZoneId.systemDefault();
+    LocalDate today = LocalDate.now(zone);
+    Instant todayStart = today.atStartOfDay(zone).toInstant();
+    Instant weekStart = today.minusDays(6).atStartOfDay(zone).toInstant();
+    Instant monthStart = today.minusDays(29).atStartOfDay(zone).toInstant();
+
+    return jdbcTemplate.queryForObject(OVERVIEW_SQL, (rs, rowNum) -> {
+      long[] counts = new long[COLUMNS];
+      for (int i = 0; i < COLUMNS; i++) {
+        counts[i] = rs.getLong(i + 1);
+      }
+      return counts;
+    }, Timestamp.from(todayStart), Timestamp.from(weekStart), Timestamp.from(monthStart),
+        UserStatus.ACTIVE.name(), ReportStatus.PENDING.name());
+  }
+
+  private static BusinessAdminDashboardResponse toResponse(long[] counts) {
+    OverviewStatistics overview = OverviewStatistics.builder()
+        .totalDocuments(counts[0])
+        .totalUsers(counts[1])
+        .totalOrganizations(counts[2])
+        .totalReports(counts[3])
+        .pendingReports(counts[4])
+        .activeUsers(counts[5])
+        .activeOrganizations(counts[6])
+        .build();
+
+    QuickStats quickStats = QuickStats.builder()
+        .documentsToday(counts[7])
+        .documentsThisWeek(counts[8])
+        .documentsThisMonth(counts[9])
+        .reportsToday(counts[10])
+        .reportsThisWeek(counts[11])
+        .reportsThisMonth(counts[12])
+        .newUsersToday(counts[13])
+        .newUsersThisWeek(counts[14])
+        .newUsersThisMonth(counts[15])
+        .build();
+
+    return BusinessAdminDashboardResponse.builder()
+        .overview(overview)
+        .quickStats(quickStats)
+        .build();
+  }
+
+  /**
+   * The counts array is never handed out
+   */
+  private record Snapshot(long[] counts, long loadedAt) {
+
+  }
+}
@@ -0,0 +1,304 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.DocumentActivityMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains document_daily_stats (activity per day and document).
+ * Write paths record deltas after their transaction commits; deltas are buffered per
+ * (day, document) and upserted as one JDBC batch every flush-interval-ms, like
+ * {@link DocumentViewCounter}. Removals (deleted comments, unsaved documents, replaced read
+ * history) are recorded as negative deltas on the day of the removed row.
+ * The nightly compaction recomputes the last compaction-days days from the source tables, which
+ * corrects deltas lost in a crash and rows whose organization or uploader changed.
+ * Metrics: statistics.rollup.pending, statistics.rollup.flushed, statistics.rollup.flush,
+ * statistics.rollup.compaction.
+ */
+@Slf4j
+@Component
+public class DocumentActivityRollup {
+
+  private static final DocumentActivityMetric[] METRICS = DocumentActivityMetric.values();
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO document_daily_stats (id, day, document_id, organization_id, uploader_id,
+          views, votes, comments, saves, purchases, reports, created_at, updated_at)
+      SELECT gen_random_uuid(), ?, d.id, d.organization_id, d.uploader_id,
+          ?, ?, ?, ?, ?, ?, now(), now()
+      FROM document d WHERE d.id = ?
+      ON CONFLICT (day, document_id) DO UPDATE SET
+          views = document_daily_stats.views + EXCLUDED.views,
+          votes = document_daily_stats.votes + EXCLUDED.votes,
+          comments = document_daily_stats.comments + EXCLUDED.comments,
+          saves = document_daily_stats.saves + EXCLUDED.saves,
+          purchases = document_daily_stats.purchases + EXCLUDED.purchases,
+          reports = document_daily_stats.reports + EXCLUDED.reports,
+          updated_at = now()
+      """;
+
+  private static final String RANGE = "created_at >= ? AND created_at < ?";
+
+  /**
+   * Recompute rows from the source tables; parameters: time zone, then 6 x (from, to)
+   */
+  private static final String REBUILD_SQL = """
+      INSERT INTO document_daily_stats (id, day, document_id, organization_id, uploader_id,
+          views, votes, comments, saves, purchases, reports, created_at, updated_at)
+      SELECT gen_random_uuid(), s.day, d.id, d.organization_id, d.uploader_id,
+          SUM(s.views), SUM(s.votes), SUM(s.comments), SUM(s.saves), SUM(s.purchases),
+          SUM(s.reports), now(), now()
+      FROM (
+          SELECT (a.created_at AT TIME ZONE ?)::date AS day, a.*
+          FROM (
+              SELECT document_id, created_at, 1 AS views, 0 AS votes, 0 AS comments,
+                     0 AS saves, 0 AS purchases, 0 AS reports
+              FROM document_read_history WHERE %1$s
+              UNION ALL
+              SELECT document_id, created_at, 0, 1, 0, 0, 0, 0
+              FROM document_votes WHERE %1$s
+              UNION ALL
+              SELECT document_id, created_at, 0, 0, 1, 0, 0, 0
+              FROM comments WHERE is_deleted = false AND %1$s
+              UNION ALL
+              SELECT document_id, created_at, 0, 0, 0, 1, 0, 0
+              FROM saved_list_document WHERE %1$s
+              UNION ALL
+              SELECT document_id, created_at, 0, 0, 0, 0, 1, 0
+              FROM document_redemption WHERE %1$s
+              UNION ALL
+              SELECT document_id, created_at, 0, 0, 0, 0, 0, 1
+              FROM document_reports WHERE %1$s
+          ) a
+      ) s
+      JOIN document d ON d.id = s.document_id
+      GROUP BY s.day, d.id, d.organization_id, d.uploader_id
+      """.formatted(RANGE);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ZoneId zone = ZoneId.systemDefault();
+
+  // Pending deltas per (day, document), indexed by metric ordinal
+  private final ConcurrentHashMap<DayDocument, long[]> pending = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  private final Counter flushedRows;
+  private final Timer flushTimer;
+  private final Timer compactionTimer;
+
+  @Value("${app.statistics.rollup.compaction-days:7}")
+  private int compactionDays;
+
+  public DocumentActivityRollup(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.flushedRows = Counter.builder("statistics.rollup.flushed")
+        .description("Daily stat rows upserted from buffered activity")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("statistics.rollup.flush")
+        .description("Duration of daily stat flushes")
+        .register(meterRegistry);
+    this.compactionTimer = Timer.builder("statistics.rollup.compaction")
+        .description("Duration of daily stat recomputations")
+        .register(meterRegistry);
+    Gauge.builder("statistics.rollup.pending", pending, Map::size)
+        .description("Day and document pairs with buffered activity")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Record one activity of a document now
+   */
+  public void record(UUID documentId, DocumentActivityMetric metric) {
+    record(documentId, metric, Instant.now(), 1);
+  }
+
+  /**
+   * Record an activity delta on the day of occurredAt, once the current transaction commits
+   * (immediately if there is none)
+   */
+  public void record(UUID documentId, DocumentActivityMetric metric, Instant occurredAt,
+      int delta) {
+    if (documentId == null || delta == 0) {
+      return;
+    }
+    LocalDate day = (occurredAt != null ? occurredAt : Instant.now()).atZone(zone).toLocalDate();
+    DayDocument key = new DayDocument(day, documentId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add(key, metric.ordinal(), delta);
+        }
+      });
+    } else {
+      add(key, metric.ordinal(), delta);
+    }
+  }
+
+  private void add(DayDocument key, int metric, long delta) {
+    pending.compute(key, (k, deltas) -> {
+      long[] updated = deltas != null ? deltas : new long[METRICS.length];
+      updated[metric] += delta;
+      return updated;
+    });
+  }
+
+  /**
+   * Apply buffered deltas (default: every 10 seconds)
+   */
+  @Scheduled(fixedDelayString = "${app.statistics.rollup.flush-interval-ms:10000}")
+  public void scheduledFlush() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Error flushing document activity rollup", e);
+    }
+  }
+
+  /**
+   * Drain the buffer on shutdown so no activity is lost on graceful stop
+   */
+  @PreDestroy
+  public void drain() {
+    log.info("Draining {} buffered daily stat rows before shutdown", pending.size());
+    scheduledFlush();
+  }
+
+  /**
+   * Upsert all buffered deltas as one JDBC batch
+   *
+   * @return number of rows written
+   */
+  public int flush() {
+    flushLock.lock();
+    try {
+      List<Object[]> batch = collectDeltas();
+      if (batch.isEmpty()) {
+        return 0;
+      }
+
+      Timer.Sample sample = Timer.start();
+      try {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+      } catch (RuntimeException e) {
+        // Put the deltas back so the next flush retries them
+        for (Object[] row : batch) {
+          DayDocument key = new DayDocument((LocalDate) row[0], (UUID) row[METRICS.length + 1]);
+          for (int i = 0; i < METRICS.length; i++) {
+            add(key, i, (Long) row[i + 1]);
+          }
+        }
+        throw e;
+      } finally {
+        sample.stop(flushTimer);
+      }
+
+      flushedRows.increment(batch.size());
+      log.debug("Flushed activity of {} day/document pairs", batch.size());
+      return batch.size();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private List<Object[]> collectDeltas() {
+    List<Object[]> batch = new ArrayList<>();
+    for (DayDocument key : pending.keySet()) {
+      long[] deltas = pending.remove(key);
+      if (deltas == null) {
+        continue;
+      }
+      Object[] row = new Object[METRICS.length + 2];
+      row[0] = key.day();
+      for (int i = 0; i < METRICS.length; i++) {
+        row[i + 1] = deltas[i];
+      }
+      row[METRICS.length + 1] = key.documentId();
+      batch.add(row);
+    }
+    return batch;
+  }
+
+  /**
+   * Nightly compaction: recompute the last compaction-days days before today
+   */
+  @Scheduled(cron = "${app.statistics.rollup.compaction-cron:0 15 1 * * ?}")
+  public void compact() {
+    LocalDate today = LocalDate.now(zone);
+    try {
+      int rows = rebuild(today.minusDays(compactionDays), today);
+      log.info("Compacted daily document stats of the last {} days: {} rows", compactionDays,
+          rows);
+    } catch (Exception e) {
+      log.error("Daily document stats compaction failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Replace the rows of [from, to) with values recomputed from the source tables.
+   * Buffered deltas are flushed first and no flush runs meanwhile.
+   *
+   * @param from First day (inclusive), null for the whole history
+   * @param to Last day (exclusive), null for up to today
+   * @return number of rows written
+   */
+  public int rebuild(LocalDate from, LocalDate to) {
+    LocalDate start = from != null ? from : LocalDate.EPOCH;
+    LocalDate end = to != null ? to : LocalDate.now(zone).plusDays(1);
+    Timestamp fromTs = Timestamp.from(start.atStartOfDay(zone).toInstant());
+    Timestamp toTs = Timestamp.from(end.atStartOfDay(zone).toInstant());
+
+    Object[] params = new Object[13];
+    params[0] = zone.getId();
+    for (int i = 0; i < 6; i++) {
+      params[1 + 2 * i] = fromTs;
+      params[2 + 2 * i] = toTs;
+    }
+
+    flushLock.lock();
+    Timer.Sample sample = Timer.start();
+    try {
+      flush();
+      Integer rows = transactionTemplate.execute(status -> {
+        jdbcTemplate.update("DELETE FROM document_daily_stats WHERE day >= ? AND day < ?",
+            start, end);
+        return jdbcTemplate.update(REBUILD_SQL, params);
+      });
+      return rows != null ? rows : 0;
+    } finally {
+      sample.stop(compactionTimer);
+      flushLock.unlock();
+    }
+  }
+
+  private record DayDocument(LocalDate day, UUID documentId) {
+
+  }
+}
@@ -0,0 +1,136 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.DocumentActivityMetric;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads document activity for the statistics services from document_daily_stats
+ * (see {@link DocumentActivityRollup}) instead of loading the activity rows themselves.
+ * Activity is bucketed per day in the system time zone, like the statistics time series.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentActivityStats {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public enum Scope {
+    ALL,
+    ORGANIZATION_DOCUMENTS,
+    ORGANIZATION,
+    UPLOADER
+  }
+
+  /**
+   * Daily activity of the documents in scope between the days of startDate and endDate
+   *
+   * @param scope Documents to include
+   * @param scopeId Organization or uploader id, ignored for ALL and ORGANIZATION_DOCUMENTS
+   * @param documentsInRange Only count documents created between startDate and endDate
+   * @param startDate First day (inclusive), null for no lower bound
+   * @param endDate Last day (inclusive), null for no upper bound
+   */
+  public DailyActivity daily(Scope scope, UUID scopeId, boolean documentsInRange,
+      Instant startDate, Instant endDate) {
+    ZoneId zone = ZoneId.systemDefault();
+    StringBuilder sql = new StringBuilder("SELECT s.day");
+    for (DocumentActivityMetric metric : DocumentActivityMetric.values()) {
+      sql.append(", SUM(s.").append(metric.getColumn()).append(")");
+    }
+    sql.append(" FROM document_daily_stats s");
+    if (documentsInRange && (startDate != null || endDate != null)) {
+      sql.append(" JOIN document d ON d.id = s.document_id");
+    }
+    sql.append(" WHERE 1 = 1");
+
+    List<Object> params = new ArrayList<>();
+    switch (scope) {
+      case ORGANIZATION_DOCUMENTS -> sql.append(" AND s.organization_id IS NOT NULL");
+      case ORGANIZATION -> {
+        sql.append(" AND s.organization_id = ?");
+        params.add(scopeId);
+      }
+      case UPLOADER -> {
+        sql.append(" AND s.uploader_id = ?");
+        params.add(scopeId);
+      }
+      default -> {
+      }
+    }
+    if (documentsInRange && startDate != null) {
+      sql.append(" AND d.created_at >= ?");
+      params.add(Timestamp.from(startDate));
+    }
+    if (documentsInRange && endDate != null) {
+      sql.append(" AND d.created_at <= ?");
+      params.add(Timestamp.from(endDate));
+    }
+    if (startDate != null) {
+      sql.append(" AND s.day >= ?");
+      params.add(startDate.atZone(zone).toLocalDate());
+    }
+    if (endDate != null) {
+      sql.append(" AND s.day <= ?");
+      params.add(endDate.atZone(zone).toLocalDate());
+    }
+    sql.append(" GROUP BY s.day");
+
+    DailyActivity activity = new DailyActivity(TimeSeries.Range.of(startDate, endDate));
+    jdbcTemplate.query(sql.toString(), rs -> {
+      LocalDate day = rs.getObject(1, LocalDate.class);
+      DocumentActivityMetric[] metrics = DocumentActivityMetric.values();
+      for (int i = 0; i < metrics.length; i++) {
+        activity.add(metrics[i], day, rs.getLong(i + 2));
+      }
+    }, params.toArray());
+    return activity;
+  }
+
+  /**
+   * Activity counts per metric and day
+   */
+  public static class DailyActivity {
+
+    private final TimeSeries.Range range;
+    private final Map<DocumentActivityMetric, Map<LocalDate, Long>> counts =
+        new EnumMap<>(DocumentActivityMetric.class);
+
+    private DailyActivity(TimeSeries.Range range) {
+      this.range = range;
+    }
+
+    private void add(DocumentActivityMetric metric, LocalDate day, long count) {
+      if (count != 0) {
+        counts.computeIfAbsent(metric, m -> new HashMap<>()).merge(day, count, Long::sum);
+      }
+    }
+
+    /**
+     * Daily series of the metric over the requested days (default: the last 6 months)
+     */
+    public TimeSeries series(DocumentActivityMetric metric) {
+      return TimeSeries.of(range, counts.getOrDefault(metric, Map.of()));
+    }
+
+    /**
+     * Total of the metric over all counted days, including days before a default range
+     */
+    public long total(DocumentActivityMetric metric) {
+      return counts.getOrDefault(metric, Map.of()).values().stream()
+          .mapToLong(Long::longValue)
+          .sum();
+    }
+  }
+}
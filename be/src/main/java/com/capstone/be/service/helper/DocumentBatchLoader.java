@@ -0,0 +1,151 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentTagLink;
+import com.capstone.be.domain.entity.Tag;
+import com.capstone.be.repository.DocTypeRepository;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.repository.DocumentTagLinkRepository;
+import com.capstone.be.repository.OrganizationProfileRepository;
+import com.capstone.be.repository.SpecializationRepository;
+import com.capstone.be.repository.UserRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch loader for document associations used by list endpoints.
+ * Collects the document IDs of a page and resolves tags, uploaders, doc types, specializations
+ * (with domain) and organizations with one IN query each, so mapping a page costs a constant
+ * number of round trips instead of one lazy load per row.
+ * Must be called inside the caller's transaction: associations are primed into the current
+ * persistence context and lazy proxies on the page resolve against them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentBatchLoader {
+
+  private final DocumentRepository documentRepository;
+  private final DocumentTagLinkRepository documentTagLinkRepository;
+  private final UserRepository userRepository;
+  private final DocTypeRepository docTypeRepository;
+  private final SpecializationRepository specializationRepository;
+  private final OrganizationProfileRepository organizationProfileRepository;
+
+  /**
+   * Load associations for documents referenced by ID (e.g. from review requests or read history).
+   * The documents themselves are fetched with a single IN query first.
+   */
+  public DocumentAssociations loadByIds(Collection<UUID> documentIds) {
+    Set<UUID> ids = documentIds == null ? Set.of() : documentIds.stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    if (ids.isEmpty()) {
+      return DocumentAssociations.EMPTY;
+    }
+    return load(documentRepository.findAllById(ids));
+  }
+
+  /**
+   * Load associations for an already fetched page of documents
+   */
+  public DocumentAssociations load(Collection<Document> documents) {
+    if (documents == null || documents.isEmpty()) {
+      return DocumentAssociations.EMPTY;
+    }
+
+    Set<UUID> documentIds = new HashSet<>();
+    Set<UUID> uploaderIds = new HashSet<>();
+    Set<UUID> docTypeIds = new HashSet<>();
+    Set<UUID> specializationIds = new HashSet<>();
+    Set<UUID> organizationIds = new HashSet<>();
+
+    // Reading the id of a lazy proxy does not initialize it
+    for (Document document : documents) {
+      documentIds.add(document.getId());
+      if (document.getUploader() != null) {
+        uploaderIds.add(document.getUploader().getId());
+      }
+      if (document.getDocType() != null) {
+        docTypeIds.add(document.getDocType().getId());
+      }
+      if (document.getSpecialization() != null) {
+        specializationIds.add(document.getSpecialization().getId());
+      }
+      if (document.getOrganization() != null) {
+        organizationIds.add(document.getOrganization().getId());
+      }
+    }
+
+    preloadUsers(uploaderIds);
+    if (!docTypeIds.isEmpty()) {
+      docTypeRepository.findAllById(docTypeIds);
+    }
+    if (!specializationIds.isEmpty()) {
+      specializationRepository.findAllWithDomainByIdIn(specializationIds);
+    }
+    if (!organizationIds.isEmpty()) {
+      organizationProfileRepository.findAllById(organizationIds);
+    }
+
+    Map<UUID, List<Tag>> tagsByDocumentId = documentTagLinkRepository
+        .findAllWithTagByDocumentIdIn(documentIds)
+        .stream()
+        .collect(Collectors.groupingBy(
+            link -> link.getDocument().getId(),
+            Collectors.mapping(DocumentTagLink::getTag, Collectors.toList())));
+
+    log.debug("Batch loaded associations for {} documents ({} with tags)",
+        documentIds.size(), tagsByDocumentId.size());
+
+    return new DocumentAssociations(tagsByDocumentId);
+  }
+
+  /**
+   * Prime users (uploaders, reviewers, assigners...) into the persistence context with one query
+   */
+  public void preloadUsers(Collection<UUID> userIds) {
+    Set<UUID> ids = userIds == null ? Set.of() : userIds.stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    if (!ids.isEmpty()) {
+      userRepository.findAllById(ids);
+    }
+  }
+
+  /**
+   * Result of a batch load: tags grouped by document ID
+   */
+  public static final class DocumentAssociations {
+
+    static final DocumentAssociations EMPTY = new DocumentAssociations(Map.of());
+
+    private final Map<UUID, List<Tag>> tagsByDocumentId;
+
+    DocumentAssociations(Map<UUID, List<Tag>> tagsByDocumentId) {
+      this.tagsByDocumentId = tagsByDocumentId;
+    }
+
+    public List<Tag> getTags(UUID documentId) {
+      return tagsByDocumentId.getOrDefault(documentId, Collections.emptyList());
+    }
+
+    public List<String> getTagNames(UUID documentId) {
+      return getTags(documentId).stream()
+          .map(Tag::getName)
+          .sorted(Comparator.naturalOrder())
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentContent;
+import com.capstone.be.dto.ai.AiModerationResponse;
+import com.capstone.be.repository.DocumentContentRepository;
+import com.capstone.be.service.DocumentPagePreviewService;
+import com.capstone.be.service.FileStorageService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Content-hash deduplication of stored documents.
+ * Uploads are fingerprinted with SHA-256 while spooling; identical content reuses the S3 object,
+ * thumbnail and AI moderation result of the first upload instead of storing and processing it
+ * again. Every sharing document holds one reference; the shared objects (file, thumbnail and
+ * rendered page previews) are deleted after the transaction that releases the last reference
+ * commits.
+ * All methods must run inside the caller's transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentContentIndex {
+
+  private final DocumentContentRepository documentContentRepository;
+  private final FileStorageService fileStorageService;
+  private final DocumentPagePreviewService documentPagePreviewService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Take a reference on already stored content
+   *
+   * @return the content entry, or empty if this content has not been stored yet
+   */
+  public Optional<DocumentContent> acquire(String sha256) {
+    if (sha256 == null || documentContentRepository.incrementReferences(sha256) == 0) {
+      return Optional.empty();
+    }
+    return documentContentRepository.findBySha256(sha256);
+  }
+
+  /**
+   * Index newly stored content with one reference (held by the uploading document).
+   * If a concurrent upload indexed the same hash first, the document simply keeps its own copy.
+   *
+   * @return true if the content was indexed
+   */
+  public boolean register(String sha256, long fileSize, String fileKey, String thumbnailKey) {
+    boolean inserted = documentContentRepository.insertIfAbsent(
+        UUID.randomUUID(), sha256, fileKey, thumbnailKey, fileSize) > 0;
+    if (!inserted) {
+      log.info("Content {} was indexed concurrently, keeping separate copy {}", sha256, fileKey);
+    }
+    return inserted;
+  }
+
+  /**
+   * Release the reference of a document that no longer needs its file.
+   * Documents that keep their own copy (not the indexed object) are left alone.
+   *
+   * @return true if the document's reference was released
+   */
+  public boolean release(Document document) {
+    String sha256 = document.getContentHash();
+    if (sha256 == null || document.getFileKey() == null) {
+      return false;
+    }
+
+    DocumentContent content = documentContentRepository.findBySha256(sha256).orElse(null);
+    if (content == null || !document.getFileKey().equals(content.getFileKey())) {
+      return false;
+    }
+
+    documentContentRepository.decrementReferences(sha256);
+    if (documentContentRepository.deleteUnreferenced(sha256) > 0) {
+      log.info("Last reference to content {} released, deleting {}", sha256,
+          content.getFileKey());
+      deleteObjectsAfterCommit(content.getFileKey(), content.getThumbnailKey());
+    }
+    return true;
+  }
+
+  /**
+   * Stored AI moderation result of identical content, if any
+   */
+  public Optional<AiModerationResponse> findAiResult(String sha256) {
+    if (sha256 == null) {
+      return Optional.empty();
+    }
+    return documentContentRepository.findBySha256(sha256)
+        .map(DocumentContent::getAiResponse)
+        .flatMap(this::readAiResponse);
+  }
+
+  /**
+   * Keep the first AI moderation result of a document's content for later duplicates
+   */
+  public void recordAiResult(Document document, AiModerationResponse response) {
+    if (document.getContentHash() == null || response == null) {
+      return;
+    }
+    try {
+      documentContentRepository.saveAiResponseIfAbsent(document.getContentHash(),
+          objectMapper.writeValueAsString(response));
+    } catch (JsonProcessingException e) {
+      log.warn("Failed to store AI result for content {}: {}", document.getContentHash(),
+          e.getMessage());
+    }
+  }
+
+  private Optional<AiModerationResponse> readAiResponse(String json) {
+    if (json == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readValue(json, AiModerationResponse.class));
+    } catch (JsonProcessingException e) {
+      log.warn("Ignoring unreadable stored AI result: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void deleteObjectsAfterCommit(String fileKey, String thumbnailKey) {
+    Runnable delete = () -> {
+      try {
+        fileStorageService.deleteFile(FileStorage.DOCUMENT_FOLDER, fileKey);
+        if (thumbnailKey != null) {
+          fileStorageService.deleteFile(FileStorage.DOCUMENT_THUMB_FOLDER, thumbnailKey);
+        }
+        documentPagePreviewService.deletePreviews(fileKey);
+      } catch (Exception e) {
+        log.warn("Failed to delete unreferenced content {}: {}", fileKey, e.getMessage());
+      }
+    };
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      delete.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        delete.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,137 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentTagLink;
+import com.capstone.be.dto.response.document.DocumentSearchFacetsResponse;
+import com.capstone.be.dto.response.document.DocumentSearchFacetsResponse.FacetCount;
+import com.capstone.be.dto.response.document.DocumentSearchFacetsResponse.YearCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes facet counts (doc type, specialization, domain, year, tag) for a document search.
+ * The search specification is applied unchanged, so the counts follow the same ACTIVE status,
+ * visibility and joined-organization rules as the result list.
+ * Scalar facets come from one GROUP BY over (docType, specialization, domain, year) that is
+ * rolled up in memory; tags need a second grouped query over the tag links because a document
+ * can carry several tags.
+ */
+@Slf4j
+@Component
+public class DocumentSearchFacetCounter {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Count matching documents per facet value. Must be called inside a transaction.
+   *
+   * @param spec Search specification (same as the result query)
+   */
+  public DocumentSearchFacetsResponse count(Specification<Document> spec) {
+    Map<UUID, Long> docTypes = new HashMap<>();
+    Map<UUID, Long> specializations = new HashMap<>();
+    Map<UUID, Long> domains = new HashMap<>();
+    Map<Integer, Long> years = new TreeMap<>(Comparator.reverseOrder());
+
+    List<Tuple> buckets = countScalarBuckets(spec);
+    for (Tuple bucket : buckets) {
+      long count = bucket.get(4, Long.class);
+      add(docTypes, bucket.get(0, UUID.class), count);
+      add(specializations, bucket.get(1, UUID.class), count);
+      add(domains, bucket.get(2, UUID.class), count);
+      add(years, bucket.get(3, Integer.class), count);
+    }
+
+    Map<UUID, Long> tags = new HashMap<>();
+    for (Tuple bucket : countTagBuckets(spec)) {
+      add(tags, bucket.get(0, UUID.class), bucket.get(1, Long.class));
+    }
+
+    log.debug("Computed search facets from {} scalar buckets and {} tag buckets",
+        buckets.size(), tags.size());
+
+    return DocumentSearchFacetsResponse.builder()
+        .docTypes(toFacetCounts(docTypes))
+        .specializations(toFacetCounts(specializations))
+        .domains(toFacetCounts(domains))
+        .tags(toFacetCounts(tags))
+        .years(years.entrySet().stream()
+            .map(entry -> YearCount.builder()
+                .year(entry.getKey())
+                .count(entry.getValue())
+                .build())
+            .toList())
+        .build();
+  }
+
+  private List<Tuple> countScalarBuckets(Specification<Document> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Document> root = query.from(Document.class);
+    Predicate predicate = spec.toPredicate(root, query, cb);
+
+    Path<UUID> docTypeId = root.get("docType").get("id");
+    Path<UUID> specializationId = root.get("specialization").get("id");
+    Path<UUID> domainId = root.get("specialization").get("domain").get("id");
+    Expression<Integer> year = cb.function("year", Integer.class, root.get("createdAt"));
+
+    query.multiselect(docTypeId, specializationId, domainId, year, cb.count(root))
+        .groupBy(docTypeId, specializationId, domainId, year)
+        // The full-text specification orders by rank, which is meaningless for aggregates
+        .orderBy(List.of());
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query).getResultList();
+  }
+
+  private List<Tuple> countTagBuckets(Specification<Document> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Document> root = query.from(Document.class);
+    Root<DocumentTagLink> link = query.from(DocumentTagLink.class);
+    Predicate predicate = spec.toPredicate(root, query, cb);
+
+    Path<UUID> tagId = link.get("tag").get("id");
+    Predicate linked = cb.equal(link.get("document"), root);
+
+    query.multiselect(tagId, cb.count(root))
+        .where(predicate != null ? cb.and(predicate, linked) : linked)
+        .groupBy(tagId)
+        .orderBy(List.of());
+    return entityManager.createQuery(query).getResultList();
+  }
+
+  private static <K> void add(Map<K, Long> counts, K key, long count) {
+    if (key != null) {
+      counts.merge(key, count, Long::sum);
+    }
+  }
+
+  private static List<FacetCount> toFacetCounts(Map<UUID, Long> counts) {
+    return counts.entrySet().stream()
+        .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed())
+        .map(entry -> FacetCount.builder()
+            .id(entry.getKey())
+            .count(entry.getValue())
+            .build())
+        .toList();
+  }
+}
@@ -0,0 +1,361 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.enums.ReportReason;
+import com.capstone.be.domain.enums.ReportStatus;
+import com.capstone.be.service.helper.DocumentActivityStats.Scope;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grouped document and report counts for the statistics services.
+ * Documents are counted in the database by status, visibility and premium flag with their
+ * view and vote counters summed, and reports by status, reason and day, so memory use does not
+ * grow with the number of documents or reports.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentStatisticsQueries {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * What the documents are ranked by in {@link #top}
+   */
+  public enum Ranking {
+    ORGANIZATION("organization_profile", "d.organization_id", "r.name", "NULL"),
+    TYPE("doc_types", "d.doc_type_id", "r.name", "NULL"),
+    UPLOADER("users", "d.uploader_id", "r.full_name", "r.email");
+
+    private final String table;
+    private final String column;
+    private final String nameColumn;
+    private final String emailColumn;
+
+    Ranking(String table, String column, String nameColumn, String emailColumn) {
+      this.table = table;
+      this.column = column;
+      this.nameColumn = nameColumn;
+      this.emailColumn = emailColumn;
+    }
+  }
+
+  /**
+   * Documents in scope created between startDate and endDate
+   *
+   * @param scope Documents to include
+   * @param scopeId Organization or uploader id, ignored for ALL and ORGANIZATION_DOCUMENTS
+   * @param startDate Lower bound of created_at (inclusive), null for none
+   * @param endDate Upper bound of created_at (inclusive), null for none
+   */
+  public DocumentCounts countDocuments(Scope scope, UUID scopeId, Instant startDate,
+      Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    String where = where(scope, scopeId, startDate, endDate, params);
+
+    List<DocumentBucket> buckets = jdbcTemplate.query("""
+            SELECT d.status, d.visibility, COALESCE(d.is_premium, false), COUNT(*),
+                   COALESCE(SUM(d.view_count), 0), COALESCE(SUM(d.upvote_count), 0),
+                   COALESCE(SUM(d.vote_score), 0)
+            FROM document d WHERE %s
+            GROUP BY d.status, d.visibility, COALESCE(d.is_premium, false)
+            """.formatted(where),
+        (rs, rowNum) -> new DocumentBucket(
+            DocStatus.valueOf(rs.getString(1)),
+            DocVisibility.valueOf(rs.getString(2)),
+            rs.getBoolean(3),
+            rs.getLong(4),
+            rs.getLong(5),
+            rs.getLong(6),
+            rs.getLong(7)),
+        params.toArray());
+
+    long[] distinct = jdbcTemplate.queryForObject("""
+            SELECT COUNT(DISTINCT d.uploader_id), COUNT(DISTINCT d.organization_id)
+            FROM document d WHERE %s
+            """.formatted(where),
+        (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+        params.toArray());
+    return new DocumentCounts(buckets, distinct[0], distinct[1]);
+  }
+
+  /**
+   * Organizations that uploaded a document (created between startDate and endDate) after since
+   */
+  public long countUploadingOrganizations(Instant since, Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    String where = where(Scope.ORGANIZATION_DOCUMENTS, null, startDate, endDate, params);
+    params.add(Timestamp.from(since));
+    Long count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(DISTINCT d.organization_id) FROM document d WHERE " + where
+            + " AND d.created_at > ?",
+        Long.class, params.toArray());
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * Organizations, document types or uploaders with the most documents in scope created between
+   * startDate and endDate, most documents first
+   */
+  public List<TopEntry> top(Ranking ranking, Scope scope, UUID scopeId, Instant startDate,
+      Instant endDate, int limit) {
+    List<Object> params = new ArrayList<>();
+    String where = where(scope, scopeId, startDate, endDate, params);
+    params.add(limit);
+    return jdbcTemplate.query("""
+            SELECT r.id, %s, %s, COUNT(*)
+            FROM document d JOIN %s r ON r.id = %s
+            WHERE %s
+            GROUP BY r.id
+            ORDER BY COUNT(*) DESC, r.id
+            LIMIT ?
+            """.formatted(ranking.nameColumn, ranking.emailColumn, ranking.table, ranking.column,
+            where),
+        (rs, rowNum) -> new TopEntry(
+            rs.getObject(1, UUID.class),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getLong(4)),
+        params.toArray());
+  }
+
+  /**
+   * Reports filed between startDate and endDate, grouped by status, reason and day
+   * (system time zone)
+   */
+  public ReportCounts countReports(Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    params.add(TimeSeries.ZONE.getId());
+    String where = createdBetween("r", startDate, endDate, params);
+    List<ReportBucket> buckets = jdbcTemplate.query("""
+            SELECT r.status, r.reason, (r.created_at AT TIME ZONE ?)::date AS created_day,
+                   COUNT(*)
+            FROM document_reports r WHERE %s
+            GROUP BY r.status, r.reason, created_day
+            """.formatted(where),
+        (rs, rowNum) -> new ReportBucket(
+            ReportStatus.valueOf(rs.getString(1)),
+            ReportReason.valueOf(rs.getString(2)),
+            rs.getObject(3, LocalDate.class),
+            rs.getLong(4)),
+        params.toArray());
+    return new ReportCounts(buckets);
+  }
+
+  /**
+   * Whole hours from filing to resolution of the resolved reports filed between startDate and
+   * endDate (resolution is the last update of a RESOLVED report)
+   */
+  public ResolutionTimes resolutionTimes(Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    params.add(ReportStatus.RESOLVED.name());
+    String where = createdBetween("r", startDate, endDate, params);
+    return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*), COALESCE(SUM(h.hours), 0),
+                   COUNT(*) FILTER (WHERE h.hours < 24),
+                   COUNT(*) FILTER (WHERE h.hours >= 24 AND h.hours <= 72),
+                   COUNT(*) FILTER (WHERE h.hours > 72)
+            FROM (SELECT FLOOR(EXTRACT(EPOCH FROM (r.updated_at - r.created_at)) / 3600) AS hours
+                  FROM document_reports r
+                  WHERE r.status = ? AND r.updated_at IS NOT NULL AND %s) h
+            """.formatted(where),
+        (rs, rowNum) -> new ResolutionTimes(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+            rs.getLong(4), rs.getLong(5)),
+        params.toArray());
+  }
+
+  private static String where(Scope scope, UUID scopeId, Instant startDate, Instant endDate,
+      List<Object> params) {
+    StringBuilder where = new StringBuilder(createdBetween("d", startDate, endDate, params));
+    switch (scope) {
+      case ORGANIZATION_DOCUMENTS -> where.append(" AND d.organization_id IS NOT NULL");
+      case ORGANIZATION -> {
+        where.append(" AND d.organization_id = ?");
+        params.add(scopeId);
+      }
+      case UPLOADER -> {
+        where.append(" AND d.uploader_id = ?");
+        params.add(scopeId);
+      }
+      default -> {
+      }
+    }
+    return where.toString();
+  }
+
+  static String createdBetween(String alias, Instant startDate, Instant endDate,
+      List<Object> params) {
+    StringBuilder where = new StringBuilder("1 = 1");
+    if (startDate != null) {
+      where.append(" AND ").append(alias).append(".created_at >= ?");
+      params.add(Timestamp.from(startDate));
+    }
+    if (endDate != null) {
+      where.append(" AND ").append(alias).append(".created_at <= ?");
+      params.add(Timestamp.from(endDate));
+    }
+    return where.toString();
+  }
+
+  public record DocumentBucket(DocStatus status, DocVisibility visibility, boolean premium,
+                               long count, long views, long upvotes, long voteScore) {
+
+  }
+
+  public record TopEntry(UUID id, String name, String email, long count) {
+
+  }
+
+  public record ReportBucket(ReportStatus status, ReportReason reason, LocalDate day,
+                             long count) {
+
+  }
+
+  /**
+   * Resolved reports by resolution time
+   *
+   * @param totalHours Sum of the whole hours each report took
+   */
+  public record ResolutionTimes(long resolved, long totalHours, long underOneDay,
+                                long oneToThreeDays, long overThreeDays) {
+
+    public double averageHours() {
+      return resolved > 0 ? (double) totalHours / resolved : 0.0;
+    }
+  }
+
+  /**
+   * Document counts grouped by status, visibility and premium flag
+   */
+  public static class DocumentCounts {
+
+    private final List<DocumentBucket> buckets;
+    private final long uploaders;
+    private final long organizations;
+
+    private DocumentCounts(List<DocumentBucket> buckets, long uploaders, long organizations) {
+      this.buckets = buckets;
+      this.uploaders = uploaders;
+      this.organizations = organizations;
+    }
+
+    public long total() {
+      return sum(DocumentBucket::count);
+    }
+
+    public long views() {
+      return sum(DocumentBucket::views);
+    }
+
+    public long upvotes() {
+      return sum(DocumentBucket::upvotes);
+    }
+
+    /**
+     * Downvotes derived from the summed upvotes and vote score
+     */
+    public long downvotes() {
+      return (upvotes() - sum(DocumentBucket::voteScore)) / 2;
+    }
+
+    public long premium() {
+      return buckets.stream().filter(DocumentBucket::premium)
+          .mapToLong(DocumentBucket::count).sum();
+    }
+
+    /**
+     * Distinct uploaders of the counted documents
+     */
+    public long uploaders() {
+      return uploaders;
+    }
+
+    /**
+     * Distinct organizations of the counted documents
+     */
+    public long organizations() {
+      return organizations;
+    }
+
+    public Map<DocStatus, Long> statusCounts() {
+      return group(DocumentBucket::status);
+    }
+
+    public Map<DocVisibility, Long> visibilityCounts() {
+      return group(DocumentBucket::visibility);
+    }
+
+    private <K> Map<K, Long> group(Function<DocumentBucket, K> key) {
+      Map<K, Long> counts = new LinkedHashMap<>();
+      buckets.forEach(bucket -> counts.merge(key.apply(bucket), bucket.count(), Long::sum));
+      return counts;
+    }
+
+    private long sum(ToLongFunction<DocumentBucket> value) {
+      return buckets.stream().mapToLong(value).sum();
+    }
+  }
+
+  /**
+   * Report counts grouped by status, reason and filing day
+   */
+  public static class ReportCounts {
+
+    private final List<ReportBucket> buckets;
+
+    private ReportCounts(List<ReportBucket> buckets) {
+      this.buckets = buckets;
+    }
+
+    public long total() {
+      return count(bucket -> true);
+    }
+
+    public long countByStatus(ReportStatus status) {
+      return count(bucket -> bucket.status() == status);
+    }
+
+    /**
+     * Reports filed from the first day up to and including the last day
+     */
+    public long countBetween(LocalDate firstDay, LocalDate lastDay) {
+      return count(bucket -> !bucket.day().isBefore(firstDay) && !bucket.day().isAfter(lastDay));
+    }
+
+    /**
+     * Reports filed on or after the given day
+     */
+    public long countSince(LocalDate day) {
+      return count(bucket -> !bucket.day().isBefore(day));
+    }
+
+    public Map<ReportStatus, Long> statusCounts() {
+      Map<ReportStatus, Long> counts = new LinkedHashMap<>();
+      buckets.forEach(bucket -> counts.merge(bucket.status(), bucket.count(), Long::sum));
+      return counts;
+    }
+
+    public Map<ReportReason, Long> reasonCounts() {
+      Map<ReportReason, Long> counts = new LinkedHashMap<>();
+      buckets.forEach(bucket -> counts.merge(bucket.reason(), bucket.count(), Long::sum));
+      return counts;
+    }
+
+    private long count(Predicate<ReportBucket> filter) {
+      return buckets.stream().filter(filter).mapToLong(ReportBucket::count).sum();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.capstone.be.service.helper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind buffer for document view counts.
+ * Views are accumulated in memory (one LongAdder per document, so concurrent readers of a
+ * popular document never contend on its row) and applied periodically as one JDBC batch of
+ * {@code UPDATE document SET view_count = view_count + ?}. Pending views are drained on shutdown.
+ * A failed flush puts its deltas back into the buffer so they are retried on the next run.
+ * Entries of documents with no new views are retired at flush time without losing views that
+ * race with the removal.
+ * Metrics: document.views.pending, document.views.flushed, document.views.flush.failures,
+ * document.views.flush (timer).
+ */
+@Slf4j
+@Component
+public class DocumentViewCounter {
+
+  private static final String FLUSH_SQL =
+      "UPDATE document SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+  private final ConcurrentHashMap<UUID, PendingViews> pendingViews = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Counter flushedViews;
+  private final Counter flushFailures;
+  private final Timer flushTimer;
+
+  public DocumentViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.flushedViews = Counter.builder("document.views.flushed")
+        .description("View increments written to the document table")
+        .register(meterRegistry);
+    this.flushFailures = Counter.builder("document.views.flush.failures")
+        .description("View counter flushes that failed and were re-queued")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("document.views.flush")
+        .description("Duration of view counter flushes")
+        .register(meterRegistry);
+    Gauge.builder("document.views.pending", this, DocumentViewCounter::pendingCount)
+        .description("View increments buffered and not yet flushed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Record one view of a document (no database access)
+   */
+  public void increment(UUID documentId) {
+    add(documentId, 1);
+  }
+
+  private void add(UUID documentId, long views) {
+    while (views > 0) {
+      PendingViews pending = pendingViews.computeIfAbsent(documentId, id -> new PendingViews());
+      pending.views.add(views);
+      if (!pending.retired) {
+        // Not retired when we added, so the flush that retires it will still read our views
+        return;
+      }
+      // Retired by a concurrent flush: take back whatever it did not read and retry
+      pendingViews.remove(documentId, pending);
+      views = pending.views.sumThenReset();
+    }
+  }
+
+  /**
+   * Total number of buffered view increments
+   */
+  public long pendingCount() {
+    long total = 0;
+    for (PendingViews pending : pendingViews.values()) {
+      total += pending.views.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Apply buffered views to the database (default: every 10 seconds)
+   */
+  @Scheduled(fixedDelayString = "${app.document.views.flush-interval-ms:10000}")
+  public void scheduledFlush() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Error flushing document view counts", e);
+    }
+  }
+
+  /**
+   * Drain the buffer on shutdown so no views are lost on graceful stop
+   */
+  @PreDestroy
+  public void drain() {
+    log.info("Draining {} buffered document views before shutdown", pendingCount());
+    scheduledFlush();
+  }
+
+  /**
+   * Apply all buffered views as one JDBC batch
+   *
+   * @return number of view increments written
+   */
+  public long flush() {
+    flushLock.lock();
+    try {
+      List<Object[]> batch = collectDeltas();
+      if (batch.isEmpty()) {
+        return 0;
+      }
+
+      long views = batch.stream().mapToLong(row -> (Long) row[0]).sum();
+      Timer.Sample sample = Timer.start();
+      try {
+        jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+      } catch (RuntimeException e) {
+        // Put the deltas back so the next flush retries them
+        for (Object[] row : batch) {
+          add((UUID) row[1], (Long) row[0]);
+        }
+        flushFailures.increment();
+        throw e;
+      } finally {
+        sample.stop(flushTimer);
+      }
+
+      flushedViews.increment(views);
+      log.debug("Flushed {} views for {} documents", views, batch.size());
+      return views;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private List<Object[]> collectDeltas() {
+    List<Object[]> batch = new ArrayList<>();
+    for (Map.Entry<UUID, PendingViews> entry : pendingViews.entrySet()) {
+      UUID documentId = entry.getKey();
+      PendingViews pending = entry.getValue();
+      long delta = pending.views.sumThenReset();
+      if (delta == 0) {
+        // Idle document: retire its entry. Writers that still hold it see the flag and move
+        // anything this final read misses to a fresh entry (see add)
+        pending.retired = true;
+        pendingViews.remove(documentId, pending);
+        delta = pending.views.sumThenReset();
+        if (delta == 0) {
+          continue;
+        }
+      }
+      batch.add(new Object[]{delta, documentId});
+    }
+    return batch;
+  }
+
+  /**
+   * Buffered views of one document
+   */
+  private static final class PendingViews {
+
+    private final LongAdder views = new LongAdder();
+    private volatile boolean retired;
+  }
+}
@@ -0,0 +1,205 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.ExportFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Row-by-row writer of tabular exports. Nothing is accumulated in memory: CSV rows go straight
+ * to the output, XLSX rows beyond a small window are flushed to compressed temp files by POI.
+ */
+public interface ExportWriter extends AutoCloseable {
+
+  void header(List<String> columns) throws IOException;
+
+  void row(Object[] values) throws IOException;
+
+  /**
+   * Finish the file; for XLSX this is when the workbook is written to the output
+   */
+  void finish() throws IOException;
+
+  @Override
+  void close() throws IOException;
+
+  static ExportWriter open(ExportFormat format, OutputStream out, String sheetName) {
+    return switch (format) {
+      case CSV -> new Csv(out);
+      case XLSX -> new Xlsx(out, sheetName);
+    };
+  }
+
+  /**
+   * Text of a cell value: timestamps as ISO-8601 instants, null as empty
+   */
+  static String text(Object value) {
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof Timestamp timestamp) {
+      return timestamp.toInstant().toString();
+    }
+    if (value instanceof Instant instant) {
+      return instant.toString();
+    }
+    return value.toString();
+  }
+
+  /**
+   * RFC 4180 CSV with a UTF-8 BOM so spreadsheet apps detect the encoding
+   */
+  final class Csv implements ExportWriter {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final Writer writer;
+    private int pending;
+
+    private Csv(OutputStream out) {
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+      writer.write('\uFEFF');
+      line(columns.toArray());
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+      line(values);
+      // Push rows to the client while the query is still running
+      if (++pending >= FLUSH_EVERY_ROWS) {
+        writer.flush();
+        pending = 0;
+      }
+    }
+
+    private void line(Object[] values) throws IOException {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(escape(text(values[i]), values[i] instanceof String));
+      }
+      writer.write("\r\n");
+    }
+
+    /**
+     * Quote when needed; text starting like a formula is prefixed with ' so spreadsheet apps
+     * do not evaluate user-supplied values
+     */
+    private static String escape(String value, boolean userText) {
+      if (userText && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+        value = "'" + value;
+      }
+      if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+          || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+      }
+      return value;
+    }
+
+    @Override
+    public void finish() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      // The response stream is closed by the container
+      writer.flush();
+    }
+  }
+
+  /**
+   * Streaming XLSX; rolls over to a new sheet at the format's row limit
+   */
+  final class Xlsx implements ExportWriter {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MAX_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+    private final OutputStream out;
+    private final String sheetName;
+    private final SXSSFWorkbook workbook;
+    private List<String> columns;
+    private Sheet sheet;
+    private int sheets;
+    private int rowIndex;
+
+    private Xlsx(OutputStream out, String sheetName) {
+      this.out = out;
+      this.sheetName = sheetName;
+      this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+      this.workbook.setCompressTempFiles(true);
+    }
+
+    @Override
+    public void header(List<String> columns) {
+      this.columns = columns;
+      newSheet();
+    }
+
+    private void newSheet() {
+      sheets++;
+      sheet = workbook.createSheet(sheets == 1 ? sheetName : sheetName + " (" + sheets + ")");
+      rowIndex = 0;
+      Row header = sheet.createRow(rowIndex++);
+      for (int i = 0; i < columns.size(); i++) {
+        header.createCell(i).setCellValue(columns.get(i));
+      }
+    }
+
+    @Override
+    public void row(Object[] values) {
+      if (rowIndex >= MAX_ROWS) {
+        newSheet();
+      }
+      Row row = sheet.createRow(rowIndex++);
+      for (int i = 0; i < values.length; i++) {
+        Object value = values[i];
+        if (value == null) {
+          continue;
+        }
+        Cell cell = row.createCell(i);
+        if (value instanceof Number number) {
+          cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+          cell.setCellValue(bool);
+        } else {
+          String text = text(value);
+          cell.setCellValue(text.length() > MAX_TEXT_LENGTH
+              ? text.substring(0, MAX_TEXT_LENGTH)
+              : text);
+        }
+      }
+    }
+
+    @Override
+    public void finish() throws IOException {
+      workbook.write(out);
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      // Delete the temp files backing the flushed rows
+      workbook.dispose();
+      workbook.close();
+    }
+  }
+}
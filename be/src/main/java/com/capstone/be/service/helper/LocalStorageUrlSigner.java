@@ -0,0 +1,98 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.exception.ForbiddenException;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Signs expiring download URLs for the local storage backend, mirroring S3 presigned URLs:
+ * {@code <public-base-url>/public/storage/<key>?expires=<epoch seconds>&signature=<HMAC>}.
+ * The signature is HMAC-SHA256 over the key and expiry, so a URL cannot be reused for another
+ * object or past its expiry. Without a configured secret a random one is generated, and URLs
+ * issued before a restart stop working.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalStorageUrlSigner {
+
+  public static final String PATH_PREFIX = "/public/storage/";
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  @Value("${app.storage.local.signing-secret:}")
+  private String signingSecret;
+
+  @Value("${app.storage.local.public-base-url:http://localhost:8080/api}")
+  private String publicBaseUrl;
+
+  private SecretKeySpec secretKey;
+
+  @PostConstruct
+  public void init() {
+    byte[] secret;
+    if (signingSecret == null || signingSecret.isBlank()) {
+      secret = new byte[32];
+      new SecureRandom().nextBytes(secret);
+      log.warn("No local storage signing secret configured, signed URLs will not survive restarts");
+    } else {
+      secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+    }
+    secretKey = new SecretKeySpec(secret, ALGORITHM);
+  }
+
+  /**
+   * Build a signed download URL for an object key
+   */
+  public String sign(String key, int expirationMinutes) {
+    long expires = Instant.now().plus(Duration.ofMinutes(expirationMinutes)).getEpochSecond();
+    String path = Arrays.stream(key.split("/"))
+        .map(segment -> UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8))
+        .collect(Collectors.joining("/"));
+    return publicBaseUrl + PATH_PREFIX + path
+        + "?expires=" + expires
+        + "&signature=" + signature(key, expires);
+  }
+
+  /**
+   * Check a signed URL
+   *
+   * @throws ForbiddenException if the signature does not match or the URL has expired
+   */
+  public void verify(String key, long expires, String signature) {
+    byte[] expected = signature(key, expires).getBytes(StandardCharsets.US_ASCII);
+    byte[] actual = signature == null ? new byte[0] : signature.getBytes(StandardCharsets.US_ASCII);
+    if (!MessageDigest.isEqual(expected, actual)) {
+      throw new ForbiddenException("Invalid download signature");
+    }
+    if (Instant.now().getEpochSecond() > expires) {
+      throw new ForbiddenException("Download link has expired");
+    }
+  }
+
+  private String signature(String key, long expires) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(secretKey);
+      byte[] digest = mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC-SHA256 is not available", e);
+    }
+  }
+}
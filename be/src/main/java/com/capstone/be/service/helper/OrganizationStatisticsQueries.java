@@ -0,0 +1,166 @@
+package com.capstone.be.service.helper;
+
+import static com.capstone.be.service.helper.DocumentStatisticsQueries.createdBetween;
+
+import com.capstone.be.domain.enums.OrgEnrollStatus;
+import com.capstone.be.domain.enums.OrgType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grouped organization and membership counts for the statistics services.
+ * Organizations, enrollments and organization documents are counted in the database, so memory
+ * use does not grow with the number of organizations or members. Members are JOINED enrollments.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationStatisticsQueries {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Organizations created between startDate and endDate, per type
+   */
+  public Map<OrgType, Long> countByType(Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    String where = createdBetween("o", startDate, endDate, params);
+    Map<OrgType, Long> counts = new EnumMap<>(OrgType.class);
+    jdbcTemplate.query("SELECT o.type, COUNT(*) FROM organization_profile o WHERE " + where
+            + " GROUP BY o.type",
+        rs -> {
+          counts.put(OrgType.valueOf(rs.getString(1)), rs.getLong(2));
+        },
+        params.toArray());
+    return counts;
+  }
+
+  /**
+   * Distinct members who joined organizations created between startDate and endDate, counting
+   * enrollments created in the same range
+   */
+  public long countMembers(Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    params.add(OrgEnrollStatus.JOINED.name());
+    String where = createdBetween("e", startDate, endDate, params)
+        + " AND " + createdBetween("o", startDate, endDate, params);
+    Long count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(DISTINCT e.member_id)
+            FROM org_enrollments e JOIN organization_profile o ON o.id = e.organization_id
+            WHERE e.status = ? AND %s
+            """.formatted(where),
+        Long.class, params.toArray());
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * Organizations created between startDate and endDate with the highest score
+   * (documents * 10 + members * 5 + views / 100), counting documents and enrollments created in
+   * the same range
+   */
+  public List<OrganizationScore> top(Instant startDate, Instant endDate, int limit) {
+    // Parameters in the order the parts appear in the statement
+    List<Object> params = new ArrayList<>();
+    params.add(OrgEnrollStatus.JOINED.name());
+    String enrollments = createdBetween("e", startDate, endDate, params);
+    String documents = createdBetween("d", startDate, endDate, params);
+    String organizations = createdBetween("o", startDate, endDate, params);
+    params.add(limit);
+    return jdbcTemplate.query("""
+            WITH members AS (
+              SELECT e.organization_id, COUNT(*) AS members
+              FROM org_enrollments e
+              WHERE e.status = ? AND %s
+              GROUP BY e.organization_id
+            ), documents AS (
+              SELECT d.organization_id, COUNT(*) AS documents,
+                     COALESCE(SUM(d.view_count), 0) AS views
+              FROM document d
+              WHERE d.organization_id IS NOT NULL AND %s
+              GROUP BY d.organization_id
+            )
+            SELECT o.id, o.name, COALESCE(m.members, 0), COALESCE(d.documents, 0),
+                   COALESCE(d.views, 0),
+                   COALESCE(d.documents, 0) * 10 + COALESCE(m.members, 0) * 5
+                     + COALESCE(d.views, 0) / 100 AS score
+            FROM organization_profile o
+            LEFT JOIN members m ON m.organization_id = o.id
+            LEFT JOIN documents d ON d.organization_id = o.id
+            WHERE %s
+            ORDER BY score DESC, o.id
+            LIMIT ?
+            """.formatted(enrollments, documents, organizations),
+        (rs, rowNum) -> new OrganizationScore(
+            rs.getObject(1, UUID.class),
+            rs.getString(2),
+            rs.getLong(3),
+            rs.getLong(4),
+            rs.getLong(5),
+            rs.getLong(6)),
+        params.toArray());
+  }
+
+  /**
+   * Organizations created between startDate and endDate by member count (enrollments created in
+   * the same range). Element i counts the organizations with more members than bound i - 1 and
+   * at most bound i; the last element counts the ones above the last bound.
+   */
+  public long[] countByMembers(List<Long> upperBounds, Instant startDate, Instant endDate) {
+    StringBuilder bucket = new StringBuilder("CASE");
+    List<Object> params = new ArrayList<>();
+    for (int i = 0; i < upperBounds.size(); i++) {
+      bucket.append(" WHEN m.members <= ? THEN ").append(i);
+      params.add(upperBounds.get(i));
+    }
+    bucket.append(" ELSE ").append(upperBounds.size()).append(" END");
+    params.add(OrgEnrollStatus.JOINED.name());
+    String enrollments = createdBetween("e", startDate, endDate, params);
+    String organizations = createdBetween("o", startDate, endDate, params);
+
+    long[] counts = new long[upperBounds.size() + 1];
+    jdbcTemplate.query("""
+            SELECT %s AS bucket, COUNT(*)
+            FROM (SELECT o.id, COUNT(e.id) AS members
+                  FROM organization_profile o
+                  LEFT JOIN org_enrollments e
+                    ON e.organization_id = o.id AND e.status = ? AND %s
+                  WHERE %s
+                  GROUP BY o.id) m
+            GROUP BY bucket
+            """.formatted(bucket, enrollments, organizations),
+        rs -> {
+          counts[rs.getInt(1)] = rs.getLong(2);
+        },
+        params.toArray());
+    return counts;
+  }
+
+  /**
+   * Enrollments of one organization created between startDate and endDate, per status
+   */
+  public Map<OrgEnrollStatus, Long> countEnrollmentsByStatus(UUID organizationId,
+      Instant startDate, Instant endDate) {
+    List<Object> params = new ArrayList<>();
+    params.add(organizationId);
+    String where = createdBetween("e", startDate, endDate, params);
+    Map<OrgEnrollStatus, Long> counts = new EnumMap<>(OrgEnrollStatus.class);
+    jdbcTemplate.query("SELECT e.status, COUNT(*) FROM org_enrollments e"
+            + " WHERE e.organization_id = ? AND " + where + " GROUP BY e.status",
+        rs -> {
+          counts.put(OrgEnrollStatus.valueOf(rs.getString(1)), rs.getLong(2));
+        },
+        params.toArray());
+    return counts;
+  }
+
+  public record OrganizationScore(UUID id, String name, long members, long documents,
+                                  long views, long score) {
+
+  }
+}
@@ -0,0 +1,97 @@
+package com.capstone.be.service.helper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of presigned download URLs, keyed by (object key, requested expiry).
+ * A signed URL is reused until a safety margin before it expires (safety-margin-percent of its
+ * lifetime, at least one minute), so callers always get a URL with most of the requested
+ * lifetime left. URLs of deleted objects are evicted; expired entries are swept periodically.
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+  private static final Duration MIN_SAFETY_MARGIN = Duration.ofMinutes(1);
+
+  // object key -> (expiration minutes -> cached URL)
+  private final Map<String, Map<Integer, CachedUrl>> entries = new ConcurrentHashMap<>();
+
+  @Value("${app.s3.presign-cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.s3.presign-cache.max-entries:50000}")
+  private int maxEntries;
+
+  @Value("${app.s3.presign-cache.safety-margin-percent:25}")
+  private int safetyMarginPercent;
+
+  /**
+   * Get a cached URL for the key, or sign a new one and cache it
+   *
+   * @param signer signs the object for the requested expiry
+   */
+  public String get(String key, int expirationMinutes, Supplier<String> signer) {
+    if (!enabled) {
+      return signer.get();
+    }
+
+    Instant now = Instant.now();
+    CachedUrl cached = entries.getOrDefault(key, Map.of()).get(expirationMinutes);
+    if (cached != null && now.isBefore(cached.reuseUntil())) {
+      return cached.url();
+    }
+
+    String url = signer.get();
+    Duration lifetime = Duration.ofMinutes(expirationMinutes);
+    Duration margin = lifetime.multipliedBy(safetyMarginPercent).dividedBy(100);
+    if (margin.compareTo(MIN_SAFETY_MARGIN) < 0) {
+      margin = MIN_SAFETY_MARGIN;
+    }
+    if (margin.compareTo(lifetime) >= 0) {
+      // Too short-lived to be worth reusing
+      return url;
+    }
+
+    if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+      evictExpired();
+      if (entries.size() >= maxEntries) {
+        log.debug("Presigned URL cache full ({} keys), clearing", entries.size());
+        entries.clear();
+      }
+    }
+    entries.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+        .put(expirationMinutes, new CachedUrl(url, now.plus(lifetime).minus(margin)));
+    return url;
+  }
+
+  /**
+   * Drop cached URLs of an object (e.g. after it was deleted)
+   */
+  public void evict(String key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Remove entries past their reuse deadline (every 5 minutes)
+   */
+  @Scheduled(fixedDelay = 300_000)
+  public void evictExpired() {
+    Instant now = Instant.now();
+    entries.values().forEach(urls ->
+        urls.values().removeIf(url -> !now.isBefore(url.reuseUntil())));
+    entries.values().removeIf(Map::isEmpty);
+  }
+
+  private record CachedUrl(String url, Instant reuseUntil) {
+
+  }
+}
@@ -0,0 +1,181 @@
+package com.capstone.be.service.helper;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local LRU of source PDFs downloaded for page preview rendering, bounded by file count
+ * (app.document.preview.source-cache-files). Tile cache misses on the same document download
+ * its PDF once instead of once per tile. A file is leased while a render reads it; an evicted
+ * file is deleted when its last lease closes.
+ */
+@Slf4j
+@Component
+public class PreviewSourceCache {
+
+  /**
+   * Writes the source file of a file key to the given path
+   */
+  @FunctionalInterface
+  public interface Downloader {
+
+    void download(Path target) throws IOException;
+  }
+
+  /**
+   * Read access to a cached source file, close it when the render is done
+   */
+  public final class Lease implements AutoCloseable {
+
+    private final Entry entry;
+    private boolean closed;
+
+    private Lease(Entry entry) {
+      this.entry = entry;
+    }
+
+    public Path path() {
+      return entry.path;
+    }
+
+    @Override
+    public void close() {
+      synchronized (PreviewSourceCache.this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        entry.leases--;
+        if (entry.evicted && entry.leases == 0) {
+          delete(entry.path);
+        }
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    private final Path path;
+    private int leases;
+    private boolean evicted;
+
+    private Entry(Path path) {
+      this.path = path;
+    }
+  }
+
+  private final LinkedHashMap<String, Entry> files = new LinkedHashMap<>(16, 0.75f, true);
+  private final Supplier<Path> newPath;
+  private final int maxFiles;
+
+  @Autowired
+  public PreviewSourceCache(UploadSpooler uploadSpooler,
+      @Value("${app.document.preview.source-cache-files:8}") int maxFiles) {
+    this(uploadSpooler::newSpoolPath, maxFiles);
+  }
+
+  PreviewSourceCache(Supplier<Path> newPath, int maxFiles) {
+    this.newPath = newPath;
+    this.maxFiles = Math.max(1, maxFiles);
+  }
+
+  /**
+   * Lease the source file of a file key, downloading it on a miss.
+   * Concurrent misses on the same key may both download; the first one to finish is kept.
+   */
+  public Lease acquire(String fileKey, Downloader downloader) throws IOException {
+    synchronized (this) {
+      Entry cached = files.get(fileKey);
+      if (cached != null) {
+        return lease(cached);
+      }
+    }
+
+    Path path = newPath.get();
+    try {
+      downloader.download(path);
+    } catch (IOException | RuntimeException e) {
+      delete(path);
+      throw e;
+    }
+
+    synchronized (this) {
+      Entry cached = files.get(fileKey);
+      if (cached != null) {
+        delete(path);
+        return lease(cached);
+      }
+      Entry entry = new Entry(path);
+      files.put(fileKey, entry);
+      Lease lease = lease(entry);
+      evictOverflow();
+      return lease;
+    }
+  }
+
+  /**
+   * Drop the cached source file of a file key (e.g. its content was deleted)
+   */
+  public synchronized void evict(String fileKey) {
+    Entry entry = files.remove(fileKey);
+    if (entry != null) {
+      retire(entry);
+    }
+  }
+
+  public synchronized int size() {
+    return files.size();
+  }
+
+  @PreDestroy
+  public void clear() {
+    List<Entry> entries;
+    synchronized (this) {
+      entries = new ArrayList<>(files.values());
+      files.clear();
+    }
+    entries.forEach(entry -> delete(entry.path));
+  }
+
+  private Lease lease(Entry entry) {
+    entry.leases++;
+    return new Lease(entry);
+  }
+
+  private void evictOverflow() {
+    // Drop least recently used files until the cache fits again
+    Iterator<Map.Entry<String, Entry>> eldest = files.entrySet().iterator();
+    while (files.size() > maxFiles && eldest.hasNext()) {
+      Entry entry = eldest.next().getValue();
+      eldest.remove();
+      retire(entry);
+    }
+  }
+
+  private void retire(Entry entry) {
+    entry.evicted = true;
+    if (entry.leases == 0) {
+      delete(entry.path);
+    }
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete preview source file: {}", path);
+    }
+  }
+}
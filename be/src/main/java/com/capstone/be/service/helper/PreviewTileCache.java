@@ -0,0 +1,48 @@
+package com.capstone.be.service.helper;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory LRU of rendered page preview tiles, bounded by total bytes
+ * (app.document.preview.memory-cache-mb). Tiles are immutable for a given file key, so entries
+ * are never invalidated, only evicted by size.
+ */
+@Component
+public class PreviewTileCache {
+
+  private final LinkedHashMap<String, byte[]> tiles = new LinkedHashMap<>(256, 0.75f, true);
+  private final long maxBytes;
+  private long currentBytes;
+
+  public PreviewTileCache(@Value("${app.document.preview.memory-cache-mb:64}") long maxMegabytes) {
+    this.maxBytes = maxMegabytes * 1024 * 1024;
+  }
+
+  public synchronized byte[] get(String tileKey) {
+    return tiles.get(tileKey);
+  }
+
+  public synchronized void put(String tileKey, byte[] tile) {
+    if (tile.length > maxBytes) {
+      return;
+    }
+    byte[] previous = tiles.put(tileKey, tile);
+    currentBytes += tile.length - (previous != null ? previous.length : 0);
+
+    // Drop least recently used tiles until the cache fits again
+    Iterator<Map.Entry<String, byte[]>> eldest = tiles.entrySet().iterator();
+    while (currentBytes > maxBytes && eldest.hasNext()) {
+      Map.Entry<String, byte[]> entry = eldest.next();
+      currentBytes -= entry.getValue().length;
+      eldest.remove();
+    }
+  }
+
+  public synchronized long sizeInBytes() {
+    return currentBytes;
+  }
+}
@@ -0,0 +1,115 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.OrganizationProfile;
+import com.capstone.be.domain.entity.User;
+import com.capstone.be.service.FileStorageService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs the public assets (document thumbnails, avatars, organization logos) of a list page.
+ * The keys of the whole page are collected first and signed with one generatePresignedUrls call
+ * per folder, so an uploader or organization repeated on the page is signed once.
+ * Only keys of rows the caller has already loaded (and therefore may see) are signed.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicAssetUrlSigner {
+
+  private final FileStorageService fileStorageService;
+
+  @Value("${app.s3.publicAsset.presignedExpInMinutes:60}")
+  private int presignedExpInMinutes;
+
+  /**
+   * Sign thumbnails, uploader avatars and organization logos of a page of documents.
+   * Uploaders and organizations must already be loaded (see {@link DocumentBatchLoader}).
+   */
+  public SignedAssetUrls forDocuments(Collection<Document> documents) {
+    List<String> thumbnailKeys = new ArrayList<>();
+    List<String> avatarKeys = new ArrayList<>();
+    List<String> logoKeys = new ArrayList<>();
+    for (Document document : documents) {
+      thumbnailKeys.add(document.getThumbnailKey());
+      if (document.getUploader() != null) {
+        avatarKeys.add(document.getUploader().getAvatarKey());
+      }
+      if (document.getOrganization() != null) {
+        logoKeys.add(document.getOrganization().getLogoKey());
+      }
+    }
+    return sign(thumbnailKeys, avatarKeys, logoKeys);
+  }
+
+  /**
+   * Sign avatars of a page of users
+   */
+  public SignedAssetUrls forUsers(Collection<User> users) {
+    return sign(List.of(), users.stream().map(User::getAvatarKey).toList(), List.of());
+  }
+
+  /**
+   * Sign avatars of a page of organization admins and the logos of their organizations
+   */
+  public SignedAssetUrls forOrganizations(Collection<User> admins,
+      Collection<OrganizationProfile> organizations) {
+    return sign(List.of(), admins.stream().map(User::getAvatarKey).toList(),
+        organizations.stream().map(OrganizationProfile::getLogoKey).toList());
+  }
+
+  private SignedAssetUrls sign(Collection<String> thumbnailKeys, Collection<String> avatarKeys,
+      Collection<String> logoKeys) {
+    return new SignedAssetUrls(
+        fileStorageService.generatePresignedUrls(FileStorage.DOCUMENT_THUMB_FOLDER,
+            keys(thumbnailKeys), presignedExpInMinutes),
+        fileStorageService.generatePresignedUrls(FileStorage.AVATAR_FOLDER,
+            keys(avatarKeys), presignedExpInMinutes),
+        fileStorageService.generatePresignedUrls(FileStorage.ORG_LOGO_FOLDER,
+            keys(logoKeys), presignedExpInMinutes));
+  }
+
+  /**
+   * Stored keys are plain filenames; anything path-like is not signed
+   */
+  private static List<String> keys(Collection<String> keys) {
+    return keys.stream()
+        .filter(key -> key != null && !key.contains("/") && !key.contains(".."))
+        .toList();
+  }
+
+  /**
+   * Signed URLs of a page by stored key. Keys that were not signed resolve to null.
+   */
+  public static final class SignedAssetUrls {
+
+    private final Map<String, String> thumbnails;
+    private final Map<String, String> avatars;
+    private final Map<String, String> logos;
+
+    SignedAssetUrls(Map<String, String> thumbnails, Map<String, String> avatars,
+        Map<String, String> logos) {
+      this.thumbnails = thumbnails;
+      this.avatars = avatars;
+      this.logos = logos;
+    }
+
+    public String thumbnail(String thumbnailKey) {
+      return thumbnailKey != null ? thumbnails.get(thumbnailKey) : null;
+    }
+
+    public String avatar(String avatarKey) {
+      return avatarKey != null ? avatars.get(avatarKey) : null;
+    }
+
+    public String logo(String logoKey) {
+      return logoKey != null ? logos.get(logoKey) : null;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.capstone.be.service.helper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+/**
+ * Transfer layer on the async S3 client.
+ * Uploads above the multipart threshold are split into parts that are sent in parallel; callers
+ * can start many uploads and wait for them together. Deletes go through the batch DeleteObjects
+ * API (up to 1000 keys per request, requests sent concurrently).
+ * Metrics per operation (upload, delete): s3.transfer (timer, tagged with outcome) and
+ * s3.transfer.bytes / s3.transfer.objects, so throughput is bytes or objects over timer time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3TransferClient {
+
+  /**
+   * DeleteObjects accepts at most 1000 keys per request
+   */
+  private static final int DELETE_BATCH_SIZE = 1000;
+
+  private final S3AsyncClient s3AsyncClient;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${aws.s3.bucket}")
+  private String bucketName;
+
+  @Value("${aws.s3.transfer.multipart-threshold-mb:8}")
+  private long multipartThresholdMb;
+
+  public S3TransferClient(S3AsyncClient s3AsyncClient, MeterRegistry meterRegistry) {
+    this.s3AsyncClient = s3AsyncClient;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Start an upload. Large bodies are uploaded as parallel parts by the multipart client.
+   *
+   * @param sha256Base64 SHA-256 of the whole object, verified by S3 for single-part uploads
+   *                     (optional; multipart uploads are checksummed per part instead)
+   * @return future completing when the object is stored
+   */
+  public CompletableFuture<Void> upload(String key, String contentType, AsyncRequestBody body,
+      long size, String sha256Base64) {
+    PutObjectRequest.Builder request = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .contentLength(size);
+    if (sha256Base64 != null && size < multipartThresholdMb * 1024 * 1024) {
+      request.checksumSHA256(sha256Base64);
+    } else if (sha256Base64 != null) {
+      request.checksumAlgorithm(ChecksumAlgorithm.SHA256);
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return s3AsyncClient.putObject(request.build(), body)
+        .handle((response, error) -> {
+          record(sample, "upload", error == null);
+          if (error != null) {
+            throw asCompletionException(error);
+          }
+          bytes("upload").record(size);
+          log.debug("Uploaded {} ({} bytes)", key, size);
+          return null;
+        });
+  }
+
+  /**
+   * Delete objects in batches of up to 1000 keys, sending the batches concurrently.
+   * Keys S3 could not delete are logged and returned; a failed batch returns all its keys.
+   *
+   * @return keys that were not deleted
+   */
+  public List<String> deleteObjects(List<String> keys) {
+    if (keys == null || keys.isEmpty()) {
+      return List.of();
+    }
+
+    List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+    for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+      batches.add(deleteBatch(keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()))));
+    }
+
+    List<String> failed = new ArrayList<>();
+    for (CompletableFuture<List<String>> batch : batches) {
+      failed.addAll(batch.join());
+    }
+    return failed;
+  }
+
+  /**
+   * Wait for a transfer and rethrow its failure unwrapped
+   */
+  public static <T> T await(CompletableFuture<T> transfer) {
+    try {
+      return transfer.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<List<String>> deleteBatch(List<String> keys) {
+    List<ObjectIdentifier> objects = keys.stream()
+        .map(key -> ObjectIdentifier.builder().key(key).build())
+        .toList();
+    DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+        .bucket(bucketName)
+        .delete(Delete.builder().objects(objects).quiet(true).build())
+        .build();
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return s3AsyncClient.deleteObjects(request)
+        .handle((response, error) -> {
+          if (error != null) {
+            record(sample, "delete", false);
+            log.error("Batch delete of {} objects failed", keys.size(), error);
+            return List.copyOf(keys);
+          }
+          // Quiet mode: the response only lists the keys that could not be deleted
+          List<String> failed = response.errors().stream().map(S3Error::key).toList();
+          record(sample, "delete", failed.isEmpty());
+          objects("delete").increment(keys.size() - failed.size());
+          for (S3Error s3Error : response.errors()) {
+            log.error("Failed to delete {} from S3: {} {}", s3Error.key(), s3Error.code(),
+                s3Error.message());
+          }
+          return failed;
+        });
+  }
+
+  private void record(Timer.Sample sample, String operation, boolean success) {
+    sample.stop(Timer.builder("s3.transfer")
+        .description("Duration of S3 transfer operations")
+        .tag("operation", operation)
+        .tag("outcome", success ? "success" : "failure")
+        .register(meterRegistry));
+  }
+
+  private DistributionSummary bytes(String operation) {
+    return DistributionSummary.builder("s3.transfer.bytes")
+        .description("Bytes transferred to S3")
+        .baseUnit("bytes")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  private Counter objects(String operation) {
+    return Counter.builder("s3.transfer.objects")
+        .description("Objects processed by S3 batch operations")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  private static CompletionException asCompletionException(Throwable error) {
+    return error instanceof CompletionException completion
+        ? completion
+        : new CompletionException(error);
+  }
+}
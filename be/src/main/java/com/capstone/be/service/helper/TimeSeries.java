@@ -0,0 +1,193 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.TimeGranularity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Gap-filled statistics time series: one count per bucket of a {@link Range}, empty buckets
+ * included. Counts are kept in a primitive array; bucket dates are derived from the first bucket
+ * and the granularity. By default buckets are days in the system time zone, like the
+ * document_daily_stats rollup.
+ */
+public final class TimeSeries {
+
+  /**
+   * Default time zone the buckets are taken in
+   */
+  public static final ZoneId ZONE = ZoneId.systemDefault();
+
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+  private final Range range;
+  private final long[] counts;
+
+  private TimeSeries(Range range, long[] counts) {
+    this.range = range;
+    this.counts = counts;
+  }
+
+  /**
+   * Series over the range from counts keyed by bucket start; buckets outside the range are
+   * ignored
+   */
+  public static TimeSeries of(Range range, Map<LocalDate, Long> bucketCounts) {
+    long[] counts = new long[range.size()];
+    bucketCounts.forEach((bucket, count) -> {
+      int index = range.indexOf(bucket);
+      if (index >= 0 && count != null) {
+        counts[index] += count;
+      }
+    });
+    return new TimeSeries(range, counts);
+  }
+
+  public Range range() {
+    return range;
+  }
+
+  public int size() {
+    return counts.length;
+  }
+
+  /**
+   * First day of the i-th bucket
+   */
+  public LocalDate bucket(int i) {
+    return range.granularity().plus(range.first(), i);
+  }
+
+  public long count(int i) {
+    return counts[i];
+  }
+
+  public long total() {
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Sum of the buckets starting on or after the given day
+   */
+  public long totalSince(LocalDate day) {
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      if (!bucket(i).isBefore(day)) {
+        total += counts[i];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Map each bucket (start formatted yyyy-MM-dd) and its count, e.g. to a response DTO
+   */
+  public <T> List<T> map(BiFunction<String, Long, T> mapper) {
+    List<T> points = new ArrayList<>(counts.length);
+    for (int i = 0; i < counts.length; i++) {
+      points.add(mapper.apply(bucket(i).format(DATE_FORMATTER), counts[i]));
+    }
+    return points;
+  }
+
+  /**
+   * Buckets from first to last (inclusive), both truncated to the granularity
+   */
+  public record Range(LocalDate first, LocalDate last, TimeGranularity granularity) {
+
+    private static final int DEFAULT_MONTHS = 6;
+
+    /**
+     * Daily range from the first to the last day
+     */
+    public Range(LocalDate first, LocalDate last) {
+      this(first, last, TimeGranularity.DAY);
+    }
+
+    /**
+     * Daily range of the days of the given instants in the system time zone
+     *
+     * @param startDate Start of the range, null for 6 months before today
+     * @param endDate End of the range, null for today
+     */
+    public static Range of(Instant startDate, Instant endDate) {
+      return of(startDate, endDate, TimeGranularity.DAY, ZONE);
+    }
+
+    /**
+     * Range of the buckets containing the given instants in the given time zone
+     *
+     * @param startDate Start of the range, null for 6 months before today
+     * @param endDate End of the range, null for today
+     */
+    public static Range of(Instant startDate, Instant endDate, TimeGranularity granularity,
+        ZoneId zone) {
+      return of(startDate, endDate, granularity, zone, LocalDate.now(zone));
+    }
+
+    static Range of(Instant startDate, Instant endDate, LocalDate today) {
+      return of(startDate, endDate, TimeGranularity.DAY, ZONE, today);
+    }
+
+    static Range of(Instant startDate, Instant endDate, TimeGranularity granularity,
+        ZoneId zone, LocalDate today) {
+      LocalDate first = startDate != null
+          ? startDate.atZone(zone).toLocalDate()
+          : today.minusMonths(DEFAULT_MONTHS);
+      LocalDate last = endDate != null ? endDate.atZone(zone).toLocalDate() : today;
+      return new Range(granularity.truncate(first), granularity.truncate(last), granularity);
+    }
+
+    public int size() {
+      return first.isAfter(last) ? 0 : (int) granularity.between(first, last) + 1;
+    }
+
+    /**
+     * Index of the bucket starting on the given day, -1 if it is not a bucket of the range
+     */
+    public int indexOf(LocalDate bucket) {
+      if (bucket.isBefore(first) || bucket.isAfter(last)
+          || !granularity.truncate(bucket).equals(bucket)) {
+        return -1;
+      }
+      return (int) granularity.between(first, bucket);
+    }
+
+    /**
+     * Start of the first bucket in the system time zone
+     */
+    public Instant start() {
+      return start(ZONE);
+    }
+
+    /**
+     * Start of the first bucket in the given time zone
+     */
+    public Instant start(ZoneId zone) {
+      return first.atStartOfDay(zone).toInstant();
+    }
+
+    /**
+     * End of the last bucket (exclusive) in the system time zone
+     */
+    public Instant end() {
+      return end(ZONE);
+    }
+
+    /**
+     * End of the last bucket (exclusive) in the given time zone
+     */
+    public Instant end(ZoneId zone) {
+      return granularity.plus(last, 1).atStartOfDay(zone).toInstant();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.TimeGranularity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bucketed counts for the statistics time series.
+ * Rows are grouped in the database with date_trunc on a timestamp column converted to the
+ * requested time zone (default: daily in the system time zone), and empty buckets are filled in
+ * by {@link TimeSeries}, so only one row per bucket is transferred.
+ * Metric: statistics.timeseries.query (tag source).
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeSeriesQueries {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Tables the time series are counted over
+   */
+  public enum Source {
+    DOCUMENTS("document"),
+    DOCUMENT_REPORTS("document_reports"),
+    ORGANIZATIONS("organization_profile"),
+    ORG_ENROLLMENTS("org_enrollments"),
+    SYSTEM_LOGS("system_logs"),
+    USERS("users");
+
+    private final String table;
+
+    Source(String table) {
+      this.table = table;
+    }
+  }
+
+  /**
+   * Count the rows matching the query per bucket of its range
+   */
+  public TimeSeries count(Query query) {
+    TimeSeries.Range range = TimeSeries.Range.of(query.startDate, query.endDate,
+        query.granularity, query.zone);
+    if (range.size() == 0) {
+      return TimeSeries.of(range, Map.of());
+    }
+
+    String metric = query.distinctColumn != null
+        ? "COUNT(DISTINCT " + query.distinctColumn + ")"
+        : "COUNT(*)";
+    StringBuilder sql = new StringBuilder("SELECT date_trunc(?::text, ")
+        .append(query.timeColumn).append(" AT TIME ZONE ?)::date AS bucket, ")
+        .append(metric)
+        .append(" FROM ").append(query.source.table)
+        .append(" WHERE ").append(query.timeColumn).append(" >= ?");
+    List<Object> params = new ArrayList<>();
+    params.add(query.granularity.getUnit());
+    params.add(query.zone.getId());
+    params.add(Timestamp.from(query.startDate != null
+        ? query.startDate
+        : range.start(query.zone)));
+    if (query.endDate != null) {
+      sql.append(" AND ").append(query.timeColumn).append(" <= ?");
+      params.add(Timestamp.from(query.endDate));
+    } else {
+      sql.append(" AND ").append(query.timeColumn).append(" < ?");
+      params.add(Timestamp.from(range.end(query.zone)));
+    }
+    for (String condition : query.conditions) {
+      sql.append(" AND (").append(condition).append(")");
+    }
+    params.addAll(query.params);
+    sql.append(" GROUP BY bucket");
+
+    Map<LocalDate, Long> counts = new HashMap<>();
+    Timer.builder("statistics.timeseries.query")
+        .description("Duration of statistics time series queries")
+        .tag("source", query.source.name())
+        .register(meterRegistry)
+        .record(() -> jdbcTemplate.query(sql.toString(),
+            rs -> {
+              counts.put(rs.getObject(1, LocalDate.class), rs.getLong(2));
+            },
+            params.toArray()));
+    return TimeSeries.of(range, counts);
+  }
+
+  /**
+   * Time series query: source table, timestamp column, metric, filters, range, granularity and
+   * time zone. Column names and conditions are SQL written by the caller, never request input;
+   * values are always bound as parameters.
+   */
+  public static class Query {
+
+    private final Source source;
+    private String timeColumn = "created_at";
+    private String distinctColumn;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> params = new ArrayList<>();
+    private Instant startDate;
+    private Instant endDate;
+    private TimeGranularity granularity = TimeGranularity.DAY;
+    private ZoneId zone = TimeSeries.ZONE;
+
+    private Query(Source source) {
+      this.source = source;
+    }
+
+    /**
+     * Daily count of rows by created_at in the system time zone; see granularity and zone
+     */
+    public static Query of(Source source) {
+      return new Query(source);
+    }
+
+    /**
+     * Bucket rows by another timestamp column
+     */
+    public Query on(String timeColumn) {
+      this.timeColumn = timeColumn;
+      return this;
+    }
+
+    /**
+     * Count distinct non-null values of the column instead of rows
+     */
+    public Query countDistinct(String column) {
+      this.distinctColumn = column;
+      return this;
+    }
+
+    /**
+     * Add a condition; its ? placeholders are bound to the given values
+     */
+    public Query where(String condition, Object... values) {
+      conditions.add(condition);
+      for (Object value : values) {
+        params.add(value instanceof Instant instant ? Timestamp.from(instant) : value);
+      }
+      return this;
+    }
+
+    /**
+     * Bound another timestamp column; null bounds are left out
+     */
+    public Query between(String column, Instant from, Instant to) {
+      if (from != null) {
+        where(column + " >= ?", from);
+      }
+      if (to != null) {
+        where(column + " <= ?", to);
+      }
+      return this;
+    }
+
+    /**
+     * Rows between startDate and endDate (inclusive), bucketed from the bucket of startDate
+     * (default 6 months ago) to the bucket of endDate (default today)
+     */
+    public Query range(Instant startDate, Instant endDate) {
+      this.startDate = startDate;
+      this.endDate = endDate;
+      return this;
+    }
+
+    /**
+     * Bucket size, default DAY
+     */
+    public Query granularity(TimeGranularity granularity) {
+      this.granularity = granularity;
+      return this;
+    }
+
+    /**
+     * Time zone the buckets are taken in, default the system time zone
+     */
+    public Query zone(ZoneId zone) {
+      this.zone = zone;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.util.SpooledMultipartFile;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Spools uploaded documents to a temp directory so the upload pipeline reads them from disk.
+ * Each upload is copied once (with its SHA-256 computed on the way) and all later stages open
+ * their own stream on the spooled file. Files left behind by a crash are removed on startup.
+ */
+@Slf4j
+@Component
+public class UploadSpooler {
+
+  private static final Duration STALE_AFTER = Duration.ofHours(6);
+
+  @Value("${app.document.upload.spool-dir:}")
+  private String configuredSpoolDir;
+
+  private Path spoolDir;
+
+  @PostConstruct
+  public void init() throws IOException {
+    spoolDir = configuredSpoolDir == null || configuredSpoolDir.isBlank()
+        ? Path.of(System.getProperty("java.io.tmpdir"), "upload-spool")
+        : Path.of(configuredSpoolDir);
+    Files.createDirectories(spoolDir);
+    purgeStaleFiles();
+    log.info("Upload spool directory: {}", spoolDir.toAbsolutePath());
+  }
+
+  /**
+   * Spool an uploaded file to disk. The caller owns the result and must close it.
+   */
+  public SpooledMultipartFile spool(MultipartFile file) throws IOException {
+    return SpooledMultipartFile.spool(file.getInputStream(), newSpoolPath(), file.getName(),
+        file.getOriginalFilename(), file.getContentType());
+  }
+
+  /**
+   * Adopt a file produced inside the spool directory (e.g. a converted PDF)
+   */
+  public SpooledMultipartFile adopt(Path file, String originalFilename, String contentType)
+      throws IOException {
+    return SpooledMultipartFile.adopt(file, "file", originalFilename, contentType);
+  }
+
+  /**
+   * Reserve a unique path inside the spool directory (the file is not created)
+   */
+  public Path newSpoolPath() {
+    return spoolDir.resolve(UUID.randomUUID() + ".upload");
+  }
+
+  private void purgeStaleFiles() {
+    Instant threshold = Instant.now().minus(STALE_AFTER);
+    try (Stream<Path> files = Files.list(spoolDir)) {
+      files.filter(Files::isRegularFile).forEach(path -> {
+        try {
+          if (Files.getLastModifiedTime(path).toInstant().isBefore(threshold)) {
+            Files.deleteIfExists(path);
+          }
+        } catch (IOException e) {
+          log.warn("Failed to delete stale spool file: {}", path);
+        }
+      });
+    } catch (IOException e) {
+      log.warn("Failed to purge upload spool directory: {}", e.getMessage());
+    }
+  }
+}
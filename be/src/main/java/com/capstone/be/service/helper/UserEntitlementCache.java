@@ -0,0 +1,89 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.config.CacheConfig;
+import com.capstone.be.domain.entity.User;
+import com.capstone.be.domain.enums.OrgEnrollStatus;
+import com.capstone.be.exception.ResourceNotFoundException;
+import com.capstone.be.repository.DocumentRedemptionRepository;
+import com.capstone.be.repository.OrgEnrollmentRepository;
+import com.capstone.be.repository.ReviewRequestRepository;
+import com.capstone.be.repository.UserRepository;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-user cache of {@link UserEntitlements}.
+ * A snapshot costs four small ID queries (role, joined organizations, redemptions, accepted
+ * reviews) and then serves every access check for that user from memory.
+ * Entries are evicted by {@link UserEntitlementsChangedEvent} after the publishing transaction
+ * commits. The cache is bounded in size, and entries expire after a fixed age as a safety net
+ * for writes that bypass the services (seeders, manual SQL); see {@link CacheConfig}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEntitlementCache {
+
+  private final UserRepository userRepository;
+  private final OrgEnrollmentRepository orgEnrollmentRepository;
+  private final DocumentRedemptionRepository documentRedemptionRepository;
+  private final ReviewRequestRepository reviewRequestRepository;
+  private final CacheManager cacheManager;
+
+  /**
+   * Get the entitlement snapshot of a user, loading it on cache miss
+   *
+   * @throws ResourceNotFoundException if the user does not exist; the caller's transaction is
+   *                                   not marked rollback-only, so callers may catch it
+   */
+  @Transactional(readOnly = true, noRollbackFor = ResourceNotFoundException.class)
+  @Cacheable(cacheNames = CacheConfig.USER_ENTITLEMENTS_CACHE, key = "#userId")
+  public UserEntitlements get(UUID userId) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> ResourceNotFoundException.userById(userId));
+
+    Set<UUID> joinedOrganizationIds = orgEnrollmentRepository
+        .findOrganizationIdsByMemberIdAndStatus(userId, OrgEnrollStatus.JOINED);
+    Set<UUID> redeemedDocumentIds = documentRedemptionRepository
+        .findDocumentIdsByReaderUserId(userId);
+    Set<UUID> acceptedReviewDocumentIds = reviewRequestRepository
+        .findAcceptedDocumentIdsByReviewerId(userId);
+
+    log.debug("Loaded entitlements for user {}: {} orgs, {} redemptions, {} accepted reviews",
+        userId, joinedOrganizationIds.size(), redeemedDocumentIds.size(),
+        acceptedReviewDocumentIds.size());
+
+    return new UserEntitlements(
+        userId,
+        user.getRole(),
+        Set.copyOf(joinedOrganizationIds),
+        Set.copyOf(redeemedDocumentIds),
+        Set.copyOf(acceptedReviewDocumentIds)
+    );
+  }
+
+  /**
+   * Evict a user's snapshot once the change that invalidated it is committed.
+   * Falls back to immediate eviction when published outside a transaction.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEntitlementsChanged(UserEntitlementsChangedEvent event) {
+    if (event.userId() == null) {
+      return;
+    }
+    Cache cache = cacheManager.getCache(CacheConfig.USER_ENTITLEMENTS_CACHE);
+    if (cache != null) {
+      cache.evict(event.userId());
+      log.debug("Evicted entitlements for user {}", event.userId());
+    }
+  }
+}
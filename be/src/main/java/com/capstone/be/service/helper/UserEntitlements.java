@@ -0,0 +1,40 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.UserRole;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of everything document access checks need to know about a user.
+ * Built once by {@link UserEntitlementCache} so per-document checks are in-memory lookups.
+ *
+ * @param userId                    User ID
+ * @param role                      User role
+ * @param joinedOrganizationIds     organizations the user is a JOINED member of
+ * @param redeemedDocumentIds       documents the user has redeemed through their reader profile
+ * @param acceptedReviewDocumentIds documents the user has an ACCEPTED review request for
+ */
+public record UserEntitlements(
+    UUID userId,
+    UserRole role,
+    Set<UUID> joinedOrganizationIds,
+    Set<UUID> redeemedDocumentIds,
+    Set<UUID> acceptedReviewDocumentIds
+) {
+
+  public boolean isBusinessAdmin() {
+    return role == UserRole.BUSINESS_ADMIN;
+  }
+
+  public boolean isMemberOf(UUID organizationId) {
+    return organizationId != null && joinedOrganizationIds.contains(organizationId);
+  }
+
+  public boolean hasRedeemed(UUID documentId) {
+    return redeemedDocumentIds.contains(documentId);
+  }
+
+  public boolean isAcceptedReviewer(UUID documentId) {
+    return acceptedReviewDocumentIds.contains(documentId);
+  }
+}
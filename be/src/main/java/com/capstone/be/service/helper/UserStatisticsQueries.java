@@ -0,0 +1,164 @@
+package com.capstone.be.service.helper;
+
+import com.capstone.be.domain.enums.UserRole;
+import com.capstone.be.domain.enums.UserStatus;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grouped user counts for the statistics services.
+ * Users are counted in the database by role, status and registration day (system time zone),
+ * so memory use depends on the number of days in range rather than on the number of users.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatisticsQueries {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Users registered between startDate and endDate, grouped by role, status and day
+   *
+   * @param excludedRoles Roles left out of the counts
+   * @param startDate Lower bound of created_at (inclusive), null for none
+   * @param endDate Upper bound of created_at (inclusive), null for none
+   */
+  public UserCounts countByRoleStatusAndDay(Collection<UserRole> excludedRoles,
+      Instant startDate, Instant endDate) {
+    StringBuilder sql = new StringBuilder("""
+        SELECT role, status, date_trunc('day', created_at AT TIME ZONE ?)::date AS created_day,
+               COUNT(*)
+        FROM users WHERE 1 = 1
+        """);
+    List<Object> params = new ArrayList<>();
+    params.add(ZoneId.systemDefault().getId());
+    if (!excludedRoles.isEmpty()) {
+      sql.append(" AND role NOT IN (")
+          .append(excludedRoles.stream().map(role -> "?").collect(Collectors.joining(", ")))
+          .append(")");
+      excludedRoles.forEach(role -> params.add(role.name()));
+    }
+    if (startDate != null) {
+      sql.append(" AND created_at >= ?");
+      params.add(Timestamp.from(startDate));
+    }
+    if (endDate != null) {
+      sql.append(" AND created_at <= ?");
+      params.add(Timestamp.from(endDate));
+    }
+    sql.append(" GROUP BY role, status, created_day");
+
+    List<Bucket> buckets = jdbcTemplate.query(sql.toString(),
+        (rs, rowNum) -> new Bucket(
+            UserRole.valueOf(rs.getString(1)),
+            UserStatus.valueOf(rs.getString(2)),
+            rs.getObject(3, LocalDate.class),
+            rs.getLong(4)),
+        params.toArray());
+    return new UserCounts(buckets, TimeSeries.Range.of(startDate, endDate));
+  }
+
+  /**
+   * Number of users per role, over all users
+   */
+  public Map<UserRole, Long> countByRole() {
+    Map<UserRole, Long> counts = new EnumMap<>(UserRole.class);
+    jdbcTemplate.query("SELECT role, COUNT(*) FROM users GROUP BY role",
+        rs -> {
+          counts.put(UserRole.valueOf(rs.getString(1)), rs.getLong(2));
+        });
+    return counts;
+  }
+
+  public record Bucket(UserRole role, UserStatus status, LocalDate day, long count) {
+
+  }
+
+  /**
+   * User counts grouped by role, status and day, with the aggregations the statistics need
+   */
+  public static class UserCounts {
+
+    private final List<Bucket> buckets;
+    private final TimeSeries.Range range;
+
+    private UserCounts(List<Bucket> buckets, TimeSeries.Range range) {
+      this.buckets = buckets;
+      this.range = range;
+    }
+
+    public long total() {
+      return count(bucket -> true);
+    }
+
+    public long countByStatus(Set<UserStatus> statuses) {
+      return count(bucket -> statuses.contains(bucket.status()));
+    }
+
+    public long countByRole(UserRole role) {
+      return count(bucket -> bucket.role() == role);
+    }
+
+    public long countByRoleAndStatus(UserRole role, Set<UserStatus> statuses) {
+      return count(bucket -> bucket.role() == role && statuses.contains(bucket.status()));
+    }
+
+    /**
+     * Users registered on or after the given day
+     */
+    public long countSince(LocalDate day) {
+      return count(bucket -> !bucket.day().isBefore(day));
+    }
+
+    /**
+     * Users registered from the first day up to and including the last day
+     */
+    public long countBetween(LocalDate firstDay, LocalDate lastDay) {
+      return count(bucket -> !bucket.day().isBefore(firstDay) && !bucket.day().isAfter(lastDay));
+    }
+
+    /**
+     * Roles present in the counts, in first-seen order
+     */
+    public List<UserRole> roles() {
+      return buckets.stream().map(Bucket::role).distinct().toList();
+    }
+
+    public Map<UserStatus, Long> statusCounts() {
+      Map<UserStatus, Long> counts = new LinkedHashMap<>();
+      buckets.forEach(bucket -> counts.merge(bucket.status(), bucket.count(), Long::sum));
+      return counts;
+    }
+
+    /**
+     * Daily registrations of the users matching the filter, over the requested days
+     * (default: the last 6 months)
+     */
+    public TimeSeries series(Predicate<Bucket> filter) {
+      Map<LocalDate, Long> counts = new HashMap<>();
+      buckets.stream()
+          .filter(filter)
+          .forEach(bucket -> counts.merge(bucket.day(), bucket.count(), Long::sum));
+      return TimeSeries.of(range, counts);
+    }
+
+    private long count(Predicate<Bucket> filter) {
+      return buckets.stream().filter(filter).mapToLong(Bucket::count).sum();
+    }
+  }
+}
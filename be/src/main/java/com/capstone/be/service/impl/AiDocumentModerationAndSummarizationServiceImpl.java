@@ -1,40 +1,29 @@
 package com.capstone.be.service.impl;
 
-import com.capstone.be.domain.entity.AiProcessingJob;
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.DocumentSummarization;
 import com.capstone.be.domain.entity.DocumentViolation;
 import com.capstone.be.domain.entity.ReaderProfile;
 import com.capstone.be.domain.entity.User;
-import com.capstone.be.domain.enums.AiJobStatus;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.dto.ai.AiModerationResponse;
-import com.capstone.be.exception.BusinessException;
 import com.capstone.be.exception.ResourceNotFoundException;
-import com.capstone.be.repository.AiProcessingJobRepository;
 import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.DocumentViolationRepository;
 import com.capstone.be.repository.ReaderProfileRepository;
 import com.capstone.be.service.AiDocumentModerationAndSummarizationService;
 import com.capstone.be.service.EmailService;
 import com.capstone.be.service.SystemConfigService;
-import com.capstone.be.dto.ai.JobSubmitResponse;
+import com.capstone.be.service.helper.AiProcessingQueue;
+import com.capstone.be.service.helper.DocumentContentIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -53,18 +42,9 @@ public class AiDocumentModerationAndSummarizationServiceImpl implements
   private final DocumentViolationRepository documentViolationRepository;
   private final ReaderProfileRepository readerProfileRepository;
   private final EmailService emailService;
-  private final RestTemplate restTemplate;
   private final SystemConfigService systemConfigService;
-  private final AiProcessingJobRepository aiProcessingJobRepository;
-
-  @Value("${app.ai.moderationService.url}")
-  private String aiServiceUrl;
-
-  @Value("${app.ai.moderationService.apiKey:}")
-  private String aiApiKey;
-
-  @Value("${app.backend.baseUrl:http://localhost:8080}")
-  private String backendBaseUrl;
+  private final DocumentContentIndex documentContentIndex;
+  private final AiProcessingQueue aiProcessingQueue;
 
   @Value("${app.document.points.ai-approval:20}")
   private int aiApprovalPointsFallback;
@@ -76,145 +56,22 @@ public class AiDocumentModerationAndSummarizationServiceImpl implements
     return systemConfigService.getIntValue("document.points.aiApproval", aiApprovalPointsFallback);
   }
 
+  /**
+   * Queue the document for AI processing; submission, retries and resubmission of jobs without
+   * a webhook are handled by {@link AiProcessingQueue}. The result arrives via webhook.
+   */
   @Override
-  @Async
   @Transactional
   public CompletableFuture<AiModerationResponse> processDocumentAsync(UUID documentId,
       MultipartFile file) {
-    String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown";
-    long fileSizeBytes = file.getSize();
-    double fileSizeMB = fileSizeBytes / (1024.0 * 1024.0);
-    String threadName = Thread.currentThread().getName();
-    
-    log.info("========================================");
-    log.info("🚀 Starting async AI processing");
-    log.info("   Document ID: {}", documentId);
-    log.info("   File name: {}", filename);
-    log.info("   File size: {:.2f} MB ({} bytes)", fileSizeMB, fileSizeBytes);
-    log.info("   Thread: {}", threadName);
-    log.info("========================================");
+    log.info("Queueing AI processing for document ID: {} ({} bytes)", documentId,
+        file != null ? file.getSize() : 0);
 
-    try {
-      // Submit job to AI service with webhook callback
-      JobSubmitResponse jobResponse = submitJobToAiService(documentId, file);
-
-      // Save job to database
-      saveJobToDatabase(documentId, jobResponse.getJobId(), file.getOriginalFilename());
+    // The queue owns the spool file from here on
+    aiProcessingQueue.enqueue(documentId, file);
 
-      log.info("Job {} submitted for document ID: {}. Waiting for webhook callback.", 
-          jobResponse.getJobId(), documentId);
-      
-      // Return null for now - actual result will come via webhook
-      // The CompletableFuture will be completed when webhook is received
-      return new CompletableFuture<>(); // Will be completed by webhook handler
-
-    } catch (Exception e) {
-      log.error("Error submitting job to AI service for document ID: {}", documentId, e);
-      handleAiProcessingError(documentId, e);
-      return CompletableFuture.failedFuture(e);
-    }
-  }
-
-  /**
-   * Submit job to AI service with webhook callback
-   */
-  private JobSubmitResponse submitJobToAiService(UUID documentId, MultipartFile file) 
-      throws IOException {
-    String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown";
-    long fileSizeBytes = file.getSize();
-    double fileSizeMB = fileSizeBytes / (1024.0 * 1024.0);
-    
-    log.info("========================================");
-    log.info("📤 Submitting job to AI service");
-    log.info("   Document ID: {}", documentId);
-    log.info("   File name: {}", filename);
-    log.info("   File size: {:.2f} MB ({} bytes)", fileSizeMB, fileSizeBytes);
-    log.info("   AI Service URL: {}/api/v1/process-document", aiServiceUrl);
-    log.info("========================================");
-
-    // Build webhook callback URL
-    String callbackUrl = backendBaseUrl + "/api/v1/ai/webhook";
-
-    // Prepare multipart request
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-    headers.set("X-API-Key", aiApiKey);
-    headers.setAccept(java.util.List.of(MediaType.APPLICATION_JSON));
-
-    // Create multipart body
-    MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-    ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-      @Override
-      public String getFilename() {
-        return file.getOriginalFilename();
-      }
-    };
-    body.add("file", fileResource);
-
-    // Build URL with callback_url as query parameter using UriComponentsBuilder
-    String url = UriComponentsBuilder.fromHttpUrl(aiServiceUrl)
-        .path("/api/v1/process-document")
-        .queryParam("callback_url", callbackUrl)
-        .toUriString();
-
-    HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-    // Call AI service
-    ResponseEntity<JobSubmitResponse> responseEntity = restTemplate.exchange(
-        url,
-        HttpMethod.POST,
-        requestEntity,
-        JobSubmitResponse.class
-    );
-
-    if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
-      throw new BusinessException("AI moderation service returned unsuccessful response",
-          HttpStatus.INTERNAL_SERVER_ERROR, "AI_SERVICE_ERROR");
-    }
-
-    JobSubmitResponse jobResponse = responseEntity.getBody();
-    if (jobResponse.getJobId() == null || jobResponse.getJobId().isEmpty()) {
-      log.error("AI service returned job response without job_id. Response: {}", jobResponse);
-      throw new BusinessException("AI service returned invalid response: missing job_id",
-          HttpStatus.INTERNAL_SERVER_ERROR, "AI_SERVICE_ERROR");
-    }
-
-    log.info("========================================");
-    log.info("✓ Job submitted successfully to AI service");
-    log.info("   Job ID: {}", jobResponse.getJobId());
-    log.info("   Status: {}", jobResponse.getStatus());
-    log.info("   Message: {}", jobResponse.getMessage());
-    log.info("========================================");
-    return jobResponse;
-  }
-
-  /**
-   * Save job to database
-   */
-  private void saveJobToDatabase(UUID documentId, String jobId, String filename) {
-    try {
-      if (jobId == null || jobId.isEmpty()) {
-        log.error("Cannot save job to database: jobId is null or empty for document {}", documentId);
-        return;
-      }
-
-      Document document = documentRepository.findById(documentId)
-          .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
-
-      AiProcessingJob job = AiProcessingJob.builder()
-          .document(document)
-          .jobId(jobId)
-          .status(AiJobStatus.PENDING)
-          .filename(filename)
-          .callbackUrl(backendBaseUrl + "/api/v1/ai/webhook")
-          .build();
-
-      aiProcessingJobRepository.save(job);
-      log.info("Saved AI processing job {} for document {}", jobId, documentId);
-    } catch (Exception e) {
-      log.error("Failed to save AI processing job to database: {}", e.getMessage(), e);
-      // Don't throw - job was submitted successfully, just DB save failed
-    }
+    // Will be completed by webhook handler
+    return new CompletableFuture<>();
   }
 
   /**
@@ -309,6 +166,9 @@ public class AiDocumentModerationAndSummarizationServiceImpl implements
 
     documentRepository.save(document);
     log.info("Updated document ID: {} with status: {}", documentId, document.getStatus());
+
+    // Identical uploads reuse this result instead of being processed again
+    documentContentIndex.recordAiResult(document, response);
   }
 
   /**
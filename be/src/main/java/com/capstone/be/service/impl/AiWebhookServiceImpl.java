@@ -0,0 +1,316 @@
+package com.capstone.be.service.impl;
+
+import com.capstone.be.domain.entity.AiProcessingJob;
+import com.capstone.be.domain.entity.AiWebhookEvent;
+import com.capstone.be.domain.enums.AiJobStatus;
+import com.capstone.be.domain.enums.AiWebhookEventStatus;
+import com.capstone.be.dto.ai.WebhookPayload;
+import com.capstone.be.repository.AiProcessingJobRepository;
+import com.capstone.be.repository.AiWebhookEventRepository;
+import com.capstone.be.service.AiDocumentModerationAndSummarizationService;
+import com.capstone.be.service.AiWebhookService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Webhook ingestion: callbacks are stored in ai_webhook_events and acknowledged, then applied
+ * on the bounded aiWebhookExecutor, each in its own transaction.
+ * Redelivered callbacks hit the unique (job_id, job_status) key and are ignored. Failed events
+ * are retried with backoff; a callback can arrive before its job's submission is recorded, so
+ * an unknown job ID is retried too. Events the pool could not take, and events of a crashed
+ * worker, are picked up by the sweeper.
+ */
+@Slf4j
+@Service
+public class AiWebhookServiceImpl implements AiWebhookService {
+
+  private final AiWebhookEventRepository aiWebhookEventRepository;
+  private final AiProcessingJobRepository aiProcessingJobRepository;
+  private final AiDocumentModerationAndSummarizationService aiService;
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor webhookExecutor;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Counter acceptedCallbacks;
+  private final Counter duplicateCallbacks;
+  private final Timer processedTimer;
+  private final Timer retriedTimer;
+  private final Timer failedTimer;
+  private final Timer ingestionLag;
+
+  @Value("${app.ai.webhook.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${app.ai.webhook.backoff-initial-ms:5000}")
+  private long backoffInitialMs;
+
+  @Value("${app.ai.webhook.lease-seconds:120}")
+  private long leaseSeconds;
+
+  @Value("${app.ai.webhook.sweep-ms:10000}")
+  private long sweepMs;
+
+  @Value("${app.ai.webhook.retention-days:30}")
+  private int retentionDays;
+
+  public AiWebhookServiceImpl(AiWebhookEventRepository aiWebhookEventRepository,
+      AiProcessingJobRepository aiProcessingJobRepository,
+      AiDocumentModerationAndSummarizationService aiService,
+      ObjectMapper objectMapper,
+      @Qualifier("aiWebhookExecutor") ThreadPoolTaskExecutor webhookExecutor,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.aiWebhookEventRepository = aiWebhookEventRepository;
+    this.aiProcessingJobRepository = aiProcessingJobRepository;
+    this.aiService = aiService;
+    this.objectMapper = objectMapper;
+    this.webhookExecutor = webhookExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+    this.acceptedCallbacks = Counter.builder("ai.webhook.received")
+        .description("AI webhook callbacks received")
+        .tag("outcome", "accepted")
+        .register(meterRegistry);
+    this.duplicateCallbacks = Counter.builder("ai.webhook.received")
+        .description("AI webhook callbacks received")
+        .tag("outcome", "duplicate")
+        .register(meterRegistry);
+    this.processedTimer = processingTimer(meterRegistry, "processed");
+    this.retriedTimer = processingTimer(meterRegistry, "retry");
+    this.failedTimer = processingTimer(meterRegistry, "failed");
+    this.ingestionLag = Timer.builder("ai.webhook.lag")
+        .description("Time from receiving an AI webhook callback until it is applied")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    Gauge.builder("ai.webhook.backlog", webhookExecutor,
+            executor -> executor.getThreadPoolExecutor().getQueue().size())
+        .description("AI webhook callbacks waiting for a worker")
+        .register(meterRegistry);
+  }
+
+  private static Timer processingTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("ai.webhook.processing")
+        .description("Duration of applying an AI webhook callback")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean receive(WebhookPayload payload) {
+    String jobStatus = payload.getStatus().trim().toLowerCase(Locale.ROOT);
+    if (aiWebhookEventRepository.existsByJobIdAndJobStatus(payload.getJobId(), jobStatus)) {
+      duplicateCallbacks.increment();
+      log.info("Ignoring duplicate webhook for job {} with status {}", payload.getJobId(),
+          jobStatus);
+      return false;
+    }
+
+    AiWebhookEvent event;
+    try {
+      String json = objectMapper.writeValueAsString(payload);
+      event = transactionTemplate.execute(status -> aiWebhookEventRepository.saveAndFlush(
+          AiWebhookEvent.builder()
+              .jobId(payload.getJobId())
+              .jobStatus(jobStatus)
+              .payload(json)
+              .build()));
+    } catch (DataIntegrityViolationException e) {
+      // Concurrent redelivery won the insert
+      duplicateCallbacks.increment();
+      log.info("Ignoring duplicate webhook for job {} with status {}", payload.getJobId(),
+          jobStatus);
+      return false;
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Webhook payload cannot be serialized", e);
+    }
+
+    acceptedCallbacks.increment();
+    dispatch(event.getId());
+    return true;
+  }
+
+  /**
+   * Hand due events the pool did not take, or that are waiting for a retry, to workers
+   */
+  @Scheduled(fixedDelayString = "${app.ai.webhook.sweep-ms:10000}")
+  public void sweep() {
+    try {
+      Instant now = Instant.now();
+      Integer released = transactionTemplate.execute(
+          status -> aiWebhookEventRepository.releaseExpiredLeases(now));
+      if (released != null && released > 0) {
+        log.warn("Returned {} AI webhook events with expired leases to the queue", released);
+      }
+
+      int capacity = webhookExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+      if (capacity == 0) {
+        return;
+      }
+      List<UUID> due = aiWebhookEventRepository.findDueIds(now, now.minusMillis(sweepMs),
+          PageRequest.of(0, capacity));
+      due.forEach(this::dispatch);
+    } catch (Exception e) {
+      log.error("AI webhook sweep failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Delete processed events older than the retention period
+   * Runs daily at 3:30 AM
+   */
+  @Scheduled(cron = "${app.ai.webhook.retention-cron:0 30 3 * * ?}")
+  public void deleteOldEvents() {
+    try {
+      Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+      Integer deleted = transactionTemplate.execute(
+          status -> aiWebhookEventRepository.deleteProcessedBefore(cutoff));
+      log.info("Deleted {} processed AI webhook events older than {} days", deleted,
+          retentionDays);
+    } catch (Exception e) {
+      log.error("Failed to delete old AI webhook events: {}", e.getMessage(), e);
+    }
+  }
+
+  private void dispatch(UUID eventId) {
+    try {
+      webhookExecutor.execute(() -> process(eventId));
+    } catch (TaskRejectedException e) {
+      // Stored already, the sweeper processes it once workers are free
+      log.warn("AI webhook workers are busy, event {} is processed by the sweeper", eventId);
+    }
+  }
+
+  private void process(UUID eventId) {
+    Instant now = Instant.now();
+    Integer claimed = transactionTemplate.execute(status -> aiWebhookEventRepository.claim(
+        eventId, now.plusSeconds(leaseSeconds), now));
+    if (claimed == null || claimed == 0) {
+      return; // processed or claimed by another worker
+    }
+
+    Timer.Sample sample = Timer.start();
+    try {
+      Instant receivedAt = transactionTemplate.execute(status -> apply(eventId));
+      sample.stop(processedTimer);
+      if (receivedAt != null) {
+        ingestionLag.record(Duration.between(receivedAt, Instant.now()));
+      }
+    } catch (Exception e) {
+      Boolean retrying = transactionTemplate.execute(status -> retryOrFail(eventId, e));
+      sample.stop(Boolean.TRUE.equals(retrying) ? retriedTimer : failedTimer);
+    }
+  }
+
+  /**
+   * Apply a callback to its job and document
+   *
+   * @return the time the callback was received
+   */
+  private Instant apply(UUID eventId) {
+    AiWebhookEvent event = aiWebhookEventRepository.findById(eventId).orElse(null);
+    if (event == null || event.getStatus() != AiWebhookEventStatus.PROCESSING) {
+      return null;
+    }
+    WebhookPayload payload = readPayload(event);
+
+    AiProcessingJob job = aiProcessingJobRepository.findByJobId(event.getJobId())
+        .orElseThrow(() -> new IllegalStateException("Job not found: " + event.getJobId()));
+
+    if (job.getStatus() == AiJobStatus.COMPLETED || job.getStatus() == AiJobStatus.FAILED) {
+      log.info("Job {} already {}, ignoring {} webhook", job.getJobId(), job.getStatus(),
+          event.getJobStatus());
+    } else if ("completed".equals(event.getJobStatus())) {
+      job.setStatus(AiJobStatus.COMPLETED);
+      if (payload.getResult() != null && payload.getResult().getTimings() != null
+          && payload.getResult().getTimings().getTotalMs() != null) {
+        job.setProcessingTimeSeconds(payload.getResult().getTimings().getTotalMs() / 1000.0);
+      }
+      job.setCompletedAt(System.currentTimeMillis() / 1000);
+      log.info("Job {} completed successfully", job.getJobId());
+
+      // Update document based on AI response
+      aiService.updateDocumentAfterAiProcessing(job.getDocument().getId(), payload.getResult());
+
+    } else if ("failed".equals(event.getJobStatus())) {
+      job.setStatus(AiJobStatus.FAILED);
+      job.setErrorMessage(payload.getError());
+      job.setCompletedAt(System.currentTimeMillis() / 1000);
+      log.error("Job {} failed: {}", job.getJobId(), payload.getError());
+
+      aiService.handleAiProcessingError(job.getDocument().getId(),
+          new RuntimeException(payload.getError()));
+
+    } else if (job.getStatus() == AiJobStatus.PENDING) {
+      job.setStatus(AiJobStatus.PROCESSING);
+      log.info("Job {} reported status {}", job.getJobId(), event.getJobStatus());
+    }
+    aiProcessingJobRepository.save(job);
+
+    event.setStatus(AiWebhookEventStatus.PROCESSED);
+    event.setProcessedAt(Instant.now());
+    event.setLeaseUntil(null);
+    event.setErrorMessage(null);
+    aiWebhookEventRepository.save(event);
+    return event.getCreatedAt();
+  }
+
+  /**
+   * Schedule another attempt of a failed event, or give up after max-attempts
+   *
+   * @return true if the event is retried
+   */
+  private boolean retryOrFail(UUID eventId, Exception error) {
+    AiWebhookEvent event = aiWebhookEventRepository.findById(eventId).orElse(null);
+    if (event == null) {
+      return false;
+    }
+    String message = error.getMessage() != null ? error.getMessage()
+        : error.getClass().getSimpleName();
+    event.setErrorMessage(message);
+    event.setLeaseUntil(null);
+
+    boolean retrying = event.getAttempts() < maxAttempts;
+    if (retrying) {
+      long delayMs = backoffInitialMs * (1L << Math.min(event.getAttempts() - 1, 10));
+      event.setStatus(AiWebhookEventStatus.RECEIVED);
+      event.setNextAttemptAt(Instant.now().plusMillis(delayMs));
+      log.warn("Processing webhook for job {} failed (attempt {}/{}), retrying in {} ms: {}",
+          event.getJobId(), event.getAttempts(), maxAttempts, delayMs, message);
+    } else {
+      event.setStatus(AiWebhookEventStatus.FAILED);
+      log.error("Giving up webhook for job {} with status {} after {} attempts: {}",
+          event.getJobId(), event.getJobStatus(), event.getAttempts(), message, error);
+    }
+    aiWebhookEventRepository.save(event);
+    return retrying;
+  }
+
+  private WebhookPayload readPayload(AiWebhookEvent event) {
+    try {
+      return objectMapper.readValue(event.getPayload(), WebhookPayload.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Stored webhook payload is not readable", e);
+    }
+  }
+}
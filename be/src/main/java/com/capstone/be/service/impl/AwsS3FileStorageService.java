@@ -1,34 +1,53 @@
 package com.capstone.be.service.impl;
 
 import com.capstone.be.exception.FileStorageException;
-import com.capstone.be.exception.InvalidRequestException;
 import com.capstone.be.service.FileStorageService;
+import com.capstone.be.service.helper.PresignedUrlCache;
+import com.capstone.be.service.helper.S3TransferClient;
+import com.capstone.be.util.FileUploadRules;
+import com.capstone.be.util.SpooledMultipartFile;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
 @RequiredArgsConstructor
 public class AwsS3FileStorageService implements FileStorageService {
 
   private final S3Client s3Client;
   private final S3Presigner s3Presigner;
+  private final S3TransferClient s3TransferClient;
+  private final PresignedUrlCache presignedUrlCache;
 
   @Value("${aws.s3.bucket}")
   private String bucketName;
@@ -36,54 +55,23 @@ public class AwsS3FileStorageService implements FileStorageService {
   @Value("${aws.region}")
   private String region;
 
-  // Max file size: 10MB
-  private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
-
-  // Allowed file types for credentials and review reports
-  private static final List<String> ALLOWED_CONTENT_TYPES = List.of(
-      "application/pdf",
-      "image/jpeg",
-      "image/png",
-      "image/jpg",
-      "image/gif",
-      "image/webp",
-      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
-      "application/vnd.openxmlformats-officedocument.wordprocessingml.document", // .docx
-      "application/msword" // .doc
-  );
+  // Reads non-spooled upload streams for the async client
+  private final ExecutorService streamReaders = Executors.newVirtualThreadPerTaskExecutor();
+
+  @PreDestroy
+  public void shutdown() {
+    streamReaders.close();
+  }
 
   @Override
   public String uploadFile(MultipartFile file, String folder, String customFilename) {
-    validateFile(file);
-
-    try {
-      String filename = customFilename != null
-          ? customFilename
-          : generateUniqueFilename(file.getOriginalFilename());
-
-      String key = folder + "/" + filename;
-
-      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-          .bucket(bucketName)
-          .key(key)
-          .contentType(file.getContentType())
-          .build();
-
-      s3Client.putObject(
-          putObjectRequest,
-          RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-      );
-
-      log.info("Successfully uploaded file to S3: {}", key);
-      return filename;
+    FileUploadRules.validate(file);
 
-    } catch (IOException e) {
-      log.error("Failed to upload file: {}", file.getOriginalFilename(), e);
-      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
-    } catch (Exception e) {
-      log.error("Unexpected error uploading file: {}", file.getOriginalFilename(), e);
-      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
-    }
+    String filename = customFilename != null
+        ? customFilename
+        : FileUploadRules.uniqueFilename(file.getOriginalFilename());
+    awaitUpload(file, startUpload(file, folder + "/" + filename));
+    return filename;
   }
 
   @Override
@@ -91,17 +79,12 @@ public class AwsS3FileStorageService implements FileStorageService {
     try {
       String finalFilename = (filename != null && !filename.isBlank())
           ? filename
-          : generateUniqueFilename("dump.png"); //for extension
+          : FileUploadRules.uniqueFilename("dump.png"); //for extension
 
       String key = folder + "/" + finalFilename;
 
-      PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-          .bucket(bucketName)
-          .key(key)
-          .contentType(contentType)
-          .build();
-
-      s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+      S3TransferClient.await(s3TransferClient.upload(key, contentType,
+          AsyncRequestBody.fromBytes(content), content.length, null));
 
       log.info("Successfully uploaded generated file to S3: {}", key);
       return finalFilename;
@@ -113,14 +96,73 @@ public class AwsS3FileStorageService implements FileStorageService {
 
   @Override
   public List<String> uploadFiles(List<MultipartFile> files, String folder) {
-    List<String> fileKeys = new ArrayList<>();
+    files.forEach(FileUploadRules::validate);
+
+    // Start all uploads first so they run concurrently, then wait for them together
+    List<String> filenames = new ArrayList<>();
+    List<CompletableFuture<Void>> uploads = new ArrayList<>();
+    try {
+      for (MultipartFile file : files) {
+        String filename = FileUploadRules.uniqueFilename(file.getOriginalFilename());
+        uploads.add(startUpload(file, folder + "/" + filename));
+        filenames.add(filename);
+      }
+      for (int i = 0; i < uploads.size(); i++) {
+        awaitUpload(files.get(i), uploads.get(i));
+      }
+      return filenames;
+    } catch (RuntimeException e) {
+      // Don't leave part of the batch behind
+      uploads.forEach(upload -> upload.cancel(true));
+      CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+          .exceptionally(error -> null)
+          .join();
+      deleteFiles(folder, filenames);
+      throw e;
+    }
+  }
+
+  /**
+   * Start uploading a file. Spooled files are streamed from disk (in parallel parts when large);
+   * other files are read from their stream on a virtual thread.
+   */
+  private CompletableFuture<Void> startUpload(MultipartFile file, String key) {
+    try {
+      if (file instanceof SpooledMultipartFile spooled) {
+        // S3 verifies the checksum computed while spooling
+        return s3TransferClient.upload(key, file.getContentType(),
+            AsyncRequestBody.fromFile(spooled.getPath()), spooled.getSize(),
+            spooled.getSha256Base64());
+      }
 
-    for (MultipartFile file : files) {
-      String fileUrl = uploadFile(file, folder, null);
-      fileKeys.add(fileUrl);
+      InputStream inputStream = file.getInputStream();
+      CompletableFuture<Void> upload = s3TransferClient.upload(key, file.getContentType(),
+          AsyncRequestBody.fromInputStream(inputStream, file.getSize(), streamReaders),
+          file.getSize(), null);
+      upload.whenComplete((result, error) -> closeQuietly(inputStream));
+      return upload;
+    } catch (IOException e) {
+      log.error("Failed to upload file: {}", file.getOriginalFilename(), e);
+      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
     }
+  }
 
-    return fileKeys;
+  private void awaitUpload(MultipartFile file, CompletableFuture<Void> upload) {
+    try {
+      S3TransferClient.await(upload);
+      log.info("Successfully uploaded file to S3: {}", file.getOriginalFilename());
+    } catch (Exception e) {
+      log.error("Unexpected error uploading file: {}", file.getOriginalFilename(), e);
+      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
+    }
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (IOException e) {
+      log.debug("Failed to close upload stream: {}", e.getMessage());
+    }
   }
 
   @Override
@@ -133,6 +175,7 @@ public class AwsS3FileStorageService implements FileStorageService {
           .build();
 
       s3Client.deleteObject(deleteObjectRequest);
+      presignedUrlCache.evict(key);
       log.info("Successfully deleted file from S3: {}", key);
 
     } catch (Exception e) {
@@ -143,48 +186,91 @@ public class AwsS3FileStorageService implements FileStorageService {
 
   @Override
   public void deleteFiles(String folder, List<String> filenames) {
-    for (String filename : filenames) {
-      try {
-        deleteFile(folder, filename);
-      } catch (Exception e) {
-        log.error("Failed to delete file, continuing with others: {}", filename, e);
-      }
+    if (filenames == null || filenames.isEmpty()) {
+      return;
     }
+    List<String> keys = filenames.stream().map(filename -> folder + "/" + filename).toList();
+    List<String> failed = s3TransferClient.deleteObjects(keys);
+    keys.forEach(presignedUrlCache::evict);
+    log.info("Deleted {} of {} files from S3 folder {}", keys.size() - failed.size(), keys.size(),
+        folder);
   }
 
-  private void validateFile(MultipartFile file) {
-    if (file == null || file.isEmpty()) {
-      throw new InvalidRequestException("File is required and cannot be empty");
-    }
-
-    // Check file size
-    if (file.getSize() > MAX_FILE_SIZE) {
-      throw InvalidRequestException.fileTooLarge(file.getSize(), MAX_FILE_SIZE);
+  @Override
+  public void deleteFolder(String folder) {
+    String prefix = folder + "/";
+    try {
+      ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+          .bucket(bucketName)
+          .prefix(prefix)
+          .build();
+      List<String> keys = s3Client.listObjectsV2Paginator(listRequest).contents().stream()
+          .map(S3Object::key)
+          .toList();
+      List<String> failed = s3TransferClient.deleteObjects(keys);
+      keys.forEach(presignedUrlCache::evict);
+      log.info("Deleted {} of {} files from S3 folder {}", keys.size() - failed.size(),
+          keys.size(), folder);
+    } catch (Exception e) {
+      log.error("Failed to delete folder: {}", prefix, e);
+      throw FileStorageException.deleteFailed(prefix, e);
     }
+  }
 
-    // Check file type
-    String contentType = file.getContentType();
-    if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
-      throw InvalidRequestException.invalidFileType(
-          contentType,
-          ALLOWED_CONTENT_TYPES.toArray(new String[0])
-      );
+  @Override
+  public Optional<byte[]> downloadFileIfExists(String folder, String filename) {
+    String key = folder + "/" + filename;
+    try {
+      GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .build();
+      return Optional.of(s3Client.getObjectAsBytes(getObjectRequest).asByteArray());
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (Exception e) {
+      log.error("Failed to download file with key: {}", key, e);
+      throw FileStorageException.downloadFailed(key, e);
     }
   }
 
-  private String generateUniqueFilename(String originalFilename) {
-    String extension = "";
-    if (originalFilename != null && originalFilename.contains(".")) {
-      extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+  @Override
+  public void downloadFile(String folder, String filename, Path target) {
+    String key = folder + "/" + filename;
+    try {
+      GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+          .bucket(bucketName)
+          .key(key)
+          .build();
+      s3Client.getObject(getObjectRequest, ResponseTransformer.toFile(target));
+    } catch (NoSuchKeyException e) {
+      throw FileStorageException.fileNotFound(key);
+    } catch (Exception e) {
+      log.error("Failed to download file with key: {}", key, e);
+      throw FileStorageException.downloadFailed(key, e);
     }
-    return UUID.randomUUID() + extension;
   }
 
   @Override
   public String generatePresignedUrl(String folder, String filename, int expirationMinutes) {
-    try {
-      String key = folder + "/" + filename;
+    String key = folder + "/" + filename;
+    return presignedUrlCache.get(key, expirationMinutes, () -> presign(key, expirationMinutes));
+  }
+
+  @Override
+  public Map<String, String> generatePresignedUrls(String folder, Collection<String> filenames,
+      int expirationMinutes) {
+    Map<String, String> urls = new LinkedHashMap<>();
+    for (String filename : filenames) {
+      if (filename != null && !filename.isBlank() && !urls.containsKey(filename)) {
+        urls.put(filename, generatePresignedUrl(folder, filename, expirationMinutes));
+      }
+    }
+    return urls;
+  }
 
+  private String presign(String key, int expirationMinutes) {
+    try {
       GetObjectRequest getObjectRequest = GetObjectRequest.builder()
           .bucket(bucketName)
           .key(key)
@@ -198,12 +284,12 @@ public class AwsS3FileStorageService implements FileStorageService {
       PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
 
       String url = presignedRequest.url().toString();
-      log.info("Generated presigned URL for key: {}, expires in {} minutes", key,
+      log.debug("Generated presigned URL for key: {}, expires in {} minutes", key,
           expirationMinutes);
 
       return url;
     } catch (Exception e) {
-      log.error("Failed to generate presigned URL for {}/{}", folder, filename, e);
+      log.error("Failed to generate presigned URL for {}", key, e);
       throw new FileStorageException("Failed to generate presigned URL", e);
     }
   }
@@ -3,6 +3,8 @@ package com.capstone.be.service.impl;
 import com.capstone.be.domain.entity.Comment;
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.User;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.common.PagedResponse;
 import com.capstone.be.dto.request.comment.CreateCommentRequest;
 import com.capstone.be.dto.request.comment.UpdateCommentRequest;
@@ -16,10 +18,15 @@ import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.UserRepository;
 import com.capstone.be.service.CommentService;
 import com.capstone.be.service.DocumentAccessService;
+import com.capstone.be.service.helper.DocumentActivityRollup;
+import com.capstone.be.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +43,7 @@ public class CommentServiceImpl implements CommentService {
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
+    private final DocumentActivityRollup documentActivityRollup;
 
     @Override
     @Transactional
@@ -51,7 +59,7 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> ResourceNotFoundException.user(userId));
 
         //Validate user's permission to leave a comment
-        if (!documentAccessService.hasAccess(user.getId(), document.getId())){
+        if (!documentAccessService.hasAccess(user.getId(), document)){
             throw UnauthorizedException.unauthorized();
         }
 
@@ -64,6 +72,8 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        documentRepository.incrementCommentCount(document.getId(), 1);
+        documentActivityRollup.record(document.getId(), DocumentActivityMetric.COMMENTS);
         log.info("Comment created successfully with id: {}", savedComment.getId());
 
         return commentMapper.toResponse(savedComment);
@@ -108,6 +118,9 @@ public class CommentServiceImpl implements CommentService {
         // Soft delete
         comment.setIsDeleted(true);
         commentRepository.save(comment);
+        documentRepository.incrementCommentCount(comment.getDocument().getId(), -1);
+        documentActivityRollup.record(comment.getDocument().getId(),
+                DocumentActivityMetric.COMMENTS, comment.getCreatedAt(), -1);
 
         log.info("Comment deleted successfully: {}", commentId);
     }
@@ -131,6 +144,31 @@ public class CommentServiceImpl implements CommentService {
         return PagedResponse.of(responsePage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<CommentResponse> getCommentsByDocumentCursor(UUID documentId, String cursor,
+                                                                            int size, boolean includeTotal) {
+        log.info("Fetching comments by cursor for document: {}", documentId);
+
+        // Validate document exists
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> ResourceNotFoundException.document(documentId));
+
+        Specification<Comment> spec = (root, query, cb) -> cb.and(
+                cb.equal(root.get("document").get("id"), documentId),
+                cb.isFalse(root.get("isDeleted")));
+
+        Window<Comment> window = CursorUtil.scroll(commentRepository, spec,
+                Sort.by(Sort.Direction.DESC, "createdAt"), cursor, size);
+
+        // The denormalized counter tracks non-deleted comments, so no count query is needed
+        Long total = includeTotal && document.getCommentCount() != null
+                ? Long.valueOf(document.getCommentCount())
+                : null;
+
+        return CursorUtil.toResponse(window, size, total, commentMapper::toResponse);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CommentResponse getCommentById(UUID commentId) {
@@ -2,20 +2,13 @@ package com.capstone.be.service.impl;
 
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.OrganizationProfile;
-import com.capstone.be.domain.entity.User;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
-import com.capstone.be.domain.enums.OrgEnrollStatus;
-import com.capstone.be.domain.enums.ReviewRequestStatus;
-import com.capstone.be.domain.enums.UserRole;
 import com.capstone.be.exception.ResourceNotFoundException;
-import com.capstone.be.repository.DocumentRedemptionRepository;
 import com.capstone.be.repository.DocumentRepository;
-import com.capstone.be.repository.OrgEnrollmentRepository;
-import com.capstone.be.repository.ReaderProfileRepository;
-import com.capstone.be.repository.ReviewRequestRepository;
-import com.capstone.be.repository.UserRepository;
 import com.capstone.be.service.DocumentAccessService;
+import com.capstone.be.service.helper.UserEntitlementCache;
+import com.capstone.be.service.helper.UserEntitlements;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,11 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DocumentAccessServiceImpl implements DocumentAccessService {
 
   private final DocumentRepository documentRepository;
-  private final UserRepository userRepository;
-  private final OrgEnrollmentRepository orgEnrollmentRepository;
-  private final DocumentRedemptionRepository documentRedemptionRepository;
-  private final ReviewRequestRepository reviewRequestRepository;
-  private final ReaderProfileRepository readerProfileRepository;
+  private final UserEntitlementCache userEntitlementCache;
 
   @Override
   @Transactional(readOnly = true)
@@ -41,19 +30,26 @@ public class DocumentAccessServiceImpl implements DocumentAccessService {
     Document document = documentRepository.findById(documentId)
         .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
-    // Fetch user
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> ResourceNotFoundException.userById(userId));
+    return hasAccess(userId, document);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public boolean hasAccess(UUID userId, Document document) {
+    UUID documentId = document.getId();
+
+    // Fetch user entitlements (role, joined orgs, redemptions, accepted reviews) from cache
+    UserEntitlements entitlements = userEntitlementCache.get(userId);
 
     // Check 0: Business Admin has access to ALL documents regardless of status
-    if (user.getRole() == UserRole.BUSINESS_ADMIN) {
+    if (entitlements.isBusinessAdmin()) {
       log.debug("Access granted: User {} is Business Admin with full access", userId);
       return true;
     }
 
     // Check for INACTIVE documents - restricted access
     if (document.getStatus() == DocStatus.INACTIVE) {
-      return hasAccessToInactiveDocument(document, user, userId, documentId);
+      return hasAccessToInactiveDocument(document, entitlements, userId, documentId);
     }
 
     // Check 1: Document is PUBLIC and not Premium
@@ -70,34 +66,22 @@ public class DocumentAccessServiceImpl implements DocumentAccessService {
 
     // Check 3: User is member of document's organization (for INTERNAL documents)
     if (document.getVisibility() == DocVisibility.INTERNAL && document.getOrganization() != null) {
-      OrganizationProfile organization = document.getOrganization();
-      boolean isMember = orgEnrollmentRepository.findByOrganizationAndMember(organization, user)
-          .map(enrollment -> enrollment.getStatus() == OrgEnrollStatus.JOINED)
-          .orElse(false);
-
-      if (isMember) {
+      UUID organizationId = document.getOrganization().getId();
+      if (entitlements.isMemberOf(organizationId)) {
         log.debug("Access granted: User {} is a member of organization {} for INTERNAL document {}",
-            userId, organization.getId(), documentId);
+            userId, organizationId, documentId);
         return true;
       }
     }
 
     // Check 4: User has redeemed/purchased the document
-    // Note: DocumentRedemption stores reader.id (ReaderProfile ID), not user.id
-    boolean hasRedeemed = readerProfileRepository.findByUserId(userId)
-        .map(reader -> documentRedemptionRepository.existsByReader_IdAndDocument_Id(reader.getId(), documentId))
-        .orElse(false);
-    if (hasRedeemed) {
+    if (entitlements.hasRedeemed(documentId)) {
       log.debug("Access granted: User {} has redeemed document {}", userId, documentId);
       return true;
     }
 
     // Check 5: User is assigned as reviewer with ACCEPTED status
-    boolean isReviewer = reviewRequestRepository
-        .findByDocument_IdAndReviewer_Id(documentId, userId)
-        .map(reviewRequest -> reviewRequest.getStatus() == ReviewRequestStatus.ACCEPTED)
-        .orElse(false);
-    if (isReviewer) {
+    if (entitlements.isAcceptedReviewer(documentId)) {
       log.debug("Access granted: User {} is an assigned reviewer for document {}", userId, documentId);
       return true;
     }
@@ -113,9 +97,10 @@ public class DocumentAccessServiceImpl implements DocumentAccessService {
    * 2. Document Uploader
    * 3. Org Admin of the document's organization
    */
-  private boolean hasAccessToInactiveDocument(Document document, User user, UUID userId, UUID documentId) {
+  private boolean hasAccessToInactiveDocument(Document document, UserEntitlements entitlements,
+      UUID userId, UUID documentId) {
     // Check 1: User is Business Admin
-    if (user.getRole() == UserRole.BUSINESS_ADMIN) {
+    if (entitlements.isBusinessAdmin()) {
       log.debug("Access granted to INACTIVE document {}: User {} is Business Admin", documentId, userId);
       return true;
     }
@@ -1,21 +1,35 @@
 package com.capstone.be.service.impl;
 
+import com.capstone.be.exception.BusinessException;
 import com.capstone.be.exception.InvalidRequestException;
 import com.capstone.be.service.DocumentConversionService;
 import com.capstone.be.service.SystemConfigService;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jodconverter.core.document.DefaultDocumentFormatRegistry;
+import org.jodconverter.core.office.OfficeException;
+import org.jodconverter.local.LocalConverter;
+import org.jodconverter.local.office.LocalOfficeManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Implementation of DocumentConversionService using LibreOffice headless.
+ * Conversions run on a pool of long-lived LibreOffice processes managed by JODConverter: each
+ * worker listens on its own port, is restarted when it crashes, exceeds the per-job timeout or
+ * reaches max-tasks-per-process. Admission is bounded (pool size + queue capacity); further
+ * jobs are rejected with CONVERSION_BUSY instead of piling up. If the pool is disabled or cannot
+ * start, each job spawns its own soffice process under the same bounds.
  */
 @Slf4j
 @Service
@@ -37,11 +51,96 @@ public class DocumentConversionServiceImpl implements DocumentConversionService
     return systemConfigService.getIntValue("document.conversion.timeoutSeconds", conversionTimeoutSecondsFallback);
   }
 
+  @Value("${app.document.conversion.pool.enabled:true}")
+  private boolean poolEnabled;
+
+  @Value("${app.document.conversion.pool.port-numbers:2002,2003}")
+  private int[] poolPortNumbers;
+
+  @Value("${app.document.conversion.pool.queue-capacity:20}")
+  private int queueCapacity;
+
+  @Value("${app.document.conversion.pool.queue-timeout-ms:30000}")
+  private long queueTimeoutMs;
+
+  @Value("${app.document.conversion.pool.max-tasks-per-process:200}")
+  private int maxTasksPerProcess;
+
   private String detectedLibreOfficePath = null;
 
+  private LocalOfficeManager officeManager;
+
+  // In-flight + queued jobs
+  private Semaphore admission;
+
+  // Concurrent soffice processes when running without the pool
+  private Semaphore processSlots;
+
   @PostConstruct
   public void init() {
     detectLibreOffice();
+
+    int workers = Math.max(1, poolPortNumbers.length);
+    admission = new Semaphore(workers + Math.max(0, queueCapacity));
+    processSlots = new Semaphore(workers, true);
+
+    if (poolEnabled && detectedLibreOfficePath != null) {
+      startOfficePool();
+    }
+  }
+
+  /**
+   * JODConverter fixes the job timeout when the pool is built, so the pool takes the configured
+   * document.conversion.timeoutSeconds at startup; a changed value reaches the pool after a
+   * restart (the per-process fallback reads it for every job).
+   */
+  private void startOfficePool() {
+    try {
+      int timeoutSeconds = getConversionTimeoutSeconds();
+      LocalOfficeManager.Builder builder = LocalOfficeManager.builder()
+          .portNumbers(poolPortNumbers)
+          .taskExecutionTimeout(timeoutSeconds * 1000L)
+          .taskQueueTimeout(queueTimeoutMs)
+          .maxTasksPerProcess(maxTasksPerProcess);
+      Path officeHome = resolveOfficeHome(detectedLibreOfficePath);
+      if (officeHome != null) {
+        builder.officeHome(officeHome.toFile());
+      }
+
+      LocalOfficeManager manager = builder.build();
+      manager.start();
+      officeManager = manager;
+      log.info("Started LibreOffice conversion pool with {} workers on ports {}, job timeout {}s",
+          poolPortNumbers.length, java.util.Arrays.toString(poolPortNumbers), timeoutSeconds);
+    } catch (Exception e) {
+      log.warn("Failed to start LibreOffice conversion pool, falling back to one process per "
+          + "conversion: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * The office home is the directory above {@code program/soffice}; symlinks such as
+   * /usr/bin/soffice are resolved first. Returns null to let JODConverter detect it.
+   */
+  private Path resolveOfficeHome(String executable) {
+    try {
+      Path programDir = Path.of(executable).toRealPath().getParent();
+      return programDir != null ? programDir.getParent() : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (officeManager != null) {
+      try {
+        officeManager.stop();
+        log.info("Stopped LibreOffice conversion pool");
+      } catch (Exception e) {
+        log.warn("Failed to stop LibreOffice conversion pool: {}", e.getMessage());
+      }
+    }
   }
 
   private void detectLibreOffice() {
@@ -111,76 +210,27 @@ public class DocumentConversionServiceImpl implements DocumentConversionService
     }
 
     String filename = docxFile.getOriginalFilename();
-    if (!isDocxFile(filename)) {
-      throw new InvalidRequestException("File must be a DOCX file for conversion");
-    }
-
-    if (detectedLibreOfficePath == null) {
-      throw new InvalidRequestException(
-          "LibreOffice is not installed. Please install LibreOffice to convert DOCX files.");
-    }
+    validateConversion(filename);
 
     log.info("Starting DOCX to PDF conversion for file: {}", filename);
 
     Path tempDir = null;
-    Path inputFile = null;
+    acquireSlot();
 
     try {
       // Create temp directory
       tempDir = Files.createTempDirectory("docx-convert-");
-      inputFile = tempDir.resolve(filename);
+      Path inputFile = tempDir.resolve(filename);
 
       // Write input file
-      Files.write(inputFile, docxFile.getBytes());
-
-      // Run LibreOffice conversion
-      ProcessBuilder pb =
-          new ProcessBuilder(
-              detectedLibreOfficePath,
-              "--headless",
-              "--convert-to",
-              "pdf",
-              "--outdir",
-              tempDir.toString(),
-              inputFile.toString());
-      pb.redirectErrorStream(true);
-
-      Process process = pb.start();
-
-      // Capture output for debugging
-      StringBuilder output = new StringBuilder();
-      try (BufferedReader reader =
-          new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-        String line;
-        while ((line = reader.readLine()) != null) {
-          output.append(line).append("\n");
-        }
-      }
-
-      int timeoutSeconds = getConversionTimeoutSeconds();
-      boolean completed = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
-
-      if (!completed) {
-        process.destroyForcibly();
-        throw new InvalidRequestException(
-            "DOCX to PDF conversion timed out after " + timeoutSeconds + " seconds");
-      }
-
-      if (process.exitValue() != 0) {
-        log.error("LibreOffice conversion failed. Output: {}", output);
-        throw new InvalidRequestException(
-            "DOCX to PDF conversion failed. Please ensure the file is a valid DOCX document.");
-      }
-
-      // Find the output PDF file
-      String pdfFilename = filename.substring(0, filename.lastIndexOf('.')) + ".pdf";
-      Path pdfFile = tempDir.resolve(pdfFilename);
-
-      if (!Files.exists(pdfFile)) {
-        log.error(
-            "PDF output file not found: {}. LibreOffice output: {}", pdfFile, output);
-        throw new InvalidRequestException(
-            "DOCX to PDF conversion failed - output file not created");
+      docxFile.transferTo(inputFile);
+
+      Path pdfFile;
+      if (officeManager != null) {
+        pdfFile = tempDir.resolve(filename.substring(0, filename.lastIndexOf('.')) + ".pdf");
+        convertWithPool(inputFile, pdfFile);
+      } else {
+        pdfFile = runConversion(tempDir, inputFile, filename);
       }
 
       // Read PDF into memory
@@ -189,22 +239,208 @@ public class DocumentConversionServiceImpl implements DocumentConversionService
       log.info(
           "Successfully converted DOCX to PDF: {} -> {} ({} bytes)",
           filename,
-          pdfFilename,
+          pdfFile.getFileName(),
           pdfBytes.length);
 
       return new ByteArrayInputStream(pdfBytes);
 
-    } catch (InvalidRequestException e) {
+    } catch (BusinessException e) {
       throw e;
     } catch (Exception e) {
       log.error("Failed to convert DOCX to PDF: {}", e.getMessage(), e);
       throw new InvalidRequestException("Failed to convert DOCX to PDF: " + e.getMessage());
     } finally {
+      admission.release();
       // Cleanup temp files
       cleanupTempFiles(tempDir);
     }
   }
 
+  @Override
+  public void convertDocxToPdf(Path docxFile, String filename, Path pdfTarget) {
+    validateConversion(filename);
+
+    log.info("Starting DOCX to PDF conversion for file: {}", filename);
+
+    Path tempDir = null;
+    acquireSlot();
+
+    try {
+      if (officeManager != null) {
+        // Formats are explicit, so the pool converts file to file without renaming
+        convertWithPool(docxFile, pdfTarget);
+      } else {
+        tempDir = Files.createTempDirectory("docx-convert-");
+        Path inputFile = tempDir.resolve(filename);
+
+        // LibreOffice derives the output name from the input name, so the source keeps its name
+        Files.copy(docxFile, inputFile);
+
+        Path pdfFile = runConversion(tempDir, inputFile, filename);
+        Files.move(pdfFile, pdfTarget, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      log.info(
+          "Successfully converted DOCX to PDF: {} -> {} ({} bytes)",
+          filename,
+          pdfTarget,
+          Files.size(pdfTarget));
+
+    } catch (BusinessException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error("Failed to convert DOCX to PDF: {}", e.getMessage(), e);
+      throw new InvalidRequestException("Failed to convert DOCX to PDF: " + e.getMessage());
+    } finally {
+      admission.release();
+      cleanupTempFiles(tempDir);
+    }
+  }
+
+  private void validateConversion(String filename) {
+    if (!isDocxFile(filename)) {
+      throw new InvalidRequestException("File must be a DOCX file for conversion");
+    }
+
+    if (detectedLibreOfficePath == null) {
+      throw new InvalidRequestException(
+          "LibreOffice is not installed. Please install LibreOffice to convert DOCX files.");
+    }
+  }
+
+  /**
+   * Reserve a place in the bounded conversion queue or reject the job right away
+   */
+  private void acquireSlot() {
+    if (!admission.tryAcquire()) {
+      log.warn("Rejecting DOCX conversion: queue is full");
+      throw new BusinessException(
+          "Document conversion is busy, please try again later",
+          HttpStatus.SERVICE_UNAVAILABLE,
+          "CONVERSION_BUSY");
+    }
+  }
+
+  /**
+   * Convert on a pooled LibreOffice process. JODConverter waits up to the queue timeout for a
+   * free worker and kills and restarts a worker whose job exceeds the execution timeout.
+   */
+  private void convertWithPool(Path inputFile, Path pdfFile) {
+    try {
+      LocalConverter.make(officeManager)
+          .convert(inputFile.toFile())
+          .as(DefaultDocumentFormatRegistry.DOCX)
+          .to(pdfFile.toFile())
+          .as(DefaultDocumentFormatRegistry.PDF)
+          .execute();
+    } catch (OfficeException e) {
+      log.error("LibreOffice pool conversion failed: {}", e.getMessage(), e);
+      throw poolFailure(e);
+    }
+  }
+
+  /**
+   * Only a document LibreOffice could not open or store is the client's fault (400). No free
+   * worker within the queue timeout is CONVERSION_BUSY; a job timeout or a crashed worker
+   * (restarted by the pool) is CONVERSION_UNAVAILABLE.
+   */
+  private static BusinessException poolFailure(OfficeException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      String message = cause.getMessage();
+      if (message == null) {
+        continue;
+      }
+      if (message.startsWith("Could not open document")
+          || message.startsWith("Could not load document")
+          || message.startsWith("Could not store document")) {
+        return new InvalidRequestException(
+            "DOCX to PDF conversion failed. Please ensure the file is a valid DOCX document.");
+      }
+      if (message.startsWith("No office manager available")) {
+        return new BusinessException(
+            "Document conversion is busy, please try again later",
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "CONVERSION_BUSY");
+      }
+    }
+    return new BusinessException(
+        "Document conversion failed, please try again later",
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "CONVERSION_UNAVAILABLE");
+  }
+
+  /**
+   * Run LibreOffice on a file inside the temp directory and return the produced PDF
+   */
+  private Path runConversion(Path tempDir, Path inputFile, String filename)
+      throws IOException, InterruptedException {
+    if (!processSlots.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+      throw new BusinessException(
+          "Document conversion is busy, please try again later",
+          HttpStatus.SERVICE_UNAVAILABLE,
+          "CONVERSION_BUSY");
+    }
+    try {
+      return runProcess(tempDir, inputFile, filename);
+    } finally {
+      processSlots.release();
+    }
+  }
+
+  private Path runProcess(Path tempDir, Path inputFile, String filename)
+      throws IOException, InterruptedException {
+    // Run LibreOffice conversion
+    ProcessBuilder pb =
+        new ProcessBuilder(
+            detectedLibreOfficePath,
+            "--headless",
+            "--convert-to",
+            "pdf",
+            "--outdir",
+            tempDir.toString(),
+            inputFile.toString());
+    pb.redirectErrorStream(true);
+
+    Process process = pb.start();
+
+    // Capture output for debugging
+    StringBuilder output = new StringBuilder();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        output.append(line).append("\n");
+      }
+    }
+
+    int timeoutSeconds = getConversionTimeoutSeconds();
+    boolean completed = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+
+    if (!completed) {
+      process.destroyForcibly();
+      throw new InvalidRequestException(
+          "DOCX to PDF conversion timed out after " + timeoutSeconds + " seconds");
+    }
+
+    if (process.exitValue() != 0) {
+      log.error("LibreOffice conversion failed. Output: {}", output);
+      throw new InvalidRequestException(
+          "DOCX to PDF conversion failed. Please ensure the file is a valid DOCX document.");
+    }
+
+    // Find the output PDF file
+    String pdfFilename = filename.substring(0, filename.lastIndexOf('.')) + ".pdf";
+    Path pdfFile = tempDir.resolve(pdfFilename);
+
+    if (!Files.exists(pdfFile)) {
+      log.error(
+          "PDF output file not found: {}. LibreOffice output: {}", pdfFile, output);
+      throw new InvalidRequestException(
+          "DOCX to PDF conversion failed - output file not created");
+    }
+    return pdfFile;
+  }
+
   private void cleanupTempFiles(Path tempDir) {
     try {
       if (tempDir != null && Files.exists(tempDir)) {
@@ -0,0 +1,276 @@
+package com.capstone.be.service.impl;
+
+import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.dto.response.document.DocumentPagePreview;
+import com.capstone.be.exception.BusinessException;
+import com.capstone.be.exception.FileStorageException;
+import com.capstone.be.exception.ForbiddenException;
+import com.capstone.be.exception.InvalidRequestException;
+import com.capstone.be.exception.ResourceNotFoundException;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.service.DocumentAccessService;
+import com.capstone.be.service.DocumentPagePreviewService;
+import com.capstone.be.service.FileStorageService;
+import com.capstone.be.service.helper.PreviewSourceCache;
+import com.capstone.be.service.helper.PreviewTileCache;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Renders document pages lazily with PDFBox.
+ * Tiles (page x width) are looked up in the in-memory LRU ({@link PreviewTileCache}), then in the
+ * file storage under doc-previews/, and only rendered when both miss. Rendered tiles are written
+ * back to both tiers; tiles are keyed by the document's file key, so they never go stale.
+ * Concurrent requests for the same tile share one render, and at most max-concurrent-renders
+ * renders run at once; requests that cannot get a slot in time are rejected with PREVIEW_BUSY.
+ * Source PDFs are kept in a small local cache ({@link PreviewSourceCache}), so rendering several
+ * pages of one document downloads it once.
+ */
+@Slf4j
+@Service
+public class DocumentPagePreviewServiceImpl implements DocumentPagePreviewService {
+
+  private final DocumentRepository documentRepository;
+  private final DocumentAccessService documentAccessService;
+  private final FileStorageService fileStorageService;
+  private final PreviewTileCache previewTileCache;
+  private final PreviewSourceCache previewSourceCache;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight =
+      new ConcurrentHashMap<>();
+  private final Semaphore renderSlots;
+  private final List<Integer> widths;
+
+  @Value("${app.document.preview.free-pages:3}")
+  private int freePages;
+
+  @Value("${app.document.preview.queue-timeout-ms:10000}")
+  private long queueTimeoutMs;
+
+  public DocumentPagePreviewServiceImpl(DocumentRepository documentRepository,
+      DocumentAccessService documentAccessService,
+      FileStorageService fileStorageService,
+      PreviewTileCache previewTileCache,
+      PreviewSourceCache previewSourceCache,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.document.preview.max-concurrent-renders:2}") int maxConcurrentRenders,
+      @Value("${app.document.preview.widths:320,640,960,1280}") Integer[] widths) {
+    this.documentRepository = documentRepository;
+    this.documentAccessService = documentAccessService;
+    this.fileStorageService = fileStorageService;
+    this.previewTileCache = previewTileCache;
+    this.previewSourceCache = previewSourceCache;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.renderSlots = new Semaphore(Math.max(1, maxConcurrentRenders), true);
+    this.widths = Arrays.stream(widths).sorted().toList();
+  }
+
+  @Override
+  public DocumentPagePreview getPagePreview(UUID userId, UUID documentId, int page, int width) {
+    if (page < 1) {
+      throw new InvalidRequestException("Page must be at least 1");
+    }
+
+    // Access check in a short transaction; rendering runs without holding a connection
+    Document document = readOnlyTransaction.execute(status -> checkPreviewAccess(userId,
+        documentId, page));
+    int pageCount = document.getPageCount();
+    if (pageCount > 0 && page > pageCount) {
+      throw new InvalidRequestException(
+          String.format("Page %d does not exist, the document has %d pages", page, pageCount));
+    }
+
+    int tileWidth = snapWidth(width);
+    String fileKey = document.getFileKey();
+    byte[] image = getTile(fileKey, page, tileWidth);
+
+    return DocumentPagePreview.builder()
+        .image(image)
+        .page(page)
+        .width(tileWidth)
+        .pageCount(pageCount > 0 ? pageCount : null)
+        .build();
+  }
+
+  private Document checkPreviewAccess(UUID userId, UUID documentId, int page) {
+    Document document = documentRepository.findById(documentId)
+        .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+    if (document.getFileKey() == null) {
+      throw new InvalidRequestException("Document file is not available yet");
+    }
+
+    if (documentAccessService.hasAccess(userId, document)) {
+      return document;
+    }
+    boolean previewable = document.getStatus() == DocStatus.ACTIVE
+        && document.getVisibility() == DocVisibility.PUBLIC;
+    if (!previewable) {
+      throw new ForbiddenException("You do not have access to this document");
+    }
+    if (page > freePages) {
+      throw new ForbiddenException(String.format(
+          "Only the first %d pages can be previewed without access to this document", freePages));
+    }
+    return document;
+  }
+
+  /**
+   * Smallest supported width that is at least the requested width
+   */
+  private int snapWidth(int requested) {
+    for (int supported : widths) {
+      if (supported >= requested) {
+        return supported;
+      }
+    }
+    return widths.get(widths.size() - 1);
+  }
+
+  private byte[] getTile(String fileKey, int page, int width) {
+    String tileKey = fileKey + "#" + page + "@" + width;
+    byte[] cached = previewTileCache.get(tileKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    // Single flight: the first request loads the tile, concurrent ones wait for it
+    CompletableFuture<byte[]> load = new CompletableFuture<>();
+    CompletableFuture<byte[]> existing = inFlight.putIfAbsent(tileKey, load);
+    if (existing != null) {
+      return join(existing);
+    }
+    try {
+      byte[] tile = loadOrRender(fileKey, page, width);
+      previewTileCache.put(tileKey, tile);
+      load.complete(tile);
+      return tile;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(tileKey, load);
+    }
+  }
+
+  private byte[] loadOrRender(String fileKey, int page, int width) {
+    String folder = previewFolder(fileKey);
+    String filename = "p" + page + "-w" + width + ".jpg";
+
+    byte[] stored = fileStorageService.downloadFileIfExists(folder, filename).orElse(null);
+    if (stored != null) {
+      return stored;
+    }
+
+    byte[] tile = renderWithSlot(fileKey, page, width);
+    try {
+      fileStorageService.uploadFile(tile, "image/jpeg", folder, filename);
+    } catch (Exception e) {
+      // Still serve the tile, it is rendered again after a restart
+      log.warn("Failed to store preview tile {}/{}: {}", folder, filename, e.getMessage());
+    }
+    return tile;
+  }
+
+  @Override
+  public void deletePreviews(String fileKey) {
+    previewSourceCache.evict(fileKey);
+    fileStorageService.deleteFolder(previewFolder(fileKey));
+  }
+
+  private byte[] renderWithSlot(String fileKey, int page, int width) {
+    try {
+      if (!renderSlots.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+        throw new BusinessException(
+            "Page preview is busy, please try again later",
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "PREVIEW_BUSY");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FileStorageException("Interrupted while waiting to render a preview", e);
+    }
+
+    try (PreviewSourceCache.Lease pdf = previewSourceCache.acquire(fileKey,
+        target -> fileStorageService.downloadFile(FileStorage.DOCUMENT_FOLDER, fileKey, target))) {
+      long start = System.currentTimeMillis();
+      byte[] tile = render(pdf.path(), page, width);
+      log.debug("Rendered page {} of {} at {}px in {} ms", page, fileKey, width,
+          System.currentTimeMillis() - start);
+      return tile;
+    } catch (IOException e) {
+      log.error("Failed to render page {} of {}", page, fileKey, e);
+      throw new FileStorageException("Failed to render page preview", e);
+    } finally {
+      renderSlots.release();
+    }
+  }
+
+  private byte[] render(Path pdf, int page, int width) throws IOException {
+    try (PDDocument document = PDDocument.load(pdf.toFile(),
+        MemoryUsageSetting.setupTempFileOnly())) {
+      if (page > document.getNumberOfPages()) {
+        throw new InvalidRequestException(String.format(
+            "Page %d does not exist, the document has %d pages", page,
+            document.getNumberOfPages()));
+      }
+
+      // Render directly at the target width (rotated pages are laid out sideways)
+      PDPage pdPage = document.getPage(page - 1);
+      PDRectangle cropBox = pdPage.getCropBox();
+      boolean sideways = pdPage.getRotation() % 180 != 0;
+      float pageWidth = sideways ? cropBox.getHeight() : cropBox.getWidth();
+      float scale = width / Math.max(1f, pageWidth);
+      BufferedImage image = new PDFRenderer(document).renderImage(page - 1, scale,
+          ImageType.RGB);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      ImageIO.write(image, "jpg", out);
+      return out.toByteArray();
+    }
+  }
+
+  private static String previewFolder(String fileKey) {
+    int dot = fileKey.lastIndexOf('.');
+    return FileStorage.DOCUMENT_PREVIEW_FOLDER + "/"
+        + (dot > 0 ? fileKey.substring(0, dot) : fileKey);
+  }
+
+  private static byte[] join(CompletableFuture<byte[]> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
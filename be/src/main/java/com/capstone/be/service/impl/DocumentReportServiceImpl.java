@@ -3,6 +3,7 @@ package com.capstone.be.service.impl;
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.DocumentReport;
 import com.capstone.be.domain.entity.User;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.domain.enums.ReportReason;
 import com.capstone.be.domain.enums.ReportStatus;
 import com.capstone.be.dto.request.report.CreateReportRequest;
@@ -15,6 +16,7 @@ import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.UserRepository;
 import com.capstone.be.repository.specification.DocumentReportSpecification;
 import com.capstone.be.service.DocumentReportService;
+import com.capstone.be.service.helper.DocumentActivityRollup;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +35,7 @@ public class DocumentReportServiceImpl implements DocumentReportService {
   private final DocumentRepository documentRepository;
   private final UserRepository userRepository;
   private final DocumentReportMapper documentReportMapper;
+  private final DocumentActivityRollup documentActivityRollup;
 
   @Override
   @Transactional
@@ -57,6 +60,8 @@ public class DocumentReportServiceImpl implements DocumentReportService {
         .build();
 
     DocumentReport savedReport = documentReportRepository.save(report);
+    documentRepository.incrementReportCount(document.getId(), 1);
+    documentActivityRollup.record(document.getId(), DocumentActivityMetric.REPORTS);
 
     log.info("Report created successfully: {}", savedReport.getId());
 
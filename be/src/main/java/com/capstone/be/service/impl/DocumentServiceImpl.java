@@ -1,12 +1,15 @@
 package com.capstone.be.service.impl;
 
 import com.capstone.be.config.constant.FileStorage;
+import com.capstone.be.config.migration.DocumentSearchVectorMigration;
 import com.capstone.be.domain.entity.*;
 import com.capstone.be.domain.enums.DocStatus;
 import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.domain.enums.OrgEnrollStatus;
 import com.capstone.be.domain.enums.ReviewRequestStatus;
 import com.capstone.be.domain.enums.TagStatus;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.request.document.DocumentLibraryFilter;
 import com.capstone.be.dto.request.document.DocumentSearchFilter;
 import com.capstone.be.dto.request.document.DocumentUploadHistoryFilter;
@@ -14,12 +17,14 @@ import com.capstone.be.dto.request.document.UpdateDocumentRequest;
 import com.capstone.be.dto.request.document.UploadDocumentInfoRequest;
 import com.capstone.be.dto.response.document.*;
 import com.capstone.be.exception.BusinessException;
+import com.capstone.be.exception.FileStorageException;
 import com.capstone.be.exception.ForbiddenException;
 import com.capstone.be.exception.InvalidRequestException;
 import com.capstone.be.exception.ResourceNotFoundException;
 import com.capstone.be.mapper.DocumentMapper;
 import com.capstone.be.repository.CommentRepository;
 import com.capstone.be.repository.DocTypeRepository;
+import com.capstone.be.repository.DocumentContentRepository;
 import com.capstone.be.repository.DocumentReadHistoryRepository;
 import com.capstone.be.repository.DocumentRedemptionRepository;
 import com.capstone.be.repository.DocumentReportRepository;
@@ -46,26 +51,55 @@ import com.capstone.be.service.DocumentService;
 import com.capstone.be.service.DocumentThumbnailService;
 import com.capstone.be.service.EmailService;
 import com.capstone.be.service.FileStorageService;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
+import com.capstone.be.service.helper.AsyncDocumentConverter;
+import com.capstone.be.service.helper.DocumentActivityRollup;
+import com.capstone.be.service.helper.DocumentBatchLoader;
+import com.capstone.be.service.helper.DocumentBatchLoader.DocumentAssociations;
+import com.capstone.be.service.helper.DocumentContentIndex;
+import com.capstone.be.service.helper.DocumentSearchFacetCounter;
+import com.capstone.be.service.helper.DocumentViewCounter;
+import com.capstone.be.service.helper.PublicAssetUrlSigner;
+import com.capstone.be.service.helper.PublicAssetUrlSigner.SignedAssetUrls;
+import com.capstone.be.service.helper.UploadSpooler;
+import com.capstone.be.service.helper.UserEntitlementCache;
+import com.capstone.be.service.helper.UserEntitlements;
+import com.capstone.be.service.search.EmbeddedDocumentSearchEngine;
+import com.capstone.be.service.search.SearchFacetSnapshot;
 import com.capstone.be.service.helper.NotificationHelper;
 import com.capstone.be.service.SystemConfigService;
+import com.capstone.be.util.CursorUtil;
+import com.capstone.be.util.PagingUtil;
+import com.capstone.be.util.SpooledMultipartFile;
 import com.capstone.be.util.StringUtil;
 import com.capstone.be.dto.ai.AiModerationResponse;
 
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -84,6 +118,19 @@ public class DocumentServiceImpl implements DocumentService {
   private final TagRepository tagRepository;
   private final DocumentRepository documentRepository;
   private final DocumentTagLinkRepository documentTagLinkRepository;
+  private final DocumentBatchLoader documentBatchLoader;
+  private final PublicAssetUrlSigner publicAssetUrlSigner;
+  private final UserEntitlementCache userEntitlementCache;
+  private final DocumentViewCounter documentViewCounter;
+  private final DocumentActivityRollup documentActivityRollup;
+  private final ObjectProvider<EmbeddedDocumentSearchEngine> embeddedSearchEngine;
+  private final SearchFacetSnapshot searchFacetSnapshot;
+  private final DocumentSearchFacetCounter documentSearchFacetCounter;
+  private final UploadSpooler uploadSpooler;
+  private final AsyncDocumentConverter asyncDocumentConverter;
+  private final DocumentContentIndex documentContentIndex;
+  private final DocumentContentRepository documentContentRepository;
+  private final ApplicationEventPublisher eventPublisher;
   private final DocumentRedemptionRepository documentRedemptionRepository;
   private final DocumentReadHistoryRepository documentReadHistoryRepository;
   private final ReviewRequestRepository reviewRequestRepository;
@@ -102,6 +149,7 @@ public class DocumentServiceImpl implements DocumentService {
   private final EmailService emailService;
   private final DocumentConversionService documentConversionService;
   private final SystemConfigService systemConfigService;
+  private final ObjectProvider<DocumentSearchVectorMigration> searchVectorMigration;
 
   @Value("${app.document.defaultPremiumPrice:100}")
   private Integer defaultPremiumPriceFallback;
@@ -109,6 +157,12 @@ public class DocumentServiceImpl implements DocumentService {
   @Value("${app.s3.document.presignedExpInMinutes:60}")
   private Integer presignedUrlExpirationMinutesFallback;
 
+  @Value("${app.document.search.full-text-enabled:true}")
+  private boolean fullTextSearchEnabled;
+
+  @Value("${app.document.conversion.async-enabled:false}")
+  private boolean asyncConversionEnabled;
+
   /**
    * Get premium document price from SystemConfig, fallback to @Value
    */
@@ -134,34 +188,178 @@ public class DocumentServiceImpl implements DocumentService {
     // Validate file
     validateFile(file);
 
-    // Convert DOCX to PDF if needed
-    MultipartFile fileToUpload = file;
-    if (isDocxFile(file)) {
-      log.info("Converting DOCX to PDF for document: {}", request.getTitle());
-      try {
-        java.io.InputStream pdfStream = documentConversionService.convertDocxToPdf(file);
-        byte[] pdfBytes = pdfStream.readAllBytes();
-        String originalFilename = file.getOriginalFilename();
-        String pdfFilename = originalFilename != null 
-            ? originalFilename.replaceAll("(?i)\\.docx$", ".pdf")
-            : "document.pdf";
-        fileToUpload = new com.capstone.be.util.ByteArrayMultipartFile(
-            "file",
-            pdfFilename,
-            "application/pdf",
-            pdfBytes
+    // DOCX can be accepted right away and converted in the background
+    if (asyncConversionEnabled && isDocxFile(file)) {
+      return uploadDocxForBackgroundConversion(uploaderId, request, file);
+    }
+
+    // Spool once (converting DOCX to PDF if needed); every stage below streams from that file
+    SpooledMultipartFile fileToUpload = spoolUpload(file, request.getTitle());
+    boolean handedOverToAi = false;
+
+    try {
+      String contentHash = fileToUpload.getSha256Hex();
+      // Identical content already stored: reuse its file and thumbnail instead of uploading again
+      DocumentContent storedContent = documentContentIndex.acquire(contentHash).orElse(null);
+
+      UploadReferences references;
+      String fileKey;
+      String thumbnailKey;
+
+      if (storedContent != null) {
+        fileKey = storedContent.getFileKey();
+        thumbnailKey = storedContent.getThumbnailKey();
+        log.info("Reusing stored file {} for duplicate upload (sha256={})", fileKey, contentHash);
+        references = resolveUploadReferences(uploaderId, request);
+      } else {
+        // Object keys are chosen up front so they can be cleaned up even if a stage is cancelled
+        String newFileKey = generateObjectFilename(fileToUpload.getOriginalFilename());
+        String thumbnailFilename = UUID.randomUUID() + ".png";
+        deleteUploadedObjectsOnRollback(newFileKey, thumbnailFilename);
+
+        // S3 upload and thumbnail rendering run on virtual threads; lookups and tag resolution
+        // stay on this thread because they need the transaction's persistence context
+        try (ExecutorService stages = Executors.newVirtualThreadPerTaskExecutor()) {
+          Future<String> fileUpload = stages.submit(() ->
+              fileStorageService.uploadFile(fileToUpload, FileStorage.DOCUMENT_FOLDER, newFileKey));
+          // 2) Generate thumbnail từ trang đầu tiên & upload lên S3
+          Future<String> thumbnailUpload = stages.submit(() ->
+              documentThumbnailService.generateAndUploadThumbnail(
+                  fileToUpload,
+                  FileStorage.DOCUMENT_THUMB_FOLDER,
+                  thumbnailFilename
+              ));
+
+          try {
+            references = resolveUploadReferences(uploaderId, request);
+
+            awaitStage(fileUpload);
+            log.info("Uploaded document file to S3: {}", newFileKey);
+            thumbnailKey = awaitStage(thumbnailUpload);
+          } catch (RuntimeException e) {
+            // Stop the remaining stages; closing the executor waits for them to finish
+            fileUpload.cancel(true);
+            thumbnailUpload.cancel(true);
+            throw e;
+          }
+        }
+
+        fileKey = newFileKey;
+        documentContentIndex.register(contentHash, fileToUpload.getSize(), fileKey, thumbnailKey);
+      }
+
+      User uploader = references.uploader();
+      Set<Tag> allTags = references.tags();
+
+      if (thumbnailKey != null) {
+        log.info("Generated thumbnail for document: {}", thumbnailKey);
+      } else {
+        log.warn("Thumbnail generation returned null. Document will be saved without thumbnail.");
+      }
+
+      // Create and save document
+      Document document = createDocument(request, uploader, references.docType(),
+          references.specialization(), references.organization(), fileKey);
+      if (thumbnailKey != null) {
+        document.setThumbnailKey(thumbnailKey);
+      }
+      document.setContentHash(contentHash);
+
+      document = documentRepository.save(document);
+      log.info("Created document with ID: {}", document.getId());
+
+      // Save document-tag relationships
+      saveDocumentTagLinks(document, allTags);
+      log.info("Saved {} document-tag relationships", allTags.size());
+
+      // Same content was already moderated: apply that result instead of a new AI run
+      AiModerationResponse storedAiResult = documentContentIndex.findAiResult(contentHash)
+          .orElse(null);
+      if (storedAiResult != null) {
+        log.info("Reusing stored AI result for document ID: {} (sha256={})", document.getId(),
+            contentHash);
+        aiModerationService.updateDocumentAfterAiProcessing(document.getId(), storedAiResult);
+      }
+
+      // Notify BUSINESS_ADMIN if document needs reviewer assignment
+      // (Documents with status VERIFYING need reviewer assignment)
+      if (document.getStatus() == DocStatus.REVIEWING) {
+        notificationHelper.sendNotificationToBusinessAdmins(
+            com.capstone.be.domain.enums.NotificationType.INFO,
+            "New Document Needs Review",
+            String.format("A new document '%s' uploaded by %s needs reviewer assignment", 
+                document.getTitle(), uploader.getFullName())
         );
-        log.info("Successfully converted DOCX to PDF: {} -> {}", originalFilename, pdfFilename);
-      } catch (Exception e) {
-        log.error("Failed to convert DOCX to PDF: {}", e.getMessage(), e);
-        throw new BusinessException(
-            "Failed to convert DOCX to PDF: " + e.getMessage(),
-            HttpStatus.BAD_REQUEST,
-            "CONVERSION_FAILED"
+      }
+
+      // Notify BUSINESS_ADMIN if document needs reviewer assignment
+      // (Documents with status VERIFYING need reviewer assignment)
+      if (document.getStatus() == DocStatus.AI_VERIFYING) {
+        notificationHelper.sendNotificationToBusinessAdmins(
+            com.capstone.be.domain.enums.NotificationType.INFO,
+            "New Document Needs Review",
+            String.format("A new document '%s' uploaded by %s needs AI verification", 
+                document.getTitle(), uploader.getFullName())
         );
       }
+
+      // Send notification to Reader (uploader)
+      notificationHelper.sendSuccessNotification(
+          uploader,
+          "Document Uploaded Successfully",
+          String.format("Your document '%s' has been uploaded and is being processed.",
+              document.getTitle())
+      );
+
+      // Trigger async AI processing (will update document status and summaries after completion)
+      UUID documentId = document.getId();
+      if (storedAiResult != null) {
+        log.info("Skipping AI processing for document ID: {}, stored result reused", documentId);
+      } else {
+        log.info("Submitting async AI processing task for document ID: {}", documentId);
+    
+        try {
+          CompletableFuture<AiModerationResponse> aiFuture = aiModerationService.processDocumentAsync(documentId, fileToUpload);
+          // The AI task now owns the spool file and deletes it after submitting it
+          handedOverToAi = true;
+          log.info("Async AI processing task submitted successfully for document ID: {}", documentId);
+      
+          aiFuture.thenAccept(aiResponse -> {
+            log.info("AI processing completed for document ID: {} with status: {}",
+                documentId, aiResponse != null ? aiResponse.getStatus() : "null");
+          })
+          .exceptionally(ex -> {
+            log.error("AI processing failed for document ID: {}", documentId, ex);
+            return null;
+          });
+        } catch (Exception e) {
+          log.error("Failed to submit async AI processing task for document ID: {}", documentId, e);
+          // Don't throw - document was uploaded successfully, just AI processing failed to start
+        }
+      }
+
+      // Build and return response using mapper
+      return documentMapper.toUploadResponse(document, allTags);
+    } finally {
+      if (!handedOverToAi) {
+        SpooledMultipartFile.release(fileToUpload);
+      }
     }
+  }
+
+  /**
+   * Entities referenced by an upload request
+   */
+  private record UploadReferences(
+      User uploader,
+      DocType docType,
+      Specialization specialization,
+      OrganizationProfile organization,
+      Set<Tag> tags) {
+  }
 
+  private UploadReferences resolveUploadReferences(UUID uploaderId,
+      UploadDocumentInfoRequest request) {
     // Fetch required entities
     User uploader = getUserById(uploaderId);
     DocType docType = getDocTypeById(request.getDocTypeId());
@@ -171,88 +369,199 @@ public class DocumentServiceImpl implements DocumentService {
     // Handle tags (existing and new)
     Set<Tag> allTags = handleTags(request.getTagCodes(), request.getNewTags());
 
-    // Upload file to S3
-    String fileKey = fileStorageService.uploadFile(fileToUpload, FileStorage.DOCUMENT_FOLDER, null);
-    log.info("Uploaded document file to S3: {}", fileKey);
+    return new UploadReferences(uploader, docType, specialization, organization, allTags);
+  }
 
-    // 2) Generate thumbnail từ trang đầu tiên & upload lên S3
-    String thumbnailKey = documentThumbnailService.generateAndUploadThumbnail(
-        fileToUpload,
-        FileStorage.DOCUMENT_THUMB_FOLDER
-    );
-    if (thumbnailKey != null) {
-      log.info("Generated thumbnail for document: {}", thumbnailKey);
-    } else {
-      log.warn("Thumbnail generation returned null. Document will be saved without thumbnail.");
+  /**
+   * Wait for an upload stage, rethrowing its failure on the request thread
+   */
+  private <T> T awaitStage(Future<T> stage) {
+    try {
+      return stage.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FileStorageException("Document upload was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new FileStorageException("Document upload failed", e.getCause());
     }
+  }
 
-    // Create and save document
-    Document document = createDocument(request, uploader, docType, specialization, organization,
-        fileKey);
-    if (thumbnailKey != null) {
-      document.setThumbnailKey(thumbnailKey);
+  private String generateObjectFilename(String originalFilename) {
+    String extension = "";
+    if (originalFilename != null && originalFilename.contains(".")) {
+      extension = originalFilename.substring(originalFilename.lastIndexOf("."));
     }
+    return UUID.randomUUID() + extension;
+  }
 
-    document = documentRepository.save(document);
-    log.info("Created document with ID: {}", document.getId());
+  /**
+   * Delete the document file and thumbnail from S3 if the upload transaction does not commit,
+   * whether a stage failed, a lookup failed or the insert itself was rolled back
+   */
+  private void deleteUploadedObjectsOnRollback(String fileKey, String thumbnailFilename) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          return;
+        }
+        deleteObjectQuietly(FileStorage.DOCUMENT_FOLDER, fileKey);
+        deleteObjectQuietly(FileStorage.DOCUMENT_THUMB_FOLDER, thumbnailFilename);
+      }
+    });
+  }
 
-    // Save document-tag relationships
-    saveDocumentTagLinks(document, allTags);
-    log.info("Saved {} document-tag relationships", allTags.size());
-
-    // Notify BUSINESS_ADMIN if document needs reviewer assignment
-    // (Documents with status VERIFYING need reviewer assignment)
-    if (document.getStatus() == DocStatus.REVIEWING) {
-      notificationHelper.sendNotificationToBusinessAdmins(
-          com.capstone.be.domain.enums.NotificationType.INFO,
-          "New Document Needs Review",
-          String.format("A new document '%s' uploaded by %s needs reviewer assignment", 
-              document.getTitle(), uploader.getFullName())
+  private void deleteObjectQuietly(String folder, String filename) {
+    try {
+      fileStorageService.deleteFile(folder, filename);
+    } catch (Exception e) {
+      log.warn("Failed to clean up {}/{} after a failed upload: {}", folder, filename,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Spool the upload to disk, computing its SHA-256 on the way.
+   * DOCX uploads are converted from the spool file into a second spool file, so neither the
+   * source nor the PDF is ever held in memory.
+   */
+  private SpooledMultipartFile spoolUpload(MultipartFile file, String title) {
+    SpooledMultipartFile spooled = spool(file);
+
+    if (!isDocxFile(file)) {
+      return spooled;
+    }
+
+    log.info("Converting DOCX to PDF for document: {}", title);
+    String originalFilename = file.getOriginalFilename();
+    String pdfFilename = originalFilename != null
+        ? originalFilename.replaceAll("(?i)\\.docx$", ".pdf")
+        : "document.pdf";
+    java.nio.file.Path pdfPath = uploadSpooler.newSpoolPath();
+    try {
+      documentConversionService.convertDocxToPdf(spooled.getPath(),
+          originalFilename != null ? originalFilename : "document.docx", pdfPath);
+      SpooledMultipartFile pdf = uploadSpooler.adopt(pdfPath, pdfFilename, "application/pdf");
+      log.info("Successfully converted DOCX to PDF: {} -> {}", originalFilename, pdfFilename);
+      return pdf;
+    } catch (BusinessException e) {
+      pdfPath.toFile().delete();
+      if ("CONVERSION_BUSY".equals(e.getErrorCode())) {
+        throw e;
+      }
+      log.error("Failed to convert DOCX to PDF: {}", e.getMessage(), e);
+      throw new BusinessException(
+          "Failed to convert DOCX to PDF: " + e.getMessage(),
+          HttpStatus.BAD_REQUEST,
+          "CONVERSION_FAILED"
+      );
+    } catch (Exception e) {
+      pdfPath.toFile().delete();
+      log.error("Failed to convert DOCX to PDF: {}", e.getMessage(), e);
+      throw new BusinessException(
+          "Failed to convert DOCX to PDF: " + e.getMessage(),
+          HttpStatus.BAD_REQUEST,
+          "CONVERSION_FAILED"
       );
+    } finally {
+      SpooledMultipartFile.release(spooled);
+    }
+  }
+
+  private SpooledMultipartFile spool(MultipartFile file) {
+    SpooledMultipartFile spooled;
+    try {
+      spooled = uploadSpooler.spool(file);
+    } catch (java.io.IOException e) {
+      log.error("Failed to spool upload: {}", file.getOriginalFilename(), e);
+      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
     }
+    log.info("Spooled upload {} ({} bytes, sha256={})", file.getOriginalFilename(),
+        spooled.getSize(), spooled.getSha256Hex());
+    return spooled;
+  }
+
+  /**
+   * Save a DOCX upload with status CONVERTING and hand the spooled file to the background
+   * converter once the transaction commits. The converter uploads the PDF and moves the
+   * document on to AI_VERIFYING.
+   */
+  private DocumentUploadResponse uploadDocxForBackgroundConversion(
+      UUID uploaderId,
+      UploadDocumentInfoRequest request,
+      MultipartFile file) {
+    SpooledMultipartFile docx = spool(file);
 
-    // Notify BUSINESS_ADMIN if document needs reviewer assignment
-    // (Documents with status VERIFYING need reviewer assignment)
-    if (document.getStatus() == DocStatus.AI_VERIFYING) {
-      notificationHelper.sendNotificationToBusinessAdmins(
-          com.capstone.be.domain.enums.NotificationType.INFO,
-          "New Document Needs Review",
-          String.format("A new document '%s' uploaded by %s needs AI verification", 
-              document.getTitle(), uploader.getFullName())
+    try {
+      UploadReferences references = resolveUploadReferences(uploaderId, request);
+      User uploader = references.uploader();
+      Set<Tag> allTags = references.tags();
+
+      Document document = createDocument(request, uploader, references.docType(),
+          references.specialization(), references.organization(), null);
+      document.setStatus(DocStatus.CONVERTING);
+      document = documentRepository.save(document);
+      log.info("Created document with ID: {} (waiting for DOCX conversion)", document.getId());
+
+      saveDocumentTagLinks(document, allTags);
+
+      notificationHelper.sendSuccessNotification(
+          uploader,
+          "Document Uploaded Successfully",
+          String.format("Your document '%s' has been uploaded and is being converted to PDF.",
+              document.getTitle())
       );
+
+      startConversionAfterCommit(document.getId(), docx);
+      return documentMapper.toUploadResponse(document, allTags);
+    } catch (RuntimeException e) {
+      SpooledMultipartFile.release(docx);
+      throw e;
     }
+  }
 
-    // Send notification to Reader (uploader)
-    notificationHelper.sendSuccessNotification(
-        uploader,
-        "Document Uploaded Successfully",
-        String.format("Your document '%s' has been uploaded and is being processed.",
-            document.getTitle())
-    );
+  private void startConversionAfterCommit(UUID documentId, SpooledMultipartFile docx) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      startConversion(documentId, docx);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        startConversion(documentId, docx);
+      }
 
-    // Trigger async AI processing (will update document status and summaries after completion)
-    UUID documentId = document.getId();
-    log.info("Submitting async AI processing task for document ID: {}", documentId);
-    
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          SpooledMultipartFile.release(docx);
+        }
+      }
+    });
+  }
+
+  /**
+   * Hand the DOCX to the background converter. If the task cannot be started (e.g. the
+   * executor rejects it) the document is failed now instead of staying in CONVERTING.
+   */
+  private void startConversion(UUID documentId, SpooledMultipartFile docx) {
     try {
-      CompletableFuture<AiModerationResponse> aiFuture = aiModerationService.processDocumentAsync(documentId, fileToUpload);
-      log.info("Async AI processing task submitted successfully for document ID: {}", documentId);
-      
-      aiFuture.thenAccept(aiResponse -> {
-        log.info("AI processing completed for document ID: {} with status: {}",
-            documentId, aiResponse != null ? aiResponse.getStatus() : "null");
-      })
-      .exceptionally(ex -> {
-        log.error("AI processing failed for document ID: {}", documentId, ex);
-        return null;
-      });
+      asyncDocumentConverter.convertAndPublish(documentId, docx);
+    } catch (TaskRejectedException e) {
+      log.error("Background conversion rejected for document ID: {}", documentId, e);
+      SpooledMultipartFile.release(docx);
+      asyncDocumentConverter.markConversionFailed(documentId);
     } catch (Exception e) {
-      log.error("Failed to submit async AI processing task for document ID: {}", documentId, e);
-      // Don't throw - document was uploaded successfully, just AI processing failed to start
+      log.error("Failed to start background conversion for document ID: {}", documentId, e);
+      SpooledMultipartFile.release(docx);
+      asyncDocumentConverter.markConversionFailed(documentId);
     }
-
-    // Build and return response using mapper
-    return documentMapper.toUploadResponse(document, allTags);
   }
 
   @Override
@@ -271,6 +580,10 @@ public class DocumentServiceImpl implements DocumentService {
       throw new BusinessException("You already redeemed this Document");
     }
 
+    if (document.getStatus() == DocStatus.DELETED) {
+      throw new BusinessException("Cannot redeem a deleted Document");
+    }
+
     if (!document.getIsPremium()) {
       throw new BusinessException("Cannot redeem non-premium Document");
     }
@@ -291,6 +604,9 @@ public class DocumentServiceImpl implements DocumentService {
     readerProfileRepository.save(reader);
 
     documentRedemptionRepository.save(redemption);
+    documentRepository.incrementPurchaseCount(document.getId(), 1);
+    documentActivityRollup.record(document.getId(), DocumentActivityMetric.PURCHASES);
+    eventPublisher.publishEvent(new UserEntitlementsChangedEvent(userId));
 
     // Send notification to Reader about points deduction
     User user = userRepository.findById(userId)
@@ -576,12 +892,16 @@ public class DocumentServiceImpl implements DocumentService {
         .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
     // Check access control
-    boolean hasAccess = documentAccessService.hasAccess(userId, documentId);
+    boolean hasAccess = documentAccessService.hasAccess(userId, document);
     if (!hasAccess) {
       log.warn("User {} does not have access to document {}", userId, documentId);
       throw new ForbiddenException("You do not have access to this document");
     }
 
+    if (document.getContentReleasedAt() != null) {
+      throw new ResourceNotFoundException("Document file", "id", documentId);
+    }
+
     // Create read history record (if user is authenticated)
     if (userId != null) {
       User user = userRepository.findById(userId)
@@ -592,6 +912,10 @@ public class DocumentServiceImpl implements DocumentService {
           userId, documentId);
       if (!oldHistories.isEmpty()) {
         documentReadHistoryRepository.deleteAll(oldHistories);
+        for (DocumentReadHistory oldHistory : oldHistories) {
+          documentActivityRollup.record(documentId, DocumentActivityMetric.VIEWS,
+              oldHistory.getCreatedAt(), -1);
+        }
         log.info("Deleted {} old read history records for user {} and document {}",
             oldHistories.size(), userId, documentId);
       }
@@ -602,15 +926,13 @@ public class DocumentServiceImpl implements DocumentService {
           .document(document)
           .build();
       documentReadHistoryRepository.save(readHistory);
+      documentActivityRollup.record(documentId, DocumentActivityMetric.VIEWS);
 
       log.info("Created new read history for user {} and document {}", userId, documentId);
     }
 
-    // Increment view count
-    int currentViewCount = document.getViewCount() != null ? document.getViewCount() : 0;
-    document.setViewCount(currentViewCount + 1);
-    documentRepository.save(document);
-    log.info("Incremented view count for document {} to {}", documentId, currentViewCount + 1);
+    // Buffer the view; DocumentViewCounter flushes increments in batches
+    documentViewCounter.increment(documentId);
 
     // Generate presigned URL
     Integer expirationMinutes = getPresignedUrlExpirationMinutes();
@@ -641,7 +963,7 @@ public class DocumentServiceImpl implements DocumentService {
       if (userId == null) {
         throw new ForbiddenException("This document is not available");
       }
-      boolean hasAccess = documentAccessService.hasAccess(userId, documentId);
+      boolean hasAccess = documentAccessService.hasAccess(userId, document);
       if (!hasAccess) {
         throw new ForbiddenException("You do not have permission to view this document");
       }
@@ -670,8 +992,31 @@ public class DocumentServiceImpl implements DocumentService {
             pageable
     );
 
-    // 3. Map sang DTO (truyền userId vào để xử lý logic Guest/User)
-    return documentPage.map(doc -> mapDocumentToDetailResponse(doc, userId));
+    // 3. Batch load tags/uploader/docType/specialization/organization for the whole page
+    DocumentAssociations associations = documentBatchLoader.load(documentPage.getContent());
+
+    // 4. Map sang DTO (truyền userId vào để xử lý logic Guest/User)
+    return documentPage.map(doc ->
+        mapDocumentToDetailResponse(doc, userId, associations.getTags(doc.getId())));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPagedResponse<DocumentDetailResponse> getHomepageDocumentsByCursor(UUID userId,
+      String cursor, int size, boolean includeTotal) {
+    Specification<Document> spec = (root, query, cb) -> cb.and(
+        cb.equal(root.get("status"), DocStatus.ACTIVE),
+        cb.equal(root.get("visibility"), DocVisibility.PUBLIC));
+
+    // Same order as the paged homepage, served by idx_document_homepage_keyset
+    Window<Document> window = CursorUtil.scroll(documentRepository, spec,
+        Sort.by(Sort.Direction.DESC, "voteScore", "createdAt"), cursor, size);
+    Long total = includeTotal ? documentRepository.count(spec) : null;
+
+    DocumentAssociations associations = documentBatchLoader.load(window.getContent());
+
+    return CursorUtil.toResponse(window, size, total, doc ->
+        mapDocumentToDetailResponse(doc, userId, associations.getTags(doc.getId())));
   }
 
   @Override
@@ -702,15 +1047,15 @@ public class DocumentServiceImpl implements DocumentService {
 
     // Fetch documents with specification and pagination
     Page<Document> documentsPage = documentRepository.findAll(spec, sortedPageable);
+    documentBatchLoader.load(documentsPage.getContent());
 
     // Map to response DTO
     Page<DocumentUploadHistoryResponse> responsePage = documentsPage.map(document -> {
       DocumentUploadHistoryResponse response = documentMapper.toUploadHistoryResponse(document);
 
-      // Get redemption count for this document
+      // Redemption count from the denormalized purchase counter
       if (document.getIsPremium()) {
-        long redemptionCount = documentRedemptionRepository.countByDocument_Id(document.getId());
-        response.setRedemptionCount((int) redemptionCount);
+        response.setRedemptionCount(counterValue(document.getPurchaseCount()));
       }
 
       return response;
@@ -757,24 +1102,27 @@ public class DocumentServiceImpl implements DocumentService {
     // Fetch documents with specification
     Page<Document> documentsPage = documentRepository.findAll(spec, sortedPageable);
 
+    // Batch load associations and this reader's redemptions for the whole page
+    DocumentAssociations associations = documentBatchLoader.load(documentsPage.getContent());
+    Map<UUID, DocumentRedemption> redemptionsByDocumentId = new HashMap<>();
+    if (readerProfileId != null && documentsPage.hasContent()) {
+      List<UUID> pageDocumentIds = documentsPage.getContent().stream()
+          .map(Document::getId)
+          .toList();
+      documentRedemptionRepository.findByReader_IdAndDocument_IdIn(readerProfileId, pageDocumentIds)
+          .forEach(r -> redemptionsByDocumentId.put(r.getDocument().getId(), r));
+    }
+
     // Map to response DTO
-    final UUID finalReaderProfileId = readerProfileId;
     Page<DocumentLibraryResponse> responsePage = documentsPage.map(document -> {
       DocumentLibraryResponse response = documentMapper.toLibraryResponse(document);
 
-      // Get tags for this document
-      List<DocumentTagLink> tagLinks = documentTagLinkRepository.findByDocument(document);
-      List<String> tagNames = tagLinks.stream()
-          .map(link -> link.getTag().getName())
-          .sorted()
-          .toList();
-      response.setTagNames(tagNames);
+      // Tags for this document
+      response.setTagNames(associations.getTagNames(document.getId()));
 
       // Build user relation info
       boolean isOwned = document.getUploader().getId().equals(userId);
-      DocumentRedemption redemption = finalReaderProfileId != null 
-          ? documentRedemptionRepository.findByReader_IdAndDocument_Id(finalReaderProfileId, document.getId()).orElse(null)
-          : null;
+      DocumentRedemption redemption = redemptionsByDocumentId.get(document.getId());
       boolean isPurchased = redemption != null;
 
       DocumentLibraryResponse.UserRelationInfo userRelation = DocumentLibraryResponse.UserRelationInfo.builder()
@@ -889,7 +1237,8 @@ public class DocumentServiceImpl implements DocumentService {
       throw new ForbiddenException("You can only delete your own documents");
     }
 
-    // Soft delete: set status to DELETED
+    // Soft delete: set status to DELETED. The stored file stays referenced (readers who
+    // redeemed the document keep reading it); DeletedDocumentPurgeJob releases it later
     document.setStatus(DocStatus.DELETED);
     documentRepository.save(document);
 
@@ -920,17 +1269,20 @@ public class DocumentServiceImpl implements DocumentService {
     Page<DocumentReadHistory> historyPage = documentReadHistoryRepository.findByUser_IdOrderByCreatedAtDesc(userId,
         pageable);
 
+    // Batch load documents and their associations for the whole page
+    DocumentAssociations associations = documentBatchLoader.loadByIds(historyPage.getContent()
+        .stream()
+        .map(history -> history.getDocument().getId())
+        .toList());
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forDocuments(historyPage.getContent()
+        .stream()
+        .map(DocumentReadHistory::getDocument)
+        .toList());
+
     // Map to response DTO
     Page<DocumentReadHistoryResponse> responsePage = historyPage.map(history -> {
       Document document = history.getDocument();
-
-      // Fetch tags for this document
-      List<DocumentTagLink> tagLinks = documentTagLinkRepository.findByDocument_Id(
-          document.getId());
-      List<String> tagNames = tagLinks.stream()
-          .map(link -> link.getTag().getName())
-          .sorted()
-          .toList();
+      List<String> tagNames = associations.getTagNames(document.getId());
 
       // Build document info
       DocumentReadHistoryResponse.DocumentInfo documentInfo = DocumentReadHistoryResponse.DocumentInfo.builder()
@@ -938,7 +1290,7 @@ public class DocumentServiceImpl implements DocumentService {
           .title(document.getTitle())
           .description(document.getDescription())
           .isPremium(document.getIsPremium())
-          .thumbnailUrl(document.getThumbnailKey())
+          .thumbnailUrl(assetUrls.thumbnail(document.getThumbnailKey()))
           .docTypeName(document.getDocType().getName())
           .specializationName(document.getSpecialization().getName())
           .domainName(document.getSpecialization().getDomain().getName())
@@ -946,7 +1298,7 @@ public class DocumentServiceImpl implements DocumentService {
           .uploader(DocumentReadHistoryResponse.UploaderInfo.builder()
               .id(document.getUploader().getId())
               .fullName(document.getUploader().getFullName())
-              .avatarUrl(document.getUploader().getAvatarKey())
+              .avatarUrl(assetUrls.avatar(document.getUploader().getAvatarKey()))
               .build())
           .build();
 
@@ -975,78 +1327,41 @@ public class DocumentServiceImpl implements DocumentService {
     // Get joined organization IDs for the user (if authenticated)
     List<UUID> joinedOrgIds = null;
     if (userId != null) {
-      joinedOrgIds = orgEnrollmentRepository.findByMemberIdAndStatus(userId, OrgEnrollStatus.JOINED)
-          .stream()
-          .map(enrollment -> enrollment.getOrganization().getId())
-          .toList();
+      joinedOrgIds = List.copyOf(userEntitlementCache.get(userId).joinedOrganizationIds());
       log.info("User {} has joined organizations: {}", userId, joinedOrgIds);
     }
 
     // Build specification with joined org IDs for INTERNAL doc access
-    Specification<Document> spec = DocumentSearchSpecification.buildSearchSpec(filter, joinedOrgIds);
-
-    // Fetch documents with specification and pagination
-    Page<Document> documentsPage = documentRepository.findAll(spec, pageable);
-
-    // Map to response DTO
-    Page<DocumentSearchResponse> responsePage = documentsPage.map(document -> {
-      // Fetch tags for this document
-      List<DocumentTagLink> tagLinks = documentTagLinkRepository.findByDocument_Id(
-          document.getId());
-      List<String> tagNames = tagLinks.stream()
-          .map(link -> link.getTag().getName())
-          .sorted()
+    Page<Document> documentsPage;
+    EmbeddedDocumentSearchEngine searchEngine = embeddedSearchEngine.getIfAvailable();
+    if (searchEngine != null && searchEngine.canServe(filter, pageable)) {
+      // Ranked IDs from the in-process index, then one IN query for the page
+      Page<UUID> idPage = searchEngine.search(filter, joinedOrgIds, pageable);
+      Map<UUID, Document> documentsById = documentRepository.findAllById(idPage.getContent())
+          .stream()
+          .filter(document -> document.getStatus() == DocStatus.ACTIVE)
+          .collect(Collectors.toMap(Document::getId, document -> document));
+      List<Document> ordered = idPage.getContent().stream()
+          .map(documentsById::get)
+          .filter(Objects::nonNull)
           .toList();
+      documentsPage = new PageImpl<>(ordered, pageable, idPage.getTotalElements());
+    } else {
+      // Full-text mode ranks keyword matches by relevance when no explicit sort is requested
+      Specification<Document> spec = DocumentSearchSpecification.buildSearchSpec(
+          filter, joinedOrgIds, useFullTextSearch());
 
-      // Build organization info (if exists)
-      DocumentSearchResponse.OrganizationInfo orgInfo = null;
-      if (document.getOrganization() != null) {
-        orgInfo = DocumentSearchResponse.OrganizationInfo.builder()
-            .id(document.getOrganization().getId())
-            .name(document.getOrganization().getName())
-            .logoUrl(document.getOrganization().getLogoKey())
-            .build();
-      }
-
-      // Build uploader info
-      DocumentSearchResponse.UploaderInfo uploaderInfo = DocumentSearchResponse.UploaderInfo.builder()
-          .id(document.getUploader().getId())
-          .fullName(document.getUploader().getFullName())
-          .avatarUrl(document.getUploader().getAvatarKey())
-          .build();
-
-      //Build summarization infor
-      DocumentDetailResponse.SummarizationInfo summarizations = null;
-      if (document.getSummarizations() != null) {
-        var s = document.getSummarizations();
+      // Fetch documents with specification and pagination
+      documentsPage = documentRepository.findAll(spec, pageable);
+    }
 
-        summarizations = DocumentDetailResponse.SummarizationInfo.builder()
-                .shortSummary(s.getShortSummary())
-                .mediumSummary(s.getMediumSummary())
-                .detailedSummary(s.getDetailedSummary())
-                .build();
-      }
+    // Batch load tags/uploader/docType/specialization/organization for the whole page
+    DocumentAssociations associations = documentBatchLoader.load(documentsPage.getContent());
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forDocuments(documentsPage.getContent());
 
-      return DocumentSearchResponse.builder()
-          .id(document.getId())
-          .title(document.getTitle())
-          .description(document.getDescription())
-          .isPremium(document.getIsPremium())
-          .price(document.getPrice())
-          .thumbnailUrl(document.getThumbnailKey())
-          .createdAt(document.getCreatedAt())
-          .viewCount(document.getViewCount())
-          .upvoteCount(document.getUpvoteCount())
-          .voteScore(document.getVoteScore())
-          .docTypeName(document.getDocType().getName())
-          .specializationName(document.getSpecialization().getName())
-          .domainName(document.getSpecialization().getDomain().getName())
-          .summarizations(summarizations)
-          .tagNames(tagNames)
-          .organization(orgInfo)
-          .uploader(uploaderInfo)
-          .build();
-    });
+    // Map to response DTO
+    Page<DocumentSearchResponse> responsePage = documentsPage.map(document ->
+        toSearchResponse(document, associations, assetUrls));
 
     log.info("Found {} public documents (page {}/{})",
         responsePage.getNumberOfElements(),
@@ -1056,6 +1371,115 @@ public class DocumentServiceImpl implements DocumentService {
     return responsePage;
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPagedResponse<DocumentSearchResponse> searchPublicDocumentsByCursor(
+      DocumentSearchFilter filter, String cursor, boolean includeTotal, UUID userId) {
+    log.info("Searching documents by cursor with filter: {}, userId: {}", filter, userId);
+
+    List<UUID> joinedOrgIds = null;
+    if (userId != null) {
+      joinedOrgIds = List.copyOf(userEntitlementCache.get(userId).joinedOrganizationIds());
+    }
+
+    // Keyset order replaces relevance ranking: matches are still filtered by the full-text
+    // predicate, but a cursor needs stable sort keys, so the default is newest first
+    Sort sort = PagingUtil.parseSort(filter.getSorts());
+    if (sort.isUnsorted()) {
+      sort = Sort.by(Sort.Direction.DESC, "createdAt");
+    }
+
+    Specification<Document> spec = DocumentSearchSpecification.buildSearchSpec(
+        filter, joinedOrgIds, useFullTextSearch());
+    int size = filter.getSize() != null ? filter.getSize() : 20;
+    Window<Document> window = CursorUtil.scroll(documentRepository, spec, sort, cursor, size);
+    Long total = includeTotal ? documentRepository.count(spec) : null;
+
+    DocumentAssociations associations = documentBatchLoader.load(window.getContent());
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forDocuments(window.getContent());
+
+    return CursorUtil.toResponse(window, size, total,
+        document -> toSearchResponse(document, associations, assetUrls));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public DocumentSearchFacetsResponse getSearchFacets(DocumentSearchFilter filter, UUID userId) {
+    List<UUID> joinedOrgIds = null;
+    if (userId != null) {
+      joinedOrgIds = List.copyOf(userEntitlementCache.get(userId).joinedOrganizationIds());
+    }
+
+    Specification<Document> spec = DocumentSearchSpecification.buildSearchSpec(
+        filter, joinedOrgIds, useFullTextSearch());
+    return documentSearchFacetCounter.count(spec);
+  }
+
+  /**
+   * Full-text search runs only when enabled and once the search vector migration has succeeded
+   */
+  private boolean useFullTextSearch() {
+    if (!fullTextSearchEnabled) {
+      return false;
+    }
+    DocumentSearchVectorMigration migration = searchVectorMigration.getIfAvailable();
+    return migration != null && migration.isReady();
+  }
+
+  private DocumentSearchResponse toSearchResponse(Document document,
+      DocumentAssociations associations, SignedAssetUrls assetUrls) {
+    List<String> tagNames = associations.getTagNames(document.getId());
+
+    // Build organization info (if exists)
+    DocumentSearchResponse.OrganizationInfo orgInfo = null;
+    if (document.getOrganization() != null) {
+      orgInfo = DocumentSearchResponse.OrganizationInfo.builder()
+          .id(document.getOrganization().getId())
+          .name(document.getOrganization().getName())
+          .logoUrl(assetUrls.logo(document.getOrganization().getLogoKey()))
+          .build();
+    }
+
+    // Build uploader info
+    DocumentSearchResponse.UploaderInfo uploaderInfo = DocumentSearchResponse.UploaderInfo.builder()
+        .id(document.getUploader().getId())
+        .fullName(document.getUploader().getFullName())
+        .avatarUrl(assetUrls.avatar(document.getUploader().getAvatarKey()))
+        .build();
+
+    //Build summarization infor
+    DocumentDetailResponse.SummarizationInfo summarizations = null;
+    if (document.getSummarizations() != null) {
+      var s = document.getSummarizations();
+
+      summarizations = DocumentDetailResponse.SummarizationInfo.builder()
+              .shortSummary(s.getShortSummary())
+              .mediumSummary(s.getMediumSummary())
+              .detailedSummary(s.getDetailedSummary())
+              .build();
+    }
+
+    return DocumentSearchResponse.builder()
+        .id(document.getId())
+        .title(document.getTitle())
+        .description(document.getDescription())
+        .isPremium(document.getIsPremium())
+        .price(document.getPrice())
+        .thumbnailUrl(assetUrls.thumbnail(document.getThumbnailKey()))
+        .createdAt(document.getCreatedAt())
+        .viewCount(document.getViewCount())
+        .upvoteCount(document.getUpvoteCount())
+        .voteScore(document.getVoteScore())
+        .docTypeName(document.getDocType().getName())
+        .specializationName(document.getSpecialization().getName())
+        .domainName(document.getSpecialization().getDomain().getName())
+        .summarizations(summarizations)
+        .tagNames(tagNames)
+        .organization(orgInfo)
+        .uploader(uploaderInfo)
+        .build();
+  }
+
   // ===== Admin-only methods implementation =====
 
   @Override
@@ -1083,6 +1507,7 @@ public class DocumentServiceImpl implements DocumentService {
         isPremium, dateFrom, dateTo);
 
     Page<Document> documentPage = documentRepository.findAll(spec, pageable);
+    documentBatchLoader.load(documentPage.getContent());
     
     log.info("Found {} documents (total: {})", documentPage.getNumberOfElements(), documentPage.getTotalElements());
 
@@ -1095,39 +1520,24 @@ public class DocumentServiceImpl implements DocumentService {
           return null;
         }
         
-        // Add linked information
-        UUID documentId = document.getId();
+        // Add linked information from denormalized counters (no per-row count queries)
+      response.setCommentCount((long) counterValue(document.getCommentCount()));
+      response.setSaveCount((long) counterValue(document.getSaveCount()));
+      response.setReportCount((long) counterValue(document.getReportCount()));
       
-      // Comment count
-      long commentCount = commentRepository.countByDocumentIdAndNotDeleted(documentId);
-      response.setCommentCount(commentCount);
-      
-      // Save count (saved list documents)
-      long saveCount = savedListDocumentRepository.countByDocument_Id(documentId);
-      response.setSaveCount(saveCount);
-      
-      // Report count
-      long reportCount = documentReportRepository.countByDocument_Id(documentId);
-      response.setReportCount(reportCount);
-      
-      // Purchase count (only for premium documents)
-      if (Boolean.TRUE.equals(document.getIsPremium())) {
-        long purchaseCount = documentRedemptionRepository.countByDocument_Id(documentId);
-        response.setPurchaseCount(purchaseCount);
-      }
-      
-      // Review status (only for premium documents)
+      // Purchase count and review status (only for premium documents)
       if (Boolean.TRUE.equals(document.getIsPremium())) {
+        response.setPurchaseCount((long) counterValue(document.getPurchaseCount()));
+
+        int pendingCount = counterValue(document.getPendingReviewCount());
+        int acceptedCount = counterValue(document.getAcceptedReviewCount());
         AdminDocumentListResponse.ReviewStatusInfo reviewStatus = AdminDocumentListResponse.ReviewStatusInfo.builder()
-            .pendingCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.PENDING))
-            .acceptedCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.ACCEPTED))
-            .submittedReviewCount((int) reviewResultRepository.countByReviewRequest_Document_IdAndSubmittedAtIsNotNull(documentId))
-            .rejectedCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.REJECTED))
-            .expiredCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.EXPIRED))
-            .hasActiveReview(
-                reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.PENDING) > 0 ||
-                reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.ACCEPTED) > 0
-            )
+            .pendingCount(pendingCount)
+            .acceptedCount(acceptedCount)
+            .submittedReviewCount(counterValue(document.getSubmittedReviewCount()))
+            .rejectedCount(counterValue(document.getRejectedReviewCount()))
+            .expiredCount(counterValue(document.getExpiredReviewCount()))
+            .hasActiveReview(pendingCount > 0 || acceptedCount > 0)
             .build();
         response.setReviewStatus(reviewStatus);
       }
@@ -1179,26 +1589,25 @@ public class DocumentServiceImpl implements DocumentService {
     
     // Populate admin-specific information
     DocumentDetailResponse.AdminInfo adminInfo = DocumentDetailResponse.AdminInfo.builder()
-        .commentCount(commentRepository.countByDocumentIdAndNotDeleted(documentId))
-        .saveCount(savedListDocumentRepository.countByDocument_Id(documentId))
-        .reportCount(documentReportRepository.countByDocument_Id(documentId))
+        .commentCount((long) counterValue(document.getCommentCount()))
+        .saveCount((long) counterValue(document.getSaveCount()))
+        .reportCount((long) counterValue(document.getReportCount()))
         .build();
     
     // Purchase count (only for premium documents)
     if (Boolean.TRUE.equals(document.getIsPremium())) {
-      adminInfo.setPurchaseCount(documentRedemptionRepository.countByDocument_Id(documentId));
+      adminInfo.setPurchaseCount((long) counterValue(document.getPurchaseCount()));
       
       // Review request summary
+      int pendingCount = counterValue(document.getPendingReviewCount());
+      int acceptedCount = counterValue(document.getAcceptedReviewCount());
       DocumentDetailResponse.ReviewRequestSummary reviewSummary = DocumentDetailResponse.ReviewRequestSummary.builder()
-          .pendingCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.PENDING))
-          .acceptedCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.ACCEPTED))
-          .submittedReviewCount((int) reviewResultRepository.countByReviewRequest_Document_IdAndSubmittedAtIsNotNull(documentId))
-          .rejectedCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.REJECTED))
-          .expiredCount((int) reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.EXPIRED))
-          .hasActiveReview(
-              reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.PENDING) > 0 ||
-              reviewRequestRepository.countByDocument_IdAndStatus(documentId, ReviewRequestStatus.ACCEPTED) > 0
-          )
+          .pendingCount(pendingCount)
+          .acceptedCount(acceptedCount)
+          .submittedReviewCount(counterValue(document.getSubmittedReviewCount()))
+          .rejectedCount(counterValue(document.getRejectedReviewCount()))
+          .expiredCount(counterValue(document.getExpiredReviewCount()))
+          .hasActiveReview(pendingCount > 0 || acceptedCount > 0)
           .build();
       adminInfo.setReviewRequestSummary(reviewSummary);
       
@@ -1296,6 +1705,15 @@ public class DocumentServiceImpl implements DocumentService {
     Document document = documentRepository.findById(documentId)
         .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
+    // A purged document no longer has a file to serve
+    if (document.getContentReleasedAt() != null && status != DocStatus.DELETED) {
+      throw new BusinessException(
+          "Document file was purged after deletion, it cannot be restored",
+          HttpStatus.CONFLICT,
+          "DOCUMENT_PURGED"
+      );
+    }
+
     document.setStatus(status);
     documentRepository.save(document);
 
@@ -1304,6 +1722,13 @@ public class DocumentServiceImpl implements DocumentService {
     notifyDocumentOwnerStatusChange(document, status, "Status updated by Business Admin");
   }
 
+  /**
+   * Null-safe read of a denormalized counter column
+   */
+  private static int counterValue(Integer counter) {
+    return counter != null ? counter : 0;
+  }
+
   /**
    * Notify document uploader about status changes.
    * This is a best-effort notification and should not break business flow.
@@ -1328,66 +1753,65 @@ public class DocumentServiceImpl implements DocumentService {
   }
 
   private DocumentDetailResponse mapDocumentToDetailResponse(Document document, UUID userId) {
+    List<Tag> tags = documentTagLinkRepository.findByDocument(document).stream()
+            .map(DocumentTagLink::getTag)
+            .toList();
+    return mapDocumentToDetailResponse(document, userId, tags);
+  }
+
+  /**
+   * Map document to detail response using tags that were already loaded (e.g. by batch loader)
+   */
+  private DocumentDetailResponse mapDocumentToDetailResponse(Document document, UUID userId,
+      List<Tag> tags) {
     DocumentDetailResponse response = documentMapper.toDetailResponse(document);
 
     // 2. Calculate downvotes
     Integer downvoteCount = document.getUpvoteCount() - document.getVoteScore();
     response.setDownvoteCount(Math.max(0, downvoteCount));
 
-    // 3. Fetch tags
-    List<DocumentTagLink> tagLinks = documentTagLinkRepository.findByDocument(document);
-    List<DocumentDetailResponse.TagInfo> tagInfos = tagLinks.stream()
-            .map(link -> DocumentDetailResponse.TagInfo.builder()
-                    .id(link.getTag().getId())
-                    .code(link.getTag().getCode())
-                    .name(link.getTag().getName())
+    // 3. Map tags
+    List<DocumentDetailResponse.TagInfo> tagInfos = tags.stream()
+            .map(tag -> DocumentDetailResponse.TagInfo.builder()
+                    .id(tag.getId())
+                    .code(tag.getCode())
+                    .name(tag.getName())
                     .build())
             .toList();
     response.setTags(tagInfos);
 
     DocumentDetailResponse.UserDocumentInfo userInfo;
 
+    // User-side facts come from the cached entitlement snapshot (no per-document queries)
+    UserEntitlements entitlements = null;
     if (userId != null) {
-      // Fetch user to check role
-      User user = userRepository.findById(userId).orElse(null);
-      boolean isBusinessAdmin = user != null && user.getRole() == com.capstone.be.domain.enums.UserRole.BUSINESS_ADMIN;
+      try {
+        entitlements = userEntitlementCache.get(userId);
+      } catch (ResourceNotFoundException e) {
+        // Deleted user with a still-valid token: show the document as to an anonymous visitor
+        log.warn("User {} not found while building document detail, treating as anonymous", userId);
+      }
+    }
+
+    if (entitlements != null) {
+      boolean isBusinessAdmin = entitlements.isBusinessAdmin();
 
       // Check access (includes all access types: public, uploader, org member, redeemed, reviewer)
-      boolean hasAccess = documentAccessService.hasAccess(userId, document.getId());
+      boolean hasAccess = documentAccessService.hasAccess(userId, document);
 
       boolean isUploader = document.getUploader() != null && document.getUploader().getId().equals(userId);
 
       boolean hasRedeemed = false;
       if (Boolean.TRUE.equals(document.getIsPremium())) {
-        // Business Admin has access to all premium documents without redemption
-        if (isBusinessAdmin) {
-          hasRedeemed = true;
-        } else if (isUploader) {
-          // Uploader can access their own premium documents without redemption
-          hasRedeemed = true;
-        } else {
-          // Find ReaderProfile from User ID first, then check redemption
-          ReaderProfile readerProfile = readerProfileRepository.findByUserId(userId).orElse(null);
-          if (readerProfile != null) {
-            hasRedeemed = documentRedemptionRepository
-                    .existsByReader_IdAndDocument_Id(readerProfile.getId(), document.getId());
-          }
-        }
+        // Business Admin and uploader can access premium documents without redemption
+        hasRedeemed = isBusinessAdmin || isUploader || entitlements.hasRedeemed(document.getId());
       }
 
-      boolean isMemberOfOrganization = false;
-      if (document.getOrganization() != null && user != null) {
-        isMemberOfOrganization = orgEnrollmentRepository
-                .findByOrganizationAndMember(document.getOrganization(), user)
-                .map(enrollment -> enrollment.getStatus() == OrgEnrollStatus.JOINED)
-                .orElse(false);
-      }
+      boolean isMemberOfOrganization = document.getOrganization() != null
+              && entitlements.isMemberOf(document.getOrganization().getId());
 
       // Check if user is assigned reviewer with ACCEPTED status
-      boolean isReviewer = reviewRequestRepository
-              .findByDocument_IdAndReviewer_Id(document.getId(), userId)
-              .map(reviewRequest -> reviewRequest.getStatus() == ReviewRequestStatus.ACCEPTED)
-              .orElse(false);
+      boolean isReviewer = entitlements.isAcceptedReviewer(document.getId());
 
       userInfo = DocumentDetailResponse.UserDocumentInfo.builder()
               .hasAccess(hasAccess)
@@ -1420,140 +1844,60 @@ public class DocumentServiceImpl implements DocumentService {
   public DocumentSearchMetaResponse getSearchMeta(UUID userId) {
     log.info("Building search meta for documents, userId: {}", userId);
 
-    // Organizations - get orgs that have public documents
-    List<OrganizationProfile> orgEntities =
-            documentRepository.findOrganizationsForPublicSearch();
-    
-    // Create a map to track organizations by ID
-    Map<UUID, DocumentSearchMetaResponse.OrganizationOption> orgMap = new LinkedHashMap<>();
-    
-    orgEntities.stream()
-            .filter(Objects::nonNull)
-            .forEach(org -> orgMap.put(org.getId(), 
-                    DocumentSearchMetaResponse.OrganizationOption.builder()
-                            .id(org.getId())
-                            .name(org.getName())
-                            .logoUrl(org.getLogoKey())
-                            .docCount(null)
-                            .build()));
-    
-    // If user is authenticated, also include organizations they have joined
-    // (even if those orgs don't have public documents yet)
-    if (userId != null) {
-      List<OrgEnrollment> enrollments = orgEnrollmentRepository.findByMemberIdAndStatus(
-              userId, OrgEnrollStatus.JOINED);
-      for (OrgEnrollment enrollment : enrollments) {
-        OrganizationProfile org = enrollment.getOrganization();
-        if (org != null && !orgMap.containsKey(org.getId())) {
-          orgMap.put(org.getId(),
-                  DocumentSearchMetaResponse.OrganizationOption.builder()
-                          .id(org.getId())
-                          .name(org.getName())
-                          .logoUrl(org.getLogoKey())
-                          .docCount(null)
-                          .build());
-        }
-      }
-    }
-    
-    List<DocumentSearchMetaResponse.OrganizationOption> orgOptions = orgMap.values().stream()
-            .sorted(Comparator.comparing(DocumentSearchMetaResponse.OrganizationOption::getName,
-                    String.CASE_INSENSITIVE_ORDER))
-            .collect(Collectors.toList());
-
-    // Domains
-    List<Domain> domainEntities = documentRepository.findDomainsForPublicSearch();
-    List<DocumentSearchMetaResponse.DomainOption> domainOptions = domainEntities.stream()
-            .filter(Objects::nonNull)
-            .map(domain -> DocumentSearchMetaResponse.DomainOption.builder()
-                    .id(domain.getId())
-                    .code(domain.getCode())
-                    .name(domain.getName())
-                    .docCount(null)
-                    .build())
-            .sorted(Comparator.comparing(DocumentSearchMetaResponse.DomainOption::getName,
-                    String.CASE_INSENSITIVE_ORDER))
-            .collect(Collectors.toList());
-
-    // Specializations
-    List<Specialization> specEntities =
-            documentRepository.findSpecializationsForPublicSearch();
-    List<DocumentSearchMetaResponse.SpecializationOption> specOptions = specEntities.stream()
-            .filter(Objects::nonNull)
-            .map(spec -> DocumentSearchMetaResponse.SpecializationOption.builder()
-                    .id(spec.getId())
-                    .code(spec.getCode())
-                    .name(spec.getName())
-                    .domainId(spec.getDomain() != null ? spec.getDomain().getId() : null)
-                    .docCount(null)
-                    .build())
-            .sorted(Comparator.comparing(DocumentSearchMetaResponse.SpecializationOption::getName,
-                    String.CASE_INSENSITIVE_ORDER))
-            .collect(Collectors.toList());
-
-    // DocTypes
-    List<DocType> docTypeEntities = documentRepository.findDocTypesForPublicSearch();
-    List<DocumentSearchMetaResponse.DocTypeOption> docTypeOptions = docTypeEntities.stream()
-            .filter(Objects::nonNull)
-            .map(dt -> DocumentSearchMetaResponse.DocTypeOption.builder()
-                    .id(dt.getId())
-                    .code(dt.getCode())
-                    .name(dt.getName())
-                    .docCount(null)
-                    .build())
-            .sorted(Comparator.comparing(DocumentSearchMetaResponse.DocTypeOption::getName,
-                    String.CASE_INSENSITIVE_ORDER))
-            .collect(Collectors.toList());
-
-    // Tags
-    List<Tag> tagEntities = documentRepository.findTagsForPublicSearch();
-    List<DocumentSearchMetaResponse.TagOption> tagOptions = tagEntities.stream()
-            .filter(Objects::nonNull)
-            .map(tag -> DocumentSearchMetaResponse.TagOption.builder()
-                    .id(tag.getId())
-                    .name(tag.getName())
-                    .docCount(null)
-                    .build())
-            .sorted(Comparator.comparing(DocumentSearchMetaResponse.TagOption::getName,
-                    String.CASE_INSENSITIVE_ORDER))
-            .collect(Collectors.toList());
-
-    // Years
-    List<Integer> years = documentRepository.findYearsForPublicSearch();
-
-    // Price/points range
-    Integer minPrice = documentRepository.findMinPremiumPriceForPublicSearch();
-    Integer maxPrice = documentRepository.findMaxPremiumPriceForPublicSearch();
-
-    DocumentSearchMetaResponse.RangeDto priceRange = DocumentSearchMetaResponse.RangeDto.builder()
-            .min(minPrice)
-            .max(maxPrice)
-            .build();
-
     // Joined organization IDs (only if user is authenticated)
-    // Note: enrollments already fetched above when building orgOptions
     List<UUID> joinedOrgIds = null;
     if (userId != null) {
-      List<OrgEnrollment> enrollments = orgEnrollmentRepository.findByMemberIdAndStatus(
-              userId, OrgEnrollStatus.JOINED);
-      joinedOrgIds = enrollments.stream()
-              .map(e -> e.getOrganization().getId())
-              .collect(Collectors.toList());
+      joinedOrgIds = List.copyOf(userEntitlementCache.get(userId).joinedOrganizationIds());
       log.info("User {} has {} joined organizations", userId, joinedOrgIds.size());
     }
 
-    return DocumentSearchMetaResponse.builder()
-            .organizations(orgOptions)
-            .domains(domainOptions)
-            .specializations(specOptions)
-            .docTypes(docTypeOptions)
-            .tags(tagOptions)
-            .years(years)
-            .priceRange(priceRange)
-            .joinedOrganizationIds(joinedOrgIds)
-            .build();
+    // Facets come from the in-memory snapshot; joined organizations without public documents
+    // are merged in so the user can still filter by them
+    return searchFacetSnapshot.getSearchMeta(joinedOrgIds);
   }
-  
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<DuplicateDocumentClusterResponse> getDuplicateDocumentClusters(Pageable pageable) {
+    Page<DocumentRepository.DuplicateClusterRow> clusters =
+        documentRepository.findDuplicateContentClusters(
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    if (clusters.isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, clusters.getTotalElements());
+    }
+
+    List<String> hashes = clusters.getContent().stream()
+        .map(DocumentRepository.DuplicateClusterRow::getContentHash)
+        .toList();
+    Map<String, List<Document>> documentsByHash = documentRepository
+        .findByContentHashInWithUploader(hashes).stream()
+        .collect(Collectors.groupingBy(Document::getContentHash));
+    Map<String, DocumentContent> contentByHash = documentContentRepository
+        .findBySha256In(hashes).stream()
+        .collect(Collectors.toMap(DocumentContent::getSha256, content -> content));
+
+    return clusters.map(row -> {
+      DocumentContent content = contentByHash.get(row.getContentHash());
+      return DuplicateDocumentClusterResponse.builder()
+          .contentHash(row.getContentHash())
+          .fileSize(content != null ? content.getFileSize() : null)
+          .referenceCount(content != null ? content.getReferenceCount() : null)
+          .documentCount(row.getDocumentCount())
+          .firstUploadedAt(row.getFirstUploadedAt())
+          .documents(documentsByHash.getOrDefault(row.getContentHash(), List.of()).stream()
+              .map(document -> DuplicateDocumentClusterResponse.DuplicateDocument.builder()
+                  .id(document.getId())
+                  .title(document.getTitle())
+                  .status(document.getStatus())
+                  .uploaderId(document.getUploader().getId())
+                  .uploaderName(document.getUploader().getFullName())
+                  .createdAt(document.getCreatedAt())
+                  .build())
+              .toList())
+          .build();
+    });
+  }
+
   @Override
   @Transactional(readOnly = true)
   public com.capstone.be.dto.response.document.DocumentStatisticsResponse getDocumentStatistics() {
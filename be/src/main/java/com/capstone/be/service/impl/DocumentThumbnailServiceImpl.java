@@ -2,17 +2,21 @@ package com.capstone.be.service.impl;
 
 import com.capstone.be.service.DocumentThumbnailService;
 import com.capstone.be.service.FileStorageService;
+import com.capstone.be.util.SpooledMultipartFile;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 import javax.imageio.ImageIO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.rendering.PDFRenderer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,6 +33,11 @@ public class DocumentThumbnailServiceImpl implements DocumentThumbnailService {
 
   @Override
   public String generateAndUploadThumbnail(MultipartFile file, String folder) {
+    return generateAndUploadThumbnail(file, folder, UUID.randomUUID() + ".png");
+  }
+
+  @Override
+  public String generateAndUploadThumbnail(MultipartFile file, String folder, String filename) {
     if (file == null || file.isEmpty()) {
       log.warn("Skip thumbnail generation: file is null or empty");
       return null;
@@ -40,15 +49,17 @@ public class DocumentThumbnailServiceImpl implements DocumentThumbnailService {
       return null;
     }
 
-    try (PDDocument document = PDDocument.load(file.getInputStream())) {
+    try (PDDocument document = loadDocument(file)) {
       if (document.getNumberOfPages() == 0) {
         log.warn("PDF has no pages, skip thumbnail generation");
         return null;
       }
 
       PDFRenderer renderer = new PDFRenderer(document);
-      // render first page
-      BufferedImage pageImage = renderer.renderImageWithDPI(0, DPI);
+      // render first page, directly at thumbnail width when the page is wider than MAX_WIDTH
+      PDRectangle cropBox = document.getPage(0).getCropBox();
+      float scale = Math.min(DPI / 72f, MAX_WIDTH / Math.max(1f, cropBox.getWidth()));
+      BufferedImage pageImage = renderer.renderImage(0, scale);
 
       BufferedImage thumbnail = resizeImage(pageImage, MAX_WIDTH);
 
@@ -57,8 +68,6 @@ public class DocumentThumbnailServiceImpl implements DocumentThumbnailService {
       baos.flush();
       byte[] bytes = baos.toByteArray();
 
-      String filename = UUID.randomUUID() + ".png";
-
       String thumbnailKey = fileStorageService.uploadFile(
           bytes,
           "image/png",
@@ -76,6 +85,20 @@ public class DocumentThumbnailServiceImpl implements DocumentThumbnailService {
     }
   }
 
+  /**
+   * Spooled uploads are opened from disk (pages are parsed on demand and scratch data goes to a
+   * temp file), other files are read from their stream.
+   */
+  private PDDocument loadDocument(MultipartFile file) throws IOException {
+    MemoryUsageSetting memory = MemoryUsageSetting.setupTempFileOnly();
+    if (file instanceof SpooledMultipartFile spooled) {
+      return PDDocument.load(spooled.getPath().toFile(), memory);
+    }
+    try (InputStream in = file.getInputStream()) {
+      return PDDocument.load(in, memory);
+    }
+  }
+
   private BufferedImage resizeImage(BufferedImage src, int maxWidth) {
     if (src.getWidth() <= maxWidth) {
       return src;
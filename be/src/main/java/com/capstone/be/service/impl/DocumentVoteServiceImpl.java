@@ -2,7 +2,7 @@ package com.capstone.be.service.impl;
 
 import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.DocumentVote;
-import com.capstone.be.domain.entity.User;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.dto.request.document.VoteDocumentRequest;
 import com.capstone.be.dto.response.document.VoteDocumentResponse;
 import com.capstone.be.exception.ResourceNotFoundException;
@@ -10,12 +10,12 @@ import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.DocumentVoteRepository;
 import com.capstone.be.repository.UserRepository;
 import com.capstone.be.service.DocumentVoteService;
+import com.capstone.be.service.helper.DocumentActivityRollup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -26,6 +26,7 @@ public class DocumentVoteServiceImpl implements DocumentVoteService {
     private final DocumentVoteRepository documentVoteRepository;
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
+    private final DocumentActivityRollup documentActivityRollup;
 
     @Override
     @Transactional
@@ -33,42 +34,40 @@ public class DocumentVoteServiceImpl implements DocumentVoteService {
         log.info("User {} voting on document {} with value {}", userId, docId, request.getVoteValue());
 
         // Validate document exists
-        Document document = documentRepository.findById(docId)
-                .orElseThrow(() -> ResourceNotFoundException.document(docId));
+        if (!documentRepository.existsById(docId)) {
+            throw ResourceNotFoundException.document(docId);
+        }
 
         // Validate user exists
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> ResourceNotFoundException.user(userId));
-
-        // Find existing vote
-        Optional<DocumentVote> existingVoteOpt = documentVoteRepository
-                .findByDocumentIdAndUserId(docId, userId);
-
-        Integer newValue = request.getVoteValue();
-        int oldValue = existingVoteOpt.map(DocumentVote::getVoteValue).orElse(0);
+        if (!userRepository.existsById(userId)) {
+            throw ResourceNotFoundException.user(userId);
+        }
 
-        if (!existingVoteOpt.isPresent()){
-            DocumentVote toSave = DocumentVote.builder()
-                .voteValue(newValue)
-                .document(document)
-                .user(user)
-                .build();
-            documentVoteRepository.save(toSave);
+        // Upsert the vote row keyed by (document, user); the row stays locked until commit.
+        // A first vote inserts the row and is counted in the daily statistics.
+        int newValue = request.getVoteValue();
+        int oldValue = 0;
+        if (documentVoteRepository.insertIfAbsent(UUID.randomUUID(), docId, userId, newValue) == 1) {
+            documentActivityRollup.record(docId, DocumentActivityMetric.VOTES);
         } else {
-            //if present, update value
-            existingVoteOpt.get().setVoteValue(newValue);
-            documentVoteRepository.save(existingVoteOpt.get());
+            oldValue = documentVoteRepository.upsertVote(docId, userId, newValue);
         }
 
-        //Update vote count (in Document entity)
-
-        document.setVoteScore(document.getVoteScore() + newValue - oldValue);
-        if (oldValue < 1 && newValue==1) {
-            document.setUpvoteCount(document.getUpvoteCount() + 1);
-        } else if (oldValue == 1 && newValue < 1){
-            document.setUpvoteCount(document.getUpvoteCount()  -1);
+        // Apply score/upvote deltas atomically in SQL instead of read-modify-write on the entity
+        int scoreDelta = newValue - oldValue;
+        int upvoteDelta = 0;
+        if (oldValue < 1 && newValue == 1) {
+            upvoteDelta = 1;
+        } else if (oldValue == 1 && newValue < 1) {
+            upvoteDelta = -1;
+        }
+        if (scoreDelta != 0 || upvoteDelta != 0) {
+            documentRepository.applyVoteDeltas(docId, scoreDelta, upvoteDelta);
         }
-        documentRepository.save(document);
+
+        // Read the totals after our update
+        Document document = documentRepository.findById(docId)
+                .orElseThrow(() -> ResourceNotFoundException.document(docId));
 
         // Build response
         return buildVoteResponse(document, newValue);
@@ -0,0 +1,275 @@
+package com.capstone.be.service.impl;
+
+import com.capstone.be.exception.FileStorageException;
+import com.capstone.be.exception.InvalidRequestException;
+import com.capstone.be.exception.ResourceNotFoundException;
+import com.capstone.be.service.FileStorageService;
+import com.capstone.be.service.helper.LocalStorageUrlSigner;
+import com.capstone.be.service.helper.PresignedUrlCache;
+import com.capstone.be.util.FileUploadRules;
+import com.capstone.be.util.SpooledMultipartFile;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * File storage on the local disk (app.storage.type=local), for on-prem installs and load tests.
+ * Objects are stored under {@code <root-dir>/<folder>/<ab>/<cd>/<filename>}, where ab/cd are the
+ * first bytes of the SHA-256 of the filename, so no directory grows past a few thousand entries.
+ * Writes go to a temp file that is atomically moved into place. Download URLs are HMAC-signed
+ * and expiring (see {@link LocalStorageUrlSigner}) and are served by LocalStorageController.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalFileStorageService implements FileStorageService {
+
+  private final LocalStorageUrlSigner urlSigner;
+  private final PresignedUrlCache presignedUrlCache;
+
+  @Value("${app.storage.local.root-dir:./data/storage}")
+  private String rootDir;
+
+  private Path root;
+
+  @PostConstruct
+  public void init() throws IOException {
+    root = Path.of(rootDir).toAbsolutePath().normalize();
+    Files.createDirectories(root);
+    log.info("Local file storage root: {}", root);
+  }
+
+  @Override
+  public String uploadFile(MultipartFile file, String folder, String customFilename) {
+    FileUploadRules.validate(file);
+
+    String filename = customFilename != null
+        ? customFilename
+        : FileUploadRules.uniqueFilename(file.getOriginalFilename());
+    try {
+      if (file instanceof SpooledMultipartFile spooled) {
+        write(folder, filename, tmp -> Files.copy(spooled.getPath(), tmp));
+      } else {
+        write(folder, filename, tmp -> {
+          try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, tmp);
+          }
+        });
+      }
+      log.info("Successfully stored file: {}/{}", folder, filename);
+      return filename;
+    } catch (IOException e) {
+      log.error("Failed to store file: {}", file.getOriginalFilename(), e);
+      throw FileStorageException.uploadFailed(file.getOriginalFilename(), e);
+    }
+  }
+
+  @Override
+  public String uploadFile(byte[] content, String contentType, String folder, String filename) {
+    String finalFilename = (filename != null && !filename.isBlank())
+        ? filename
+        : FileUploadRules.uniqueFilename("dump.png"); //for extension
+    try {
+      write(folder, finalFilename, tmp -> Files.write(tmp, content));
+      log.info("Successfully stored generated file: {}/{}", folder, finalFilename);
+      return finalFilename;
+    } catch (IOException e) {
+      log.error("Failed to store generated file", e);
+      throw new FileStorageException("Failed to store generated file", e);
+    }
+  }
+
+  @Override
+  public List<String> uploadFiles(List<MultipartFile> files, String folder) {
+    files.forEach(FileUploadRules::validate);
+
+    List<String> filenames = new ArrayList<>();
+    try {
+      for (MultipartFile file : files) {
+        filenames.add(uploadFile(file, folder, null));
+      }
+      return filenames;
+    } catch (RuntimeException e) {
+      // Don't leave part of the batch behind
+      deleteFiles(folder, filenames);
+      throw e;
+    }
+  }
+
+  @Override
+  public void deleteFile(String folder, String filename) {
+    String key = folder + "/" + filename;
+    try {
+      Files.deleteIfExists(resolve(folder, filename));
+      presignedUrlCache.evict(key);
+      log.info("Successfully deleted file: {}", key);
+    } catch (IOException e) {
+      log.error("Failed to delete file with key: {}", key, e);
+      throw FileStorageException.deleteFailed(key, e);
+    }
+  }
+
+  @Override
+  public void deleteFiles(String folder, List<String> filenames) {
+    for (String filename : filenames) {
+      try {
+        deleteFile(folder, filename);
+      } catch (Exception e) {
+        log.error("Failed to delete file, continuing with others: {}", filename, e);
+      }
+    }
+  }
+
+  @Override
+  public void deleteFolder(String folder) {
+    if (folder == null || folder.isBlank() || folder.contains("..")) {
+      throw new InvalidRequestException("Invalid folder: " + folder);
+    }
+    Path directory = root.resolve(folder).normalize();
+    if (!directory.startsWith(root) || directory.equals(root) || !Files.isDirectory(directory)) {
+      return;
+    }
+
+    // Children sort after their parent, so delete in reverse order
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+      log.info("Successfully deleted folder: {}", folder);
+    } catch (IOException e) {
+      log.error("Failed to delete folder: {}", folder, e);
+      throw FileStorageException.deleteFailed(folder, e);
+    }
+  }
+
+  @Override
+  public Optional<byte[]> downloadFileIfExists(String folder, String filename) {
+    Path path = resolve(folder, filename);
+    try {
+      return Files.isRegularFile(path) ? Optional.of(Files.readAllBytes(path)) : Optional.empty();
+    } catch (IOException e) {
+      log.error("Failed to read file: {}/{}", folder, filename, e);
+      throw FileStorageException.downloadFailed(folder + "/" + filename, e);
+    }
+  }
+
+  @Override
+  public void downloadFile(String folder, String filename, Path target) {
+    Path path = resolve(folder, filename);
+    if (!Files.isRegularFile(path)) {
+      throw FileStorageException.fileNotFound(folder + "/" + filename);
+    }
+    try {
+      Files.copy(path, target);
+    } catch (IOException e) {
+      log.error("Failed to copy file: {}/{}", folder, filename, e);
+      throw FileStorageException.downloadFailed(folder + "/" + filename, e);
+    }
+  }
+
+  @Override
+  public String generatePresignedUrl(String folder, String filename, int expirationMinutes) {
+    String key = folder + "/" + filename;
+    resolve(folder, filename); // reject keys outside the storage root before signing
+    return presignedUrlCache.get(key, expirationMinutes,
+        () -> urlSigner.sign(key, expirationMinutes));
+  }
+
+  @Override
+  public Map<String, String> generatePresignedUrls(String folder, Collection<String> filenames,
+      int expirationMinutes) {
+    Map<String, String> urls = new LinkedHashMap<>();
+    for (String filename : filenames) {
+      if (filename != null && !filename.isBlank() && !urls.containsKey(filename)) {
+        urls.put(filename, generatePresignedUrl(folder, filename, expirationMinutes));
+      }
+    }
+    return urls;
+  }
+
+  /**
+   * Path of a stored object, for serving signed downloads
+   *
+   * @param key Object key (folder/filename)
+   * @throws ResourceNotFoundException if the object does not exist
+   */
+  public Path resolveExisting(String key) {
+    int separator = key.lastIndexOf('/');
+    if (separator <= 0) {
+      throw new ResourceNotFoundException("File", key);
+    }
+    Path path = resolve(key.substring(0, separator), key.substring(separator + 1));
+    if (!Files.isRegularFile(path)) {
+      throw new ResourceNotFoundException("File", key);
+    }
+    return path;
+  }
+
+  private void write(String folder, String filename, TempFileWriter writer) throws IOException {
+    Path target = resolve(folder, filename);
+    Files.createDirectories(target.getParent());
+    Path tmp = target.resolveSibling(filename + "." + UUID.randomUUID() + ".tmp");
+    try {
+      writer.write(tmp);
+      Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private Path resolve(String folder, String filename) {
+    if (folder == null || filename == null || filename.isBlank() || filename.contains("/")
+        || filename.contains("\\") || filename.contains("..") || folder.contains("..")) {
+      throw new InvalidRequestException("Invalid file key: " + folder + "/" + filename);
+    }
+
+    byte[] hash = sha256(filename);
+    Path path = root.resolve(folder)
+        .resolve(HexFormat.of().toHexDigits(hash[0]))
+        .resolve(HexFormat.of().toHexDigits(hash[1]))
+        .resolve(filename)
+        .normalize();
+    if (!path.startsWith(root)) {
+      throw new InvalidRequestException("Invalid file key: " + folder + "/" + filename);
+    }
+    return path;
+  }
+
+  private static byte[] sha256(String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface TempFileWriter {
+
+    void write(Path tmp) throws IOException;
+  }
+}
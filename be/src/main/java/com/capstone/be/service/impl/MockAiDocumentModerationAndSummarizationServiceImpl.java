@@ -12,6 +12,7 @@ import com.capstone.be.repository.ReaderProfileRepository;
 import com.capstone.be.service.AiDocumentModerationAndSummarizationService;
 import com.capstone.be.service.EmailService;
 import com.capstone.be.service.SystemConfigService;
+import com.capstone.be.util.SpooledMultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -80,6 +81,8 @@ public class MockAiDocumentModerationAndSummarizationServiceImpl implements
       log.error("[MOCK AI] Error during mock AI processing for document ID: {}", documentId, e);
       handleAiProcessingError(documentId, e);
       return CompletableFuture.failedFuture(e);
+    } finally {
+      SpooledMultipartFile.release(file);
     }
   }
 
@@ -3,6 +3,7 @@ package com.capstone.be.service.impl;
 import com.capstone.be.domain.entity.Notification;
 import com.capstone.be.domain.entity.User;
 import com.capstone.be.domain.enums.NotificationType;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.response.user.NotificationResponse;
 import com.capstone.be.exception.ResourceNotFoundException;
 import com.capstone.be.mapper.NotificationMapper;
@@ -10,11 +11,15 @@ import com.capstone.be.repository.NotificationRepository;
 import com.capstone.be.repository.UserRepository;
 import com.capstone.be.service.NotificationService;
 import com.capstone.be.service.NotificationEventService;
+import com.capstone.be.util.CursorUtil;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +58,28 @@ public class NotificationServiceImpl implements NotificationService {
         .map(notificationMapper::toResponse);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPagedResponse<NotificationResponse> getMyNotificationsByCursor(UUID userId,
+      boolean unreadOnly, String cursor, int size, boolean includeTotal) {
+    log.info("User {} fetching notifications by cursor - unreadOnly: {}, size: {}",
+        userId, unreadOnly, size);
+
+    User user = getUserById(userId);
+
+    Specification<Notification> spec = (root, query, cb) ->
+        cb.equal(root.get("user").get("id"), user.getId());
+    if (unreadOnly) {
+      spec = spec.and((root, query, cb) -> cb.isFalse(root.get("isRead")));
+    }
+
+    Window<Notification> window = CursorUtil.scroll(notificationRepository, spec,
+        Sort.by(Sort.Direction.DESC, "createdAt"), cursor, size);
+    Long total = includeTotal ? notificationRepository.count(spec) : null;
+
+    return CursorUtil.toResponse(window, size, total, notificationMapper::toResponse);
+  }
+
   @Override
   @Transactional(readOnly = true)
   public long getUnreadCount(UUID userId) {
@@ -31,6 +31,7 @@ import com.capstone.be.security.jwt.JwtUtil;
 import com.capstone.be.service.FileStorageService;
 import com.capstone.be.service.NotificationService;
 import com.capstone.be.service.OrgEnrollmentService;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
 import com.capstone.be.util.ExcelUtil;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -43,6 +44,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -67,6 +69,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
   private final FileStorageService fileStorageService;
   private final NotificationService notificationService;
   private final JwtUtil jwtUtil;
+  private final ApplicationEventPublisher eventPublisher;
 
   private final MemberImportBatchMapper memberImportBatchMapper;
 
@@ -487,6 +490,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
     // Accept invitation
     enrollment.acceptInvitation();
     orgEnrollmentRepository.save(enrollment);
+    publishEntitlementsChanged(enrollment);
 
     log.info("Reader {} successfully joined organization {}", readerId,
         enrollment.getOrganization().getName());
@@ -571,6 +575,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
     // Accept invitation
     enrollment.acceptInvitation();
     orgEnrollmentRepository.save(enrollment);
+    publishEntitlementsChanged(enrollment);
 
     // Send notification to organization admin
     notificationService.createNotification(
@@ -647,6 +652,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
     // Remove member (Soft delete)
     enrollment.removeMember();
     orgEnrollmentRepository.save(enrollment);
+    publishEntitlementsChanged(enrollment);
 
     log.info("Organization admin {} successfully removed member {}", organizationAdminId,
         enrollment.getMember().getEmail());
@@ -678,6 +684,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
     // Set status to LEFT (different from admin removing which sets REMOVED)
     enrollment.leaveMember();
     orgEnrollmentRepository.save(enrollment);
+    publishEntitlementsChanged(enrollment);
 
     log.info("Reader {} successfully left organization {}", readerId,
         enrollment.getOrganization().getName());
@@ -779,6 +786,7 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
     }
 
     enrollment = orgEnrollmentRepository.save(enrollment);
+    publishEntitlementsChanged(enrollment);
     log.info("Successfully updated enrollment {} status to {}", enrollmentId, newStatus);
 
     return buildEnrollmentResponse(enrollment);
@@ -814,6 +822,15 @@ public class OrgEnrollmentServiceImpl implements OrgEnrollmentService {
         .orElseThrow(() -> ResourceNotFoundException.userById(userId));
   }
 
+  /**
+   * Evict the member's cached access entitlements after a JOINED membership changes
+   */
+  private void publishEntitlementsChanged(OrgEnrollment enrollment) {
+    if (enrollment.getMember() != null) {
+      eventPublisher.publishEvent(new UserEntitlementsChangedEvent(enrollment.getMember().getId()));
+    }
+  }
+
   private OrgEnrollment getEnrollmentById(UUID enrollmentId) {
     return orgEnrollmentRepository.findById(enrollmentId)
         .orElseThrow(() -> new ResourceNotFoundException(
@@ -1,15 +1,7 @@
 package com.capstone.be.service.impl;
 
-import com.capstone.be.domain.entity.Comment;
-import com.capstone.be.domain.entity.Document;
-import com.capstone.be.domain.entity.DocumentReadHistory;
-import com.capstone.be.domain.entity.DocumentRedemption;
-import com.capstone.be.domain.entity.DocumentVote;
-import com.capstone.be.domain.entity.OrgEnrollment;
 import com.capstone.be.domain.entity.OrganizationProfile;
-import com.capstone.be.domain.entity.SavedListDocument;
-import com.capstone.be.domain.enums.DocStatus;
-import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.domain.enums.OrgEnrollStatus;
 import com.capstone.be.dto.response.statistics.OrganizationStatisticsResponse;
 import com.capstone.be.dto.response.statistics.OrganizationStatisticsResponse.OrganizationInfo;
@@ -20,28 +12,28 @@ import com.capstone.be.dto.response.statistics.OrganizationStatisticsResponse.Ti
 import com.capstone.be.dto.response.statistics.OrganizationStatisticsResponse.TopContributor;
 import com.capstone.be.dto.response.statistics.OrganizationStatisticsResponse.VisibilityBreakdown;
 import com.capstone.be.exception.ResourceNotFoundException;
-import com.capstone.be.repository.CommentRepository;
-import com.capstone.be.repository.DocumentReadHistoryRepository;
-import com.capstone.be.repository.DocumentRedemptionRepository;
-import com.capstone.be.repository.DocumentRepository;
-import com.capstone.be.repository.DocumentVoteRepository;
 import com.capstone.be.repository.OrgEnrollmentRepository;
 import com.capstone.be.repository.OrganizationProfileRepository;
-import com.capstone.be.repository.SavedListDocumentRepository;
 import com.capstone.be.service.OrganizationStatisticsService;
+import com.capstone.be.service.helper.DocumentActivityStats;
+import com.capstone.be.service.helper.DocumentActivityStats.DailyActivity;
+import com.capstone.be.service.helper.DocumentActivityStats.Scope;
+import com.capstone.be.service.helper.DocumentStatisticsQueries;
+import com.capstone.be.service.helper.DocumentStatisticsQueries.DocumentCounts;
+import com.capstone.be.service.helper.DocumentStatisticsQueries.Ranking;
+import com.capstone.be.service.helper.DocumentStatisticsQueries.TopEntry;
+import com.capstone.be.service.helper.OrganizationStatisticsQueries;
+import com.capstone.be.service.helper.TimeSeries;
+import com.capstone.be.service.helper.TimeSeriesQueries;
+import com.capstone.be.service.helper.TimeSeriesQueries.Query;
+import com.capstone.be.service.helper.TimeSeriesQueries.Source;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,16 +42,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class OrganizationStatisticsServiceImpl implements OrganizationStatisticsService {
 
-  private final DocumentRepository documentRepository;
-  private final DocumentReadHistoryRepository documentReadHistoryRepository;
-  private final DocumentVoteRepository documentVoteRepository;
-  private final CommentRepository commentRepository;
-  private final SavedListDocumentRepository savedListDocumentRepository;
-  private final DocumentRedemptionRepository documentRedemptionRepository;
   private final OrganizationProfileRepository organizationProfileRepository;
   private final OrgEnrollmentRepository orgEnrollmentRepository;
-
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private final DocumentActivityStats documentActivityStats;
+  private final DocumentStatisticsQueries documentStatisticsQueries;
+  private final OrganizationStatisticsQueries organizationStatisticsQueries;
+  private final TimeSeriesQueries timeSeriesQueries;
 
   @Override
   @Transactional(readOnly = true)
@@ -72,55 +60,40 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
     OrganizationProfile organization = organizationProfileRepository.findById(organizationId)
         .orElseThrow(() -> new ResourceNotFoundException("Organization", "id", organizationId));
 
-    // Get all documents for this organization
-    Specification<Document> docSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      predicates.add(cb.equal(root.get("organization").get("id"), organizationId));
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
-
-    List<Document> orgDocuments = documentRepository.findAll(docSpec);
-    List<UUID> documentIds = orgDocuments.stream()
-        .map(Document::getId)
-        .collect(Collectors.toList());
+    // Count the organization's documents per status, visibility and premium flag in SQL
+    DocumentCounts orgDocuments = documentStatisticsQueries.countDocuments(Scope.ORGANIZATION,
+        organizationId, startDate, endDate);
 
-    // Get all enrollments for this organization
-    Specification<OrgEnrollment> enrollmentSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      predicates.add(cb.equal(root.get("organization").get("id"), organizationId));
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
+    // Activity on those documents, from the daily rollup
+    DailyActivity activity = documentActivityStats.daily(Scope.ORGANIZATION, organizationId, true,
+        startDate, endDate);
 
-    List<OrgEnrollment> enrollments = orgEnrollmentRepository.findAll(enrollmentSpec);
+    // Count this organization's enrollments per status in SQL
+    Map<OrgEnrollStatus, Long> enrollments = organizationStatisticsQueries
+        .countEnrollmentsByStatus(organizationId, startDate, endDate);
 
     // Calculate summary statistics
     SummaryStatistics summary = calculateSummaryStatistics(
-        organization, orgDocuments, documentIds, enrollments, startDate, endDate);
+        organization, orgDocuments, activity);
 
     // Calculate time series data
-    List<TimeSeriesData> memberGrowth = calculateMemberGrowthTimeSeries(enrollments, startDate,
-        endDate);
-    List<TimeSeriesData> documentUploads = calculateDocumentUploadsTimeSeries(orgDocuments,
-        startDate, endDate);
-    List<TimeSeriesData> documentViews = calculateDocumentViewsTimeSeries(documentIds, startDate,
-        endDate);
-    List<TimeSeriesData> votesReceived = calculateVotesTimeSeries(documentIds, startDate, endDate);
-    List<TimeSeriesData> commentsReceived = calculateCommentsTimeSeries(documentIds, startDate,
-        endDate);
-    List<TimeSeriesData> documentsSaved = calculateDocumentsSavedTimeSeries(documentIds, startDate,
-        endDate);
+    List<TimeSeriesData> memberGrowth = toTimeSeriesData(timeSeriesQueries.count(
+        Query.of(Source.ORG_ENROLLMENTS)
+            .where("organization_id = ?", organizationId)
+            .where("status = ?", OrgEnrollStatus.JOINED.name())
+            .range(startDate, endDate)));
+    List<TimeSeriesData> documentUploads = toTimeSeriesData(timeSeriesQueries.count(
+        Query.of(Source.DOCUMENTS)
+            .where("organization_id = ?", organizationId)
+            .range(startDate, endDate)));
+    List<TimeSeriesData> documentViews = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.VIEWS));
+    List<TimeSeriesData> votesReceived = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.VOTES));
+    List<TimeSeriesData> commentsReceived = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.COMMENTS));
+    List<TimeSeriesData> documentsSaved = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.SAVES));
 
     // Calculate breakdowns
     List<StatusBreakdown> memberStatusBreakdown = calculateMemberStatusBreakdown(enrollments);
@@ -130,7 +103,9 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
     PremiumBreakdown premiumBreakdown = calculatePremiumBreakdown(orgDocuments);
 
     // Calculate top contributors
-    List<TopContributor> topContributors = calculateTopContributors(orgDocuments, enrollments);
+    List<TopContributor> topContributors = calculateTopContributors(
+        documentStatisticsQueries.top(Ranking.UPLOADER, Scope.ORGANIZATION, organizationId,
+            startDate, endDate, 10));
 
     // Build organization info
     OrganizationInfo orgInfo = OrganizationInfo.builder()
@@ -159,71 +134,20 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
   }
 
   private SummaryStatistics calculateSummaryStatistics(
-      OrganizationProfile organization, List<Document> documents, List<UUID> documentIds,
-      List<OrgEnrollment> enrollments, Instant startDate, Instant endDate) {
+      OrganizationProfile organization, DocumentCounts documents, DailyActivity activity) {
     long totalMembers = orgEnrollmentRepository.countByOrganizationAndStatus(organization,
         OrgEnrollStatus.JOINED);
-    long totalDocuments = documents.size();
-    long totalViews = documents.stream()
-        .mapToLong(doc -> doc.getViewCount() != null ? doc.getViewCount() : 0L)
-        .sum();
-    long totalUpvotes = documents.stream()
-        .mapToLong(doc -> doc.getUpvoteCount() != null ? doc.getUpvoteCount() : 0L)
-        .sum();
-    long totalVoteScore = documents.stream()
-        .mapToLong(doc -> doc.getVoteScore() != null ? doc.getVoteScore() : 0L)
-        .sum();
-    long totalDownvotes = (totalUpvotes - totalVoteScore) / 2;
+    long totalDocuments = documents.total();
+    long totalViews = documents.views();
+    long totalUpvotes = documents.upvotes();
+    long totalDownvotes = documents.downvotes();
 
-    // Count comments
-    long totalComments = commentRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          predicates.add(cb.equal(root.get("isDeleted"), false));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    // Count saves
-    long totalSaves = savedListDocumentRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    // Count purchases
-    long totalPurchases = documentRedemptionRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
+    long totalComments = activity.total(DocumentActivityMetric.COMMENTS);
+    long totalSaves = activity.total(DocumentActivityMetric.SAVES);
+    long totalPurchases = activity.total(DocumentActivityMetric.PURCHASES);
 
     // Count active members (members who uploaded documents)
-    long activeMembers = documents.stream()
-        .map(Document::getUploader)
-        .map(uploader -> uploader.getId())
-        .distinct()
-        .count();
+    long activeMembers = documents.uploaders();
 
     double avgViews = totalDocuments > 0 ? (double) totalViews / totalDocuments : 0.0;
 
@@ -241,139 +165,8 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
         .build();
   }
 
-  private List<TimeSeriesData> calculateMemberGrowthTimeSeries(List<OrgEnrollment> enrollments,
-      Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (OrgEnrollment enrollment : enrollments) {
-      if (enrollment.getStatus() == OrgEnrollStatus.JOINED) {
-        LocalDate date = enrollment.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-        String dateStr = date.format(DATE_FORMATTER);
-        dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-      }
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateDocumentUploadsTimeSeries(List<Document> documents,
-      Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (Document doc : documents) {
-      LocalDate date = doc.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateDocumentViewsTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<DocumentReadHistory> histories = documentReadHistoryRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (DocumentReadHistory history : histories) {
-      LocalDate date = history.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateVotesTimeSeries(List<UUID> documentIds, Instant startDate,
-      Instant endDate) {
-    List<DocumentVote> votes = documentVoteRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (DocumentVote vote : votes) {
-      LocalDate date = vote.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateCommentsTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<Comment> comments = commentRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          predicates.add(cb.equal(root.get("isDeleted"), false));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (Comment comment : comments) {
-      LocalDate date = comment.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateDocumentsSavedTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<SavedListDocument> savedDocs = savedListDocumentRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (SavedListDocument savedDoc : savedDocs) {
-      LocalDate date = savedDoc.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<StatusBreakdown> calculateMemberStatusBreakdown(List<OrgEnrollment> enrollments) {
-    Map<OrgEnrollStatus, Long> statusCounts = enrollments.stream()
-        .collect(Collectors.groupingBy(OrgEnrollment::getStatus, Collectors.counting()));
-
+  private List<StatusBreakdown> calculateMemberStatusBreakdown(
+      Map<OrgEnrollStatus, Long> statusCounts) {
     return statusCounts.entrySet().stream()
         .map(entry -> StatusBreakdown.builder()
             .status(entry.getKey().name())
@@ -382,11 +175,8 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
         .collect(Collectors.toList());
   }
 
-  private List<StatusBreakdown> calculateDocumentStatusBreakdown(List<Document> documents) {
-    Map<DocStatus, Long> statusCounts = documents.stream()
-        .collect(Collectors.groupingBy(Document::getStatus, Collectors.counting()));
-
-    return statusCounts.entrySet().stream()
+  private List<StatusBreakdown> calculateDocumentStatusBreakdown(DocumentCounts documents) {
+    return documents.statusCounts().entrySet().stream()
         .map(entry -> StatusBreakdown.builder()
             .status(entry.getKey().name())
             .count(entry.getValue())
@@ -395,11 +185,8 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
   }
 
   private List<VisibilityBreakdown> calculateDocumentVisibilityBreakdown(
-      List<Document> documents) {
-    Map<DocVisibility, Long> visibilityCounts = documents.stream()
-        .collect(Collectors.groupingBy(Document::getVisibility, Collectors.counting()));
-
-    return visibilityCounts.entrySet().stream()
+      DocumentCounts documents) {
+    return documents.visibilityCounts().entrySet().stream()
         .map(entry -> VisibilityBreakdown.builder()
             .visibility(entry.getKey().name())
             .count(entry.getValue())
@@ -407,11 +194,9 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
         .collect(Collectors.toList());
   }
 
-  private PremiumBreakdown calculatePremiumBreakdown(List<Document> documents) {
-    long premiumCount = documents.stream()
-        .filter(doc -> Boolean.TRUE.equals(doc.getIsPremium()))
-        .count();
-    long freeCount = documents.size() - premiumCount;
+  private PremiumBreakdown calculatePremiumBreakdown(DocumentCounts documents) {
+    long premiumCount = documents.premium();
+    long freeCount = documents.total() - premiumCount;
 
     return PremiumBreakdown.builder()
         .premiumCount(premiumCount)
@@ -419,66 +204,23 @@ public class OrganizationStatisticsServiceImpl implements OrganizationStatistics
         .build();
   }
 
-  private List<TopContributor> calculateTopContributors(List<Document> documents,
-      List<OrgEnrollment> enrollments) {
-    // Count uploads per member
-    Map<UUID, Long> uploadCounts = documents.stream()
-        .collect(Collectors.groupingBy(
-            doc -> doc.getUploader().getId(),
-            Collectors.counting()));
-
-    // Get top 10 contributors
-    return uploadCounts.entrySet().stream()
-        .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
-        .limit(10)
-        .map(entry -> {
-          UUID memberId = entry.getKey();
-          long count = entry.getValue();
-
-          // Find member info from enrollments or documents
-          String memberName = documents.stream()
-              .filter(doc -> doc.getUploader().getId().equals(memberId))
-              .findFirst()
-              .map(doc -> doc.getUploader().getFullName())
-              .orElse("Unknown");
-
-          String memberEmail = documents.stream()
-              .filter(doc -> doc.getUploader().getId().equals(memberId))
-              .findFirst()
-              .map(doc -> doc.getUploader().getEmail())
-              .orElse("");
-
-          return TopContributor.builder()
-              .memberId(memberId.toString())
-              .memberName(memberName)
-              .memberEmail(memberEmail)
-              .uploadCount(count)
-              .build();
-        })
+  private List<TopContributor> calculateTopContributors(List<TopEntry> uploaders) {
+    // Top 10 uploaders, ranked in SQL
+    return uploaders.stream()
+        .map(uploader -> TopContributor.builder()
+            .memberId(uploader.id().toString())
+            .memberName(uploader.name())
+            .memberEmail(uploader.email() != null ? uploader.email() : "")
+            .uploadCount(uploader.count())
+            .build())
         .collect(Collectors.toList());
   }
 
-  private List<TimeSeriesData> buildTimeSeries(Map<String, Long> dateCounts, Instant startDate,
-      Instant endDate) {
-    LocalDate start = startDate != null
-        ? startDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now().minusMonths(6);
-    LocalDate end = endDate != null
-        ? endDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now();
-
-    List<TimeSeriesData> series = new ArrayList<>();
-    LocalDate current = start;
-    while (!current.isAfter(end)) {
-      String dateStr = current.format(DATE_FORMATTER);
-      series.add(TimeSeriesData.builder()
-          .date(dateStr)
-          .count(dateCounts.getOrDefault(dateStr, 0L))
-          .build());
-      current = current.plusDays(1);
-    }
-
-    return series;
+  private List<TimeSeriesData> toTimeSeriesData(TimeSeries series) {
+    return series.map((date, count) -> TimeSeriesData.builder()
+        .date(date)
+        .count(count)
+        .build());
   }
 }
 
@@ -1,37 +1,28 @@
 package com.capstone.be.service.impl;
 
-import com.capstone.be.domain.entity.Comment;
-import com.capstone.be.domain.entity.Document;
-import com.capstone.be.domain.entity.DocumentReadHistory;
-import com.capstone.be.domain.entity.DocumentRedemption;
-import com.capstone.be.domain.entity.DocumentVote;
-import com.capstone.be.domain.entity.SavedListDocument;
-import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.dto.response.statistics.PersonalDocumentStatisticsResponse;
 import com.capstone.be.dto.response.statistics.PersonalDocumentStatisticsResponse.PremiumBreakdown;
 import com.capstone.be.dto.response.statistics.PersonalDocumentStatisticsResponse.StatusBreakdown;
 import com.capstone.be.dto.response.statistics.PersonalDocumentStatisticsResponse.SummaryStatistics;
 import com.capstone.be.dto.response.statistics.PersonalDocumentStatisticsResponse.TimeSeriesData;
-import com.capstone.be.repository.CommentRepository;
-import com.capstone.be.repository.DocumentReadHistoryRepository;
-import com.capstone.be.repository.DocumentRedemptionRepository;
-import com.capstone.be.repository.DocumentRepository;
-import com.capstone.be.repository.DocumentVoteRepository;
-import com.capstone.be.repository.SavedListDocumentRepository;
 import com.capstone.be.service.PersonalStatisticsService;
+import com.capstone.be.service.helper.DocumentActivityStats;
+import com.capstone.be.service.helper.DocumentActivityStats.DailyActivity;
+import com.capstone.be.service.helper.DocumentActivityStats.Scope;
+import com.capstone.be.service.helper.DocumentStatisticsQueries;
+import com.capstone.be.service.helper.DocumentStatisticsQueries.DocumentCounts;
+import com.capstone.be.service.helper.TimeSeries;
+import com.capstone.be.service.helper.TimeSeriesQueries;
+import com.capstone.be.service.helper.TimeSeriesQueries.Query;
+import com.capstone.be.service.helper.TimeSeriesQueries.Source;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,14 +31,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PersonalStatisticsServiceImpl implements PersonalStatisticsService {
 
-  private final DocumentRepository documentRepository;
-  private final DocumentReadHistoryRepository documentReadHistoryRepository;
-  private final DocumentVoteRepository documentVoteRepository;
-  private final CommentRepository commentRepository;
-  private final SavedListDocumentRepository savedListDocumentRepository;
-  private final DocumentRedemptionRepository documentRedemptionRepository;
-
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private final DocumentStatisticsQueries documentStatisticsQueries;
+  private final DocumentActivityStats documentActivityStats;
+  private final TimeSeriesQueries timeSeriesQueries;
 
   @Override
   @Transactional(readOnly = true)
@@ -56,42 +42,34 @@ public class PersonalStatisticsServiceImpl implements PersonalStatisticsService
     log.info("Getting personal document statistics for user {} from {} to {}", userId, startDate,
         endDate);
 
-    // Get all documents uploaded by user
-    Specification<Document> docSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      predicates.add(cb.equal(root.get("uploader").get("id"), userId));
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
-
-    List<Document> userDocuments = documentRepository.findAll(docSpec);
-    List<UUID> documentIds = userDocuments.stream()
-        .map(Document::getId)
-        .collect(Collectors.toList());
+    // Count the user's documents per status, visibility and premium flag in SQL
+    DocumentCounts userDocuments = documentStatisticsQueries.countDocuments(Scope.UPLOADER,
+        userId, startDate, endDate);
 
-    if (documentIds.isEmpty()) {
+    if (userDocuments.total() == 0) {
       return buildEmptyResponse();
     }
 
-    // Calculate summary statistics
-    SummaryStatistics summary = calculateSummaryStatistics(userDocuments, documentIds, startDate,
+    // Activity on those documents, from the daily rollup
+    DailyActivity activity = documentActivityStats.daily(Scope.UPLOADER, userId, true, startDate,
         endDate);
 
+    // Calculate summary statistics
+    SummaryStatistics summary = calculateSummaryStatistics(userDocuments, activity);
+
     // Calculate time series data
-    List<TimeSeriesData> documentUploads = calculateDocumentUploadsTimeSeries(userDocuments,
-        startDate, endDate);
-    List<TimeSeriesData> documentViews = calculateDocumentViewsTimeSeries(documentIds, startDate,
-        endDate);
-    List<TimeSeriesData> votesReceived = calculateVotesTimeSeries(documentIds, startDate, endDate);
-    List<TimeSeriesData> commentsReceived = calculateCommentsTimeSeries(documentIds, startDate,
-        endDate);
-    List<TimeSeriesData> documentsSaved = calculateDocumentsSavedTimeSeries(documentIds, startDate,
-        endDate);
+    List<TimeSeriesData> documentUploads = toTimeSeriesData(timeSeriesQueries.count(
+        Query.of(Source.DOCUMENTS)
+            .where("uploader_id = ?", userId)
+            .range(startDate, endDate)));
+    List<TimeSeriesData> documentViews = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.VIEWS));
+    List<TimeSeriesData> votesReceived = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.VOTES));
+    List<TimeSeriesData> commentsReceived = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.COMMENTS));
+    List<TimeSeriesData> documentsSaved = toTimeSeriesData(
+        activity.series(DocumentActivityMetric.SAVES));
 
     // Calculate status breakdown
     List<StatusBreakdown> statusBreakdown = calculateStatusBreakdown(userDocuments);
@@ -111,62 +89,17 @@ public class PersonalStatisticsServiceImpl implements PersonalStatisticsService
         .build();
   }
 
-  private SummaryStatistics calculateSummaryStatistics(List<Document> documents,
-      List<UUID> documentIds, Instant startDate, Instant endDate) {
-    long totalDocuments = documents.size();
-    long totalViews = documents.stream()
-        .mapToLong(doc -> doc.getViewCount() != null ? doc.getViewCount() : 0L)
-        .sum();
-    long totalUpvotes = documents.stream()
-        .mapToLong(doc -> doc.getUpvoteCount() != null ? doc.getUpvoteCount() : 0L)
-        .sum();
-    long totalVoteScore = documents.stream()
-        .mapToLong(doc -> doc.getVoteScore() != null ? doc.getVoteScore() : 0L)
-        .sum();
-    long totalDownvotes = (totalUpvotes - totalVoteScore) / 2;
-
-    // Count comments
-    long totalComments = commentRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          predicates.add(cb.equal(root.get("isDeleted"), false));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
+  private SummaryStatistics calculateSummaryStatistics(DocumentCounts documents,
+      DailyActivity activity) {
+    long totalDocuments = documents.total();
+    long totalViews = documents.views();
+    long totalUpvotes = documents.upvotes();
+    long totalDownvotes = documents.downvotes();
 
-    // Count saves
-    long totalSaves = savedListDocumentRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    // Count purchases (redemptions) for premium documents
-    long totalPurchases = documentRedemptionRepository.count(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
+    long totalComments = activity.total(DocumentActivityMetric.COMMENTS);
+    long totalSaves = activity.total(DocumentActivityMetric.SAVES);
+    // Purchases (redemptions) of premium documents
+    long totalPurchases = activity.total(DocumentActivityMetric.PURCHASES);
 
     double avgViews = totalDocuments > 0 ? (double) totalViews / totalDocuments : 0.0;
     double avgVotes = totalDocuments > 0 ? (double) (totalUpvotes + totalDownvotes) / totalDocuments
@@ -185,125 +118,8 @@ public class PersonalStatisticsServiceImpl implements PersonalStatisticsService
         .build();
   }
 
-  private List<TimeSeriesData> calculateDocumentUploadsTimeSeries(List<Document> documents,
-      Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (Document doc : documents) {
-      LocalDate date = doc.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateDocumentViewsTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<DocumentReadHistory> histories = documentReadHistoryRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (DocumentReadHistory history : histories) {
-      LocalDate date = history.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateVotesTimeSeries(List<UUID> documentIds, Instant startDate,
-      Instant endDate) {
-    List<DocumentVote> votes = documentVoteRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (DocumentVote vote : votes) {
-      LocalDate date = vote.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateCommentsTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<Comment> comments = commentRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          predicates.add(cb.equal(root.get("isDeleted"), false));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (Comment comment : comments) {
-      LocalDate date = comment.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<TimeSeriesData> calculateDocumentsSavedTimeSeries(List<UUID> documentIds,
-      Instant startDate, Instant endDate) {
-    List<SavedListDocument> savedDocs = savedListDocumentRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(root.get("document").get("id").in(documentIds));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    for (SavedListDocument savedDoc : savedDocs) {
-      LocalDate date = savedDoc.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<StatusBreakdown> calculateStatusBreakdown(List<Document> documents) {
-    Map<DocStatus, Long> statusCounts = documents.stream()
-        .collect(Collectors.groupingBy(Document::getStatus, Collectors.counting()));
-
-    return statusCounts.entrySet().stream()
+  private List<StatusBreakdown> calculateStatusBreakdown(DocumentCounts documents) {
+    return documents.statusCounts().entrySet().stream()
         .map(entry -> StatusBreakdown.builder()
             .status(entry.getKey().name())
             .count(entry.getValue())
@@ -311,11 +127,9 @@ public class PersonalStatisticsServiceImpl implements PersonalStatisticsService
         .collect(Collectors.toList());
   }
 
-  private PremiumBreakdown calculatePremiumBreakdown(List<Document> documents) {
-    long premiumCount = documents.stream()
-        .filter(doc -> Boolean.TRUE.equals(doc.getIsPremium()))
-        .count();
-    long freeCount = documents.size() - premiumCount;
+  private PremiumBreakdown calculatePremiumBreakdown(DocumentCounts documents) {
+    long premiumCount = documents.premium();
+    long freeCount = documents.total() - premiumCount;
 
     return PremiumBreakdown.builder()
         .premiumCount(premiumCount)
@@ -323,27 +137,11 @@ public class PersonalStatisticsServiceImpl implements PersonalStatisticsService
         .build();
   }
 
-  private List<TimeSeriesData> buildTimeSeries(Map<String, Long> dateCounts, Instant startDate,
-      Instant endDate) {
-    LocalDate start = startDate != null
-        ? startDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now().minusMonths(6);
-    LocalDate end = endDate != null
-        ? endDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now();
-
-    List<TimeSeriesData> series = new ArrayList<>();
-    LocalDate current = start;
-    while (!current.isAfter(end)) {
-      String dateStr = current.format(DATE_FORMATTER);
-      series.add(TimeSeriesData.builder()
-          .date(dateStr)
-          .count(dateCounts.getOrDefault(dateStr, 0L))
-          .build());
-      current = current.plusDays(1);
-    }
-
-    return series;
+  private List<TimeSeriesData> toTimeSeriesData(TimeSeries series) {
+    return series.map((date, count) -> TimeSeriesData.builder()
+        .date(date)
+        .count(count)
+        .build());
   }
 
   private PersonalDocumentStatisticsResponse buildEmptyResponse() {
@@ -37,10 +37,14 @@ import com.capstone.be.service.EmailService;
 import com.capstone.be.service.SystemConfigService;
 import com.capstone.be.service.FileStorageService;
 import com.capstone.be.service.ReviewRequestService;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
+import com.capstone.be.service.helper.DocumentBatchLoader;
+import com.capstone.be.service.helper.DocumentBatchLoader.DocumentAssociations;
 import com.capstone.be.util.ByteArrayMultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -54,9 +58,11 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -72,10 +78,12 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
   private final ReviewResultMapper reviewResultMapper;
   private final FileStorageService fileStorageService;
   private final DocumentTagLinkRepository documentTagLinkRepository;
+  private final DocumentBatchLoader documentBatchLoader;
   private final DocumentConversionService documentConversionService;
   private final EmailService emailService;
   private final SystemConfigService systemConfigService;
   private final com.capstone.be.service.helper.NotificationHelper notificationHelper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Value("${app.document.points.ba-approval:100}")
   private int baApprovalPointsFallback;
@@ -180,6 +188,7 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
       existingRequest.setRespondedAt(null);
       
       ReviewRequest updatedRequest = reviewRequestRepository.save(existingRequest);
+      eventPublisher.publishEvent(new UserEntitlementsChangedEvent(oldReviewerId));
 
       log.info("Successfully changed reviewer for review request {} from {} to {} for document {}",
           updatedRequest.getId(), oldReviewerId, request.getReviewerId(), documentId);
@@ -220,6 +229,7 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         .build();
 
     reviewRequest = reviewRequestRepository.save(reviewRequest);
+    documentRepository.applyReviewRequestStatusChange(documentId, null, ReviewRequestStatus.PENDING);
 
     // Document status remains PENDING_REVIEW until reviewer accepts
     // Will be updated to REVIEWING when reviewer accepts the request
@@ -260,12 +270,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         pageable
     );
 
+    DocumentAssociations associations = loadReviewRequestAssociations(requests.getContent());
+
     return requests.map(request -> {
-      // Load tags for the document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(request.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(request.getDocument().getId());
       return reviewRequestMapper.toResponse(request, tags);
     });
   }
@@ -285,12 +293,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
 
     Page<ReviewRequest> requests = reviewRequestRepository.findByReviewer_Id(reviewerId, pageable);
 
+    DocumentAssociations associations = loadReviewRequestAssociations(requests.getContent());
+
     return requests.map(request -> {
-      // Load tags for the document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(request.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(request.getDocument().getId());
       return reviewRequestMapper.toResponse(request, tags);
     });
   }
@@ -328,6 +334,8 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
       // Auto-expire the request
       reviewRequest.setStatus(ReviewRequestStatus.EXPIRED);
       reviewRequestRepository.save(reviewRequest);
+      documentRepository.applyReviewRequestStatusChange(reviewRequest.getDocument().getId(),
+          ReviewRequestStatus.PENDING, ReviewRequestStatus.EXPIRED);
       throw new InvalidRequestException("The response deadline has passed. This request has been marked as expired.");
     }
 
@@ -393,6 +401,9 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
     }
 
     reviewRequest = reviewRequestRepository.save(reviewRequest);
+    documentRepository.applyReviewRequestStatusChange(document.getId(),
+        ReviewRequestStatus.PENDING, reviewRequest.getStatus());
+    eventPublisher.publishEvent(new UserEntitlementsChangedEvent(reviewerId));
 
     // Load tags for the document
     List<Tag> tags = documentTagLinkRepository.findByDocument_Id(reviewRequest.getDocument().getId())
@@ -422,12 +433,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         pageable
     );
 
+    DocumentAssociations associations = loadReviewRequestAssociations(requests.getContent());
+
     return requests.map(request -> {
-      // Load tags for the document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(request.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(request.getDocument().getId());
       ReviewRequestResponse response = reviewRequestMapper.toResponse(request, tags);
       
       // Generate presigned URL for document file
@@ -461,12 +470,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
 
     Page<ReviewRequest> requests = reviewRequestRepository.findByDocument_Id(documentId, pageable);
 
+    DocumentAssociations associations = loadReviewRequestAssociations(requests.getContent());
+
     return requests.map(request -> {
-      // Load tags for the document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(request.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(request.getDocument().getId());
       return reviewRequestMapper.toResponse(request, tags);
     });
   }
@@ -478,12 +485,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
 
     Page<ReviewRequest> requests = reviewRequestRepository.findAll(pageable);
 
+    DocumentAssociations associations = loadReviewRequestAssociations(requests.getContent());
+
     return requests.map(request -> {
-      // Load tags for the document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(request.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(request.getDocument().getId());
       return reviewRequestMapper.toResponse(request, tags);
     });
   }
@@ -607,6 +612,7 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         .status(ReviewResultStatus.PENDING)
         .build();
     reviewResult = reviewResultRepository.save(reviewResult);
+    documentRepository.incrementSubmittedReviewCount(document.getId(), 1);
 
     // Document goes to PENDING_APPROVE - BA will approve/reject the review result
     document.setStatus(DocStatus.PENDING_APPROVE);
@@ -662,12 +668,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         pageable
     );
 
+    DocumentAssociations associations = loadReviewResultAssociations(reviews.getContent());
+
     return reviews.map(review -> {
-      // Load tags for each document
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(review.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(review.getDocument().getId());
       
       ReviewResultResponse response = reviewResultMapper.toResponse(review, tags);
 
@@ -754,11 +758,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
 
     Page<ReviewResult> reviews = reviewResultRepository.findByStatus(ReviewResultStatus.PENDING, pageable);
 
+    DocumentAssociations associations = loadReviewResultAssociations(reviews.getContent());
+
     return reviews.map(review -> {
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(review.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(review.getDocument().getId());
 
       ReviewResultResponse response = reviewResultMapper.toResponse(review, tags);
 
@@ -808,11 +811,10 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
       reviews = reviewResultRepository.findAll(pageable);
     }
 
+    DocumentAssociations associations = loadReviewResultAssociations(reviews.getContent());
+
     return reviews.map(review -> {
-      List<Tag> tags = documentTagLinkRepository.findByDocument_Id(review.getDocument().getId())
-          .stream()
-          .map(DocumentTagLink::getTag)
-          .collect(Collectors.toList());
+      List<Tag> tags = associations.getTags(review.getDocument().getId());
 
       ReviewResultResponse response = reviewResultMapper.toResponse(review, tags);
 
@@ -1033,13 +1035,22 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
         .filter(d -> Boolean.TRUE.equals(d.getIsPremium()))
         .toList();
 
+    // Fetch review requests of all premium documents in one query and batch load associations
+    documentBatchLoader.load(premiumDocs);
+    Map<UUID, List<ReviewRequest>> requestsByDocumentId = premiumDocs.isEmpty()
+        ? Map.of()
+        : reviewRequestRepository.findByDocument_IdIn(premiumDocs.stream().map(Document::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(rr -> rr.getDocument().getId()));
+    documentBatchLoader.preloadUsers(requestsByDocumentId.values().stream()
+        .flatMap(List::stream)
+        .flatMap(rr -> Stream.of(rr.getReviewer().getId(), rr.getAssignedBy().getId()))
+        .toList());
+
     List<ReviewManagementItem> items = new ArrayList<>();
 
     for (Document doc : premiumDocs) {
-      // Fetch all review requests for this document
-      List<ReviewRequest> docRequests = reviewRequestRepository
-          .findByDocument_Id(doc.getId(), Pageable.unpaged())
-          .getContent();
+      List<ReviewRequest> docRequests = requestsByDocumentId.getOrDefault(doc.getId(), List.of());
 
       // Helper to find appropriate review request depending on tab (similar to FE getReviewRequestForDocument)
       ReviewRequest chosenRequest = chooseReviewRequestForTab(doc, docRequests, filter.getTab());
@@ -1256,6 +1267,31 @@ public class ReviewRequestServiceImpl implements ReviewRequestService {
     return comparator;
   }
 
+  /**
+   * Batch load documents, tags and users referenced by a page of review requests
+   */
+  private DocumentAssociations loadReviewRequestAssociations(List<ReviewRequest> requests) {
+    documentBatchLoader.preloadUsers(requests.stream()
+        .flatMap(rr -> Stream.of(rr.getReviewer().getId(), rr.getAssignedBy().getId()))
+        .toList());
+    return documentBatchLoader.loadByIds(requests.stream()
+        .map(rr -> rr.getDocument().getId())
+        .toList());
+  }
+
+  /**
+   * Batch load documents, tags and users referenced by a page of review results
+   */
+  private DocumentAssociations loadReviewResultAssociations(List<ReviewResult> reviews) {
+    documentBatchLoader.preloadUsers(reviews.stream()
+        .flatMap(review -> Stream.of(review.getReviewer().getId(),
+            review.getApprovedBy() != null ? review.getApprovedBy().getId() : null))
+        .toList());
+    return documentBatchLoader.loadByIds(reviews.stream()
+        .map(review -> review.getDocument().getId())
+        .toList());
+  }
+
   /**
    * Calculate deadline (làm tròn tới 0h của ngày tiếp theo)
    * Ví dụ: Nếu hiện tại là 2025-01-15 14:30:00 và days = 1
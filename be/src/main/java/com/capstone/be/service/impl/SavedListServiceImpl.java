@@ -4,6 +4,7 @@ import com.capstone.be.domain.entity.Document;
 import com.capstone.be.domain.entity.ReaderProfile;
 import com.capstone.be.domain.entity.SavedList;
 import com.capstone.be.domain.entity.SavedListDocument;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
 import com.capstone.be.dto.request.savedlist.AddDocumentToSavedListRequest;
 import com.capstone.be.dto.request.savedlist.CreateSavedListRequest;
 import com.capstone.be.dto.request.savedlist.UpdateSavedListRequest;
@@ -20,6 +21,7 @@ import com.capstone.be.repository.ReaderProfileRepository;
 import com.capstone.be.repository.SavedListDocumentRepository;
 import com.capstone.be.repository.SavedListRepository;
 import com.capstone.be.service.SavedListService;
+import com.capstone.be.service.helper.DocumentActivityRollup;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -42,6 +44,7 @@ public class SavedListServiceImpl implements SavedListService {
   private final DocumentRepository documentRepository;
   private final SavedListMapper savedListMapper;
   private final DocumentMapper documentMapper;
+  private final DocumentActivityRollup documentActivityRollup;
 
   @Override
   @Transactional(readOnly = true)
@@ -127,6 +130,8 @@ public class SavedListServiceImpl implements SavedListService {
           .build();
 
       savedListDocumentRepository.save(savedListDocument);
+      documentRepository.incrementSaveCount(docId, 1);
+      documentActivityRollup.record(docId, DocumentActivityMetric.SAVES);
       log.info("Added document: {} to SavedList: {}", docId, createdList.getId());
     }
 
@@ -174,6 +179,8 @@ public class SavedListServiceImpl implements SavedListService {
         .build();
 
     savedListDocumentRepository.save(savedListDocument);
+    documentRepository.incrementSaveCount(docId, 1);
+    documentActivityRollup.record(docId, DocumentActivityMetric.SAVES);
     log.info("Added document: {} to SavedList: {}", docId, savedListId);
 
     // Refresh to get updated savedListDocuments
@@ -244,6 +251,9 @@ public class SavedListServiceImpl implements SavedListService {
             "Document not found in this SavedList"));
 
     savedListDocumentRepository.delete(savedListDocument);
+    documentRepository.incrementSaveCount(documentId, -1);
+    documentActivityRollup.record(documentId, DocumentActivityMetric.SAVES,
+        savedListDocument.getCreatedAt(), -1);
     log.info("Removed document: {} from SavedList: {}", documentId, savedListId);
   }
 
@@ -264,6 +274,13 @@ public class SavedListServiceImpl implements SavedListService {
       throw new ForbiddenException("You don't have permission to delete this SavedList");
     }
 
+    // Decrement save counters of the documents in this list before cascade deletes them
+    savedList.getSavedListDocuments().forEach(sld -> {
+      documentRepository.incrementSaveCount(sld.getDocument().getId(), -1);
+      documentActivityRollup.record(sld.getDocument().getId(), DocumentActivityMetric.SAVES,
+          sld.getCreatedAt(), -1);
+    });
+
     // Delete SavedList (cascade will delete SavedListDocuments)
     savedListRepository.delete(savedList);
     log.info("Deleted SavedList: {}", savedListId);
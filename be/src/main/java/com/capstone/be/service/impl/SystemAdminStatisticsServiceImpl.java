@@ -1,30 +1,29 @@
 package com.capstone.be.service.impl;
 
-import com.capstone.be.domain.entity.Document;
-import com.capstone.be.domain.entity.OrganizationProfile;
 import com.capstone.be.domain.entity.SystemLog;
-import com.capstone.be.domain.entity.User;
 import com.capstone.be.domain.enums.UserRole;
-import com.capstone.be.domain.enums.UserStatus;
 import com.capstone.be.dto.response.statistics.SystemAdminDashboardResponse;
 import com.capstone.be.repository.DocumentRepository;
 import com.capstone.be.repository.OrganizationProfileRepository;
 import com.capstone.be.repository.SystemLogRepository;
 import com.capstone.be.repository.UserRepository;
 import com.capstone.be.service.SystemAdminStatisticsService;
+import com.capstone.be.service.helper.TimeSeries;
+import com.capstone.be.service.helper.TimeSeriesQueries;
+import com.capstone.be.service.helper.TimeSeriesQueries.Query;
+import com.capstone.be.service.helper.TimeSeriesQueries.Source;
+import com.capstone.be.service.helper.UserStatisticsQueries;
+import com.capstone.be.service.helper.UserStatisticsQueries.UserCounts;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,8 +36,9 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
   private final OrganizationProfileRepository organizationProfileRepository;
   private final DocumentRepository documentRepository;
   private final SystemLogRepository systemLogRepository;
+  private final UserStatisticsQueries userStatisticsQueries;
+  private final TimeSeriesQueries timeSeriesQueries;
 
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
   private static final String LOGIN_SUCCESS_ACTION = "USER_LOGIN_SUCCESS";
   private static final String LOGIN_FAILED_ACTION = "USER_LOGIN_FAILED";
 
@@ -88,88 +88,49 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
   }
 
   private SystemAdminDashboardResponse.AccessStatistics calculateAccessStatistics(Instant startDate, Instant endDate) {
-    // Get login success logs
-    List<SystemLog> loginSuccessLogs = systemLogRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(cb.equal(root.get("action"), LOGIN_SUCCESS_ACTION));
-          predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    // Get login failed logs
-    List<SystemLog> loginFailedLogs = systemLogRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          predicates.add(cb.equal(root.get("action"), LOGIN_FAILED_ACTION));
-          predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    // Calculate time series for login trends
-    List<SystemAdminDashboardResponse.TimeSeriesData> loginSuccessTrend = calculateLoginTrendTimeSeries(loginSuccessLogs, startDate, endDate);
-    List<SystemAdminDashboardResponse.TimeSeriesData> loginFailedTrend = calculateLoginTrendTimeSeries(loginFailedLogs, startDate, endDate);
+    // Count logins per day in SQL
+    TimeSeries loginSuccess = timeSeriesQueries.count(Query.of(Source.SYSTEM_LOGS)
+        .where("action = ?", LOGIN_SUCCESS_ACTION)
+        .range(startDate, endDate));
+    TimeSeries loginFailed = timeSeriesQueries.count(Query.of(Source.SYSTEM_LOGS)
+        .where("action = ?", LOGIN_FAILED_ACTION)
+        .range(startDate, endDate));
 
     // Calculate active users trend (unique users who logged in per day)
-    List<SystemAdminDashboardResponse.TimeSeriesData> activeUsersTrend = calculateActiveUsersTrend(loginSuccessLogs, startDate, endDate);
+    TimeSeries activeUsers = timeSeriesQueries.count(Query.of(Source.SYSTEM_LOGS)
+        .countDistinct("user_id")
+        .where("action = ?", LOGIN_SUCCESS_ACTION)
+        .range(startDate, endDate));
 
     // Calculate summary statistics
     LocalDate today = LocalDate.now();
     LocalDate weekStart = today.minusDays(6);
     LocalDate monthStart = today.minusDays(29);
 
-    Instant todayStart = today.atStartOfDay(ZoneId.systemDefault()).toInstant();
-    Instant weekStartInstant = weekStart.atStartOfDay(ZoneId.systemDefault()).toInstant();
-    Instant monthStartInstant = monthStart.atStartOfDay(ZoneId.systemDefault()).toInstant();
-    Instant now = Instant.now();
-
-    long totalLoginsToday = loginSuccessLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(todayStart) || log.getCreatedAt().equals(todayStart))
-        .count();
-    long totalLoginsThisWeek = loginSuccessLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(weekStartInstant) || log.getCreatedAt().equals(weekStartInstant))
-        .count();
-    long totalLoginsThisMonth = loginSuccessLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(monthStartInstant) || log.getCreatedAt().equals(monthStartInstant))
-        .count();
-
-    long failedLoginsToday = loginFailedLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(todayStart) || log.getCreatedAt().equals(todayStart))
-        .count();
-    long failedLoginsThisWeek = loginFailedLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(weekStartInstant) || log.getCreatedAt().equals(weekStartInstant))
-        .count();
-    long failedLoginsThisMonth = loginFailedLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(monthStartInstant) || log.getCreatedAt().equals(monthStartInstant))
-        .count();
+    long totalLoginsToday = loginSuccess.totalSince(today);
+    long totalLoginsThisWeek = loginSuccess.totalSince(weekStart);
+    long totalLoginsThisMonth = loginSuccess.totalSince(monthStart);
+
+    long failedLoginsToday = loginFailed.totalSince(today);
+    long failedLoginsThisWeek = loginFailed.totalSince(weekStart);
+    long failedLoginsThisMonth = loginFailed.totalSince(monthStart);
 
     // Calculate active users (users who logged in within last 7/30 days)
     Instant last7Days = Instant.now().minusSeconds(7 * 24 * 60 * 60);
     Instant last30Days = Instant.now().minusSeconds(30 * 24 * 60 * 60);
 
-    long activeUsersLast7Days = loginSuccessLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(last7Days))
-        .map(SystemLog::getUserId)
-        .filter(userId -> userId != null)
-        .distinct()
-        .count();
-
-    long activeUsersLast30Days = loginSuccessLogs.stream()
-        .filter(log -> log.getCreatedAt().isAfter(last30Days))
-        .map(SystemLog::getUserId)
-        .filter(userId -> userId != null)
-        .distinct()
-        .count();
+    long activeUsersLast7Days = systemLogRepository.countDistinctUsersByActionAndDateRange(
+        LOGIN_SUCCESS_ACTION, last7Days.isAfter(startDate) ? last7Days : startDate, endDate);
+    long activeUsersLast30Days = systemLogRepository.countDistinctUsersByActionAndDateRange(
+        LOGIN_SUCCESS_ACTION, last30Days.isAfter(startDate) ? last30Days : startDate, endDate);
 
     // Calculate most accessed modules
     List<SystemAdminDashboardResponse.ModuleAccessData> mostAccessedModules = calculateMostAccessedModules(startDate, endDate);
 
     return SystemAdminDashboardResponse.AccessStatistics.builder()
-        .loginSuccessTrend(loginSuccessTrend)
-        .loginFailedTrend(loginFailedTrend)
-        .activeUsersTrend(activeUsersTrend)
+        .loginSuccessTrend(toTimeSeriesData(loginSuccess))
+        .loginFailedTrend(toTimeSeriesData(loginFailed))
+        .activeUsersTrend(toTimeSeriesData(activeUsers))
         .totalLoginsToday(totalLoginsToday)
         .totalLoginsThisWeek(totalLoginsThisWeek)
         .totalLoginsThisMonth(totalLoginsThisMonth)
@@ -183,56 +144,31 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
   }
 
   private SystemAdminDashboardResponse.UserActivityStatistics calculateUserActivityStatistics(Instant startDate, Instant endDate) {
-    // Get all users with date filter
-    Specification<User> userSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
-
-    List<User> allUsers = userRepository.findAll(userSpec);
+    // Count users per role, status and day in SQL
+    UserCounts userCounts = userStatisticsQueries.countByRoleStatusAndDay(List.of(), startDate,
+        endDate);
 
     // Calculate user growth by role
-    List<SystemAdminDashboardResponse.RoleGrowthData> userGrowthByRole = calculateUserGrowthByRole(allUsers, startDate, endDate);
+    List<SystemAdminDashboardResponse.RoleGrowthData> userGrowthByRole = calculateUserGrowthByRole(userCounts);
 
     // Calculate user status breakdown
-    List<SystemAdminDashboardResponse.StatusBreakdown> userStatusBreakdown = calculateUserStatusBreakdown(allUsers);
+    List<SystemAdminDashboardResponse.StatusBreakdown> userStatusBreakdown = calculateUserStatusBreakdown(userCounts);
 
     // Calculate new users registration over time
-    List<SystemAdminDashboardResponse.TimeSeriesData> newUsersRegistration = calculateNewUsersRegistrationTimeSeries(allUsers, startDate, endDate);
+    List<SystemAdminDashboardResponse.TimeSeriesData> newUsersRegistration = toTimeSeriesData(
+        userCounts.series(bucket -> true));
 
     // Calculate summary
-    long totalReaders = userRepository.count(
-        (root, query, cb) -> cb.equal(root.get("role"), UserRole.READER));
-    long totalReviewers = userRepository.count(
-        (root, query, cb) -> cb.equal(root.get("role"), UserRole.REVIEWER));
-    long totalOrganizationAdmins = userRepository.count(
-        (root, query, cb) -> cb.equal(root.get("role"), UserRole.ORGANIZATION_ADMIN));
-    long totalBusinessAdmins = userRepository.count(
-        (root, query, cb) -> cb.equal(root.get("role"), UserRole.BUSINESS_ADMIN));
+    Map<UserRole, Long> usersByRole = userStatisticsQueries.countByRole();
+    long totalReaders = usersByRole.getOrDefault(UserRole.READER, 0L);
+    long totalReviewers = usersByRole.getOrDefault(UserRole.REVIEWER, 0L);
+    long totalOrganizationAdmins = usersByRole.getOrDefault(UserRole.ORGANIZATION_ADMIN, 0L);
+    long totalBusinessAdmins = usersByRole.getOrDefault(UserRole.BUSINESS_ADMIN, 0L);
 
     LocalDate today = LocalDate.now();
-    LocalDate weekStart = today.minusDays(6);
-    LocalDate monthStart = today.minusDays(29);
-
-    Instant todayStart = today.atStartOfDay(ZoneId.systemDefault()).toInstant();
-    Instant weekStartInstant = weekStart.atStartOfDay(ZoneId.systemDefault()).toInstant();
-    Instant monthStartInstant = monthStart.atStartOfDay(ZoneId.systemDefault()).toInstant();
-
-    long newUsersToday = allUsers.stream()
-        .filter(u -> u.getCreatedAt().isAfter(todayStart) || u.getCreatedAt().equals(todayStart))
-        .count();
-    long newUsersThisWeek = allUsers.stream()
-        .filter(u -> u.getCreatedAt().isAfter(weekStartInstant) || u.getCreatedAt().equals(weekStartInstant))
-        .count();
-    long newUsersThisMonth = allUsers.stream()
-        .filter(u -> u.getCreatedAt().isAfter(monthStartInstant) || u.getCreatedAt().equals(monthStartInstant))
-        .count();
+    long newUsersToday = userCounts.countSince(today);
+    long newUsersThisWeek = userCounts.countSince(today.minusDays(6));
+    long newUsersThisMonth = userCounts.countSince(today.minusDays(29));
 
     return SystemAdminDashboardResponse.UserActivityStatistics.builder()
         .userGrowthByRole(userGrowthByRole)
@@ -249,54 +185,27 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
   }
 
   private SystemAdminDashboardResponse.SystemActivityStatistics calculateSystemActivityStatistics(Instant startDate, Instant endDate) {
-    // Get documents uploaded over time
-    Specification<Document> docSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
-
-    List<Document> documents = documentRepository.findAll(docSpec);
-    List<SystemAdminDashboardResponse.TimeSeriesData> documentsUploaded = calculateDocumentsUploadedTimeSeries(documents, startDate, endDate);
-
-    // Get organizations created over time
-    Specification<OrganizationProfile> orgSpec = (root, query, cb) -> {
-      var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-      if (startDate != null) {
-        predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-      }
-      if (endDate != null) {
-        predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-      }
-      return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-    };
-
-    List<OrganizationProfile> organizations = organizationProfileRepository.findAll(orgSpec);
-    List<SystemAdminDashboardResponse.TimeSeriesData> organizationsCreated = calculateOrganizationsCreatedTimeSeries(organizations, startDate, endDate);
-
-    // Get system actions from logs
-    List<SystemLog> systemLogs = systemLogRepository.findAll(
-        (root, query, cb) -> {
-          var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-          // Exclude login actions (already in access statistics)
-          predicates.add(cb.notEqual(root.get("action"), LOGIN_SUCCESS_ACTION));
-          predicates.add(cb.notEqual(root.get("action"), LOGIN_FAILED_ACTION));
-          if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-          }
-          if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-          }
-          return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        });
-
-    List<SystemAdminDashboardResponse.ActionBreakdown> systemActionsBreakdown = calculateSystemActionsBreakdown(systemLogs);
-    List<SystemAdminDashboardResponse.TimeSeriesData> systemActionsTrend = calculateSystemActionsTrendTimeSeries(systemLogs, startDate, endDate);
+    // Count documents uploaded and organizations created per day in SQL
+    List<SystemAdminDashboardResponse.TimeSeriesData> documentsUploaded = toTimeSeriesData(
+        timeSeriesQueries.count(Query.of(Source.DOCUMENTS).range(startDate, endDate)));
+    List<SystemAdminDashboardResponse.TimeSeriesData> organizationsCreated = toTimeSeriesData(
+        timeSeriesQueries.count(Query.of(Source.ORGANIZATIONS).range(startDate, endDate)));
+
+    // Top 10 actions, counted in the database (login actions are in access statistics)
+    List<SystemAdminDashboardResponse.ActionBreakdown> systemActionsBreakdown =
+        systemLogRepository.countByActionExcludingAndDateRange(
+                List.of(LOGIN_SUCCESS_ACTION, LOGIN_FAILED_ACTION), startDate, endDate,
+                PageRequest.of(0, 10))
+            .stream()
+            .map(row -> SystemAdminDashboardResponse.ActionBreakdown.builder()
+                .action((String) row[0])
+                .count(((Number) row[1]).longValue())
+                .build())
+            .collect(Collectors.toList());
+    List<SystemAdminDashboardResponse.TimeSeriesData> systemActionsTrend = toTimeSeriesData(
+        timeSeriesQueries.count(Query.of(Source.SYSTEM_LOGS)
+            .where("action NOT IN (?, ?)", LOGIN_SUCCESS_ACTION, LOGIN_FAILED_ACTION)
+            .range(startDate, endDate)));
 
     return SystemAdminDashboardResponse.SystemActivityStatistics.builder()
         .documentsUploaded(documentsUploaded)
@@ -308,57 +217,13 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
 
   // Helper methods
 
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateLoginTrendTimeSeries(
-      List<SystemLog> logs, Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (SystemLog log : logs) {
-      LocalDate date = log.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateActiveUsersTrend(
-      List<SystemLog> loginLogs, Instant startDate, Instant endDate) {
-    // Group by date and count unique users per day
-    Map<String, java.util.Set<UUID>> dateUserMap = new HashMap<>();
-
-    for (SystemLog log : loginLogs) {
-      if (log.getUserId() != null) {
-        LocalDate date = log.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-        String dateStr = date.format(DATE_FORMATTER);
-        dateUserMap.computeIfAbsent(dateStr, k -> new java.util.HashSet<>()).add(log.getUserId());
-      }
-    }
-
-    Map<String, Long> dateCounts = new HashMap<>();
-    dateUserMap.forEach((date, userIds) -> dateCounts.put(date, (long) userIds.size()));
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
   private List<SystemAdminDashboardResponse.RoleGrowthData> calculateUserGrowthByRole(
-      List<User> users, Instant startDate, Instant endDate) {
-    Map<UserRole, List<User>> usersByRole = users.stream()
-        .collect(Collectors.groupingBy(User::getRole));
-
+      UserCounts users) {
     List<SystemAdminDashboardResponse.RoleGrowthData> roleGrowthList = new ArrayList<>();
 
-    for (Map.Entry<UserRole, List<User>> entry : usersByRole.entrySet()) {
-      UserRole role = entry.getKey();
-      List<User> roleUsers = entry.getValue();
-
-      Map<String, Long> dateCounts = new HashMap<>();
-      for (User user : roleUsers) {
-        LocalDate date = user.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-        String dateStr = date.format(DATE_FORMATTER);
-        dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-      }
-
-      List<SystemAdminDashboardResponse.TimeSeriesData> growth = buildTimeSeries(dateCounts, startDate, endDate);
+    for (UserRole role : users.roles()) {
+      List<SystemAdminDashboardResponse.TimeSeriesData> growth = toTimeSeriesData(
+          users.series(bucket -> bucket.role() == role));
 
       roleGrowthList.add(SystemAdminDashboardResponse.RoleGrowthData.builder()
           .role(role.name())
@@ -369,11 +234,8 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
     return roleGrowthList;
   }
 
-  private List<SystemAdminDashboardResponse.StatusBreakdown> calculateUserStatusBreakdown(List<User> users) {
-    Map<UserStatus, Long> statusCounts = users.stream()
-        .collect(Collectors.groupingBy(User::getStatus, Collectors.counting()));
-
-    return statusCounts.entrySet().stream()
+  private List<SystemAdminDashboardResponse.StatusBreakdown> calculateUserStatusBreakdown(UserCounts users) {
+    return users.statusCounts().entrySet().stream()
         .map(entry -> SystemAdminDashboardResponse.StatusBreakdown.builder()
             .status(entry.getKey().name())
             .count(entry.getValue())
@@ -381,72 +243,6 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
         .collect(Collectors.toList());
   }
 
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateNewUsersRegistrationTimeSeries(
-      List<User> users, Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (User user : users) {
-      LocalDate date = user.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateDocumentsUploadedTimeSeries(
-      List<Document> documents, Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (Document doc : documents) {
-      LocalDate date = doc.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateOrganizationsCreatedTimeSeries(
-      List<OrganizationProfile> organizations, Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (OrganizationProfile org : organizations) {
-      LocalDate date = org.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
-  private List<SystemAdminDashboardResponse.ActionBreakdown> calculateSystemActionsBreakdown(List<SystemLog> logs) {
-    Map<String, Long> actionCounts = logs.stream()
-        .collect(Collectors.groupingBy(SystemLog::getAction, Collectors.counting()));
-
-    return actionCounts.entrySet().stream()
-        .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue())) // Sort by count descending
-        .limit(10) // Top 10 actions
-        .map(entry -> SystemAdminDashboardResponse.ActionBreakdown.builder()
-            .action(entry.getKey())
-            .count(entry.getValue())
-            .build())
-        .collect(Collectors.toList());
-  }
-
-  private List<SystemAdminDashboardResponse.TimeSeriesData> calculateSystemActionsTrendTimeSeries(
-      List<SystemLog> logs, Instant startDate, Instant endDate) {
-    Map<String, Long> dateCounts = new HashMap<>();
-
-    for (SystemLog log : logs) {
-      LocalDate date = log.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate();
-      String dateStr = date.format(DATE_FORMATTER);
-      dateCounts.put(dateStr, dateCounts.getOrDefault(dateStr, 0L) + 1);
-    }
-
-    return buildTimeSeries(dateCounts, startDate, endDate);
-  }
-
   private List<SystemAdminDashboardResponse.ModuleAccessData> calculateMostAccessedModules(
       Instant startDate, Instant endDate) {
     // Get all system logs (excluding login actions) for module access tracking
@@ -607,27 +403,11 @@ public class SystemAdminStatisticsServiceImpl implements SystemAdminStatisticsSe
     return action.toLowerCase();
   }
 
-  private List<SystemAdminDashboardResponse.TimeSeriesData> buildTimeSeries(
-      Map<String, Long> dateCounts, Instant startDate, Instant endDate) {
-    LocalDate start = startDate != null
-        ? startDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now().minusMonths(6);
-    LocalDate end = endDate != null
-        ? endDate.atZone(ZoneId.systemDefault()).toLocalDate()
-        : LocalDate.now();
-
-    List<SystemAdminDashboardResponse.TimeSeriesData> series = new ArrayList<>();
-    LocalDate current = start;
-    while (!current.isAfter(end)) {
-      String dateStr = current.format(DATE_FORMATTER);
-      series.add(SystemAdminDashboardResponse.TimeSeriesData.builder()
-          .date(dateStr)
-          .count(dateCounts.getOrDefault(dateStr, 0L))
-          .build());
-      current = current.plusDays(1);
-    }
-
-    return series;
+  private List<SystemAdminDashboardResponse.TimeSeriesData> toTimeSeriesData(TimeSeries series) {
+    return series.map((date, count) -> SystemAdminDashboardResponse.TimeSeriesData.builder()
+        .date(date)
+        .count(count)
+        .build());
   }
 }
 
@@ -1,10 +1,12 @@
 package com.capstone.be.service.impl;
 
 import com.capstone.be.domain.entity.SystemLog;
+import com.capstone.be.dto.common.CursorPagedResponse;
 import com.capstone.be.dto.request.admin.SystemLogQueryRequest;
 import com.capstone.be.dto.response.admin.SystemLogResponse;
 import com.capstone.be.repository.SystemLogRepository;
 import com.capstone.be.service.SystemLogService;
+import com.capstone.be.util.CursorUtil;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -15,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,6 +46,21 @@ public class SystemLogServiceImpl implements SystemLogService {
         return logs.map(SystemLogResponse::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<SystemLogResponse> getLogsByCursor(SystemLogQueryRequest queryRequest,
+        String cursor, int size, boolean includeTotal) {
+        Specification<SystemLog> spec = buildSpecification(queryRequest);
+        Window<SystemLog> logs = CursorUtil.scroll(systemLogRepository, spec,
+            Sort.by(Sort.Direction.DESC, "createdAt"), cursor, size);
+        Long total = includeTotal ? systemLogRepository.count(spec) : null;
+
+        log.info("Querying system logs by cursor - Found {} logs (size {}, hasNext {})",
+            logs.size(), size, logs.hasNext());
+
+        return CursorUtil.toResponse(logs, size, total, SystemLogResponse::from);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<SystemLogResponse> getLogsByAction(String action, Pageable pageable) {
@@ -39,16 +39,22 @@ import com.capstone.be.repository.specification.UserSpecification;
 import com.capstone.be.service.EmailService;
 import com.capstone.be.service.FileStorageService;
 import com.capstone.be.service.UserService;
+import com.capstone.be.service.event.UserEntitlementsChangedEvent;
 import com.capstone.be.service.helper.NotificationHelper;
+import com.capstone.be.service.helper.PublicAssetUrlSigner;
+import com.capstone.be.service.helper.PublicAssetUrlSigner.SignedAssetUrls;
 import com.capstone.be.util.OtpUtil;
 import com.capstone.be.util.TokenUtil;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -79,6 +85,8 @@ public class UserServiceImpl implements UserService {
   private final EmailService emailService;
   private final FileStorageService fileStorageService;
   private final NotificationHelper notificationHelper;
+  private final PublicAssetUrlSigner publicAssetUrlSigner;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -579,7 +587,8 @@ public class UserServiceImpl implements UserService {
         .and(UserSpecification.searchByKeyword(search));
     Page<User> users = userRepository.findAll(spec, pageable);
 
-    return users.map(this::buildAdminReaderResponse);
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forUsers(users.getContent());
+    return users.map(user -> buildAdminReaderResponse(user, assetUrls));
   }
 
   @Override
@@ -602,7 +611,7 @@ public class UserServiceImpl implements UserService {
       );
     }
 
-    return buildAdminReaderResponse(user);
+    return buildAdminReaderResponse(user, publicAssetUrlSigner.forUsers(List.of(user)));
   }
 
   @Override
@@ -645,7 +654,7 @@ public class UserServiceImpl implements UserService {
       log.warn("Failed to send reader status update email for user {}: {}", userId, e.getMessage());
     }
 
-    return buildAdminReaderResponse(user);
+    return buildAdminReaderResponse(user, publicAssetUrlSigner.forUsers(List.of(user)));
   }
 
   // Admin operations - Reviewer management
@@ -663,7 +672,8 @@ public class UserServiceImpl implements UserService {
         .and(UserSpecification.searchByKeyword(search));
     Page<User> users = userRepository.findAll(spec, pageable);
 
-    return users.map(this::buildAdminReviewerResponse);
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forUsers(users.getContent());
+    return users.map(user -> buildAdminReviewerResponse(user, assetUrls));
   }
 
   @Override
@@ -686,7 +696,7 @@ public class UserServiceImpl implements UserService {
       );
     }
 
-    return buildAdminReviewerResponse(user);
+    return buildAdminReviewerResponse(user, publicAssetUrlSigner.forUsers(List.of(user)));
   }
 
   @Override
@@ -729,7 +739,7 @@ public class UserServiceImpl implements UserService {
       log.warn("Failed to send reviewer status update email for user {}: {}", userId, e.getMessage());
     }
 
-    return buildAdminReviewerResponse(user);
+    return buildAdminReviewerResponse(user, publicAssetUrlSigner.forUsers(List.of(user)));
   }
 
   // Admin operations - Organization management
@@ -749,7 +759,15 @@ public class UserServiceImpl implements UserService {
     
     Page<User> users = userRepository.findAll(spec, pageable);
 
-    return users.map(this::buildAdminOrganizationResponse);
+    // Load the organizations of the page in one query and sign their assets in one pass
+    Map<UUID, OrganizationProfile> organizationsByAdminId = organizationProfileRepository
+        .findAllByAdminIdIn(users.getContent().stream().map(User::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(profile -> profile.getAdmin().getId(), profile -> profile));
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forOrganizations(users.getContent(),
+        organizationsByAdminId.values());
+    return users.map(user -> buildAdminOrganizationResponse(user,
+        organizationsByAdminId.get(user.getId()), assetUrls));
   }
 
   @Override
@@ -838,7 +856,8 @@ public class UserServiceImpl implements UserService {
 
     Page<User> users = userRepository.findAll(spec, pageable);
 
-    return users.map(this::buildUserManagementResponse);
+    SignedAssetUrls assetUrls = publicAssetUrlSigner.forUsers(users.getContent());
+    return users.map(user -> buildUserManagementResponse(user, assetUrls));
   }
 
   @Override
@@ -878,6 +897,7 @@ public class UserServiceImpl implements UserService {
     // Update role
     user.setRole(request.getRole());
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserEntitlementsChangedEvent(userId));
 
     log.info("User role changed successfully - user: {}, oldRole: {}, newRole: {}, changedBy: {}, reason: {}",
         userId, oldRole, request.getRole(), changedBy, request.getReason());
@@ -898,19 +918,19 @@ public class UserServiceImpl implements UserService {
     // TODO: Add audit logging here when audit log service is available
     // auditLogService.logRoleChange(userId, oldRole, request.getRole(), changedBy, request.getReason());
 
-    return buildUserManagementResponse(user);
+    return buildUserManagementResponse(user, publicAssetUrlSigner.forUsers(List.of(user)));
   }
 
   // Helper methods
 
   private AdminReaderResponse buildAdminReaderResponse(
-      User user) {
+      User user, SignedAssetUrls assetUrls) {
     AdminReaderResponse.AdminReaderResponseBuilder builder =
         AdminReaderResponse.builder()
             .userId(user.getId())
             .email(user.getEmail())
             .fullName(user.getFullName())
-            .avatarUrl(user.getAvatarKey())
+            .avatarUrl(assetUrls.avatar(user.getAvatarKey()))
 //            .point(user.getPoint())
             .status(user.getStatus())
             .createdAt(user.getCreatedAt())
@@ -924,13 +944,13 @@ public class UserServiceImpl implements UserService {
   }
 
   private AdminReviewerResponse buildAdminReviewerResponse(
-      User user) {
+      User user, SignedAssetUrls assetUrls) {
     AdminReviewerResponse.AdminReviewerResponseBuilder builder =
         AdminReviewerResponse.builder()
             .userId(user.getId())
             .email(user.getEmail())
             .fullName(user.getFullName())
-            .avatarUrl(user.getAvatarKey())
+            .avatarUrl(assetUrls.avatar(user.getAvatarKey()))
 //            .point(user.getPoint())
             .status(user.getStatus())
             .createdAt(user.getCreatedAt())
@@ -986,30 +1006,38 @@ public class UserServiceImpl implements UserService {
     return builder.build();
   }
 
+  private AdminOrganizationResponse buildAdminOrganizationResponse(User user) {
+    OrganizationProfile profile = organizationProfileRepository.findByUserId(user.getId())
+        .orElse(null);
+    List<OrganizationProfile> organizations = profile != null ? List.of(profile) : List.of();
+    return buildAdminOrganizationResponse(user, profile,
+        publicAssetUrlSigner.forOrganizations(List.of(user), organizations));
+  }
+
   private AdminOrganizationResponse buildAdminOrganizationResponse(
-      User user) {
+      User user, OrganizationProfile profile, SignedAssetUrls assetUrls) {
     AdminOrganizationResponse.AdminOrganizationResponseBuilder builder =
         AdminOrganizationResponse.builder()
             .userId(user.getId())
             .email(user.getEmail())
             .fullName(user.getFullName())
-            .avatarUrl(user.getAvatarKey())
+            .avatarUrl(assetUrls.avatar(user.getAvatarKey()))
 //            .point(user.getPoint())
             .status(user.getStatus())
             .createdAt(user.getCreatedAt())
             .updatedAt(user.getUpdatedAt());
 
-    organizationProfileRepository.findByUserId(user.getId()).ifPresent(profile -> {
+    if (profile != null) {
       builder
           .organizationId(profile.getId()) // Add organizationId
           .orgName(profile.getName())
           .orgType(profile.getType() != null ? profile.getType().name() : null)
           .orgEmail(profile.getEmail())
           .orgHotline(profile.getHotline())
-          .orgLogo(profile.getLogoKey())
+          .orgLogo(assetUrls.logo(profile.getLogoKey()))
           .orgAddress(profile.getAddress())
           .orgRegistrationNumber(profile.getRegistrationNumber());
-    });
+    }
 
     return builder.build();
   }
@@ -1080,12 +1108,13 @@ public class UserServiceImpl implements UserService {
     }
   }
 
-  private UserManagementResponse buildUserManagementResponse(User user) {
+  private UserManagementResponse buildUserManagementResponse(User user,
+      SignedAssetUrls assetUrls) {
     return UserManagementResponse.builder()
         .id(user.getId())
         .email(user.getEmail())
         .fullName(user.getFullName())
-        .avatarUrl(user.getAvatarKey())
+        .avatarUrl(assetUrls.avatar(user.getAvatarKey()))
         .role(user.getRole())
         .status(user.getStatus())
         .createdAt(user.getCreatedAt())
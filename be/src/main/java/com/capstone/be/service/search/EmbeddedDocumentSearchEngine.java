@@ -0,0 +1,397 @@
+package com.capstone.be.service.search;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.entity.DocumentSummarization;
+import com.capstone.be.domain.entity.Tag;
+import com.capstone.be.domain.enums.DocStatus;
+import com.capstone.be.domain.enums.DocVisibility;
+import com.capstone.be.domain.event.DocumentChangedEvent;
+import com.capstone.be.dto.request.document.DocumentSearchFilter;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.repository.DocumentTagLinkRepository;
+import com.capstone.be.service.helper.DocumentBatchLoader;
+import com.capstone.be.service.helper.DocumentBatchLoader.DocumentAssociations;
+import com.capstone.be.service.search.InvertedIndex.DocEntry;
+import com.capstone.be.service.search.InvertedIndex.SearchHits;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Optional in-process search engine for {@code DocumentService.searchPublicDocuments}.
+ * Enabled with {@code app.document.search.embedded.enabled=true}.
+ * <p>
+ * Keeps an {@link InvertedIndex} of ACTIVE documents (title, description, tags, AI summaries)
+ * and applies the same visibility/org rules and filters as DocumentSearchSpecification in memory.
+ * Changes arrive as {@link DocumentChangedEvent}s, are queued after commit and applied in small
+ * batches. The index is persisted to a memory-mapped segment file periodically and on shutdown;
+ * on startup the segment is loaded and only documents changed since the snapshot are re-read.
+ * A nightly full rebuild repairs anything the incremental path missed (e.g. removed tag links
+ * while the application was down).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.document.search.embedded.enabled", havingValue = "true")
+public class EmbeddedDocumentSearchEngine {
+
+  private static final int REBUILD_PAGE_SIZE = 500;
+  private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+  private final DocumentRepository documentRepository;
+  private final DocumentTagLinkRepository documentTagLinkRepository;
+  private final DocumentBatchLoader documentBatchLoader;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Set<UUID> pendingDocumentIds = ConcurrentHashMap.newKeySet();
+  private InvertedIndex index = new InvertedIndex();
+  private volatile boolean ready;
+
+  @Value("${app.document.search.embedded.segment-path:./data/search/documents.idx}")
+  private String segmentPath;
+
+  public EmbeddedDocumentSearchEngine(DocumentRepository documentRepository,
+      DocumentTagLinkRepository documentTagLinkRepository,
+      DocumentBatchLoader documentBatchLoader,
+      PlatformTransactionManager transactionManager) {
+    this.documentRepository = documentRepository;
+    this.documentTagLinkRepository = documentTagLinkRepository;
+    this.documentBatchLoader = documentBatchLoader;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Whether this engine can answer the request: the index is loaded, a keyword is given and
+   * results are ordered by relevance (explicit sorts and filter-only browsing stay on the database)
+   */
+  public boolean canServe(DocumentSearchFilter filter, Pageable pageable) {
+    return ready
+        && filter != null
+        && filter.getSearchKeyword() != null
+        && !filter.getSearchKeyword().isBlank()
+        && pageable.getSort().isUnsorted();
+  }
+
+  /**
+   * Search the index
+   *
+   * @param filter       Search filters (keyword required)
+   * @param joinedOrgIds Organizations the user has joined (nullable)
+   * @param pageable     Page to return (unsorted)
+   * @return Page of document IDs in relevance order
+   */
+  public Page<UUID> search(DocumentSearchFilter filter, List<UUID> joinedOrgIds, Pageable pageable) {
+    Predicate<DocEntry> predicate = buildFilter(filter, joinedOrgIds);
+    SearchHits hits;
+    lock.readLock().lock();
+    try {
+      hits = index.search(filter.getSearchKeyword(), predicate,
+          (int) pageable.getOffset(), pageable.getPageSize());
+    } finally {
+      lock.readLock().unlock();
+    }
+    return new PageImpl<>(hits.ids(), pageable, hits.total());
+  }
+
+  /**
+   * Queue a changed document; applied by {@link #applyPendingChanges()} after commit
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDocumentChanged(DocumentChangedEvent event) {
+    if (event.documentId() != null) {
+      pendingDocumentIds.add(event.documentId());
+    }
+  }
+
+  /**
+   * Load the persisted segment (or build from scratch) without blocking startup
+   */
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    Path segment = Path.of(segmentPath);
+    try {
+      if (Files.exists(segment)) {
+        InvertedIndex loaded = new InvertedIndex();
+        Instant snapshotAt = Instant.ofEpochMilli(loaded.readFrom(segment));
+        swap(loaded);
+        catchUp(snapshotAt.minus(CATCH_UP_MARGIN));
+        log.info("Loaded search index segment {} with {} documents (snapshot at {})",
+            segment, loaded.size(), snapshotAt);
+      } else {
+        rebuild();
+      }
+    } catch (Exception e) {
+      log.warn("Could not load search index segment {}, rebuilding: {}", segment, e.getMessage());
+      rebuild();
+    }
+    ready = true;
+  }
+
+  /**
+   * Apply queued document changes (default: every 2 seconds)
+   */
+  @Scheduled(fixedDelayString = "${app.document.search.embedded.refresh-ms:2000}")
+  public void applyPendingChanges() {
+    if (!ready || pendingDocumentIds.isEmpty()) {
+      return;
+    }
+    List<UUID> batch = new ArrayList<>(pendingDocumentIds);
+    pendingDocumentIds.removeAll(batch);
+    try {
+      reindex(batch);
+    } catch (Exception e) {
+      log.error("Error applying {} search index changes, re-queueing", batch.size(), e);
+      pendingDocumentIds.addAll(batch);
+    }
+  }
+
+  /**
+   * Persist the index (default: every 10 minutes)
+   */
+  @Scheduled(fixedDelayString = "${app.document.search.embedded.snapshot-ms:600000}")
+  public void snapshot() {
+    if (!ready) {
+      return;
+    }
+    Path segment = Path.of(segmentPath);
+    long startedAt = System.currentTimeMillis();
+    lock.writeLock().lock();
+    try {
+      index.writeTo(segment, startedAt);
+      log.info("Wrote search index segment {} ({} documents) in {} ms",
+          segment, index.size(), System.currentTimeMillis() - startedAt);
+    } catch (IOException e) {
+      log.error("Error writing search index segment {}", segment, e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Rebuild the index from the database
+   * Runs daily at 4:00 AM by default
+   */
+  @Scheduled(cron = "${app.document.search.embedded.rebuild-cron:0 0 4 * * ?}")
+  public void scheduledRebuild() {
+    if (ready) {
+      rebuild();
+      snapshot();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    applyPendingChanges();
+    snapshot();
+  }
+
+  private void rebuild() {
+    Instant startedAt = Instant.now();
+    InvertedIndex rebuilt = new InvertedIndex();
+    int page = 0;
+    boolean hasNext = true;
+    while (hasNext) {
+      Pageable pageable = PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("id"));
+      Page<IndexedDocument> documents = readOnlyTransaction.execute(status -> {
+        Page<Document> documentPage = documentRepository.findByStatus(DocStatus.ACTIVE, pageable);
+        DocumentAssociations associations = documentBatchLoader.load(documentPage.getContent());
+        return documentPage.map(document -> toIndexedDocument(document, associations));
+      });
+      documents.forEach(rebuilt::upsert);
+      hasNext = documents.hasNext();
+    }
+    swap(rebuilt);
+    // Pick up documents that changed while pages were being read
+    catchUp(startedAt);
+    log.info("Rebuilt search index with {} documents in {} ms",
+        rebuilt.size(), Duration.between(startedAt, Instant.now()).toMillis());
+  }
+
+  /**
+   * Re-read documents changed since the snapshot and drop documents that are no longer ACTIVE
+   */
+  private void catchUp(Instant since) {
+    Set<UUID> changed = readOnlyTransaction.execute(status -> Stream.concat(
+            documentRepository.findIdsUpdatedAfter(since).stream(),
+            documentTagLinkRepository.findDocumentIdsLinkedAfter(since).stream())
+        .collect(Collectors.toSet()));
+    Set<UUID> active = new HashSet<>(documentRepository.findIdsByStatus(DocStatus.ACTIVE));
+
+    List<UUID> stale = new ArrayList<>(changed);
+    lock.readLock().lock();
+    try {
+      index.documentIds().stream()
+          .filter(id -> !active.contains(id))
+          .forEach(stale::add);
+    } finally {
+      lock.readLock().unlock();
+    }
+    reindex(stale);
+  }
+
+  private void reindex(List<UUID> documentIds) {
+    if (documentIds.isEmpty()) {
+      return;
+    }
+    List<IndexedDocument> documents = readOnlyTransaction.execute(status -> {
+      List<Document> loaded = documentRepository.findAllById(documentIds).stream()
+          .filter(document -> document.getStatus() == DocStatus.ACTIVE)
+          .toList();
+      DocumentAssociations associations = documentBatchLoader.load(loaded);
+      return loaded.stream()
+          .map(document -> toIndexedDocument(document, associations))
+          .toList();
+    });
+
+    Set<UUID> activeIds = documents.stream().map(IndexedDocument::id).collect(Collectors.toSet());
+    lock.writeLock().lock();
+    try {
+      documentIds.stream().filter(id -> !activeIds.contains(id)).forEach(index::remove);
+      documents.forEach(index::upsert);
+      if (index.deletedRatio() > 0.25) {
+        index.compact();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.debug("Reindexed {} documents ({} active)", documentIds.size(), documents.size());
+  }
+
+  private void swap(InvertedIndex replacement) {
+    lock.writeLock().lock();
+    try {
+      index = replacement;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private IndexedDocument toIndexedDocument(Document document, DocumentAssociations associations) {
+    List<Tag> tags = associations.getTags(document.getId());
+    DocumentSummarization summarizations = document.getSummarizations();
+    String summaries = summarizations == null ? null : Stream.of(
+            summarizations.getShortSummary(),
+            summarizations.getMediumSummary(),
+            summarizations.getDetailedSummary())
+        .filter(Objects::nonNull)
+        .collect(Collectors.joining(" "));
+
+    return new IndexedDocument(
+        document.getId(),
+        document.getVisibility(),
+        document.getOrganization() != null ? document.getOrganization().getId() : null,
+        document.getDocType() != null ? document.getDocType().getId() : null,
+        document.getSpecialization() != null ? document.getSpecialization().getId() : null,
+        document.getSpecialization() != null && document.getSpecialization().getDomain() != null
+            ? document.getSpecialization().getDomain().getId() : null,
+        tags.stream().map(Tag::getId).toList(),
+        Boolean.TRUE.equals(document.getIsPremium()),
+        document.getPrice(),
+        document.getCreatedAt(),
+        document.getTitle(),
+        document.getDescription(),
+        tags.stream().map(Tag::getName).collect(Collectors.joining(" ")),
+        summaries
+    );
+  }
+
+  /**
+   * In-memory equivalent of DocumentSearchSpecification (status is implied: only ACTIVE
+   * documents are indexed)
+   */
+  private static Predicate<DocEntry> buildFilter(DocumentSearchFilter filter, List<UUID> joinedOrgIds) {
+    Predicate<DocEntry> predicate = doc -> doc.visibility() == DocVisibility.PUBLIC
+        || (doc.visibility() == DocVisibility.INTERNAL && joinedOrgIds != null
+            && doc.organizationId() != null && joinedOrgIds.contains(doc.organizationId()));
+
+    predicate = predicate.and(idFilter(filter.getDocTypeIds(), filter.getDocTypeId(), DocEntry::docTypeId));
+    predicate = predicate.and(idFilter(filter.getSpecializationIds(), filter.getSpecializationId(),
+        DocEntry::specializationId));
+    predicate = predicate.and(idFilter(filter.getDomainIds(), filter.getDomainId(), DocEntry::domainId));
+    predicate = predicate.and(idFilter(filter.getOrganizationIds(), filter.getOrganizationId(),
+        DocEntry::organizationId));
+
+    List<UUID> tagIds = multiOrSingle(filter.getTagIds(), filter.getTagId());
+    if (tagIds != null) {
+      predicate = predicate.and(doc -> doc.hasAnyTag(tagIds));
+    }
+
+    if (filter.getIsPremium() != null) {
+      boolean premium = filter.getIsPremium();
+      predicate = predicate.and(doc -> doc.premium() == premium);
+    }
+
+    if (filter.getYearFrom() != null) {
+      long start = LocalDate.of(filter.getYearFrom(), 1, 1)
+          .atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+      predicate = predicate.and(doc -> doc.createdAtEpochSecond() >= start);
+    }
+    if (filter.getYearTo() != null) {
+      long end = LocalDate.of(filter.getYearTo(), 12, 31)
+          .atTime(23, 59, 59).toEpochSecond(ZoneOffset.UTC);
+      predicate = predicate.and(doc -> doc.createdAtEpochSecond() <= end);
+    }
+
+    if (filter.getPriceFrom() != null) {
+      int priceFrom = filter.getPriceFrom();
+      predicate = predicate.and(doc -> doc.price() != null && doc.price() >= priceFrom);
+    }
+    if (filter.getPriceTo() != null) {
+      int priceTo = filter.getPriceTo();
+      predicate = predicate.and(doc -> doc.price() != null && doc.price() <= priceTo);
+    }
+    return predicate;
+  }
+
+  private static Predicate<DocEntry> idFilter(List<UUID> ids, UUID id,
+      Function<DocEntry, UUID> attribute) {
+    List<UUID> wanted = multiOrSingle(ids, id);
+    if (wanted == null) {
+      return doc -> true;
+    }
+    return doc -> attribute.apply(doc) != null && wanted.contains(attribute.apply(doc));
+  }
+
+  // Multi-select lists take precedence over the legacy single-ID fields
+  private static List<UUID> multiOrSingle(List<UUID> ids, UUID id) {
+    if (ids != null && !ids.isEmpty()) {
+      return ids;
+    }
+    return id != null ? List.of(id) : null;
+  }
+}
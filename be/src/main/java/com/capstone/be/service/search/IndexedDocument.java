@@ -0,0 +1,29 @@
+package com.capstone.be.service.search;
+
+import com.capstone.be.domain.enums.DocVisibility;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything the embedded index stores about one ACTIVE document:
+ * the text fields to tokenize and the attributes needed to apply search filters in memory.
+ */
+record IndexedDocument(
+    UUID id,
+    DocVisibility visibility,
+    UUID organizationId,
+    UUID docTypeId,
+    UUID specializationId,
+    UUID domainId,
+    List<UUID> tagIds,
+    boolean premium,
+    Integer price,
+    Instant createdAt,
+    String title,
+    String description,
+    String tags,
+    String summaries
+) {
+
+}
@@ -0,0 +1,492 @@
+package com.capstone.be.service.search;
+
+import com.capstone.be.domain.enums.DocVisibility;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index with BM25 scoring (fields weighted title > tags > summaries = description).
+ * <p>
+ * Every indexed version of a document gets a new ordinal; posting lists are primitive
+ * {@code int[]}/{@code float[]} arrays appended in ordinal order. Updating or removing a document
+ * tombstones its old ordinal, and {@link #compact()} rewrites postings without tombstones.
+ * Document frequencies count tombstoned postings until the next compaction, which keeps updates
+ * O(terms of the document) at the cost of slightly stale IDF values.
+ * <p>
+ * Not thread-safe; the owner guards it with a read/write lock.
+ */
+final class InvertedIndex {
+
+  private static final int MAGIC = 0x44534958; // "DSIX"
+  private static final int VERSION = 1;
+
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+
+  private static final float TITLE_WEIGHT = 3.0f;
+  private static final float TAG_WEIGHT = 2.0f;
+  private static final float SUMMARY_WEIGHT = 1.0f;
+  private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+  private static final int MAX_QUERY_TERMS = 16;
+  private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+  private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+  private final Map<UUID, Integer> ordinalById = new HashMap<>();
+  private DocEntry[] docs = new DocEntry[1024];
+  private final BitSet deleted = new BitSet();
+  private int nextOrdinal;
+  private int liveCount;
+  private double totalLength;
+
+  /**
+   * Index a document, replacing any previous version of it
+   */
+  void upsert(IndexedDocument document) {
+    remove(document.id());
+
+    Map<String, Float> termWeights = new HashMap<>();
+    float length = 0;
+    length += addField(termWeights, document.title(), TITLE_WEIGHT);
+    length += addField(termWeights, document.tags(), TAG_WEIGHT);
+    length += addField(termWeights, document.summaries(), SUMMARY_WEIGHT);
+    length += addField(termWeights, document.description(), DESCRIPTION_WEIGHT);
+
+    int ordinal = nextOrdinal++;
+    if (ordinal == docs.length) {
+      docs = Arrays.copyOf(docs, docs.length * 2);
+    }
+    docs[ordinal] = DocEntry.of(document, length);
+    ordinalById.put(document.id(), ordinal);
+    liveCount++;
+    totalLength += length;
+
+    for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+      postings.computeIfAbsent(entry.getKey(), term -> new PostingList())
+          .add(ordinal, entry.getValue());
+    }
+  }
+
+  /**
+   * Remove a document from search results
+   *
+   * @return true if the document was indexed
+   */
+  boolean remove(UUID documentId) {
+    Integer ordinal = ordinalById.remove(documentId);
+    if (ordinal == null) {
+      return false;
+    }
+    deleted.set(ordinal);
+    liveCount--;
+    totalLength -= docs[ordinal].length();
+    return true;
+  }
+
+  boolean contains(UUID documentId) {
+    return ordinalById.containsKey(documentId);
+  }
+
+  int size() {
+    return liveCount;
+  }
+
+  List<UUID> documentIds() {
+    return new ArrayList<>(ordinalById.keySet());
+  }
+
+  /**
+   * Share of ordinals that are tombstones
+   */
+  double deletedRatio() {
+    return nextOrdinal == 0 ? 0 : (double) deleted.cardinality() / nextOrdinal;
+  }
+
+  /**
+   * Search documents containing every query word (the last word also matches as a prefix),
+   * ranked by BM25 score, then by newest first.
+   *
+   * @param keyword Free-text query
+   * @param filter  Attribute filter applied to matching documents
+   * @param offset  Index of the first hit to return
+   * @param limit   Maximum number of hits to return
+   */
+  SearchHits search(String keyword, Predicate<DocEntry> filter, int offset, int limit) {
+    List<String> terms = SearchTokenizer.tokenize(keyword);
+    if (terms.isEmpty() || liveCount == 0) {
+      return SearchHits.EMPTY;
+    }
+    if (terms.size() > MAX_QUERY_TERMS) {
+      terms = terms.subList(0, MAX_QUERY_TERMS);
+    }
+
+    float[] scores = new float[nextOrdinal];
+    int[] matchedTerms = new int[nextOrdinal];
+    int requiredMask = (1 << terms.size()) - 1;
+    float avgLength = (float) (totalLength / liveCount);
+
+    for (int t = 0; t < terms.size(); t++) {
+      boolean last = t == terms.size() - 1;
+      for (PostingList list : postingsFor(terms.get(t), last)) {
+        float idf = idf(list.size);
+        for (int i = 0; i < list.size; i++) {
+          int ordinal = list.docs[i];
+          if (deleted.get(ordinal)) {
+            continue;
+          }
+          float tf = list.weights[i];
+          float norm = K1 * (1 - B + B * docs[ordinal].length() / avgLength);
+          scores[ordinal] += idf * tf * (K1 + 1) / (tf + norm);
+          matchedTerms[ordinal] |= 1 << t;
+        }
+      }
+    }
+
+    List<Integer> hits = new ArrayList<>();
+    for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+      if (matchedTerms[ordinal] == requiredMask && !deleted.get(ordinal)
+          && filter.test(docs[ordinal])) {
+        hits.add(ordinal);
+      }
+    }
+
+    hits.sort((a, b) -> {
+      int byScore = Float.compare(scores[b], scores[a]);
+      return byScore != 0 ? byScore
+          : Long.compare(docs[b].createdAtEpochSecond(), docs[a].createdAtEpochSecond());
+    });
+
+    int from = Math.min(offset, hits.size());
+    int to = Math.min(from + limit, hits.size());
+    List<UUID> ids = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      ids.add(docs[hits.get(i)].id());
+    }
+    return new SearchHits(ids, hits.size());
+  }
+
+  /**
+   * Drop tombstoned ordinals and rewrite postings with dense ordinals
+   */
+  void compact() {
+    int[] remap = new int[nextOrdinal];
+    DocEntry[] compacted = new DocEntry[Math.max(1024, liveCount * 2)];
+    int next = 0;
+    for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+      if (deleted.get(ordinal)) {
+        remap[ordinal] = -1;
+      } else {
+        remap[ordinal] = next;
+        compacted[next++] = docs[ordinal];
+      }
+    }
+
+    var iterator = postings.entrySet().iterator();
+    while (iterator.hasNext()) {
+      PostingList list = iterator.next().getValue();
+      list.remap(remap);
+      if (list.size == 0) {
+        iterator.remove();
+      }
+    }
+
+    ordinalById.replaceAll((id, ordinal) -> remap[ordinal]);
+    docs = compacted;
+    nextOrdinal = next;
+    deleted.clear();
+  }
+
+  /**
+   * Persist the index to a memory-mapped segment file (written to a temp file, then moved)
+   * Compacts first so only live documents are written.
+   */
+  void writeTo(Path file, long snapshotEpochMilli) throws IOException {
+    compact();
+
+    List<byte[]> termBytes = new ArrayList<>(postings.size());
+    long size = 4 + 4 + 8 + 4;
+    for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+      size += docs[ordinal].serializedSize();
+    }
+    size += 4;
+    for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+      byte[] bytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      termBytes.add(bytes);
+      size += 2 + bytes.length + 4 + (long) entry.getValue().size * 8;
+    }
+
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      buffer.putInt(MAGIC);
+      buffer.putInt(VERSION);
+      buffer.putLong(snapshotEpochMilli);
+      buffer.putInt(nextOrdinal);
+      for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+        docs[ordinal].writeTo(buffer);
+      }
+      buffer.putInt(postings.size());
+      int t = 0;
+      for (PostingList list : postings.values()) {
+        byte[] bytes = termBytes.get(t++);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+        buffer.putInt(list.size);
+        for (int i = 0; i < list.size; i++) {
+          buffer.putInt(list.docs[i]);
+          buffer.putFloat(list.weights[i]);
+        }
+      }
+      buffer.force();
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Load a segment file written by {@link #writeTo}
+   *
+   * @return Snapshot time stored in the file
+   * @throws IOException if the file is missing, truncated or has an unknown format
+   */
+  long readFrom(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IOException("Unsupported search index segment: " + file);
+      }
+      long snapshotEpochMilli = buffer.getLong();
+
+      int docCount = buffer.getInt();
+      docs = new DocEntry[Math.max(1024, docCount * 2)];
+      ordinalById.clear();
+      postings.clear();
+      deleted.clear();
+      totalLength = 0;
+      for (int ordinal = 0; ordinal < docCount; ordinal++) {
+        DocEntry entry = DocEntry.readFrom(buffer);
+        docs[ordinal] = entry;
+        ordinalById.put(entry.id(), ordinal);
+        totalLength += entry.length();
+      }
+      nextOrdinal = docCount;
+      liveCount = docCount;
+
+      int termCount = buffer.getInt();
+      for (int t = 0; t < termCount; t++) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        int size = buffer.getInt();
+        PostingList list = new PostingList(size);
+        for (int i = 0; i < size; i++) {
+          list.add(buffer.getInt(), buffer.getFloat());
+        }
+        postings.put(new String(bytes, StandardCharsets.UTF_8), list);
+      }
+      return snapshotEpochMilli;
+    } catch (RuntimeException e) {
+      throw new IOException("Corrupted search index segment: " + file, e);
+    }
+  }
+
+  private List<PostingList> postingsFor(String term, boolean prefix) {
+    if (!prefix) {
+      PostingList list = postings.get(term);
+      return list == null ? List.of() : List.of(list);
+    }
+    List<PostingList> lists = new ArrayList<>();
+    for (PostingList list : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+      lists.add(list);
+      if (lists.size() == MAX_PREFIX_EXPANSIONS) {
+        break;
+      }
+    }
+    return lists;
+  }
+
+  private float idf(int docFrequency) {
+    return (float) Math.log(1 + (liveCount - docFrequency + 0.5) / (docFrequency + 0.5));
+  }
+
+  private static float addField(Map<String, Float> termWeights, String text, float weight) {
+    List<String> tokens = SearchTokenizer.tokenize(text);
+    for (String token : tokens) {
+      termWeights.merge(token, weight, Float::sum);
+    }
+    return tokens.size() * weight;
+  }
+
+  /**
+   * Page of matching document IDs in ranked order plus the total number of matches
+   */
+  record SearchHits(List<UUID> ids, long total) {
+
+    static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+  }
+
+  /**
+   * Growable primitive posting list: document ordinals (ascending) and weighted term frequencies
+   */
+  private static final class PostingList {
+
+    private int[] docs;
+    private float[] weights;
+    private int size;
+
+    PostingList() {
+      this(4);
+    }
+
+    PostingList(int capacity) {
+      docs = new int[Math.max(4, capacity)];
+      weights = new float[docs.length];
+    }
+
+    void add(int ordinal, float weight) {
+      if (size == docs.length) {
+        docs = Arrays.copyOf(docs, size * 2);
+        weights = Arrays.copyOf(weights, size * 2);
+      }
+      docs[size] = ordinal;
+      weights[size] = weight;
+      size++;
+    }
+
+    void remap(int[] remap) {
+      int next = 0;
+      for (int i = 0; i < size; i++) {
+        int ordinal = remap[docs[i]];
+        if (ordinal >= 0) {
+          docs[next] = ordinal;
+          weights[next] = weights[i];
+          next++;
+        }
+      }
+      size = next;
+    }
+  }
+
+  /**
+   * Filterable attributes of one indexed document
+   */
+  record DocEntry(
+      UUID id,
+      DocVisibility visibility,
+      UUID organizationId,
+      UUID docTypeId,
+      UUID specializationId,
+      UUID domainId,
+      UUID[] tagIds,
+      boolean premium,
+      Integer price,
+      long createdAtEpochSecond,
+      float length
+  ) {
+
+    static DocEntry of(IndexedDocument document, float length) {
+      return new DocEntry(
+          document.id(),
+          document.visibility(),
+          document.organizationId(),
+          document.docTypeId(),
+          document.specializationId(),
+          document.domainId(),
+          document.tagIds().toArray(new UUID[0]),
+          document.premium(),
+          document.price(),
+          document.createdAt() != null ? document.createdAt().getEpochSecond() : 0,
+          length
+      );
+    }
+
+    boolean hasAnyTag(List<UUID> wanted) {
+      for (UUID tagId : tagIds) {
+        if (wanted.contains(tagId)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    int serializedSize() {
+      return 16 + 1 + 4 * 17 + 2 + tagIds.length * 16 + 1 + 1 + 4 + 8 + 4;
+    }
+
+    void writeTo(MappedByteBuffer buffer) {
+      putUuid(buffer, id);
+      buffer.put((byte) visibility.ordinal());
+      putNullableUuid(buffer, organizationId);
+      putNullableUuid(buffer, docTypeId);
+      putNullableUuid(buffer, specializationId);
+      putNullableUuid(buffer, domainId);
+      buffer.putShort((short) tagIds.length);
+      for (UUID tagId : tagIds) {
+        putUuid(buffer, tagId);
+      }
+      buffer.put((byte) (premium ? 1 : 0));
+      buffer.put((byte) (price != null ? 1 : 0));
+      buffer.putInt(price != null ? price : 0);
+      buffer.putLong(createdAtEpochSecond);
+      buffer.putFloat(length);
+    }
+
+    static DocEntry readFrom(MappedByteBuffer buffer) {
+      UUID id = getUuid(buffer);
+      DocVisibility visibility = DocVisibility.values()[buffer.get()];
+      UUID organizationId = getNullableUuid(buffer);
+      UUID docTypeId = getNullableUuid(buffer);
+      UUID specializationId = getNullableUuid(buffer);
+      UUID domainId = getNullableUuid(buffer);
+      UUID[] tagIds = new UUID[buffer.getShort()];
+      for (int i = 0; i < tagIds.length; i++) {
+        tagIds[i] = getUuid(buffer);
+      }
+      boolean premium = buffer.get() == 1;
+      boolean hasPrice = buffer.get() == 1;
+      int price = buffer.getInt();
+      long createdAt = buffer.getLong();
+      float length = buffer.getFloat();
+      return new DocEntry(id, visibility, organizationId, docTypeId, specializationId, domainId,
+          tagIds, premium, hasPrice ? price : null, createdAt, length);
+    }
+
+    // Nullable UUIDs always take 17 bytes (presence flag + two longs) to keep sizes fixed
+    private static void putNullableUuid(MappedByteBuffer buffer, UUID uuid) {
+      buffer.put((byte) (uuid != null ? 1 : 0));
+      buffer.putLong(uuid != null ? uuid.getMostSignificantBits() : 0);
+      buffer.putLong(uuid != null ? uuid.getLeastSignificantBits() : 0);
+    }
+
+    private static UUID getNullableUuid(MappedByteBuffer buffer) {
+      boolean present = buffer.get() == 1;
+      UUID uuid = getUuid(buffer);
+      return present ? uuid : null;
+    }
+
+    private static void putUuid(MappedByteBuffer buffer, UUID uuid) {
+      buffer.putLong(uuid.getMostSignificantBits());
+      buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(MappedByteBuffer buffer) {
+      return new UUID(buffer.getLong(), buffer.getLong());
+    }
+  }
+}
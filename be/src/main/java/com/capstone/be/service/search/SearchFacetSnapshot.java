@@ -0,0 +1,529 @@
+package com.capstone.be.service.search;
+
+import com.capstone.be.domain.entity.DocType;
+import com.capstone.be.domain.entity.Domain;
+import com.capstone.be.domain.entity.OrganizationProfile;
+import com.capstone.be.domain.entity.Specialization;
+import com.capstone.be.domain.entity.Tag;
+import com.capstone.be.domain.event.DocumentChangedEvent;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.DocTypeOption;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.DomainOption;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.OrganizationOption;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.RangeDto;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.SpecializationOption;
+import com.capstone.be.dto.response.document.DocumentSearchMetaResponse.TagOption;
+import com.capstone.be.repository.DocTypeRepository;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.repository.DocumentRepository.FacetRow;
+import com.capstone.be.repository.DocumentTagLinkRepository;
+import com.capstone.be.repository.DocumentTagLinkRepository.TagLinkRow;
+import com.capstone.be.repository.DomainRepository;
+import com.capstone.be.repository.OrganizationProfileRepository;
+import com.capstone.be.repository.SpecializationRepository;
+import com.capstone.be.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory snapshot of the search page facets (filter modal metadata).
+ * <p>
+ * Holds, for every PUBLIC + ACTIVE document, the facet values it contributes (organization,
+ * domain, specialization, doc type, tags, year, premium price) and reference counts per value, so
+ * {@code getSearchMeta} is served without the eight DISTINCT scans over the document table.
+ * Changes arrive as {@link DocumentChangedEvent}s and are applied in small batches: a document
+ * that becomes PUBLIC + ACTIVE adds its values, one that leaves removes them. Facet labels
+ * (names, codes, logos) are cached by ID; a periodic rebuild refreshes them and repairs anything
+ * the incremental path missed (bulk updates do not publish change events).
+ */
+@Slf4j
+@Component
+public class SearchFacetSnapshot {
+
+  private final DocumentRepository documentRepository;
+  private final DocumentTagLinkRepository documentTagLinkRepository;
+  private final OrganizationProfileRepository organizationProfileRepository;
+  private final DomainRepository domainRepository;
+  private final SpecializationRepository specializationRepository;
+  private final DocTypeRepository docTypeRepository;
+  private final TagRepository tagRepository;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final Set<UUID> pendingDocumentIds = ConcurrentHashMap.newKeySet();
+
+  // Labels by ID, filled lazily for facet values and joined organizations
+  private final Map<UUID, OrganizationOption> organizationLabels = new ConcurrentHashMap<>();
+  private final Map<UUID, DomainOption> domainLabels = new ConcurrentHashMap<>();
+  private final Map<UUID, SpecializationOption> specializationLabels = new ConcurrentHashMap<>();
+  private final Map<UUID, DocTypeOption> docTypeLabels = new ConcurrentHashMap<>();
+  private final Map<UUID, TagOption> tagLabels = new ConcurrentHashMap<>();
+
+  // Guarded by this
+  private FacetCounts counts = new FacetCounts();
+
+  private volatile Facets current;
+
+  public SearchFacetSnapshot(DocumentRepository documentRepository,
+      DocumentTagLinkRepository documentTagLinkRepository,
+      OrganizationProfileRepository organizationProfileRepository,
+      DomainRepository domainRepository,
+      SpecializationRepository specializationRepository,
+      DocTypeRepository docTypeRepository,
+      TagRepository tagRepository,
+      PlatformTransactionManager transactionManager) {
+    this.documentRepository = documentRepository;
+    this.documentTagLinkRepository = documentTagLinkRepository;
+    this.organizationProfileRepository = organizationProfileRepository;
+    this.domainRepository = domainRepository;
+    this.specializationRepository = specializationRepository;
+    this.docTypeRepository = docTypeRepository;
+    this.tagRepository = tagRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Search metadata for the filter modal.
+   * Organizations the user has joined are merged into the organization facet even when they
+   * have no public documents yet; only those not already in the snapshot cost a lookup.
+   *
+   * @param joinedOrgIds Organizations the user has joined (nullable for anonymous users)
+   */
+  public DocumentSearchMetaResponse getSearchMeta(List<UUID> joinedOrgIds) {
+    Facets facets = current;
+    if (facets == null) {
+      facets = ensureBuilt();
+    }
+
+    List<OrganizationOption> organizations = facets.organizations();
+    if (joinedOrgIds != null && !joinedOrgIds.isEmpty()) {
+      organizations = mergeJoinedOrganizations(facets, joinedOrgIds);
+    }
+
+    return DocumentSearchMetaResponse.builder()
+        .organizations(organizations)
+        .domains(facets.domains())
+        .specializations(facets.specializations())
+        .docTypes(facets.docTypes())
+        .tags(facets.tags())
+        .years(facets.years())
+        .priceRange(RangeDto.builder()
+            .min(facets.minPrice())
+            .max(facets.maxPrice())
+            .build())
+        .joinedOrganizationIds(joinedOrgIds)
+        .build();
+  }
+
+  /**
+   * Queue a changed document; applied by {@link #applyPendingChanges()} after commit
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDocumentChanged(DocumentChangedEvent event) {
+    if (event.documentId() != null) {
+      pendingDocumentIds.add(event.documentId());
+    }
+  }
+
+  /**
+   * Build the snapshot without blocking startup
+   */
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    try {
+      rebuild();
+    } catch (Exception e) {
+      log.error("Error building search facet snapshot, will retry on first request", e);
+    }
+  }
+
+  /**
+   * Apply queued document changes (default: every 5 seconds)
+   */
+  @Scheduled(fixedDelayString = "${app.document.search.facets.refresh-ms:5000}")
+  public void applyPendingChanges() {
+    if (current == null || pendingDocumentIds.isEmpty()) {
+      return;
+    }
+    List<UUID> batch = new ArrayList<>(pendingDocumentIds);
+    pendingDocumentIds.removeAll(batch);
+    try {
+      apply(batch);
+    } catch (Exception e) {
+      log.error("Error applying {} search facet changes, re-queueing", batch.size(), e);
+      pendingDocumentIds.addAll(batch);
+    }
+  }
+
+  /**
+   * Full rebuild (default: every 30 minutes), also refreshes renamed labels
+   */
+  @Scheduled(fixedDelayString = "${app.document.search.facets.rebuild-ms:1800000}",
+      initialDelayString = "${app.document.search.facets.rebuild-ms:1800000}")
+  public void scheduledRebuild() {
+    try {
+      rebuild();
+    } catch (Exception e) {
+      log.error("Error rebuilding search facet snapshot", e);
+    }
+  }
+
+  private synchronized Facets ensureBuilt() {
+    return current != null ? current : rebuild();
+  }
+
+  /**
+   * Rebuild the snapshot from the database: two narrow scans (documents, tag links) plus one IN
+   * query per label type
+   */
+  public synchronized Facets rebuild() {
+    long startedAt = System.currentTimeMillis();
+
+    FacetCounts rebuilt = readOnlyTransaction.execute(status -> {
+      Map<UUID, Set<UUID>> tagIdsByDocumentId = groupTagIds(
+          documentTagLinkRepository.findTagLinkRowsForPublicSearch());
+      FacetCounts fresh = new FacetCounts();
+      for (FacetRow row : documentRepository.findFacetRowsForPublicSearch()) {
+        fresh.put(row.getDocumentId(), toDocumentFacets(row, tagIdsByDocumentId));
+      }
+      return fresh;
+    });
+
+    counts = rebuilt;
+    Facets facets = publish(true);
+
+    log.info("Built search facet snapshot: {} documents, {} tags in {} ms",
+        rebuilt.documents.size(), facets.tags().size(), System.currentTimeMillis() - startedAt);
+    return facets;
+  }
+
+  private synchronized void apply(Collection<UUID> documentIds) {
+    readOnlyTransaction.executeWithoutResult(status -> {
+      Map<UUID, Set<UUID>> tagIdsByDocumentId = groupTagIds(
+          documentTagLinkRepository.findTagLinkRowsByDocumentIdIn(documentIds));
+      Map<UUID, DocumentFacets> changed = new HashMap<>();
+      for (FacetRow row : documentRepository.findFacetRowsForPublicSearchByIdIn(documentIds)) {
+        changed.put(row.getDocumentId(), toDocumentFacets(row, tagIdsByDocumentId));
+      }
+      // Documents without a row are no longer PUBLIC + ACTIVE (or were deleted)
+      for (UUID documentId : documentIds) {
+        counts.put(documentId, changed.get(documentId));
+      }
+    });
+    publish(false);
+    log.debug("Applied {} search facet changes", documentIds.size());
+  }
+
+  /**
+   * Turn the reference counts into sorted option lists and swap them in
+   *
+   * @param refreshLabels Reload every label instead of only the missing ones
+   */
+  private Facets publish(boolean refreshLabels) {
+    FacetCounts snapshot = counts;
+    readOnlyTransaction.executeWithoutResult(status -> loadLabels(snapshot, refreshLabels));
+
+    Facets facets = new Facets(
+        options(snapshot.organizations, organizationLabels,
+            (label, count) -> OrganizationOption.builder()
+                .id(label.getId())
+                .name(label.getName())
+                .logoUrl(label.getLogoUrl())
+                .docCount(count)
+                .build(),
+            OrganizationOption::getName),
+        options(snapshot.domains, domainLabels,
+            (label, count) -> DomainOption.builder()
+                .id(label.getId())
+                .code(label.getCode())
+                .name(label.getName())
+                .docCount(count)
+                .build(),
+            DomainOption::getName),
+        options(snapshot.specializations, specializationLabels,
+            (label, count) -> SpecializationOption.builder()
+                .id(label.getId())
+                .code(label.getCode())
+                .name(label.getName())
+                .domainId(label.getDomainId())
+                .docCount(count)
+                .build(),
+            SpecializationOption::getName),
+        options(snapshot.docTypes, docTypeLabels,
+            (label, count) -> DocTypeOption.builder()
+                .id(label.getId())
+                .code(label.getCode())
+                .name(label.getName())
+                .docCount(count)
+                .build(),
+            DocTypeOption::getName),
+        options(snapshot.tags, tagLabels,
+            (label, count) -> TagOption.builder()
+                .id(label.getId())
+                .name(label.getName())
+                .docCount(count)
+                .build(),
+            TagOption::getName),
+        snapshot.years.descendingKeySet().stream().toList(),
+        snapshot.premiumPrices.isEmpty() ? null : snapshot.premiumPrices.firstKey(),
+        snapshot.premiumPrices.isEmpty() ? null : snapshot.premiumPrices.lastKey());
+    current = facets;
+    return facets;
+  }
+
+  private List<OrganizationOption> mergeJoinedOrganizations(Facets facets,
+      List<UUID> joinedOrgIds) {
+    Set<UUID> present = new HashSet<>();
+    facets.organizations().forEach(option -> present.add(option.getId()));
+    List<UUID> missing = joinedOrgIds.stream()
+        .filter(id -> id != null && !present.contains(id))
+        .distinct()
+        .toList();
+    if (missing.isEmpty()) {
+      return facets.organizations();
+    }
+
+    List<UUID> unknown = missing.stream()
+        .filter(id -> !organizationLabels.containsKey(id))
+        .toList();
+    if (!unknown.isEmpty()) {
+      readOnlyTransaction.executeWithoutResult(status ->
+          organizationProfileRepository.findAllById(unknown)
+              .forEach(org -> organizationLabels.put(org.getId(), organizationLabel(org))));
+    }
+
+    List<OrganizationOption> merged = new ArrayList<>(facets.organizations());
+    missing.stream()
+        .map(organizationLabels::get)
+        .filter(Objects::nonNull)
+        .forEach(merged::add);
+    merged.sort(Comparator.comparing(OrganizationOption::getName,
+        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+    return merged;
+  }
+
+  private void loadLabels(FacetCounts snapshot, boolean refresh) {
+    if (refresh) {
+      // Keep cached joined-only organizations, drop values no longer referenced
+      Set<UUID> organizationIds = new HashSet<>(organizationLabels.keySet());
+      organizationIds.addAll(snapshot.organizations.keySet());
+      organizationProfileRepository.findAllById(organizationIds)
+          .forEach(org -> organizationLabels.put(org.getId(), organizationLabel(org)));
+      domainLabels.keySet().retainAll(snapshot.domains.keySet());
+      specializationLabels.keySet().retainAll(snapshot.specializations.keySet());
+      docTypeLabels.keySet().retainAll(snapshot.docTypes.keySet());
+      tagLabels.keySet().retainAll(snapshot.tags.keySet());
+    }
+
+    List<UUID> organizationIds = missing(snapshot.organizations.keySet(), organizationLabels);
+    if (!organizationIds.isEmpty()) {
+      organizationProfileRepository.findAllById(organizationIds)
+          .forEach(org -> organizationLabels.put(org.getId(), organizationLabel(org)));
+    }
+    List<UUID> domainIds = refresh
+        ? List.copyOf(snapshot.domains.keySet())
+        : missing(snapshot.domains.keySet(), domainLabels);
+    if (!domainIds.isEmpty()) {
+      for (Domain domain : domainRepository.findAllByIdIn(domainIds)) {
+        domainLabels.put(domain.getId(), DomainOption.builder()
+            .id(domain.getId())
+            .code(domain.getCode())
+            .name(domain.getName())
+            .build());
+      }
+    }
+    List<UUID> specializationIds = refresh
+        ? List.copyOf(snapshot.specializations.keySet())
+        : missing(snapshot.specializations.keySet(), specializationLabels);
+    if (!specializationIds.isEmpty()) {
+      for (Specialization spec : specializationRepository.findAllByIdIn(specializationIds)) {
+        specializationLabels.put(spec.getId(), SpecializationOption.builder()
+            .id(spec.getId())
+            .code(spec.getCode())
+            .name(spec.getName())
+            .domainId(spec.getDomain() != null ? spec.getDomain().getId() : null)
+            .build());
+      }
+    }
+    List<UUID> docTypeIds = refresh
+        ? List.copyOf(snapshot.docTypes.keySet())
+        : missing(snapshot.docTypes.keySet(), docTypeLabels);
+    if (!docTypeIds.isEmpty()) {
+      for (DocType docType : docTypeRepository.findAllById(docTypeIds)) {
+        docTypeLabels.put(docType.getId(), DocTypeOption.builder()
+            .id(docType.getId())
+            .code(docType.getCode())
+            .name(docType.getName())
+            .build());
+      }
+    }
+    List<UUID> tagIds = refresh
+        ? List.copyOf(snapshot.tags.keySet())
+        : missing(snapshot.tags.keySet(), tagLabels);
+    if (!tagIds.isEmpty()) {
+      for (Tag tag : tagRepository.findAllByIdIn(tagIds)) {
+        tagLabels.put(tag.getId(), TagOption.builder()
+            .id(tag.getId())
+            .name(tag.getName())
+            .build());
+      }
+    }
+  }
+
+  private static OrganizationOption organizationLabel(OrganizationProfile org) {
+    return OrganizationOption.builder()
+        .id(org.getId())
+        .name(org.getName())
+        .logoUrl(org.getLogoKey())
+        .build();
+  }
+
+  private static List<UUID> missing(Set<UUID> ids, Map<UUID, ?> labels) {
+    return ids.stream().filter(id -> !labels.containsKey(id)).toList();
+  }
+
+  private static <L, O> List<O> options(Map<UUID, Integer> counts, Map<UUID, L> labels,
+      OptionFactory<L, O> factory, Function<O, String> name) {
+    List<O> options = new ArrayList<>(counts.size());
+    counts.forEach((id, count) -> {
+      L label = labels.get(id);
+      if (label != null) {
+        options.add(factory.create(label, count.longValue()));
+      }
+    });
+    options.sort(Comparator.comparing(name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+    return List.copyOf(options);
+  }
+
+  private static Map<UUID, Set<UUID>> groupTagIds(List<TagLinkRow> rows) {
+    Map<UUID, Set<UUID>> tagIdsByDocumentId = new HashMap<>();
+    for (TagLinkRow row : rows) {
+      tagIdsByDocumentId.computeIfAbsent(row.getDocumentId(), id -> new HashSet<>())
+          .add(row.getTagId());
+    }
+    return tagIdsByDocumentId;
+  }
+
+  private static DocumentFacets toDocumentFacets(FacetRow row,
+      Map<UUID, Set<UUID>> tagIdsByDocumentId) {
+    Integer premiumPrice = Boolean.TRUE.equals(row.getPremium()) ? row.getPrice() : null;
+    return new DocumentFacets(
+        row.getOrganizationId(),
+        row.getDomainId(),
+        row.getSpecializationId(),
+        row.getDocTypeId(),
+        row.getYear(),
+        premiumPrice,
+        tagIdsByDocumentId.getOrDefault(row.getDocumentId(), Set.of()));
+  }
+
+  @FunctionalInterface
+  private interface OptionFactory<L, O> {
+
+    O create(L label, Long docCount);
+  }
+
+  /**
+   * Published, immutable facet lists
+   */
+  public record Facets(
+      List<OrganizationOption> organizations,
+      List<DomainOption> domains,
+      List<SpecializationOption> specializations,
+      List<DocTypeOption> docTypes,
+      List<TagOption> tags,
+      List<Integer> years,
+      Integer minPrice,
+      Integer maxPrice) {
+
+  }
+
+  /**
+   * Facet values contributed by one PUBLIC + ACTIVE document
+   */
+  private record DocumentFacets(
+      UUID organizationId,
+      UUID domainId,
+      UUID specializationId,
+      UUID docTypeId,
+      Integer year,
+      Integer premiumPrice,
+      Set<UUID> tagIds) {
+
+  }
+
+  /**
+   * Reference counts of facet values over the indexed documents
+   */
+  private static final class FacetCounts {
+
+    private final Map<UUID, DocumentFacets> documents = new HashMap<>();
+    private final Map<UUID, Integer> organizations = new HashMap<>();
+    private final Map<UUID, Integer> domains = new HashMap<>();
+    private final Map<UUID, Integer> specializations = new HashMap<>();
+    private final Map<UUID, Integer> docTypes = new HashMap<>();
+    private final Map<UUID, Integer> tags = new HashMap<>();
+    private final TreeMap<Integer, Integer> years = new TreeMap<>();
+    private final TreeMap<Integer, Integer> premiumPrices = new TreeMap<>();
+
+    /**
+     * Replace the contribution of a document; null removes it
+     */
+    void put(UUID documentId, DocumentFacets facets) {
+      DocumentFacets previous = facets == null
+          ? documents.remove(documentId)
+          : documents.put(documentId, facets);
+      if (previous != null) {
+        update(previous, -1);
+      }
+      if (facets != null) {
+        update(facets, 1);
+      }
+    }
+
+    private void update(DocumentFacets facets, int delta) {
+      adjust(organizations, facets.organizationId(), delta);
+      adjust(domains, facets.domainId(), delta);
+      adjust(specializations, facets.specializationId(), delta);
+      adjust(docTypes, facets.docTypeId(), delta);
+      adjust(years, facets.year(), delta);
+      adjust(premiumPrices, facets.premiumPrice(), delta);
+      for (UUID tagId : facets.tagIds()) {
+        adjust(tags, tagId, delta);
+      }
+    }
+
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+      if (key == null) {
+        return;
+      }
+      int next = counts.getOrDefault(key, 0) + delta;
+      if (next > 0) {
+        counts.put(key, next);
+      } else {
+        counts.remove(key);
+      }
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.capstone.be.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tokenizer shared by indexing and querying of the embedded search index.
+ * Lower-cases text and splits on anything that is not a letter or digit, so Vietnamese
+ * words keep their diacritics (same behaviour as the 'simple' PostgreSQL text search config).
+ */
+final class SearchTokenizer {
+
+  static final int MAX_TOKEN_LENGTH = 64;
+
+  private SearchTokenizer() {
+  }
+
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return tokens;
+    }
+    String lower = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for (int i = 0; i < lower.length(); ) {
+      int cp = lower.codePointAt(i);
+      boolean wordChar = Character.isLetterOrDigit(cp);
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        addToken(tokens, lower.substring(start, i));
+        start = -1;
+      }
+      i += Character.charCount(cp);
+    }
+    if (start >= 0) {
+      addToken(tokens, lower.substring(start));
+    }
+    return tokens;
+  }
+
+  private static void addToken(List<String> tokens, String token) {
+    tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+  }
+}
@@ -0,0 +1,284 @@
+package com.capstone.be.util;
+
+import com.capstone.be.dto.common.CursorInfo;
+import com.capstone.be.dto.common.CursorPagedResponse;
+import com.capstone.be.exception.InvalidRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Keyset (cursor) pagination helpers.
+ * A cursor is the Base64url encoding of the sort key values of the last row of a page plus its
+ * id, so the next page is fetched with one range predicate on an index instead of an OFFSET scan.
+ * The cursor is opaque to clients and only valid for the sort it was issued with.
+ * <p>
+ * Sort keys may be NULL. PostgreSQL orders NULL above every value (last ascending, first
+ * descending), and the range predicate follows the same rule, so rows with a NULL key are
+ * neither skipped nor repeated.
+ */
+public class CursorUtil {
+
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private static final byte VERSION = 1;
+  private static final String ID_PROPERTY = "id";
+
+  private CursorUtil() {
+  }
+
+  /**
+   * Fetch one page after the given cursor.
+   * The sort is extended with the id as a tie-breaker, the query reads size + 1 rows to detect
+   * the next page, and no count query is issued.
+   */
+  public static <T> Window<T> scroll(JpaSpecificationExecutor<T> repository,
+      Specification<T> spec, Sort sort, String cursor, int size) {
+    Sort keysetSort = withIdTieBreaker(sort);
+    KeysetScrollPosition position = decode(cursor, keysetSort);
+    int limit = normalizeSize(size);
+
+    Specification<T> pageSpec = position.isInitial()
+        ? spec
+        : Specification.where(spec).and(after(keysetSort, position.getKeys()));
+    List<T> rows = repository.<T, List<T>>findBy(pageSpec,
+        query -> query.sortBy(keysetSort).limit(limit + 1).all());
+
+    boolean hasNext = rows.size() > limit;
+    List<T> content = hasNext ? rows.subList(0, limit) : rows;
+    return Window.from(content, index -> positionOf(content.get(index), keysetSort), hasNext);
+  }
+
+  /**
+   * Rows strictly after the given keyset in the sort order:
+   * {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...} with NULL-aware comparisons
+   */
+  static <T> Specification<T> after(Sort sort, Map<String, Object> keys) {
+    return (root, query, cb) -> {
+      List<Predicate> alternatives = new ArrayList<>();
+      List<Predicate> equalSoFar = new ArrayList<>();
+      for (Sort.Order order : sort) {
+        Path<Comparable<Object>> path = path(root, order.getProperty());
+        Object value = keys.get(order.getProperty());
+
+        Predicate after = after(cb, path, value, order.isAscending());
+        if (after != null) {
+          List<Predicate> conjunction = new ArrayList<>(equalSoFar);
+          conjunction.add(after);
+          alternatives.add(cb.and(conjunction.toArray(new Predicate[0])));
+        }
+        equalSoFar.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+      }
+      return cb.or(alternatives.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * Values of one key that sort after the given value, or null if none do
+   */
+  @SuppressWarnings("unchecked")
+  private static Predicate after(CriteriaBuilder cb, Path<Comparable<Object>> path,
+      Object value, boolean ascending) {
+    if (value == null) {
+      // NULL is last ascending (nothing after it) and first descending (every value after it)
+      return ascending ? null : cb.isNotNull(path);
+    }
+    Comparable<Object> key = (Comparable<Object>) value;
+    return ascending
+        ? cb.or(cb.greaterThan(path, key), cb.isNull(path))
+        : cb.lessThan(path, key);
+  }
+
+  private static <T> Path<Comparable<Object>> path(Root<T> root, String property) {
+    Path<?> path = root;
+    for (String part : property.split("\\.")) {
+      path = path.get(part);
+    }
+    @SuppressWarnings("unchecked")
+    Path<Comparable<Object>> comparable = (Path<Comparable<Object>>) path;
+    return comparable;
+  }
+
+  /**
+   * Keyset of a fetched row: its value of every sort property (null through null associations)
+   */
+  private static KeysetScrollPosition positionOf(Object row, Sort sort) {
+    BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+    Map<String, Object> keys = new LinkedHashMap<>();
+    for (Sort.Order order : sort) {
+      Object value;
+      try {
+        value = wrapper.getPropertyValue(order.getProperty());
+      } catch (NullValueInNestedPathException e) {
+        value = null;
+      }
+      keys.put(order.getProperty(), value);
+    }
+    return ScrollPosition.forward(keys);
+  }
+
+  /**
+   * Map a fetched window to the API response, encoding the cursor of its last row
+   */
+  public static <T, R> CursorPagedResponse<R> toResponse(Window<T> window, int size,
+      Long totalElements, Function<? super T, ? extends R> mapper) {
+    String nextCursor = null;
+    if (window.hasNext() && !window.isEmpty()) {
+      nextCursor = encode(window.positionAt(window.size() - 1));
+    }
+    List<R> data = window.getContent().stream().<R>map(mapper).toList();
+    return CursorPagedResponse.of(data,
+        CursorInfo.of(normalizeSize(size), nextCursor, totalElements));
+  }
+
+  public static int normalizeSize(int size) {
+    return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+  }
+
+  /**
+   * Append the id with the direction of the last order, so the keyset is unique and the
+   * whole sort can be served by one composite index
+   */
+  public static Sort withIdTieBreaker(Sort sort) {
+    if (sort == null || sort.isUnsorted()) {
+      return Sort.by(Sort.Direction.DESC, ID_PROPERTY);
+    }
+    if (sort.getOrderFor(ID_PROPERTY) != null) {
+      return sort;
+    }
+    Sort.Direction direction = sort.stream()
+        .reduce((first, second) -> second)
+        .map(Sort.Order::getDirection)
+        .orElse(Sort.Direction.DESC);
+    return sort.and(Sort.by(direction, ID_PROPERTY));
+  }
+
+  /**
+   * Encode the keyset of a row as an opaque cursor
+   */
+  public static String encode(ScrollPosition position) {
+    if (!(position instanceof KeysetScrollPosition keyset)) {
+      throw new IllegalArgumentException("Only keyset positions can be encoded as a cursor");
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeByte(keyset.getKeys().size());
+      for (Map.Entry<String, Object> entry : keyset.getKeys().entrySet()) {
+        out.writeUTF(entry.getKey());
+        writeValue(out, entry.getKey(), entry.getValue());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode cursor", e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * Decode a cursor issued for the given sort. A blank cursor means the first page.
+   */
+  public static KeysetScrollPosition decode(String cursor, Sort sort) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+
+    Map<String, Object> keys = new LinkedHashMap<>();
+    try (DataInputStream in = new DataInputStream(
+        new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor.trim())))) {
+      if (in.readByte() != VERSION) {
+        throw new InvalidRequestException("Unsupported cursor version");
+      }
+      int count = in.readUnsignedByte();
+      for (int i = 0; i < count; i++) {
+        String property = in.readUTF();
+        keys.put(property, readValue(in));
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      throw new InvalidRequestException("Invalid cursor");
+    }
+
+    List<String> expected = new ArrayList<>();
+    sort.forEach(order -> expected.add(order.getProperty()));
+    if (!expected.equals(new ArrayList<>(keys.keySet()))) {
+      throw new InvalidRequestException("Cursor does not match the requested sort");
+    }
+    return ScrollPosition.forward(keys);
+  }
+
+  private static void writeValue(DataOutputStream out, String property, Object value)
+      throws IOException {
+    if (value == null) {
+      out.writeByte('N');
+    } else if (value instanceof Instant instant) {
+      out.writeByte('T');
+      out.writeLong(instant.getEpochSecond());
+      out.writeInt(instant.getNano());
+    } else if (value instanceof UUID uuid) {
+      out.writeByte('U');
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    } else if (value instanceof Integer number) {
+      out.writeByte('I');
+      out.writeInt(number);
+    } else if (value instanceof Long number) {
+      out.writeByte('J');
+      out.writeLong(number);
+    } else if (value instanceof Double number) {
+      out.writeByte('D');
+      out.writeDouble(number);
+    } else if (value instanceof BigDecimal number) {
+      out.writeByte('M');
+      out.writeUTF(number.toString());
+    } else if (value instanceof Boolean flag) {
+      out.writeByte('Z');
+      out.writeBoolean(flag);
+    } else if (value instanceof String text) {
+      out.writeByte('S');
+      out.writeUTF(text);
+    } else {
+      throw new InvalidRequestException(
+          "Sorting by '" + property + "' is not supported with cursor pagination");
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    return switch (type) {
+      case 'N' -> null;
+      case 'T' -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+      case 'U' -> new UUID(in.readLong(), in.readLong());
+      case 'I' -> in.readInt();
+      case 'J' -> in.readLong();
+      case 'D' -> in.readDouble();
+      case 'M' -> new BigDecimal(in.readUTF());
+      case 'Z' -> in.readBoolean();
+      case 'S' -> in.readUTF();
+      default -> throw new IOException("Unknown cursor value type: " + type);
+    };
+  }
+}
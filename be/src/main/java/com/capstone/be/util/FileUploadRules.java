@@ -0,0 +1,67 @@
+package com.capstone.be.util;
+
+import com.capstone.be.exception.InvalidRequestException;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Upload rules shared by the file storage backends
+ */
+public final class FileUploadRules {
+
+  // Max file size: 10MB
+  public static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+  // Allowed file types for credentials and review reports
+  public static final List<String> ALLOWED_CONTENT_TYPES = List.of(
+      "application/pdf",
+      "image/jpeg",
+      "image/png",
+      "image/jpg",
+      "image/gif",
+      "image/webp",
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+      "application/vnd.openxmlformats-officedocument.wordprocessingml.document", // .docx
+      "application/msword" // .doc
+  );
+
+  private FileUploadRules() {
+  }
+
+  /**
+   * Check that an upload is present, within the size limit and of an allowed type
+   *
+   * @throws InvalidRequestException if the file is rejected
+   */
+  public static void validate(MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      throw new InvalidRequestException("File is required and cannot be empty");
+    }
+
+    // Check file size
+    if (file.getSize() > MAX_FILE_SIZE) {
+      throw InvalidRequestException.fileTooLarge(file.getSize(), MAX_FILE_SIZE);
+    }
+
+    // Check file type
+    String contentType = file.getContentType();
+    if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+      throw InvalidRequestException.invalidFileType(
+          contentType,
+          ALLOWED_CONTENT_TYPES.toArray(new String[0])
+      );
+    }
+  }
+
+  /**
+   * Random filename keeping the extension of the original
+   */
+  public static String uniqueFilename(String originalFilename) {
+    String extension = "";
+    if (originalFilename != null && originalFilename.contains(".")) {
+      extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    }
+    return UUID.randomUUID() + extension;
+  }
+}
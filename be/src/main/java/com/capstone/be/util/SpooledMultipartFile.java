@@ -0,0 +1,182 @@
+package com.capstone.be.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * A MultipartFile backed by a spooled temp file.
+ * The content is written to disk once while its SHA-256 is computed, and every later reader
+ * (S3 upload, thumbnail, AI submission) opens a new stream on the file, so the heap only ever
+ * holds a copy buffer. Closing the file deletes it.
+ */
+public class SpooledMultipartFile implements MultipartFile, Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final String name;
+  private final String originalFilename;
+  private final String contentType;
+  private final Path path;
+  private final long size;
+  private final byte[] sha256;
+
+  private SpooledMultipartFile(String name, String originalFilename, String contentType,
+      Path path, long size, byte[] sha256) {
+    this.name = name;
+    this.originalFilename = originalFilename;
+    this.contentType = contentType;
+    this.path = path;
+    this.size = size;
+    this.sha256 = sha256;
+  }
+
+  /**
+   * Copy the stream to the target file, hashing it on the way. The stream is closed.
+   */
+  public static SpooledMultipartFile spool(InputStream source, Path target, String name,
+      String originalFilename, String contentType) throws IOException {
+    MessageDigest digest = newDigest();
+    long size = 0;
+    try (InputStream in = source;
+        OutputStream out = Files.newOutputStream(target,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+        out.write(buffer, 0, read);
+        size += read;
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(target);
+      throw e;
+    }
+    return new SpooledMultipartFile(name, originalFilename, contentType, target, size,
+        digest.digest());
+  }
+
+  /**
+   * Take ownership of a file that is already on disk (e.g. a conversion output), hashing it
+   * with one sequential read.
+   */
+  public static SpooledMultipartFile adopt(Path file, String name, String originalFilename,
+      String contentType) throws IOException {
+    MessageDigest digest = newDigest();
+    try (InputStream in = Files.newInputStream(file)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return new SpooledMultipartFile(name, originalFilename, contentType, file, Files.size(file),
+        digest.digest());
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * SHA-256 of the content as lowercase hex
+   */
+  public String getSha256Hex() {
+    return HexFormat.of().formatHex(sha256);
+  }
+
+  /**
+   * SHA-256 of the content as Base64 (the format of S3 x-amz-checksum-sha256)
+   */
+  public String getSha256Base64() {
+    return Base64.getEncoder().encodeToString(sha256);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Loads the whole file into memory; prefer {@link #getInputStream()} or {@link #getPath()}
+   */
+  @Override
+  public byte[] getBytes() throws IOException {
+    return Files.readAllBytes(path);
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return Files.newInputStream(path);
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException, IllegalStateException {
+    transferTo(dest.toPath());
+  }
+
+  @Override
+  public void transferTo(Path dest) throws IOException, IllegalStateException {
+    Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Delete the file behind a spooled upload; other MultipartFiles are left alone
+   */
+  public static void release(MultipartFile file) {
+    if (file instanceof SpooledMultipartFile spooled) {
+      try {
+        spooled.close();
+      } catch (IOException e) {
+        spooled.path.toFile().deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Delete the spooled file
+   */
+  @Override
+  public void close() throws IOException {
+    Files.deleteIfExists(path);
+  }
+}
@@ -0,0 +1,79 @@
+package com.capstone.be.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.capstone.be.controller.LocalStorageController.ByteRange;
+import org.junit.jupiter.api.Test;
+
+public class LocalStorageControllerTest {
+
+  private static final long SIZE = 1000;
+
+  @Test
+  void missingOrUnsupportedHeaderSelectsTheWholeFile() {
+    for (String header : new String[]{null, "items=0-10", "bytes=0-10,20-30", "bytes=10",
+        "bytes=a-b"}) {
+      ByteRange range = ByteRange.parse(header, SIZE);
+      assertEquals(0, range.start(), String.valueOf(header));
+      assertEquals(SIZE - 1, range.end(), String.valueOf(header));
+      assertFalse(range.partial(), String.valueOf(header));
+    }
+  }
+
+  @Test
+  void closedRange() {
+    ByteRange range = ByteRange.parse("bytes=100-199", SIZE);
+
+    assertEquals(100, range.start());
+    assertEquals(199, range.end());
+    assertEquals(100, range.length());
+    assertTrue(range.partial());
+  }
+
+  @Test
+  void openEndedRangeRunsToTheEndOfTheFile() {
+    ByteRange range = ByteRange.parse("bytes=900-", SIZE);
+
+    assertEquals(900, range.start());
+    assertEquals(SIZE - 1, range.end());
+    assertEquals(100, range.length());
+  }
+
+  @Test
+  void endPastTheFileIsClamped() {
+    ByteRange range = ByteRange.parse("bytes=990-5000", SIZE);
+
+    assertEquals(990, range.start());
+    assertEquals(SIZE - 1, range.end());
+  }
+
+  @Test
+  void suffixRangeSelectsTheLastBytes() {
+    ByteRange range = ByteRange.parse("bytes=-100", SIZE);
+    assertEquals(900, range.start());
+    assertEquals(SIZE - 1, range.end());
+
+    ByteRange longer = ByteRange.parse("bytes=-5000", SIZE);
+    assertEquals(0, longer.start());
+    assertEquals(SIZE, longer.length());
+  }
+
+  @Test
+  void unsatisfiableRanges() {
+    assertNull(ByteRange.parse("bytes=1000-", SIZE));
+    assertNull(ByteRange.parse("bytes=500-100", SIZE));
+    assertNull(ByteRange.parse("bytes=-0", SIZE));
+    assertNull(ByteRange.parse("bytes=-10", 0));
+  }
+
+  @Test
+  void emptyFileWithoutRangeHasNoBody() {
+    ByteRange range = ByteRange.parse(null, 0);
+
+    assertEquals(0, range.length());
+    assertFalse(range.partial());
+  }
+}
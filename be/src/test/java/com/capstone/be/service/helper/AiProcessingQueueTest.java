@@ -0,0 +1,48 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class AiProcessingQueueTest {
+
+  private static final long INITIAL_MS = 30_000;
+  private static final long MAX_MS = 1_800_000;
+
+  @Test
+  void backoffDoublesWithEachAttempt() {
+    assertEquals(Duration.ofSeconds(30), AiProcessingQueue.backoff(1, INITIAL_MS, MAX_MS, 0.5));
+    assertEquals(Duration.ofSeconds(60), AiProcessingQueue.backoff(2, INITIAL_MS, MAX_MS, 0.5));
+    assertEquals(Duration.ofSeconds(120), AiProcessingQueue.backoff(3, INITIAL_MS, MAX_MS, 0.5));
+    assertEquals(Duration.ofSeconds(240), AiProcessingQueue.backoff(4, INITIAL_MS, MAX_MS, 0.5));
+  }
+
+  @Test
+  void firstRetryWaitsTheInitialDelay() {
+    // Attempts are counted from 1; zero (never claimed) behaves like the first attempt
+    assertEquals(AiProcessingQueue.backoff(1, INITIAL_MS, MAX_MS, 0.5),
+        AiProcessingQueue.backoff(0, INITIAL_MS, MAX_MS, 0.5));
+  }
+
+  @Test
+  void backoffIsCappedAtTheMaximum() {
+    assertEquals(Duration.ofMillis(MAX_MS), AiProcessingQueue.backoff(7, INITIAL_MS, MAX_MS, 0.5));
+    assertEquals(Duration.ofMillis(MAX_MS),
+        AiProcessingQueue.backoff(1_000, INITIAL_MS, MAX_MS, 0.5));
+  }
+
+  @Test
+  void jitterStaysWithinTwentyPercent() {
+    for (int attempts = 1; attempts <= 10; attempts++) {
+      long base = AiProcessingQueue.backoff(attempts, INITIAL_MS, MAX_MS, 0.5).toMillis();
+      long low = AiProcessingQueue.backoff(attempts, INITIAL_MS, MAX_MS, 0.0).toMillis();
+      long high = AiProcessingQueue.backoff(attempts, INITIAL_MS, MAX_MS, 0.999_999).toMillis();
+
+      assertEquals((long) (base * 0.8), low, "attempt " + attempts);
+      assertTrue(high <= base * 1.2, "attempt " + attempts);
+      assertTrue(high > base * 1.19, "attempt " + attempts);
+    }
+  }
+}
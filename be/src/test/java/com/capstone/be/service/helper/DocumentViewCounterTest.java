@@ -0,0 +1,143 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DocumentViewCounterTest {
+
+  /**
+   * Records the deltas of every batch instead of writing them
+   */
+  private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+    private final Map<UUID, AtomicLong> flushed = new ConcurrentHashMap<>();
+    private volatile boolean failing;
+
+    @Override
+    public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+      if (failing) {
+        throw new IllegalStateException("database down");
+      }
+      for (Object[] row : batchArgs) {
+        flushed.computeIfAbsent((UUID) row[1], id -> new AtomicLong()).addAndGet((Long) row[0]);
+      }
+      return new int[batchArgs.size()];
+    }
+
+    long flushed(UUID documentId) {
+      AtomicLong views = flushed.get(documentId);
+      return views != null ? views.get() : 0;
+    }
+  }
+
+  @Test
+  void flushWritesBufferedViewsPerDocument() {
+    RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    DocumentViewCounter counter = new DocumentViewCounter(jdbc, new SimpleMeterRegistry());
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    counter.increment(first);
+    counter.increment(first);
+    counter.increment(second);
+
+    assertEquals(3, counter.pendingCount());
+    assertEquals(3, counter.flush());
+    assertEquals(2, jdbc.flushed(first));
+    assertEquals(1, jdbc.flushed(second));
+    assertEquals(0, counter.pendingCount());
+    assertEquals(0, counter.flush());
+  }
+
+  @Test
+  void failedFlushKeepsViewsForTheNextRun() {
+    RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    DocumentViewCounter counter = new DocumentViewCounter(jdbc, new SimpleMeterRegistry());
+    UUID documentId = UUID.randomUUID();
+    counter.increment(documentId);
+    counter.increment(documentId);
+
+    jdbc.failing = true;
+    assertThrows(IllegalStateException.class, counter::flush);
+    assertEquals(2, counter.pendingCount());
+
+    jdbc.failing = false;
+    assertEquals(2, counter.flush());
+    assertEquals(2, jdbc.flushed(documentId));
+  }
+
+  @Test
+  void noViewsAreLostWhileIdleEntriesAreRetired() throws Exception {
+    RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    DocumentViewCounter counter = new DocumentViewCounter(jdbc, new SimpleMeterRegistry());
+    UUID[] documents = new UUID[64];
+    for (int i = 0; i < documents.length; i++) {
+      documents[i] = UUID.randomUUID();
+    }
+    int writers = 8;
+    int viewsPerWriter = 50_000;
+    long[][] sent = new long[writers][documents.length];
+
+    // Flush continuously so entries keep going idle and being retired under the writers
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread flusher = new Thread(() -> {
+      while (running.get()) {
+        counter.flush();
+      }
+    });
+    flusher.start();
+
+    CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[writers];
+    for (int w = 0; w < writers; w++) {
+      int writer = w;
+      threads[w] = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < viewsPerWriter; i++) {
+          int document = random.nextInt(documents.length);
+          counter.increment(documents[document]);
+          sent[writer][document]++;
+          if (random.nextInt(64) == 0) {
+            Thread.yield();
+          }
+        }
+      });
+      threads[w].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.MINUTES.toMillis(1));
+    }
+    running.set(false);
+    flusher.join(TimeUnit.MINUTES.toMillis(1));
+    counter.flush();
+
+    for (int d = 0; d < documents.length; d++) {
+      long expected = 0;
+      for (long[] perWriter : sent) {
+        expected += perWriter[d];
+      }
+      assertEquals(expected, jdbc.flushed(documents[d]), "views of document " + d);
+    }
+    assertEquals(0, counter.pendingCount());
+  }
+}
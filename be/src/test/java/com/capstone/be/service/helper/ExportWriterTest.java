@@ -0,0 +1,76 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.capstone.be.domain.enums.ExportFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ExportWriterTest {
+
+  private static String csv(Object... values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, out, "test")) {
+      writer.header(List.of("value"));
+      writer.row(values);
+      writer.finish();
+    }
+    String text = out.toString(StandardCharsets.UTF_8);
+    // Drop the BOM and header line, and the trailing CRLF of the row
+    return text.substring("\uFEFFvalue\r\n".length(), text.length() - 2);
+  }
+
+  @Test
+  void fileStartsWithBomAndEndsLinesWithCrlf() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, out, "test")) {
+      writer.header(List.of("id", "name"));
+      writer.row(new Object[]{1, "a"});
+      writer.finish();
+    }
+
+    assertEquals("\uFEFFid,name\r\n1,a\r\n", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void plainValuesAreNotQuoted() throws IOException {
+    assertEquals("hello world,42,true", csv("hello world", 42, true));
+  }
+
+  @Test
+  void separatorsQuotesAndLineBreaksAreQuoted() throws IOException {
+    assertEquals("\"a,b\"", csv("a,b"));
+    assertEquals("\"say \"\"hi\"\"\"", csv("say \"hi\""));
+    assertEquals("\"line\nbreak\"", csv("line\nbreak"));
+    assertEquals("\"line\rbreak\"", csv("line\rbreak"));
+  }
+
+  @Test
+  void formulaLikeTextIsPrefixed() throws IOException {
+    assertEquals("'=SUM(A1:A2)", csv("=SUM(A1:A2)"));
+    assertEquals("'+1", csv("+1"));
+    assertEquals("'-1", csv("-1"));
+    assertEquals("'@cmd", csv("@cmd"));
+    assertEquals("'\ttab", csv("\ttab"));
+    assertEquals("\"'\rcr\"", csv("\rcr"));
+    assertEquals("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"", csv("=HYPERLINK(\"x\",\"y\")"));
+  }
+
+  @Test
+  void numbersAreNotPrefixed() throws IOException {
+    assertEquals("-1,-2.5", csv(-1, -2.5));
+  }
+
+  @Test
+  void nullIsEmptyAndTimestampsAreIsoInstants() throws IOException {
+    Instant instant = Instant.parse("2024-03-15T08:30:00Z");
+
+    assertEquals(",2024-03-15T08:30:00Z,2024-03-15T08:30:00Z",
+        csv(null, Timestamp.from(instant), instant));
+  }
+}
@@ -0,0 +1,96 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.capstone.be.exception.ForbiddenException;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class LocalStorageUrlSignerTest {
+
+  private static final String BASE_URL = "http://localhost:8080/api";
+
+  private static LocalStorageUrlSigner newSigner(String secret) {
+    LocalStorageUrlSigner signer = new LocalStorageUrlSigner();
+    ReflectionTestUtils.setField(signer, "signingSecret", secret);
+    ReflectionTestUtils.setField(signer, "publicBaseUrl", BASE_URL);
+    signer.init();
+    return signer;
+  }
+
+  private static long expires(String url) {
+    String query = url.substring(url.indexOf('?') + 1);
+    return Long.parseLong(query.substring("expires=".length(), query.indexOf('&')));
+  }
+
+  private static String signature(String url) {
+    return url.substring(url.indexOf("&signature=") + "&signature=".length());
+  }
+
+  @Test
+  void signedUrlVerifies() {
+    LocalStorageUrlSigner signer = newSigner("secret");
+
+    String url = signer.sign("documents/report.pdf", 20);
+
+    assertTrue(url.startsWith(BASE_URL + "/public/storage/documents/report.pdf?expires="));
+    long expires = expires(url);
+    assertTrue(expires > Instant.now().getEpochSecond());
+    assertDoesNotThrow(() -> signer.verify("documents/report.pdf", expires, signature(url)));
+  }
+
+  @Test
+  void pathSegmentsAreEncoded() {
+    LocalStorageUrlSigner signer = newSigner("secret");
+
+    String url = signer.sign("documents/annual report.pdf", 20);
+
+    assertTrue(url.contains("/public/storage/documents/annual%20report.pdf?"), url);
+  }
+
+  @Test
+  void signatureIsBoundToKeyAndExpiry() {
+    LocalStorageUrlSigner signer = newSigner("secret");
+    String url = signer.sign("documents/a.pdf", 20);
+    long expires = expires(url);
+    String signature = signature(url);
+
+    assertThrows(ForbiddenException.class,
+        () -> signer.verify("documents/b.pdf", expires, signature));
+    assertThrows(ForbiddenException.class,
+        () -> signer.verify("documents/a.pdf", expires + 3600, signature));
+    assertThrows(ForbiddenException.class,
+        () -> signer.verify("documents/a.pdf", expires, null));
+  }
+
+  @Test
+  void urlsOfAnotherSecretAreRejected() {
+    String url = newSigner("secret").sign("documents/a.pdf", 20);
+
+    assertThrows(ForbiddenException.class,
+        () -> newSigner("other").verify("documents/a.pdf", expires(url), signature(url)));
+  }
+
+  @Test
+  void expiredUrlIsRejected() {
+    LocalStorageUrlSigner signer = newSigner("secret");
+
+    String url = signer.sign("documents/a.pdf", -1);
+
+    ForbiddenException error = assertThrows(ForbiddenException.class,
+        () -> signer.verify("documents/a.pdf", expires(url), signature(url)));
+    assertEquals("Download link has expired", error.getMessage());
+  }
+
+  @Test
+  void blankSecretGeneratesARandomKey() {
+    String url = newSigner("").sign("documents/a.pdf", 20);
+
+    assertThrows(ForbiddenException.class,
+        () -> newSigner("").verify("documents/a.pdf", expires(url), signature(url)));
+  }
+}
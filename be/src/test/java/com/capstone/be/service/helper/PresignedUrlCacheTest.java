@@ -0,0 +1,98 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PresignedUrlCacheTest {
+
+  private final AtomicInteger signatures = new AtomicInteger();
+
+  private PresignedUrlCache newCache(boolean enabled, int maxEntries) {
+    PresignedUrlCache cache = new PresignedUrlCache();
+    ReflectionTestUtils.setField(cache, "enabled", enabled);
+    ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+    ReflectionTestUtils.setField(cache, "safetyMarginPercent", 25);
+    return cache;
+  }
+
+  private Supplier<String> signer(String key) {
+    return () -> "https://bucket/" + key + "?signature=" + signatures.incrementAndGet();
+  }
+
+  @Test
+  void reusesUrlUntilSafetyMargin() {
+    PresignedUrlCache cache = newCache(true, 100);
+
+    String first = cache.get("public/avatars/a.png", 60, signer("a.png"));
+    String second = cache.get("public/avatars/a.png", 60, signer("a.png"));
+
+    assertEquals(first, second);
+    assertEquals(1, signatures.get());
+  }
+
+  @Test
+  void cachesEachExpirySeparately() {
+    PresignedUrlCache cache = newCache(true, 100);
+
+    String hour = cache.get("documents/a.pdf", 60, signer("a.pdf"));
+    String twenty = cache.get("documents/a.pdf", 20, signer("a.pdf"));
+
+    assertNotEquals(hour, twenty);
+    assertEquals(hour, cache.get("documents/a.pdf", 60, signer("a.pdf")));
+    assertEquals(twenty, cache.get("documents/a.pdf", 20, signer("a.pdf")));
+    assertEquals(2, signatures.get());
+  }
+
+  @Test
+  void evictedKeysAreSignedAgain() {
+    PresignedUrlCache cache = newCache(true, 100);
+    String first = cache.get("documents/a.pdf", 60, signer("a.pdf"));
+
+    cache.evict("documents/a.pdf");
+
+    assertNotEquals(first, cache.get("documents/a.pdf", 60, signer("a.pdf")));
+    assertEquals(2, signatures.get());
+  }
+
+  @Test
+  void urlsShorterThanTheMarginAreNotCached() {
+    PresignedUrlCache cache = newCache(true, 100);
+
+    // One minute of lifetime is all safety margin
+    cache.get("documents/a.pdf", 1, signer("a.pdf"));
+    cache.get("documents/a.pdf", 1, signer("a.pdf"));
+
+    assertEquals(2, signatures.get());
+  }
+
+  @Test
+  void disabledCacheSignsEveryCall() {
+    PresignedUrlCache cache = newCache(false, 100);
+
+    cache.get("documents/a.pdf", 60, signer("a.pdf"));
+    cache.get("documents/a.pdf", 60, signer("a.pdf"));
+
+    assertEquals(2, signatures.get());
+  }
+
+  @Test
+  void fullCacheIsClearedBeforeAddingANewKey() {
+    PresignedUrlCache cache = newCache(true, 2);
+    cache.get("a", 60, signer("a"));
+    cache.get("b", 60, signer("b"));
+
+    // Nothing is expired, so adding a third key clears the cache
+    cache.get("c", 60, signer("c"));
+    assertEquals(3, signatures.get());
+
+    cache.get("c", 60, signer("c"));
+    assertEquals(3, signatures.get());
+    cache.get("a", 60, signer("a"));
+    assertEquals(4, signatures.get());
+  }
+}
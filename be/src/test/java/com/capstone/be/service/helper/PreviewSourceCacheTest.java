@@ -0,0 +1,99 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PreviewSourceCacheTest {
+
+  private Path dir;
+  private PreviewSourceCache cache;
+  private final AtomicInteger downloads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dir = Files.createTempDirectory("preview-source");
+    cache = new PreviewSourceCache(() -> dir.resolve(UUID.randomUUID() + ".pdf"), 2);
+  }
+
+  private PreviewSourceCache.Lease acquire(String fileKey) throws IOException {
+    return cache.acquire(fileKey, target -> {
+      downloads.incrementAndGet();
+      Files.writeString(target, fileKey);
+    });
+  }
+
+  @Test
+  void secondAcquireReusesTheDownloadedFile() throws IOException {
+    Path first;
+    try (PreviewSourceCache.Lease lease = acquire("a.pdf")) {
+      first = lease.path();
+    }
+    try (PreviewSourceCache.Lease lease = acquire("a.pdf")) {
+      assertEquals(first, lease.path());
+      assertEquals("a.pdf", Files.readString(lease.path()));
+    }
+
+    assertEquals(1, downloads.get());
+  }
+
+  @Test
+  void leastRecentlyUsedFileIsEvictedAndDeleted() throws IOException {
+    Path a;
+    try (PreviewSourceCache.Lease lease = acquire("a.pdf")) {
+      a = lease.path();
+    }
+    acquire("b.pdf").close();
+    acquire("c.pdf").close();
+
+    assertEquals(2, cache.size());
+    assertFalse(Files.exists(a));
+    acquire("a.pdf").close();
+    assertEquals(4, downloads.get());
+  }
+
+  @Test
+  void leasedFileIsDeletedOnlyWhenTheLeaseCloses() throws IOException {
+    PreviewSourceCache.Lease lease = acquire("a.pdf");
+    cache.evict("a.pdf");
+
+    assertTrue(Files.exists(lease.path()));
+    lease.close();
+    assertFalse(Files.exists(lease.path()));
+  }
+
+  @Test
+  void failedDownloadLeavesNothingBehind() throws IOException {
+    assertThrows(IOException.class, () -> cache.acquire("a.pdf", target -> {
+      Files.writeString(target, "partial");
+      throw new IOException("boom");
+    }));
+
+    assertEquals(0, cache.size());
+    try (var files = Files.list(dir)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  void clearDeletesUnleasedFiles() throws IOException {
+    acquire("a.pdf").close();
+    acquire("b.pdf").close();
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    try (var files = Files.list(dir)) {
+      assertEquals(0, files.count());
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.capstone.be.service.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.capstone.be.domain.enums.TimeGranularity;
+import com.capstone.be.service.helper.TimeSeries.Range;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TimeSeriesTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+  private static Instant at(LocalDate day, int hour) {
+    return day.atTime(hour, 0).atZone(TimeSeries.ZONE).toInstant();
+  }
+
+  @Test
+  void rangeCoversTheDaysOfBothInstants() {
+    Range range = Range.of(at(TODAY.minusDays(2), 23), at(TODAY, 1), TODAY);
+
+    assertEquals(TODAY.minusDays(2), range.first());
+    assertEquals(TODAY, range.last());
+    assertEquals(3, range.size());
+    assertEquals(at(TODAY.minusDays(2), 0), range.start());
+    assertEquals(at(TODAY.plusDays(1), 0), range.end());
+  }
+
+  @Test
+  void missingBoundsDefaultToTheLastSixMonths() {
+    Range range = Range.of(null, null, TODAY);
+
+    assertEquals(LocalDate.of(2023, 9, 15), range.first());
+    assertEquals(TODAY, range.last());
+    assertEquals(183, range.size());
+  }
+
+  @Test
+  void reversedRangeIsEmpty() {
+    Range range = Range.of(at(TODAY, 0), at(TODAY.minusDays(1), 0), TODAY);
+
+    assertEquals(0, range.size());
+    assertEquals(0, TimeSeries.of(range, Map.of(TODAY, 5L)).total());
+  }
+
+  @Test
+  void indexOfIsMinusOneOutsideTheRange() {
+    Range range = new Range(TODAY.minusDays(2), TODAY);
+
+    assertEquals(-1, range.indexOf(TODAY.minusDays(3)));
+    assertEquals(0, range.indexOf(TODAY.minusDays(2)));
+    assertEquals(2, range.indexOf(TODAY));
+    assertEquals(-1, range.indexOf(TODAY.plusDays(1)));
+  }
+
+  @Test
+  void emptyDaysAreFilledAndOutsideDaysIgnored() {
+    TimeSeries series = TimeSeries.of(new Range(TODAY.minusDays(3), TODAY), Map.of(
+        TODAY.minusDays(4), 100L,
+        TODAY.minusDays(2), 3L,
+        TODAY, 4L));
+
+    assertEquals(4, series.size());
+    assertEquals(0, series.count(0));
+    assertEquals(3, series.count(1));
+    assertEquals(0, series.count(2));
+    assertEquals(4, series.count(3));
+    assertEquals(TODAY.minusDays(1), series.bucket(2));
+    assertEquals(7, series.total());
+  }
+
+  @Test
+  void totalSinceCountsTheDayItself() {
+    TimeSeries series = TimeSeries.of(new Range(TODAY.minusDays(3), TODAY), Map.of(
+        TODAY.minusDays(3), 1L,
+        TODAY.minusDays(1), 2L,
+        TODAY, 4L));
+
+    assertEquals(6, series.totalSince(TODAY.minusDays(1)));
+    assertEquals(4, series.totalSince(TODAY));
+    assertEquals(0, series.totalSince(TODAY.plusDays(1)));
+  }
+
+  @Test
+  void mapFormatsEachDay() {
+    Range range = new Range(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 1));
+    TimeSeries series = TimeSeries.of(range, Map.of(LocalDate.of(2024, 2, 29), 2L));
+
+    List<String> points = series.map((date, count) -> date + "=" + count);
+
+    assertEquals(List.of("2024-02-28=0", "2024-02-29=2", "2024-03-01=0"), points);
+  }
+
+  @Test
+  void weeklyRangeStartsOnMondays() {
+    // 2024-03-15 is a Friday
+    Range range = Range.of(at(TODAY.minusDays(14), 12), at(TODAY, 12), TimeGranularity.WEEK,
+        TimeSeries.ZONE, TODAY);
+
+    assertEquals(LocalDate.of(2024, 2, 26), range.first());
+    assertEquals(LocalDate.of(2024, 3, 11), range.last());
+    assertEquals(3, range.size());
+    assertEquals(at(LocalDate.of(2024, 3, 18), 0), range.end());
+    assertEquals(2, range.indexOf(LocalDate.of(2024, 3, 11)));
+    assertEquals(-1, range.indexOf(LocalDate.of(2024, 3, 12)));
+  }
+
+  @Test
+  void monthlySeriesFillsEmptyMonths() {
+    Range range = Range.of(at(LocalDate.of(2024, 1, 20), 12), at(TODAY, 12),
+        TimeGranularity.MONTH, TimeSeries.ZONE, TODAY);
+    TimeSeries series = TimeSeries.of(range, Map.of(LocalDate.of(2024, 3, 1), 5L));
+
+    assertEquals(3, series.size());
+    assertEquals(LocalDate.of(2024, 2, 1), series.bucket(1));
+    assertEquals(List.of("2024-01-01=0", "2024-02-01=0", "2024-03-01=5"),
+        series.map((date, count) -> date + "=" + count));
+  }
+
+  @Test
+  void rangeTakesDaysInTheGivenZone() {
+    ZoneId zone = ZoneId.of("Asia/Ho_Chi_Minh");
+    // 20:00 UTC is 03:00 the next day in UTC+7
+    Instant start = Instant.parse("2024-03-10T20:00:00Z");
+    Range range = Range.of(start, start, TimeGranularity.DAY, zone, TODAY);
+
+    assertEquals(LocalDate.of(2024, 3, 11), range.first());
+    assertEquals(Instant.parse("2024-03-10T17:00:00Z"), range.start(zone));
+    assertEquals(Instant.parse("2024-03-11T17:00:00Z"), range.end(zone));
+  }
+}
@@ -0,0 +1,148 @@
+package com.capstone.be.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.capstone.be.domain.entity.Document;
+import com.capstone.be.domain.enums.DocumentActivityMetric;
+import com.capstone.be.dto.request.document.VoteDocumentRequest;
+import com.capstone.be.dto.response.document.VoteDocumentResponse;
+import com.capstone.be.exception.ResourceNotFoundException;
+import com.capstone.be.repository.DocumentRepository;
+import com.capstone.be.repository.DocumentVoteRepository;
+import com.capstone.be.repository.UserRepository;
+import com.capstone.be.service.helper.DocumentActivityRollup;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Branching of voteDocument: which repository writes a vote causes and the deltas it applies.
+ * The atomicity of the vote upsert and the counter update lives in their SQL.
+ */
+public class DocumentVoteServiceImplTest {
+
+  private final UUID documentId = UUID.randomUUID();
+  private final UUID userId = UUID.randomUUID();
+
+  private DocumentVoteRepository voteRepository;
+  private DocumentRepository documentRepository;
+  private UserRepository userRepository;
+  private DocumentActivityRollup rollup;
+  private DocumentVoteServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    voteRepository = mock(DocumentVoteRepository.class);
+    documentRepository = mock(DocumentRepository.class);
+    userRepository = mock(UserRepository.class);
+    rollup = mock(DocumentActivityRollup.class);
+    service = new DocumentVoteServiceImpl(voteRepository, documentRepository, userRepository,
+        rollup);
+
+    when(documentRepository.existsById(documentId)).thenReturn(true);
+    when(userRepository.existsById(userId)).thenReturn(true);
+    when(documentRepository.findById(documentId)).thenReturn(Optional.of(document(3, 5)));
+  }
+
+  private Document document(int voteScore, int upvoteCount) {
+    Document document = new Document();
+    document.setId(documentId);
+    document.setVoteScore(voteScore);
+    document.setUpvoteCount(upvoteCount);
+    return document;
+  }
+
+  private void existingVote(int oldValue) {
+    when(voteRepository.insertIfAbsent(any(), eq(documentId), eq(userId), anyInt()))
+        .thenReturn(0);
+    when(voteRepository.upsertVote(eq(documentId), eq(userId), anyInt())).thenReturn(oldValue);
+  }
+
+  private static VoteDocumentRequest vote(int value) {
+    return VoteDocumentRequest.builder().voteValue(value).build();
+  }
+
+  @Test
+  void firstUpvoteIsInsertedAndCounted() {
+    when(voteRepository.insertIfAbsent(any(), eq(documentId), eq(userId), eq(1))).thenReturn(1);
+
+    service.voteDocument(userId, documentId, vote(1));
+
+    verify(rollup).record(documentId, DocumentActivityMetric.VOTES);
+    verify(voteRepository, never()).upsertVote(any(), any(), anyInt());
+    verify(documentRepository).applyVoteDeltas(documentId, 1, 1);
+  }
+
+  @Test
+  void firstDownvoteOnlyLowersTheScore() {
+    when(voteRepository.insertIfAbsent(any(), eq(documentId), eq(userId), eq(-1))).thenReturn(1);
+
+    service.voteDocument(userId, documentId, vote(-1));
+
+    verify(documentRepository).applyVoteDeltas(documentId, -1, 0);
+  }
+
+  @Test
+  void changingAVoteAppliesTheDifference() {
+    existingVote(1);
+
+    service.voteDocument(userId, documentId, vote(-1));
+
+    verify(voteRepository).upsertVote(documentId, userId, -1);
+    verify(documentRepository).applyVoteDeltas(documentId, -2, -1);
+    verify(rollup, never()).record(any(), any());
+  }
+
+  @Test
+  void clearingADownvoteRaisesTheScoreOnly() {
+    existingVote(-1);
+
+    service.voteDocument(userId, documentId, vote(0));
+
+    verify(documentRepository).applyVoteDeltas(documentId, 1, 0);
+  }
+
+  @Test
+  void repeatingAVoteLeavesTotalsAlone() {
+    existingVote(1);
+
+    service.voteDocument(userId, documentId, vote(1));
+
+    verify(documentRepository, never()).applyVoteDeltas(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void responseIsBuiltFromTheTotalsAfterTheUpdate() {
+    existingVote(0);
+
+    VoteDocumentResponse response = service.voteDocument(userId, documentId, vote(1));
+
+    assertEquals(1, response.getUserVote());
+    assertEquals(3, response.getVoteScore());
+    assertEquals(5, response.getUpvoteCount());
+    assertEquals(2, response.getDownvoteCount());
+  }
+
+  @Test
+  void missingDocumentOrUserWritesNothing() {
+    UUID otherId = UUID.randomUUID();
+
+    assertThrows(ResourceNotFoundException.class,
+        () -> service.voteDocument(userId, otherId, vote(1)));
+    assertThrows(ResourceNotFoundException.class,
+        () -> service.voteDocument(otherId, documentId, vote(1)));
+
+    verifyNoInteractions(voteRepository, rollup);
+    verify(documentRepository, never()).applyVoteDeltas(any(), anyInt(), anyInt());
+  }
+}
@@ -0,0 +1,152 @@
+package com.capstone.be.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.capstone.be.domain.enums.DocVisibility;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+  private static IndexedDocument document(String title, String description, Instant createdAt) {
+    return document(UUID.randomUUID(), title, description, createdAt, DocVisibility.PUBLIC);
+  }
+
+  private static IndexedDocument document(UUID id, String title, String description,
+      Instant createdAt, DocVisibility visibility) {
+    return new IndexedDocument(id, visibility, null, null, null, null, List.of(), false, null,
+        createdAt, title, description, "", "");
+  }
+
+  private static InvertedIndex.SearchHits search(InvertedIndex index, String keyword) {
+    return index.search(keyword, entry -> true, 0, 10);
+  }
+
+  @Test
+  void matchesEveryWordWithTheLastWordAsPrefix() {
+    InvertedIndex index = new InvertedIndex();
+    IndexedDocument boot = document("Spring Boot in Action", "", Instant.now());
+    IndexedDocument security = document("Spring Security", "", Instant.now());
+    index.upsert(boot);
+    index.upsert(security);
+    index.upsert(document("Java Concurrency", "", Instant.now()));
+
+    assertEquals(List.of(boot.id()), search(index, "spring bo").ids());
+    assertEquals(2, search(index, "spring").total());
+    assertEquals(0, search(index, "bo spring").total());
+    assertEquals(0, search(index, "kotlin").total());
+  }
+
+  @Test
+  void ranksTitleMatchesAboveDescriptionMatches() {
+    InvertedIndex index = new InvertedIndex();
+    IndexedDocument inDescription = document("Messaging", "an intro to kafka", Instant.now());
+    IndexedDocument inTitle = document("Kafka", "messaging", Instant.now());
+    index.upsert(inDescription);
+    index.upsert(inTitle);
+
+    assertEquals(List.of(inTitle.id(), inDescription.id()), search(index, "kafka").ids());
+  }
+
+  @Test
+  void breaksScoreTiesByNewestFirst() {
+    InvertedIndex index = new InvertedIndex();
+    IndexedDocument older = document("Databases", "", Instant.parse("2024-01-01T00:00:00Z"));
+    IndexedDocument newer = document("Databases", "", Instant.parse("2025-01-01T00:00:00Z"));
+    index.upsert(older);
+    index.upsert(newer);
+
+    assertEquals(List.of(newer.id(), older.id()), search(index, "databases").ids());
+  }
+
+  @Test
+  void upsertReplacesAndRemoveHidesDocuments() {
+    InvertedIndex index = new InvertedIndex();
+    UUID id = UUID.randomUUID();
+    index.upsert(document(id, "Old title", "", Instant.now(), DocVisibility.PUBLIC));
+    index.upsert(document(id, "New title", "", Instant.now(), DocVisibility.PUBLIC));
+
+    assertEquals(1, index.size());
+    assertEquals(0, search(index, "old").total());
+    assertEquals(List.of(id), search(index, "new").ids());
+
+    assertTrue(index.remove(id));
+    assertFalse(index.remove(id));
+    assertFalse(index.contains(id));
+    assertEquals(0, search(index, "new").total());
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  void appliesFilterAndPaging() {
+    InvertedIndex index = new InvertedIndex();
+    for (int i = 0; i < 5; i++) {
+      index.upsert(document(UUID.randomUUID(), "Report " + i, "", Instant.ofEpochSecond(i),
+          i % 2 == 0 ? DocVisibility.PUBLIC : DocVisibility.INTERNAL));
+    }
+
+    InvertedIndex.SearchHits publicOnly = index.search("report",
+        entry -> entry.visibility() == DocVisibility.PUBLIC, 0, 10);
+    assertEquals(3, publicOnly.total());
+
+    InvertedIndex.SearchHits secondPage = index.search("report", entry -> true, 2, 2);
+    assertEquals(5, secondPage.total());
+    assertEquals(2, secondPage.ids().size());
+
+    InvertedIndex.SearchHits pastTheEnd = index.search("report", entry -> true, 10, 2);
+    assertEquals(5, pastTheEnd.total());
+    assertTrue(pastTheEnd.ids().isEmpty());
+  }
+
+  @Test
+  void compactionDropsTombstonesAndKeepsResults() {
+    InvertedIndex index = new InvertedIndex();
+    IndexedDocument kept = document("Graph algorithms", "", Instant.now());
+    IndexedDocument removed = document("Graph databases", "", Instant.now());
+    index.upsert(kept);
+    index.upsert(removed);
+    index.remove(removed.id());
+    assertEquals(0.5, index.deletedRatio());
+
+    index.compact();
+
+    assertEquals(0.0, index.deletedRatio());
+    assertEquals(List.of(kept.id()), search(index, "graph").ids());
+  }
+
+  @Test
+  void segmentFileRoundTrips() throws Exception {
+    InvertedIndex index = new InvertedIndex();
+    UUID tagId = UUID.randomUUID();
+    IndexedDocument tagged = new IndexedDocument(UUID.randomUUID(), DocVisibility.INTERNAL,
+        UUID.randomUUID(), UUID.randomUUID(), null, null, List.of(tagId), true, 120,
+        Instant.parse("2025-03-01T10:00:00Z"), "Cơ sở dữ liệu", "SQL basics", "database", "");
+    index.upsert(tagged);
+    index.upsert(document("Networking", "", Instant.now()));
+
+    Path directory = Files.createTempDirectory("search-index");
+    Path segment = directory.resolve("documents.idx");
+    try {
+      index.writeTo(segment, 42L);
+
+      InvertedIndex loaded = new InvertedIndex();
+      assertEquals(42L, loaded.readFrom(segment));
+      assertEquals(2, loaded.size());
+
+      InvertedIndex.SearchHits hits = loaded.search("dữ liệu",
+          entry -> entry.premium() && entry.price() == 120 && entry.hasAnyTag(List.of(tagId)),
+          0, 10);
+      assertEquals(List.of(tagged.id()), hits.ids());
+      assertEquals(List.of(tagged.id()), search(loaded, "database").ids());
+    } finally {
+      Files.deleteIfExists(segment);
+      Files.deleteIfExists(directory);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.capstone.be.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SearchTokenizerTest {
+
+  @Test
+  void lowerCasesAndSplitsOnNonWordCharacters() {
+    assertEquals(List.of("spring", "boot", "3", "in", "action"),
+        SearchTokenizer.tokenize("Spring-Boot 3: in ACTION!"));
+  }
+
+  @Test
+  void keepsVietnameseDiacritics() {
+    assertEquals(List.of("lập", "trình", "hướng", "đối", "tượng"),
+        SearchTokenizer.tokenize("Lập trình hướng đối tượng"));
+  }
+
+  @Test
+  void returnsNoTokensForBlankInput() {
+    assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    assertTrue(SearchTokenizer.tokenize("").isEmpty());
+    assertTrue(SearchTokenizer.tokenize(" -- !! ").isEmpty());
+  }
+
+  @Test
+  void truncatesLongTokens() {
+    String longWord = "a".repeat(SearchTokenizer.MAX_TOKEN_LENGTH + 10);
+
+    List<String> tokens = SearchTokenizer.tokenize(longWord + " b");
+
+    assertEquals(2, tokens.size());
+    assertEquals(SearchTokenizer.MAX_TOKEN_LENGTH, tokens.get(0).length());
+    assertEquals("b", tokens.get(1));
+  }
+}
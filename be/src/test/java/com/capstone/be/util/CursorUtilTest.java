@@ -0,0 +1,100 @@
+package com.capstone.be.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.capstone.be.exception.InvalidRequestException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+public class CursorUtilTest {
+
+  private static final Sort PRICE_SORT = Sort.by(Sort.Direction.ASC, "price")
+      .and(Sort.by(Sort.Direction.DESC, "createdAt"))
+      .and(Sort.by(Sort.Direction.DESC, "id"));
+
+  @Test
+  void cursorRoundTripsSortKeysIncludingNull() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("price", null);
+    keys.put("createdAt", Instant.parse("2025-05-01T08:30:00.123456Z"));
+    keys.put("id", UUID.randomUUID());
+
+    String cursor = CursorUtil.encode(ScrollPosition.forward(keys));
+    KeysetScrollPosition decoded = CursorUtil.decode(cursor, PRICE_SORT);
+
+    assertEquals(keys, decoded.getKeys());
+  }
+
+  @Test
+  void cursorRoundTripsNumbersTextAndFlags() {
+    Sort sort = Sort.by("score", "total", "ratio", "amount", "title", "premium", "id");
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("score", -3);
+    keys.put("total", 9_000_000_000L);
+    keys.put("ratio", 0.25);
+    keys.put("amount", new BigDecimal("12.50"));
+    keys.put("title", "Cơ sở dữ liệu");
+    keys.put("premium", true);
+    keys.put("id", UUID.randomUUID());
+
+    String cursor = CursorUtil.encode(ScrollPosition.forward(keys));
+
+    assertEquals(keys, CursorUtil.decode(cursor, sort).getKeys());
+  }
+
+  @Test
+  void blankCursorStartsAtTheFirstPage() {
+    assertTrue(CursorUtil.decode(null, PRICE_SORT).isInitial());
+    assertTrue(CursorUtil.decode("  ", PRICE_SORT).isInitial());
+  }
+
+  @Test
+  void rejectsMalformedCursors() {
+    assertThrows(InvalidRequestException.class, () -> CursorUtil.decode("not base64!", PRICE_SORT));
+    assertThrows(InvalidRequestException.class, () -> CursorUtil.decode("AAAA", PRICE_SORT));
+  }
+
+  @Test
+  void rejectsCursorIssuedForAnotherSort() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("createdAt", Instant.now());
+    keys.put("id", UUID.randomUUID());
+    String cursor = CursorUtil.encode(ScrollPosition.forward(keys));
+
+    assertThrows(InvalidRequestException.class, () -> CursorUtil.decode(cursor, PRICE_SORT));
+  }
+
+  @Test
+  void rejectsUnsupportedKeyTypes() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("status", Thread.State.NEW);
+    keys.put("id", UUID.randomUUID());
+
+    assertThrows(InvalidRequestException.class,
+        () -> CursorUtil.encode(ScrollPosition.forward(keys)));
+  }
+
+  @Test
+  void appendsIdWithTheDirectionOfTheLastOrder() {
+    assertEquals(Sort.by(Sort.Direction.DESC, "id"), CursorUtil.withIdTieBreaker(Sort.unsorted()));
+    assertEquals(Sort.by(Sort.Direction.ASC, "title", "id"),
+        CursorUtil.withIdTieBreaker(Sort.by(Sort.Direction.ASC, "title")));
+    assertEquals(PRICE_SORT, CursorUtil.withIdTieBreaker(PRICE_SORT));
+  }
+
+  @Test
+  void clampsPageSize() {
+    assertEquals(1, CursorUtil.normalizeSize(0));
+    assertEquals(20, CursorUtil.normalizeSize(20));
+    assertEquals(CursorUtil.MAX_PAGE_SIZE, CursorUtil.normalizeSize(1000));
+  }
+}